@@ -0,0 +1,61 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+/*
+ * Inputs shared by the collection benchmarks, generated from a fixed seed so that every implementation (and every run)
+ * sees the same data.
+ */
+final class Inputs {
+
+    //a power of two, so that the lookup cursor can wrap with a mask
+    static final int LOOKUPS = 1024;
+    static final int LOOKUP_MASK = LOOKUPS - 1;
+
+    private static final long SEED = 42;
+
+    private Inputs() {
+    }
+
+    /*
+     * @return 0 until size, in ascending order
+     */
+    static ArrayList<Integer> ascending(int size) {
+        ArrayList<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            values.add(i);
+        return values;
+    }
+
+    /*
+     * @return 0 until size, in a random (but repeatable) order
+     */
+    static ArrayList<Integer> shuffled(int size) {
+        ArrayList<Integer> values = ascending(size);
+        Collections.shuffle(values, new Random(SEED));
+        return values;
+    }
+
+    /*
+     * @return LOOKUPS random (but repeatable) indices between 0 and size
+     */
+    static int[] lookups(int size) {
+        Random random = new Random(SEED);
+        int[] lookups = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++)
+            lookups[i] = random.nextInt(size);
+        return lookups;
+    }
+
+    /*
+     * @return count values between 0 and size, spread evenly across the range (repeating when count exceeds size)
+     */
+    static ArrayList<Integer> spread(int size, int count) {
+        ArrayList<Integer> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            values.add((int) ((long) i * size / count));
+        return values;
+    }
+}
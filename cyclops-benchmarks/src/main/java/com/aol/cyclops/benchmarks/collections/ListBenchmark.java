@@ -0,0 +1,156 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureListX;
+import cyclops.collections.dexx.DexxListX;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.scala.ScalaListX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.PStack;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the PStack wrappers for Vavr, Scala, Clojure and Dexx Lists against the pcollections ConsPStack
+ * that backs LinkedListX by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+//ConsPStack removes recursively, one frame per element
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class ListBenchmark {
+
+    //either side of the size at which the Clojure and Dexx minusAll switch to a HashSet lookup
+    static final int FEW_REMOVALS = 4;
+    static final int MANY_REMOVALS = 100;
+
+    @Param({ "pcollections", "vavr", "scala", "clojure", "dexx" })
+    String impl;
+
+    //pcollections fromJava takes around two minutes per operation at 100000, it is quadratic so a million is out of reach
+    @Param({ "100", "10000", "100000" })
+    int size;
+
+    Reducer<PStack<Integer>> reducer;
+    Function<ReactiveSeq<Integer>, LinkedListX<Integer>> lazy;
+    ArrayList<Integer> values;
+    PStack<Integer> list;
+    int[] lookups;
+    Integer last;
+    ArrayList<Integer> fewRemovals;
+    ArrayList<Integer> manyRemovals;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPStack();
+            lazy = LinkedListX::linkedListX;
+            break;
+        case "vavr":
+            reducer = VavrListX.toPStack();
+            lazy = VavrListX::fromStream;
+            break;
+        case "scala":
+            reducer = ScalaListX.toPStack();
+            lazy = ScalaListX::fromStream;
+            break;
+        case "clojure":
+            reducer = ClojureListX.toPStack();
+            lazy = ClojureListX::fromStream;
+            break;
+        case "dexx":
+            reducer = DexxListX.toPStack();
+            lazy = DexxListX::fromStream;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown list implementation " + impl);
+        }
+        values = Inputs.ascending(size);
+        list = reducer.zero().plusAll(values);
+        lookups = Inputs.lookups(size);
+        last = list.get(size - 1);
+        fewRemovals = Inputs.spread(size, FEW_REMOVALS);
+        manyRemovals = Inputs.spread(size, MANY_REMOVALS);
+    }
+
+    @Benchmark
+    public PStack<Integer> plus() {
+        return list.plus(size);
+    }
+
+    @Benchmark
+    public PStack<Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(lookups[cursor++ & Inputs.LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public PStack<Integer> minus() {
+        return list.minus(size / 2);
+    }
+
+    @Benchmark
+    public PStack<Integer> minusElement() {
+        //the element at the last index, so the whole list is searched
+        return list.minus((Object) last);
+    }
+
+    @Benchmark
+    public PStack<Integer> minusAllFew() {
+        return list.minusAll(fewRemovals);
+    }
+
+    @Benchmark
+    public PStack<Integer> minusAllMany() {
+        return list.minusAll(manyRemovals);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : list)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int lazyChain() {
+        return lazy.apply(ReactiveSeq.fromIterable(values))
+                   .map(i -> i + 1)
+                   .filter(i -> (i & 1) == 0)
+                   .size();
+    }
+
+    @Benchmark
+    public PStack<Integer> fromJava() {
+        return reducer.mapReduce(values.stream());
+    }
+
+    @Benchmark
+    public ArrayList<Integer> toJava() {
+        return new ArrayList<>(list);
+    }
+}
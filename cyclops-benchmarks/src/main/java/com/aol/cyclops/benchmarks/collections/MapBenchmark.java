@@ -0,0 +1,137 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureHashMapX;
+import cyclops.collections.clojure.ClojureTreeMapX;
+import cyclops.collections.immutable.PersistentMapX;
+import cyclops.collections.scala.ScalaHashMapX;
+import cyclops.collections.scala.ScalaTreeMapX;
+import cyclops.collections.vavr.VavrHashMapX;
+import cyclops.collections.vavr.VavrTreeMapX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the PersistentMapX wrappers for Vavr, Scala and Clojure HashMaps and TreeMaps against the pcollections
+ * HashPMap that backs PersistentMapX by default. Maps are not lazy, so in place of a lazy chain the benchmark
+ * measures an eager map over the values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+    @Param({ "pcollections", "vavr", "vavrTree", "scala", "scalaTree", "clojure", "clojureTree" })
+    String impl;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    Reducer<PersistentMapX<Integer, Integer>> reducer;
+    HashMap<Integer, Integer> values;
+    ArrayList<Tuple2<Integer, Integer>> entries;
+    PersistentMapX<Integer, Integer> map;
+    int[] lookups;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPMapX();
+            break;
+        case "vavr":
+            reducer = VavrHashMapX.toPersistentMapX();
+            break;
+        case "vavrTree":
+            reducer = VavrTreeMapX.toPersistentMapX();
+            break;
+        case "scala":
+            reducer = ScalaHashMapX.toPersistentMapX();
+            break;
+        case "scalaTree":
+            reducer = ScalaTreeMapX.toPersistentMapX(Comparator.<Integer> naturalOrder());
+            break;
+        case "clojure":
+            reducer = ClojureHashMapX.toPersistentMapX();
+            break;
+        case "clojureTree":
+            reducer = ClojureTreeMapX.toPersistentMapX();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown map implementation " + impl);
+        }
+        values = new HashMap<>();
+        entries = new ArrayList<>(size);
+        for (Integer key : Inputs.shuffled(size)) {
+            values.put(key, key);
+            entries.add(Tuple.tuple(key, key));
+        }
+        map = reducer.zero().plusAll(values);
+        lookups = Inputs.lookups(size);
+    }
+
+    @Benchmark
+    public PersistentMapX<Integer, Integer> plus() {
+        return map.plus(size, size);
+    }
+
+    @Benchmark
+    public PersistentMapX<Integer, Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public Integer get() {
+        Integer key = lookups[cursor++ & Inputs.LOOKUP_MASK];
+        return map.get(key);
+    }
+
+    @Benchmark
+    public PersistentMapX<Integer, Integer> minus() {
+        return map.minus(size / 2);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Map.Entry<Integer, Integer> next : map.entrySet())
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public PersistentMapX<Integer, Integer> mapValues() {
+        return map.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public PersistentMapX<Integer, Integer> fromJava() {
+        return reducer.mapReduce(entries.stream());
+    }
+
+    @Benchmark
+    public HashMap<Integer, Integer> toJava() {
+        return new HashMap<>(map);
+    }
+}
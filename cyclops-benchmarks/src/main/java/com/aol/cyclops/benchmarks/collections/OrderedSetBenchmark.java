@@ -0,0 +1,129 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureTreeSetX;
+import cyclops.collections.dexx.DexxTreeSetX;
+import cyclops.collections.immutable.OrderedSetX;
+import cyclops.collections.scala.ScalaTreeSetX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.POrderedSet;
+
+import java.util.ArrayList;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the POrderedSet wrappers for Vavr, Scala, Clojure and Dexx TreeSets against the pcollections OrderedPSet
+ * that backs OrderedSetX by default. Sets have no indexed access, so get is measured as a membership check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderedSetBenchmark {
+
+    @Param({ "pcollections", "vavr", "scala", "clojure", "dexx" })
+    String impl;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    Reducer<POrderedSet<Integer>> reducer;
+    Function<ReactiveSeq<Integer>, OrderedSetX<Integer>> lazy;
+    ArrayList<Integer> values;
+    POrderedSet<Integer> set;
+    int[] lookups;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPOrderedSet();
+            lazy = OrderedSetX::orderedSetX;
+            break;
+        case "vavr":
+            reducer = VavrTreeSetX.toPOrderedSet();
+            lazy = VavrTreeSetX::fromStream;
+            break;
+        case "scala":
+            reducer = ScalaTreeSetX.toPOrderedSet();
+            lazy = ScalaTreeSetX::fromStream;
+            break;
+        case "clojure":
+            reducer = ClojureTreeSetX.toPOrderedSet();
+            lazy = ClojureTreeSetX::fromStream;
+            break;
+        case "dexx":
+            reducer = DexxTreeSetX.toPOrderedSet();
+            lazy = DexxTreeSetX::fromStream;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown ordered set implementation " + impl);
+        }
+        values = Inputs.shuffled(size);
+        set = reducer.zero().plusAll(values);
+        lookups = Inputs.lookups(size);
+    }
+
+    @Benchmark
+    public POrderedSet<Integer> plus() {
+        return set.plus(size);
+    }
+
+    @Benchmark
+    public POrderedSet<Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public boolean get() {
+        return set.contains(lookups[cursor++ & Inputs.LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public POrderedSet<Integer> minus() {
+        return set.minus(size / 2);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : set)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int lazyChain() {
+        return lazy.apply(ReactiveSeq.fromIterable(values))
+                   .map(i -> i + 1)
+                   .filter(i -> (i & 1) == 0)
+                   .size();
+    }
+
+    @Benchmark
+    public POrderedSet<Integer> fromJava() {
+        return reducer.mapReduce(values.stream());
+    }
+
+    @Benchmark
+    public TreeSet<Integer> toJava() {
+        return new TreeSet<>(set);
+    }
+}
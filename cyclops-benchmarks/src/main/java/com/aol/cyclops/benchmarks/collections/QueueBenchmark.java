@@ -0,0 +1,122 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureQueueX;
+import cyclops.collections.immutable.PersistentQueueX;
+import cyclops.collections.scala.ScalaQueueX;
+import cyclops.collections.vavr.VavrQueueX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.PQueue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the PQueue wrappers for Vavr, Scala and Clojure Queues against the pcollections AmortizedPQueue
+ * that backs PersistentQueueX by default. Queues have no indexed access, so get is measured as a peek at the head
+ * and minus as the removal of the head.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueBenchmark {
+
+    @Param({ "pcollections", "vavr", "scala", "clojure" })
+    String impl;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    Reducer<PQueue<Integer>> reducer;
+    Function<ReactiveSeq<Integer>, PersistentQueueX<Integer>> lazy;
+    ArrayList<Integer> values;
+    PQueue<Integer> queue;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPQueue();
+            lazy = PersistentQueueX::persistentQueueX;
+            break;
+        case "vavr":
+            reducer = VavrQueueX.toPQueue();
+            lazy = VavrQueueX::fromStream;
+            break;
+        case "scala":
+            reducer = ScalaQueueX.toPQueue();
+            lazy = ScalaQueueX::fromStream;
+            break;
+        case "clojure":
+            reducer = ClojureQueueX.toPQueue();
+            lazy = ClojureQueueX::fromStream;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown queue implementation " + impl);
+        }
+        values = Inputs.ascending(size);
+        queue = reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public PQueue<Integer> plus() {
+        return queue.plus(size);
+    }
+
+    @Benchmark
+    public PQueue<Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return queue.peek();
+    }
+
+    @Benchmark
+    public PQueue<Integer> minus() {
+        return queue.minus();
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : queue)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int lazyChain() {
+        return lazy.apply(ReactiveSeq.fromIterable(values))
+                   .map(i -> i + 1)
+                   .filter(i -> (i & 1) == 0)
+                   .size();
+    }
+
+    @Benchmark
+    public PQueue<Integer> fromJava() {
+        return reducer.mapReduce(values.stream());
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> toJava() {
+        return new ArrayDeque<>(queue);
+    }
+}
@@ -0,0 +1,79 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import cyclops.collections.mutable.SetX;
+import cyclops.collections.scala.ScalaListX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk copies into, and removes from, a ScalaListX of a million elements. These run on the default thread stack, a
+ * recursive copy or removal would fail here with a StackOverflowError.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScalaListBenchmark {
+
+    @Param({ "1000000" })
+    int size;
+
+    ListX<Integer> values;
+    ScalaListX<Integer> list;
+    Integer last;
+    SetX<Integer> evens;
+
+    @Setup
+    public void setup() {
+        values = ListX.fromIterable(Inputs.ascending(size));
+        list = ScalaListX.copyFromCollection(values).unwrap();
+        last = list.get(size - 1);
+        evens = values.filter(i -> (i & 1) == 0).toSetX();
+    }
+
+    @Benchmark
+    public LinkedListX<Integer> copyFromCollection() {
+        return ScalaListX.copyFromCollection(values);
+    }
+
+    @Benchmark
+    public ScalaListX<Integer> minus() {
+        //the element at the last index, so the whole list is searched and copied
+        return list.minus((Object) last);
+    }
+
+    @Benchmark
+    public ScalaListX<Integer> minusAll() {
+        return list.minusAll(evens);
+    }
+
+    @Benchmark
+    public ScalaListX<Integer> indexedUpdates() {
+        ScalaListX<Integer> updated = list;
+        for (int i = 0; i < 100; i++)
+            updated = updated.with(i, -i).plus(i, i).minus(i);
+        return updated;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : list)
+            bh.consume(next);
+    }
+}
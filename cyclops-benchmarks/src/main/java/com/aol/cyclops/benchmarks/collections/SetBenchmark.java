@@ -0,0 +1,129 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureHashSetX;
+import cyclops.collections.dexx.DexxHashSetX;
+import cyclops.collections.immutable.PersistentSetX;
+import cyclops.collections.scala.ScalaHashSetX;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.PSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the PSet wrappers for Vavr, Scala, Clojure and Dexx HashSets against the pcollections HashTreePSet
+ * that backs PersistentSetX by default. Sets have no indexed access, so get is measured as a membership check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetBenchmark {
+
+    @Param({ "pcollections", "vavr", "scala", "clojure", "dexx" })
+    String impl;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    Reducer<PSet<Integer>> reducer;
+    Function<ReactiveSeq<Integer>, PersistentSetX<Integer>> lazy;
+    ArrayList<Integer> values;
+    PSet<Integer> set;
+    int[] lookups;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPSet();
+            lazy = PersistentSetX::persistentSetX;
+            break;
+        case "vavr":
+            reducer = VavrHashSetX.toPSet();
+            lazy = VavrHashSetX::fromStream;
+            break;
+        case "scala":
+            reducer = ScalaHashSetX.toPSet();
+            lazy = ScalaHashSetX::fromStream;
+            break;
+        case "clojure":
+            reducer = ClojureHashSetX.toPSet();
+            lazy = ClojureHashSetX::fromStream;
+            break;
+        case "dexx":
+            reducer = DexxHashSetX.toPSet();
+            lazy = DexxHashSetX::fromStream;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown set implementation " + impl);
+        }
+        values = Inputs.shuffled(size);
+        set = reducer.zero().plusAll(values);
+        lookups = Inputs.lookups(size);
+    }
+
+    @Benchmark
+    public PSet<Integer> plus() {
+        return set.plus(size);
+    }
+
+    @Benchmark
+    public PSet<Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public boolean get() {
+        return set.contains(lookups[cursor++ & Inputs.LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public PSet<Integer> minus() {
+        return set.minus(size / 2);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : set)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int lazyChain() {
+        return lazy.apply(ReactiveSeq.fromIterable(values))
+                   .map(i -> i + 1)
+                   .filter(i -> (i & 1) == 0)
+                   .size();
+    }
+
+    @Benchmark
+    public PSet<Integer> fromJava() {
+        return reducer.mapReduce(values.stream());
+    }
+
+    @Benchmark
+    public HashSet<Integer> toJava() {
+        return new HashSet<>(set);
+    }
+}
@@ -0,0 +1,97 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.ClojureTypes;
+import cyclops.DexxTypes;
+import cyclops.ScalaTypes;
+import cyclops.VavrTypes;
+import cyclops.collections.immutable.OrderedSetX;
+import cyclops.collections.immutable.PersistentSetX;
+import cyclops.collections.immutable.VectorX;
+import cyclops.function.Reducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.POrderedSet;
+import org.pcollections.PSet;
+import org.pcollections.PVector;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a million element VectorX, PersistentSetX and OrderedSetX that have been typed with the Vavr, Scala, Clojure
+ * and Dexx reducers (e.g. VectorX.type(ScalaTypes.vector())), so that each result is materialized through the
+ * builder backed reducer of that library.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypesBenchmark {
+
+    @Param({ "vavr", "scala", "clojure", "dexx" })
+    String impl;
+
+    @Param({ "1000000" })
+    int size;
+
+    Reducer<PVector<Integer>> vectorReducer;
+    Reducer<PSet<Integer>> hashSetReducer;
+    Reducer<POrderedSet<Integer>> treeSetReducer;
+    ArrayList<Integer> values;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "vavr":
+            vectorReducer = VavrTypes.vector();
+            hashSetReducer = VavrTypes.hashSet();
+            treeSetReducer = VavrTypes.treeSet();
+            break;
+        case "scala":
+            vectorReducer = ScalaTypes.vector();
+            hashSetReducer = ScalaTypes.hashSet();
+            treeSetReducer = ScalaTypes.treeSet();
+            break;
+        case "clojure":
+            vectorReducer = ClojureTypes.vector();
+            hashSetReducer = ClojureTypes.hashSet();
+            treeSetReducer = ClojureTypes.treeSet();
+            break;
+        case "dexx":
+            vectorReducer = DexxTypes.vector();
+            hashSetReducer = DexxTypes.hashSet();
+            treeSetReducer = DexxTypes.treeSet();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown reducer implementation " + impl);
+        }
+        values = Inputs.ascending(size);
+    }
+
+    @Benchmark
+    public int vectorMap() {
+        //size forces the lazy collection to materialize
+        return VectorX.fromIterable(values).type(vectorReducer).map(i -> i + 1).size();
+    }
+
+    @Benchmark
+    public int hashSetMap() {
+        return PersistentSetX.fromIterable(values).type(hashSetReducer).map(i -> i + 1).size();
+    }
+
+    @Benchmark
+    public int treeSetMap() {
+        return OrderedSetX.fromIterable(values).type(treeSetReducer).map(i -> i + 1).size();
+    }
+}
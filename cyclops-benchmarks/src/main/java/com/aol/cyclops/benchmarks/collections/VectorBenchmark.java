@@ -0,0 +1,128 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import cyclops.collections.clojure.ClojureVectorX;
+import cyclops.collections.dexx.DexxVectorX;
+import cyclops.collections.immutable.VectorX;
+import cyclops.collections.scala.ScalaVectorX;
+import cyclops.collections.vavr.VavrVectorX;
+import cyclops.companion.Reducers;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.PVector;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the PVector wrappers for Vavr, Scala, Clojure and Dexx Vectors against the pcollections TreePVector
+ * that backs VectorX by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+    @Param({ "pcollections", "vavr", "scala", "clojure", "dexx" })
+    String impl;
+
+    @Param({ "100", "10000", "1000000" })
+    int size;
+
+    Reducer<PVector<Integer>> reducer;
+    Function<ReactiveSeq<Integer>, VectorX<Integer>> lazy;
+    ArrayList<Integer> values;
+    PVector<Integer> vector;
+    int[] lookups;
+    int cursor;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "pcollections":
+            reducer = Reducers.toPVector();
+            lazy = VectorX::vectorX;
+            break;
+        case "vavr":
+            reducer = VavrVectorX.toPVector();
+            lazy = VavrVectorX::fromStream;
+            break;
+        case "scala":
+            reducer = ScalaVectorX.toPVector();
+            lazy = ScalaVectorX::fromStream;
+            break;
+        case "clojure":
+            reducer = ClojureVectorX.toPVector();
+            lazy = ClojureVectorX::fromStream;
+            break;
+        case "dexx":
+            reducer = DexxVectorX.toPVector();
+            lazy = DexxVectorX::fromStream;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown vector implementation " + impl);
+        }
+        values = Inputs.ascending(size);
+        vector = reducer.zero().plusAll(values);
+        lookups = Inputs.lookups(size);
+    }
+
+    @Benchmark
+    public PVector<Integer> plus() {
+        return vector.plus(size);
+    }
+
+    @Benchmark
+    public PVector<Integer> plusAll() {
+        return reducer.zero().plusAll(values);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return vector.get(lookups[cursor++ & Inputs.LOOKUP_MASK]);
+    }
+
+    @Benchmark
+    public PVector<Integer> minus() {
+        return vector.minus(size / 2);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer next : vector)
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int lazyChain() {
+        return lazy.apply(ReactiveSeq.fromIterable(values))
+                   .map(i -> i + 1)
+                   .filter(i -> (i & 1) == 0)
+                   .size();
+    }
+
+    @Benchmark
+    public PVector<Integer> fromJava() {
+        return reducer.mapReduce(values.stream());
+    }
+
+    @Benchmark
+    public ArrayList<Integer> toJava() {
+        return new ArrayList<>(vector);
+    }
+}
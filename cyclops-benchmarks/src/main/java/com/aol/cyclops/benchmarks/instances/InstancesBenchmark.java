@@ -0,0 +1,76 @@
+package com.aol.cyclops.benchmarks.instances;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.reactor.ReactorInstances;
+import cyclops.companion.rx2.Rx2Instances;
+import cyclops.companion.rx2.Singles;
+import cyclops.companion.vavr.Eithers;
+import cyclops.companion.vavr.Lists;
+import cyclops.companion.vavr.VavrInstances;
+import cyclops.monads.ReactorWitness.flux;
+import cyclops.monads.Rx2Witness.single;
+import cyclops.monads.VavrWitness.list;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up type class instances through the companion Instances classes and through the witness keyed registries.
+ * Run it with the gc profiler (gradle :cyclops-benchmarks:jmh -Pbenchmarks=InstancesBenchmark), every lookup should
+ * report a gc.alloc.rate.norm of 0 bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstancesBenchmark {
+
+    @Benchmark
+    public void companionDefinitions(Blackhole bh) {
+        bh.consume(Lists.Instances.definitions().functor());
+        bh.consume(Lists.Instances.definitions().traverse());
+        bh.consume(Lists.Instances.definitions().monadPlus());
+    }
+
+    @Benchmark
+    public void companionInstances(Blackhole bh) {
+        bh.consume(Lists.Instances.functor());
+        bh.consume(Lists.Instances.monad());
+        bh.consume(Lists.Instances.traverse());
+    }
+
+    @Benchmark
+    public void eitherInstances(Blackhole bh) {
+        bh.consume(Eithers.Instances.<String>monad());
+        bh.consume(Eithers.Instances.<String>monadPlus());
+        bh.consume(Eithers.Instances.<String>definitions().traverse());
+    }
+
+    @Benchmark
+    public void vavrRegistry(Blackhole bh) {
+        bh.consume(VavrInstances.definitions(list.INSTANCE).get().traverse());
+    }
+
+    @Benchmark
+    public void reactorRegistry(Blackhole bh) {
+        bh.consume(ReactorInstances.definitions(flux.INSTANCE).get().monadPlus());
+        bh.consume(Fluxs.Instances.definitions().foldable());
+    }
+
+    @Benchmark
+    public void rx2Registry(Blackhole bh) {
+        bh.consume(Rx2Instances.definitions(single.INSTANCE).get().monad());
+        bh.consume(Singles.Instances.definitions().comonad());
+    }
+}
@@ -0,0 +1,94 @@
+package com.aol.cyclops.benchmarks.instances;
+
+import com.aol.cyclops.vavr.hkt.ArrayKind;
+import com.aol.cyclops.vavr.hkt.ListKind;
+import com.aol.cyclops.vavr.hkt.OptionKind;
+import com.aol.cyclops.vavr.hkt.QueueKind;
+import com.aol.cyclops.vavr.hkt.StreamKind;
+import com.aol.cyclops.vavr.hkt.VectorKind;
+import com.aol.cyclops2.hkt.Higher;
+import cyclops.companion.vavr.Arrays;
+import cyclops.companion.vavr.Lists;
+import cyclops.companion.vavr.Options;
+import cyclops.companion.vavr.Queues;
+import cyclops.companion.vavr.Streams;
+import cyclops.companion.vavr.Vectors;
+import cyclops.monads.VavrWitness.option;
+import cyclops.typeclasses.monad.Traverse;
+import io.vavr.collection.Array;
+import io.vavr.collection.List;
+import io.vavr.collection.Queue;
+import io.vavr.collection.Stream;
+import io.vavr.collection.Vector;
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sequences Vavr collections of Options through the Traverse instances of their companion classes. Traverse is
+ * linear, so each tenfold increase in size should cost roughly ten times as much (rather than a hundred times).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraverseBenchmark {
+
+    @Param({ "list", "vector", "queue", "stream", "array" })
+    String impl;
+
+    @Param({ "1000", "10000", "100000" })
+    int size;
+
+    Supplier<Higher<option, ?>> sequenceA;
+
+    @Setup
+    public void setup() {
+        switch (impl) {
+        case "list":
+            sequenceA = sequenceA(Lists.Instances.traverse(), ListKind.widen(List.range(0, size).map(TraverseBenchmark::some)));
+            break;
+        case "vector":
+            sequenceA = sequenceA(Vectors.Instances.traverse(), VectorKind.widen(Vector.range(0, size).map(TraverseBenchmark::some)));
+            break;
+        case "queue":
+            sequenceA = sequenceA(Queues.Instances.traverse(), QueueKind.widen(Queue.range(0, size).map(TraverseBenchmark::some)));
+            break;
+        case "stream":
+            sequenceA = sequenceA(Streams.Instances.traverse(), StreamKind.widen(Stream.range(0, size).map(TraverseBenchmark::some)));
+            break;
+        case "array":
+            sequenceA = sequenceA(Arrays.Instances.traverse(), ArrayKind.widen(Array.range(0, size).map(TraverseBenchmark::some)));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown traversable implementation " + impl);
+        }
+    }
+
+    @Benchmark
+    public Higher<option, ?> sequence() {
+        return sequenceA.get();
+    }
+
+    private static <W> Supplier<Higher<option, ?>> sequenceA(Traverse<W> traverse, Higher<W, Higher<option, Integer>> values) {
+        return () -> traverse.sequenceA(Options.Instances.applicative(), values);
+    }
+
+    private static Higher<option, Integer> some(int i) {
+        return OptionKind.widen(Option.some(i));
+    }
+}
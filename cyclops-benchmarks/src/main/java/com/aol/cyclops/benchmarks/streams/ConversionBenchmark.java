@@ -0,0 +1,98 @@
+package com.aol.cyclops.benchmarks.streams;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.rx2.Flowables;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Converts a ReactiveSeq into a Flux, Flowable or Observable with Fluxs.fluxFrom, Flowables.flowableFrom and
+ * Observables.observableFrom (RxJava 1 and 2), and sums it with the target library's own reduce. The source is a
+ * synchronous ReactiveSeq, a backpressure aware Spouts stream, or an async Spouts stream that pushes from another
+ * thread, as each takes a different conversion path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Sources.ELEMENTS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Param({ "sync", "reactive", "async" })
+    String source;
+
+    Supplier<ReactiveSeq<Integer>> seq;
+    ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        switch (source) {
+        case "sync":
+            seq = () -> ReactiveSeq.range(0, Sources.ELEMENTS);
+            break;
+        case "reactive":
+            seq = () -> Spouts.range(0, Sources.ELEMENTS);
+            break;
+        case "async":
+            seq = () -> Spouts.async(ReactiveSeq.range(0, Sources.ELEMENTS), executor);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown source " + source);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public int flux() {
+        return Fluxs.fluxFrom(seq.get())
+                    .reduce(0, Sources::sum)
+                    .block();
+    }
+
+    @Benchmark
+    public int flowable() {
+        return Flowables.flowableFrom(seq.get())
+                        .reduce(0, Sources::sum)
+                        .blockingGet();
+    }
+
+    @Benchmark
+    public int observable() {
+        return cyclops.companion.rx2.Observables.observableFrom(seq.get())
+                                                .reduce(0, Sources::sum)
+                                                .blockingGet();
+    }
+
+    @Benchmark
+    public int rxObservable() {
+        return cyclops.companion.rx.Observables.observableFrom(seq.get())
+                                               .reduce(0, Sources::sum)
+                                               .toBlocking()
+                                               .single();
+    }
+}
@@ -0,0 +1,84 @@
+package com.aol.cyclops.benchmarks.streams;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pipelines of {@link ReactiveSeqBenchmark}, written directly against Flux.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Sources.ELEMENTS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluxBenchmark {
+
+    @Param({ "sync", "async" })
+    String source;
+
+    Flux<Integer> flux;
+
+    @Setup
+    public void setup() {
+        flux = Flux.range(0, Sources.ELEMENTS);
+        if ("async".equals(source))
+            flux = flux.subscribeOn(Schedulers.parallel());
+    }
+
+    @Benchmark
+    public int map() {
+        return flux.map(i -> i + 1)
+                   .reduce(0, Sources::sum)
+                   .block();
+    }
+
+    @Benchmark
+    public int filter() {
+        return flux.filter(Sources::even)
+                   .reduce(0, Sources::sum)
+                   .block();
+    }
+
+    @Benchmark
+    public int flatMap() {
+        return flux.flatMap(i -> Flux.just(i, -i))
+                   .reduce(0, Sources::sum)
+                   .block();
+    }
+
+    @Benchmark
+    public int reduce() {
+        return flux.reduce(0, Sources::sum)
+                   .block();
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        for (Integer next : flux.toIterable())
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int zip() {
+        return flux.zipWith(flux, Sources::sum)
+                   .reduce(0, Sources::sum)
+                   .block();
+    }
+}
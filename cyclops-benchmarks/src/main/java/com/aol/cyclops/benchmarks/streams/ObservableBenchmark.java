@@ -0,0 +1,84 @@
+package com.aol.cyclops.benchmarks.streams;
+
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pipelines of {@link ReactiveSeqBenchmark}, written directly against RxJava 2 Observables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Sources.ELEMENTS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObservableBenchmark {
+
+    @Param({ "sync", "async" })
+    String source;
+
+    Observable<Integer> observable;
+
+    @Setup
+    public void setup() {
+        observable = Observable.range(0, Sources.ELEMENTS);
+        if ("async".equals(source))
+            observable = observable.subscribeOn(Schedulers.computation());
+    }
+
+    @Benchmark
+    public int map() {
+        return observable.map(i -> i + 1)
+                         .reduce(0, Sources::sum)
+                         .blockingGet();
+    }
+
+    @Benchmark
+    public int filter() {
+        return observable.filter(Sources::even)
+                         .reduce(0, Sources::sum)
+                         .blockingGet();
+    }
+
+    @Benchmark
+    public int flatMap() {
+        return observable.flatMap(i -> Observable.just(i, -i))
+                         .reduce(0, Sources::sum)
+                         .blockingGet();
+    }
+
+    @Benchmark
+    public int reduce() {
+        return observable.reduce(0, Sources::sum)
+                         .blockingGet();
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        for (Integer next : observable.blockingIterable())
+            bh.consume(next);
+    }
+
+    @Benchmark
+    public int zip() {
+        return observable.zipWith(observable, Sources::sum)
+                         .reduce(0, Sources::sum)
+                         .blockingGet();
+    }
+}
@@ -0,0 +1,107 @@
+package com.aol.cyclops.benchmarks.streams;
+
+import com.aol.cyclops.reactor.adapter.FluxReactiveSeq;
+import com.aol.cyclops.rx2.adapter.FlowableReactiveSeq;
+import com.aol.cyclops.rx2.adapter.ObservableReactiveSeq;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a CPU bound map / filter / reduce pipeline on the parallel rails of FluxReactiveSeq and of the RxJava 2
+ * FlowableReactiveSeq and ObservableReactiveSeq, with 1, 2, 4 and N (one per available processor) rails, joining
+ * results back in source order (ordered) or as they complete (unordered). The average time per element should fall
+ * as parallelism rises, up to the number of available processors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Sources.ELEMENTS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelBenchmark {
+
+    //Blackhole.consumeCPU tokens spent on each element, a few microseconds of work
+    static final long WORK = 1000;
+
+    @Param({ "flux", "flowable", "observable" })
+    String impl;
+
+    @Param({ "1", "2", "4", "N" })
+    String parallelism;
+
+    @Param({ "ordered", "unordered" })
+    String mode;
+
+    Scheduler reactorScheduler;
+    ExecutorService rxExecutor;
+    ReactiveSeq<Integer> seq;
+
+    @Setup
+    public void setup() {
+        int rails = "N".equals(parallelism) ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(parallelism);
+        switch (impl) {
+        case "flux":
+            reactorScheduler = Schedulers.newParallel("parallel-benchmark", rails);
+            seq = new FluxReactiveSeq<>(Flux.range(0, Sources.ELEMENTS)).parallel(reactorScheduler, rails);
+            break;
+        case "flowable":
+            rxExecutor = Executors.newFixedThreadPool(rails);
+            seq = new FlowableReactiveSeq<>(Flowable.range(0, Sources.ELEMENTS))
+                    .parallel(io.reactivex.schedulers.Schedulers.from(rxExecutor), rails);
+            break;
+        case "observable":
+            rxExecutor = Executors.newFixedThreadPool(rails);
+            seq = new ObservableReactiveSeq<>(Observable.range(0, Sources.ELEMENTS))
+                    .parallel(io.reactivex.schedulers.Schedulers.from(rxExecutor), rails);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown parallel implementation " + impl);
+        }
+        if ("unordered".equals(mode))
+            seq = seq.unordered();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (reactorScheduler != null)
+            reactorScheduler.dispose();
+        if (rxExecutor != null)
+            rxExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Optional<Integer> mapFilterReduce() {
+        return seq.map(ParallelBenchmark::work)
+                  .filter(Sources::even)
+                  .reduce(Sources::sum);
+    }
+
+    private static int work(int i) {
+        Blackhole.consumeCPU(WORK);
+        return i + 1;
+    }
+}
@@ -0,0 +1,134 @@
+package com.aol.cyclops.benchmarks.streams;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.rx2.Flowables;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import io.reactivex.Flowable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the same ReactiveSeq pipelines over cyclops Spouts and over the FluxReactiveSeq, FlowableReactiveSeq and
+ * (RxJava 1 and 2) ObservableReactiveSeq adapters. The async sources emit on another thread, so their pipelines
+ * include the handoff to the calling thread. Compare with the raw Flux, Flowable and Observable benchmarks to see
+ * the cost of the adapters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(Sources.ELEMENTS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactiveSeqBenchmark {
+
+    @Param({ "spouts", "flux", "flowable", "observable", "rxObservable" })
+    String impl;
+
+    @Param({ "sync", "async" })
+    String source;
+
+    Supplier<ReactiveSeq<Integer>> seq;
+    ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        boolean async = "async".equals(source);
+        //zip runs two async Spouts sources at once, so they need a thread each
+        executor = Executors.newCachedThreadPool();
+        switch (impl) {
+        case "spouts":
+            seq = async ? () -> Spouts.reactive(ReactiveSeq.range(0, Sources.ELEMENTS), executor)
+                        : () -> Spouts.range(0, Sources.ELEMENTS);
+            break;
+        case "flux":
+            seq = async ? () -> Fluxs.reactiveSeq(Flux.range(0, Sources.ELEMENTS).subscribeOn(Schedulers.parallel()))
+                        : () -> Fluxs.reactiveSeq(Flux.range(0, Sources.ELEMENTS));
+            break;
+        case "flowable":
+            seq = async ? () -> Flowables.reactiveSeq(Flowable.range(0, Sources.ELEMENTS)
+                                                              .subscribeOn(io.reactivex.schedulers.Schedulers.computation()))
+                        : () -> Flowables.reactiveSeq(Flowable.range(0, Sources.ELEMENTS));
+            break;
+        case "observable":
+            seq = async ? () -> cyclops.companion.rx2.Observables.reactiveSeq(io.reactivex.Observable.range(0, Sources.ELEMENTS)
+                                                                          .subscribeOn(io.reactivex.schedulers.Schedulers.computation()))
+                        : () -> cyclops.companion.rx2.Observables.reactiveSeq(io.reactivex.Observable.range(0, Sources.ELEMENTS));
+            break;
+        case "rxObservable":
+            seq = async ? () -> cyclops.companion.rx.Observables.reactiveSeq(rx.Observable.range(0, Sources.ELEMENTS)
+                                                                       .subscribeOn(rx.schedulers.Schedulers.computation()))
+                        : () -> cyclops.companion.rx.Observables.reactiveSeq(rx.Observable.range(0, Sources.ELEMENTS));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown ReactiveSeq implementation " + impl);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public int map() {
+        return seq.get()
+                  .map(i -> i + 1)
+                  .reduce(0, Sources::sum);
+    }
+
+    @Benchmark
+    public int filter() {
+        return seq.get()
+                  .filter(Sources::even)
+                  .reduce(0, Sources::sum);
+    }
+
+    @Benchmark
+    public int flatMap() {
+        return seq.get()
+                  .flatMap(i -> ReactiveSeq.of(i, -i))
+                  .reduce(0, Sources::sum);
+    }
+
+    @Benchmark
+    public int reduce() {
+        return seq.get()
+                  .reduce(0, Sources::sum);
+    }
+
+    @Benchmark
+    public void iterator(Blackhole bh) {
+        Iterator<Integer> it = seq.get().iterator();
+        while (it.hasNext())
+            bh.consume(it.next());
+    }
+
+    @Benchmark
+    public int zip() {
+        return seq.get()
+                  .zipS(seq.get(), Sources::sum)
+                  .reduce(0, Sources::sum);
+    }
+}
@@ -0,0 +1,22 @@
+package com.aol.cyclops.benchmarks.streams;
+
+/*
+ * Settings shared by the stream benchmarks. Every benchmark pushes ELEMENTS elements through its pipeline per
+ * invocation, and declares them with @OperationsPerInvocation so that JMH reports the throughput and average time
+ * per element.
+ */
+final class Sources {
+
+    static final int ELEMENTS = 1000;
+
+    private Sources() {
+    }
+
+    static int sum(int a, int b) {
+        return a + b;
+    }
+
+    static boolean even(int i) {
+        return (i & 1) == 0;
+    }
+}
@@ -0,0 +1,54 @@
+package cyclops.collections.clojure;
+
+import cyclops.function.Reducer;
+
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/*
+ * Reducer that materializes a whole Stream through a single mutable builder (or native accumulation) rather than
+ * mapping every element to a singleton collection and combining them pairwise.
+ * zero, apply and mapToType delegate to the wrapped Reducer, so it behaves identically when used as a Monoid.
+ * The collection modules do not share code, so each has its own package private copy of this class. Keep it
+ * identical to the ones in cyclops-vavr, cyclops-scala and cyclops-dexx.
+ */
+final class BuilderReducer<C> implements Reducer<C> {
+
+    private final Reducer<C> reducer;
+    private final Function<? super Iterator<?>, ? extends C> builder;
+
+    private BuilderReducer(Reducer<C> reducer, Function<? super Iterator<?>, ? extends C> builder) {
+        this.reducer = reducer;
+        this.builder = builder;
+    }
+
+    /**
+     * @param reducer Reducer defining the identity and combining function
+     * @param builder Builds the collection from every element of the Stream in one pass
+     * @return Reducer whose mapReduce uses the supplied builder
+     */
+    static <C> Reducer<C> of(Reducer<C> reducer, Function<? super Iterator<?>, ? extends C> builder) {
+        return new BuilderReducer<>(reducer, builder);
+    }
+
+    @Override
+    public C zero() {
+        return reducer.zero();
+    }
+
+    @Override
+    public C apply(C a, C b) {
+        return reducer.apply(a, b);
+    }
+
+    @Override
+    public Stream<C> mapToType(Stream<?> stream) {
+        return reducer.mapToType(stream);
+    }
+
+    @Override
+    public C mapReduce(Stream<?> toReduce) {
+        return builder.apply(toReduce.iterator());
+    }
+}
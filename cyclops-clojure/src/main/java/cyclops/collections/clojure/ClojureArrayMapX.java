@@ -90,6 +90,30 @@ public class ClojureArrayMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>
         return map.entrySet();
         
     }
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
+    @Override
+    public int size() {
+        return map.count();
+    }
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
      */
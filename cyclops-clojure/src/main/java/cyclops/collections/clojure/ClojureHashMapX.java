@@ -1,5 +1,6 @@
 package cyclops.collections.clojure;
 
+import clojure.lang.ITransientMap;
 import clojure.lang.PersistentHashMap;
 import clojure.lang.PersistentVector;
 import com.aol.cyclops2.data.collections.extensions.ExtensiblePMapX;
@@ -32,10 +33,20 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
     }
 
     public static <K, V> Reducer<PersistentMapX<K, V>> toPersistentMapX() {
-        return Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        Reducer<PersistentMapX<K, V>> reducer = Reducer.<PersistentMapX<K, V>> of(empty(), (final PersistentMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton((K) w.get(0), (V) w.get(1));
         });
+        //build a single transient map rather than combining a singleton per entry
+        return BuilderReducer.of(reducer, it -> {
+            ITransientMap use = PersistentHashMap.EMPTY.asTransient();
+            while (it.hasNext()) {
+                Object in = it.next();
+                final List w = ((TupleWrapper) () -> in).values();
+                use = use.assoc(w.get(0), w.get(1));
+            }
+            return new ExtensiblePMapX<K,V>(fromMap((PersistentHashMap) use.persistent()), Eval.later(()->toPersistentMapX()));
+        });
     }
     public static <K,V> ClojureHashMapX<K,V> fromMap(@NonNull PersistentHashMap map){
         return new ClojureHashMapX<K,V>(map);
@@ -66,11 +77,11 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        PersistentHashMap m = map;
-        for(Object next : m2.entrySet()){
-            m = (PersistentHashMap)m.cons(next);
+        ITransientMap m = map.asTransient();
+        for(Map.Entry<? extends K, ? extends V> next : m2.entrySet()){
+            m = m.assoc(next.getKey(), next.getValue());
         }
-        return withMap(m);
+        return withMap((PersistentHashMap)m.persistent());
     }
     @Override
     public PMap<K, V> minus(Object key) {
@@ -83,12 +94,12 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
     @Override
     public PMap<K, V> minusAll(Collection<?> keys) {
       
-       PersistentHashMap m = map;
+       ITransientMap m = map.asTransient();
        for(Object key : keys){
           
-           m = (PersistentHashMap)m.without(key);
+           m = m.without(key);
        }
-       return withMap(m);
+       return withMap((PersistentHashMap)m.persistent());
         
     }
     @Override
@@ -96,6 +107,30 @@ public class ClojureHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
         return map.entrySet();
         
     }
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
+    @Override
+    public int size() {
+        return map.count();
+    }
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
      */
@@ -21,6 +21,8 @@ import org.pcollections.PSet;
 
 
 
+import clojure.lang.ITransientCollection;
+import clojure.lang.ITransientSet;
 import clojure.lang.PersistentHashSet;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -135,8 +137,15 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ClojureHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+        Reducer<PSet<T>> reducer = Reducer.<PSet<T>> of(ClojureHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
                                     (final T x) -> ClojureHashSetX.singleton(x));
+        //build a single transient set rather than combining a singleton per element
+        return BuilderReducer.of(reducer, it -> {
+            ITransientCollection use = PersistentHashSet.EMPTY.asTransient();
+            while (it.hasNext())
+                use = use.conj(it.next());
+            return fromSet((PersistentHashSet) use.persistent());
+        });
     }
 
     public static <T> ClojureHashSetX<T> fromSet(PersistentHashSet set) {
@@ -195,10 +204,10 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
     @Override
     public ClojureHashSetX<T> plusAll(Collection<? extends T> l) {
 
-        PersistentHashSet use = set;
+        ITransientCollection use = set.asTransient();
         for (T next : l)
-            use = (PersistentHashSet) use.cons(next);
-        return withSet(use);
+            use = use.conj(next);
+        return withSet((PersistentHashSet) use.persistent());
 
     }
 
@@ -210,10 +219,10 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
 
     @Override
     public PSet<T> minusAll(Collection<?> s) {
-        PersistentHashSet use = set;
+        ITransientSet use = (ITransientSet) set.asTransient();
         for (Object next : s)
-            use = (PersistentHashSet) use.disjoin(next);
-        return withSet(use);
+            use = use.disjoin(next);
+        return withSet((PersistentHashSet) use.persistent());
     }
 
     @Override
@@ -221,6 +230,11 @@ public class ClojureHashSetX<T> extends AbstractSet<T>implements PSet<T>,Unwrapa
         return set.count();
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
     @Override
     public Iterator<T> iterator() {
         return set.iterator();
@@ -21,6 +21,7 @@ import org.pcollections.PStack;
 
 
 import clojure.lang.IPersistentList;
+import clojure.lang.ISeq;
 import clojure.lang.PersistentList;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -30,25 +31,24 @@ import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrapable {
 
-    static final FoldToList gen = (it, i)-> ClojureListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> ClojureListX.from(from(it));
 
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        return fromPStack(new ClojureListX<T>(from(vec.iterator(),0)),toPStack());
+        return fromPStack(new ClojureListX<T>(from(vec.iterator())),toPStack());
 
     }
     public static <T> LazyLinkedListX<T> from(IPersistentList q) {
         return fromPStack(new ClojureListX<>(q), toPStack());
     }
 
-    private static <E> IPersistentList from(final Iterator<E> i, int depth) {
-
-        if(!i.hasNext())
-            return PersistentList.create(Arrays.asList());
-        E e = i.next();
-        return  (IPersistentList) from(i,depth++).cons(e);
+    private static <E> IPersistentList from(final Iterator<E> i) {
+        ArrayList<E> buffer = new ArrayList<>();
+        while (i.hasNext())
+            buffer.add(i.next());
+        return PersistentList.create(buffer);
     }
     @Override
     public <R> R unwrap() {
@@ -148,8 +148,15 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ClojureListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ClojureListX.singleton(x));
+        //plusAll conses each element onto the front, so cons here too to keep the order of the pairwise reduction
+        return BuilderReducer.of(Reducer.<PStack<T>> of(ClojureListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ClojureListX.singleton(x)),
+                                 it -> {
+                                     IPersistentList list = PersistentList.EMPTY;
+                                     while (it.hasNext())
+                                         list = (IPersistentList) list.cons(it.next());
+                                     return new ClojureListX<T>(list);
+                                 });
     }
 
     public static <T> ClojureListX<T> fromList(List<T> list) {
@@ -193,6 +200,9 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
         return fromPStack(of(elements), toPStack());
     }
 
+    //minusAll copies larger argument collections into a HashSet so each membership test is constant time
+    static final int HASH_LOOKUP_THRESHOLD = 8;
+
     @Wither
     private final IPersistentList list;
 
@@ -274,43 +284,46 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
 
     @Override
     public ClojureListX<T> minus(Object e) {
-        if (size() == 0)
-            return this;
-        PersistentList nel = (PersistentList) list;
-        if (head().equals(e)){
-            
-            IPersistentList res = (IPersistentList)nel.next();
-            if(res==null)
-                res = PersistentList.create(Arrays.asList());
-            return withList(res);
+        //copy the elements before the first match, the remainder after it is shared
+        ArrayList<Object> front = new ArrayList<>();
+        for (ISeq s = list.seq(); s != null; s = s.next()) {
+            Object next = s.first();
+            if (Objects.equals(next, e))
+                return withList(consAll(front, front.size(), s.next()));
+            front.add(next);
         }
-
-        IPersistentList newRest = tail().minus(e).list;
-
-        if (newRest == ((PersistentList) list).next())
-            return this;
-       
-        return withList((IPersistentList) newRest.cons(nel.first()));
-
+        return this;
     }
     
     @Override
     public ClojureListX<T> minusAll(Collection<?> l) {
-        if (size() == 0)
-            return this;
-        PersistentList nel = (PersistentList) list;
-        if (l.contains(head())){
-            IPersistentList res1 = (IPersistentList)nel.next();
-            if(res1==null)
-                return withList(PersistentList.create(Arrays.asList()));
-            return tail().minusAll(l);
+        //elements after the last removed element are shared with this list
+        Collection<?> toRemove = l.size() > HASH_LOOKUP_THRESHOLD && !(l instanceof Set) ? new HashSet<>(l) : l;
+        ArrayList<Object> kept = new ArrayList<>();
+        int keptBeforeShared = 0;
+        ISeq shared = list.seq();
+        boolean removed = false;
+        for (ISeq s = list.seq(); s != null; s = s.next()) {
+            Object next = s.first();
+            if (toRemove.contains(next)) {
+                keptBeforeShared = kept.size();
+                shared = s.next();
+                removed = true;
+            } else {
+                kept.add(next);
+            }
         }
-       
-       
-        IPersistentList newRest = tail().minusAll(l).list;
-        if (newRest == nel.next())
+        if (!removed)
             return this;
-        return withList((IPersistentList) newRest.cons(nel.first()));
+        return withList(consAll(kept, keptBeforeShared, shared));
+    }
+
+    private static IPersistentList consAll(java.util.List<Object> front, int count, ISeq rest) {
+        IPersistentList result = rest == null ? PersistentList.EMPTY : (IPersistentList) rest;
+        for (int i = count - 1; i >= 0; i--) {
+            result = (IPersistentList) result.cons(front.get(i));
+        }
+        return result;
     }
 
     public ClojureListX<T> tail() {
@@ -325,8 +338,17 @@ public class ClojureListX<T> extends AbstractList<T>implements PStack<T>, Unwrap
 
     @Override
     public ClojureListX<T> minus(int i) {
-
-        return minus(get(i));
+        if (i < 0 || i >= size())
+            throw new IndexOutOfBoundsException(
+                                                "Index " + i + " is out of bounds - size : " + size());
+        //copy the elements before i, the remainder after it is shared
+        Object[] front = new Object[i];
+        ISeq s = list.seq();
+        for (int k = 0; k < i; k++) {
+            front[k] = s.first();
+            s = s.next();
+        }
+        return withList(consAll(Arrays.asList(front), i, s.next()));
     }
 
     @Override
@@ -136,8 +136,14 @@ public class ClojureQueueX<T> extends AbstractQueue<T> implements PQueue<T>, Unw
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(ClojureQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ClojureQueueX.singleton(x));
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(ClojureQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ClojureQueueX.singleton(x)),
+                                 it -> {
+                                     PersistentQueue queue = PersistentQueue.EMPTY;
+                                     while (it.hasNext())
+                                         queue = queue.cons(it.next());
+                                     return new ClojureQueueX<>(queue);
+                                 });
     }
 
     public static <T> ClojureQueueX<T> fromQueue(PersistentQueue queue) {
@@ -21,6 +21,7 @@ import org.pcollections.PMap;
 
 
 
+import clojure.java.api.Clojure;
 import clojure.lang.PersistentTreeMap;
 import clojure.lang.PersistentVector;
 import lombok.AccessLevel;
@@ -29,6 +30,11 @@ import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClojureTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Unwrapable, To<ClojureTreeMapX<K,V>> {
+
+    static {
+        //Clojure 1.8 can't bootstrap clojure.core if PersistentTreeMap is the first Clojure class initialized, so load it first
+        Clojure.var("clojure.core", "compare");
+    }
     
     @Wither
     PersistentTreeMap map;
@@ -124,6 +130,30 @@ public class ClojureTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>,
         return map.entrySet();
         
     }
+    @Override
+    public Set<K> keySet() {
+        return map.keySet();
+    }
+    @Override
+    public Collection<V> values() {
+        return map.values();
+    }
+    @Override
+    public int size() {
+        return map.count();
+    }
+    @Override
+    public boolean isEmpty() {
+        return map.count() == 0;
+    }
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
      */
@@ -23,6 +23,7 @@ import org.pcollections.POrderedSet;
 
 
 
+import clojure.java.api.Clojure;
 import clojure.lang.PersistentList;
 import clojure.lang.PersistentTreeSet;
 import clojure.lang.PersistentVector;
@@ -34,6 +35,11 @@ import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T> ,Unwrapable{
 
+    static {
+        //Clojure 1.8 can't bootstrap clojure.core if PersistentTreeSet is the first Clojure class initialized, so load it first
+        Clojure.var("clojure.core", "compare");
+    }
+
     public static <T> OrderedSetX<T> treeSetX(ReactiveSeq<T> stream, Comparator<? super T> c){
         return fromStream(stream,c);
     }
@@ -152,9 +158,10 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
      * @return Reducer for POrderedSet
      */
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> ClojureTreeSetX.singleton(ordering, x));
+                                           (final T x) -> ClojureTreeSetX.singleton(ordering, x)),
+                                 it -> build(ordering, it));
     }
     /**
      * <pre>
@@ -167,9 +174,18 @@ public class ClojureTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(Comparator.<T>naturalOrder()),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ClojureTreeSetX.emptyPOrderedSet(Comparator.<T>naturalOrder()),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> ClojureTreeSetX.singleton(Comparator.<T>naturalOrder(), x));
+                                           (final T x) -> ClojureTreeSetX.singleton(Comparator.<T>naturalOrder(), x)),
+                                 it -> build(Comparator.<T>naturalOrder(), it));
+    }
+
+    //Clojure has no transient sorted set, so cons onto the native tree directly
+    private static <T> ClojureTreeSetX<T> build(Comparator<T> comp, Iterator<?> it) {
+        PersistentTreeSet set = emptyPOrderedSet(comp).set;
+        while (it.hasNext())
+            set = (PersistentTreeSet) set.cons(it.next());
+        return new ClojureTreeSetX<>(set);
     }
 
     public static <T> ClojureTreeSetX<T> fromSet(PersistentTreeSet set) {
@@ -12,7 +12,6 @@ import java.util.stream.Stream;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPVectorX;
 import com.aol.cyclops2.types.Unwrapable;
-import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.VectorX;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
@@ -20,6 +19,7 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PVector;
 
 
+import clojure.lang.ITransientCollection;
 import clojure.lang.PersistentVector;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -48,7 +48,7 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
      */
     public static <T> LazyPVectorX<T> fromStream(Stream<T> stream) {
         Reducer<PVector<T>> v = toPVector();
-        return new LazyPVectorX<T>(null, ReactiveSeq.fromStream(stream),v, Evaluation.LAZY);
+        return new LazyClojureVectorX<T>(null, ReactiveSeq.fromStream(stream),v, null);
     }
 
     /**
@@ -133,7 +133,14 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ClojureVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ClojureVectorX.singleton(x));
+        Reducer<PVector<T>> reducer = Reducer.<PVector<T>> of(ClojureVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ClojureVectorX.singleton(x));
+        //build a single transient vector rather than combining a singleton per element
+        return BuilderReducer.of(reducer, it -> {
+            ITransientCollection use = PersistentVector.EMPTY.asTransient();
+            while (it.hasNext())
+                use = use.conj(it.next());
+            return fromVector((PersistentVector) use.persistent());
+        });
     }
     
    
@@ -173,10 +180,10 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
 
     @Override
     public ClojureVectorX<T> plusAll(Collection<? extends T> list) {
-        PersistentVector use = vector;
+        ITransientCollection use = vector.asTransient();
         for(T next : list)
-            use = use.cons(next);
-        return withVector(use);
+            use = use.conj(next);
+        return withVector((PersistentVector) use.persistent());
      }
  
 
@@ -198,7 +205,7 @@ public class ClojureVectorX<T> extends AbstractList<T> implements PVector<T>, Un
        
     }
     private static <T> LazyPVectorX<T> fromPVector(PVector<T> vec, Reducer<PVector<T>> pVectorReducer) {
-        return new LazyPVectorX<T>(vec,null, pVectorReducer, Evaluation.LAZY);
+        return new LazyClojureVectorX<T>(vec,null, pVectorReducer, null);
     }
     @Override
     public PVector<T> plusAll(int i, Collection<? extends T> list) {
@@ -0,0 +1,140 @@
+package cyclops.collections.clojure;
+
+import clojure.lang.ITransientCollection;
+import clojure.lang.PersistentVector;
+import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPVectorX;
+import com.aol.cyclops2.types.foldable.Evaluation;
+import cyclops.collections.immutable.VectorX;
+import cyclops.control.Eval;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.pcollections.PVector;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+ * LazyPVectorX that runs map, filter, limit, skip and reverse directly against the backing Clojure PersistentVector
+ * once it has been materialized, each as a single pass into a transient vector. Native stages are deferred and
+ * composed, so a chain of them is only run when the result is first read, and never passes through a ReactiveSeq or
+ * the Reducer.
+ * Stages over a collection that is still backed by a Stream, or by another kind of PVector, take the ReactiveSeq path.
+ */
+final class LazyClojureVectorX<T> extends LazyPVectorX<T> {
+
+    private final Eval<PersistentVector> pending;
+
+    LazyClojureVectorX(PVector<T> vector, ReactiveSeq<T> seq, Reducer<PVector<T>> reducer, Eval<PersistentVector> pending) {
+        super(vector, seq, reducer, Evaluation.LAZY);
+        this.pending = pending;
+    }
+
+    @Override
+    public PVector<T> materializeList(ReactiveSeq<T> toUse) {
+        if (pending != null)
+            return ClojureVectorX.fromVector(pending.get());
+        return super.materializeList(toUse);
+    }
+
+    @Override
+    public <X> LazyPVectorX<X> fromStream(ReactiveSeq<X> stream) {
+        return new LazyClojureVectorX<X>(null, stream, (Reducer) getCollectorInternal(), null);
+    }
+
+    @Override
+    public <X> LazyPVectorX<X> from(Collection<X> c) {
+        if (c instanceof PVector)
+            return new LazyClojureVectorX<X>((PVector<X>) c, null, (Reducer) getCollectorInternal(), null);
+        return fromStream(ReactiveSeq.fromIterable(c));
+    }
+
+    @Override
+    public <R> VectorX<R> map(Function<? super T, ? extends R> mapper) {
+        Eval<PersistentVector> source = nativeVector();
+        if (source == null)
+            return super.map(mapper);
+        return stage(stream().map(mapper), source, v -> {
+            ITransientCollection use = PersistentVector.EMPTY.asTransient();
+            for (Object next : v)
+                use = use.conj(mapper.apply((T) next));
+            return (PersistentVector) use.persistent();
+        });
+    }
+
+    @Override
+    public VectorX<T> filter(Predicate<? super T> predicate) {
+        Eval<PersistentVector> source = nativeVector();
+        if (source == null)
+            return super.filter(predicate);
+        return stage(stream().filter(predicate), source, v -> {
+            ITransientCollection use = PersistentVector.EMPTY.asTransient();
+            for (Object next : v) {
+                if (predicate.test((T) next))
+                    use = use.conj(next);
+            }
+            return (PersistentVector) use.persistent();
+        });
+    }
+
+    @Override
+    public VectorX<T> limit(long num) {
+        Eval<PersistentVector> source = nativeVector();
+        if (source == null || num < 0)
+            return super.limit(num);
+        return stage(stream().limit(num), source, v -> num >= v.count() ? v : range(v, 0, (int) num));
+    }
+
+    @Override
+    public VectorX<T> skip(long num) {
+        Eval<PersistentVector> source = nativeVector();
+        if (source == null || num < 0)
+            return super.skip(num);
+        return stage(stream().skip(num), source, v -> num == 0 ? v : range(v, (int) Math.min(num, v.count()), v.count()));
+    }
+
+    @Override
+    public VectorX<T> reverse() {
+        Eval<PersistentVector> source = nativeVector();
+        if (source == null)
+            return super.reverse();
+        return stage(stream().reverse(), source, v -> {
+            ITransientCollection use = PersistentVector.EMPTY.asTransient();
+            for (int i = v.count() - 1; i >= 0; i--)
+                use = use.conj(v.nth(i));
+            return (PersistentVector) use.persistent();
+        });
+    }
+
+    private static PersistentVector range(PersistentVector v, int start, int end) {
+        ITransientCollection use = PersistentVector.EMPTY.asTransient();
+        for (int i = start; i < end; i++)
+            use = use.conj(v.nth(i));
+        return (PersistentVector) use.persistent();
+    }
+
+    /**
+     * @return true if this collection is built by native stages rather than by its ReactiveSeq
+     */
+    boolean isStaged() {
+        return pending != null;
+    }
+
+    /**
+     * @return The backing PersistentVector (possibly still pending), or null if this collection is not natively backed
+     */
+    private Eval<PersistentVector> nativeVector() {
+        if (seq.get() == null) {
+            PVector<T> vector = getList();
+            while (vector instanceof LazyPVectorX)
+                vector = ((LazyPVectorX<T>) vector).get();
+            return vector instanceof ClojureVectorX ? Eval.now(((ClojureVectorX<T>) vector).<PersistentVector>unwrap()) : null;
+        }
+        return pending;
+    }
+
+    private <R> LazyClojureVectorX<R> stage(ReactiveSeq<R> stream, Eval<PersistentVector> source,
+                                            Function<PersistentVector, PersistentVector> op) {
+        return new LazyClojureVectorX<R>(null, stream, (Reducer) getCollectorInternal(), Eval.later(() -> op.apply(source.get())));
+    }
+}
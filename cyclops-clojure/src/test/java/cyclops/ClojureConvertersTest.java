@@ -10,6 +10,8 @@ import cyclops.collections.mutable.ListX;
 import cyclops.companion.MapXs;
 import cyclops.companion.PersistentMapXs;
 import cyclops.monads.Witness;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -179,4 +181,18 @@ public class ClojureConvertersTest {
         assertTrue(list.containsKey(3),list.toString());
     }
 
+    @Test
+    public void reducersMatchPairwiseFold(){
+        assertMatchesPairwiseFold(ClojureTypes.<Integer>list());
+        assertMatchesPairwiseFold(ClojureTypes.<Integer>vector());
+        assertMatchesPairwiseFold(ClojureTypes.<Integer>queue());
+        assertMatchesPairwiseFold(ClojureTypes.<Integer>hashSet());
+        assertMatchesPairwiseFold(ClojureTypes.<Integer>treeSet());
+    }
+    private <C extends Iterable<Integer>> void assertMatchesPairwiseFold(Reducer<C> reducer){
+        C built = reducer.mapReduce(ReactiveSeq.of(5, 3, 1, 4, 2, 3));
+        C folded = reducer.reduce(reducer.mapToType(ReactiveSeq.of(5, 3, 1, 4, 2, 3)));
+        assertThat(ListX.fromIterable(built), equalTo(ListX.fromIterable(folded)));
+    }
+
 }
\ No newline at end of file
@@ -45,4 +45,20 @@ public class ArrayPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+    @Test
+    public void views(){
+        PersistentMapX<Integer,String> expected = org.plus(2, "world");
+        PersistentMapX<Integer,String> two = test.plus(2, "world");
+        assertThat(two.size(),equalTo(2));
+        assertThat(two.isEmpty(),equalTo(false));
+        assertThat(two.containsKey(2),equalTo(true));
+        assertThat(two.containsKey(3),equalTo(false));
+        assertThat(two.containsValue("world"),equalTo(true));
+        assertThat(two.containsValue("bye"),equalTo(false));
+        assertThat(two.get((Object)1),equalTo("hello"));
+        assertThat(two.entrySet(),equalTo(expected.entrySet()));
+        assertThat(two.keySet(),equalTo(expected.keySet()));
+        assertThat(two.values().size(),equalTo(2));
+        assertThat(two.values().contains("hello"),equalTo(true));
+    }
 }
@@ -4,6 +4,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import org.jooq.lambda.tuple.Tuple;
 
 import cyclops.collections.immutable.PersistentMapX;
 import cyclops.companion.MapXs;
@@ -44,4 +47,39 @@ public class HashPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+    @Test
+    public void views(){
+        PersistentMapX<Integer,String> expected = org.plus(2, "world");
+        PersistentMapX<Integer,String> two = test.plus(2, "world");
+        assertThat(two.size(),equalTo(2));
+        assertThat(two.isEmpty(),equalTo(false));
+        assertThat(two.containsKey(2),equalTo(true));
+        assertThat(two.containsKey(3),equalTo(false));
+        assertThat(two.containsValue("world"),equalTo(true));
+        assertThat(two.containsValue("bye"),equalTo(false));
+        assertThat(two.get((Object)1),equalTo("hello"));
+        assertThat(two.entrySet(),equalTo(expected.entrySet()));
+        assertThat(two.keySet(),equalTo(expected.keySet()));
+        assertThat(two.values().size(),equalTo(2));
+        assertThat(two.values().contains("hello"),equalTo(true));
+    }
+    @Test
+    public void plusAllMinusAllLarge(){
+        PersistentMapX<Integer,String> large = test.plusAll(ListX.range(0,100_000).toMap(i->i,i->"v"+i));
+        assertThat(large.size(),equalTo(100_000));
+        assertThat(large.get((Object)1),equalTo("v1"));
+        assertThat(test.get((Object)1),equalTo("hello"));
+        PersistentMapX<Integer,String> odds = large.minusAll(ListX.range(0,100_000).filter(i->i%2==0));
+        assertThat(odds.size(),equalTo(50_000));
+        assertThat(odds.containsKey(99_999),equalTo(true));
+        assertThat(odds.containsKey(99_998),equalTo(false));
+        assertThat(large.size(),equalTo(100_000));
+    }
+    @Test
+    public void fromStreamLarge(){
+        PersistentMapX<Integer,String> map = ClojureHashMapX.fromStream(ReactiveSeq.range(0,100_000).map(i->Tuple.tuple(i,"v"+i)));
+        assertThat(map.size(),equalTo(100_000));
+        assertThat(map.get((Object)99_999),equalTo("v99999"));
+        assertThat(map.plus(-1,"x").size(),equalTo(100_001));
+    }
 }
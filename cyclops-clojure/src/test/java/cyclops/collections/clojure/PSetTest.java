@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -54,5 +56,20 @@ public class PSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)),
                    equalTo(test.plusAll(ClojureHashSetX.of(1,2,3)).plusAll(Arrays.asList(5,6,7))));
     }
-   
+    @Test
+    public void plusAllMinusAllLarge(){
+        ClojureHashSetX<Integer> base = ClojureHashSetX.<Integer>emptyPSet().plusAll(Arrays.asList(-1,-2));
+        ClojureHashSetX<Integer> large = base.plusAll(ListX.range(0,100_000));
+        assertThat(large.size(),equalTo(100_002));
+        assertThat(base.size(),equalTo(2));
+        PSet<Integer> odds = large.minusAll(ListX.range(0,100_000).filter(i->i%2==0));
+        assertThat(odds.size(),equalTo(50_002));
+        assertThat(odds.contains(99_999),equalTo(true));
+        assertThat(odds.contains(99_998),equalTo(false));
+        assertThat(large.size(),equalTo(100_002));
+    }
+    @Test
+    public void fromStreamLarge(){
+        assertThat(ClojureHashSetX.fromStream(ReactiveSeq.range(0,100_000)),equalTo(ListX.range(0,100_000).toSetX()));
+    }
 }
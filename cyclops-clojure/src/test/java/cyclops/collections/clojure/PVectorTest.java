@@ -4,6 +4,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -62,4 +64,20 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void plusAllLarge(){
+        ClojureVectorX<Integer> base = ClojureVectorX.emptyPVector();
+        ClojureVectorX<Integer> three = base.plusAll(Arrays.asList(1,2,3));
+        ClojureVectorX<Integer> large = three.plusAll(ListX.range(0,100_000));
+        assertThat(large.size(),equalTo(100_003));
+        assertThat(large.get(3),equalTo(0));
+        assertThat(large.get(100_002),equalTo(99_999));
+        assertThat(three,equalTo(Arrays.asList(1,2,3)));
+        assertThat(base.size(),equalTo(0));
+    }
+    @Test
+    public void fromStreamLarge(){
+        assertThat(ClojureVectorX.fromStream(ReactiveSeq.range(0,100_000)),equalTo(ListX.range(0,100_000)));
+        assertThat(ClojureVectorX.copyFromCollection(ListX.range(0,100_000)),equalTo(ListX.range(0,100_000)));
+    }
 }
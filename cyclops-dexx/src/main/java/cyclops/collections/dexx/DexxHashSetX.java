@@ -134,8 +134,14 @@ public class DexxHashSetX<T> extends AbstractSet<T>implements PSet<T>, Unwrapabl
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(DexxHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                    (final T x) -> DexxHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(DexxHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                    (final T x) -> DexxHashSetX.singleton(x)),
+                                 it -> {
+                                     Builder<T, Set<T>> lb = Sets.builder();
+                                     while (it.hasNext())
+                                         lb.add((T) it.next());
+                                     return new DexxHashSetX<>(lb.build());
+                                 });
     }
 
     public static <T> DexxHashSetX<T> fromSet(Set<T> set) {
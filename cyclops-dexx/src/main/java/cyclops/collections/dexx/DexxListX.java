@@ -10,7 +10,6 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.FoldToList;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyLinkedListX;
 import com.aol.cyclops2.types.Unwrapable;
-import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.LinkedListX;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
@@ -36,7 +35,7 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
-    static final FoldToList gen = (it, i)-> DexxListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> DexxListX.from(from(it));
     public static <T> LazyLinkedListX<T> from(List<T> q) {
         return fromPStack(new DexxListX<>(q), toPStack());
     }
@@ -47,15 +46,14 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
 
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
 
-        return PStack(from(vec.iterator(),0));
+        return PStack(from(vec.iterator()));
 
     }
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
-
-        if(!i.hasNext())
-            return ConsList.empty();
-        E e = i.next();
-        return  from(i,depth++).prepend(e);
+    private static <E> List<E> from(final Iterator<E> i) {
+        Builder<E, ConsList<E>> lb = ConsList.<E>factory().newBuilder();
+        while (i.hasNext())
+            lb.add(i.next());
+        return lb.build();
     }
     /**
      * Create a LazyLinkedListX from a Stream
@@ -65,7 +63,7 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
      */
     public static <T> LazyLinkedListX<T> fromStream(Stream<T> stream) {
         Reducer<PStack<T>> r = toPStack();
-        return new LazyLinkedListX<T>(null, ReactiveSeq.fromStream(stream),  r, gen,Evaluation.LAZY);
+        return new LazyDexxListX<T>(null, ReactiveSeq.fromStream(stream),  r, null);
     }
 
     /**
@@ -150,8 +148,15 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(DexxListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxListX.singleton(x));
+        //plusAll prepends each element, so prepend here too to keep the order of the pairwise reduction
+        return BuilderReducer.of(Reducer.<PStack<T>> of(DexxListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> DexxListX.singleton(x)),
+                                 it -> {
+                                     List<T> list = ConsList.empty();
+                                     while (it.hasNext())
+                                         list = list.prepend((T) it.next());
+                                     return fromList(list);
+                                 });
     }
 
     public static <T> DexxListX<T> fromList(List<T> list) {
@@ -194,7 +199,7 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
                                       toPStack());
     }
     private static <T> LazyLinkedListX<T> fromPStack(PStack<T> s, Reducer<PStack<T>> pStackReducer) {
-        return new LazyLinkedListX<T>(s,null,pStackReducer,gen, Evaluation.LAZY);
+        return new LazyDexxListX<T>(s,null,pStackReducer, null);
     }
 
 
@@ -203,6 +208,9 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
         return fromPStack(of(elements), toPStack());
     }
 
+    //minusAll copies larger argument collections into a HashSet so each membership test is constant time
+    static final int HASH_LOOKUP_THRESHOLD = 8;
+
     @Wither
     private final List<T> list;
 
@@ -276,16 +284,49 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     }
 
     @Override
-    public PStack<T> minus(Object e) {
-
-        return fromPStack(this, toPStack())
-                          .filter(i -> !Objects.equals(i, e));
+    public DexxListX<T> minus(Object e) {
+        //copy the elements before the first match, the remainder after it is shared
+        ArrayList<T> front = new ArrayList<>();
+        List<T> rest = list;
+        while (!rest.isEmpty()) {
+            T next = rest.first();
+            rest = rest.tail();
+            if (Objects.equals(next, e))
+                return withList(prependAll(front, front.size(), rest));
+            front.add(next);
+        }
+        return this;
     }
 
     @Override
-    public PStack<T> minusAll(Collection<?> list) {
-        return (PStack<T>)fromPStack(this, toPStack())
-                          .removeAllI((Iterable<T>) list);
+    public DexxListX<T> minusAll(Collection<?> l) {
+        //elements after the last removed element are shared with this list
+        Collection<?> toRemove = l.size() > HASH_LOOKUP_THRESHOLD && !(l instanceof Set) ? new HashSet<>(l) : l;
+        ArrayList<T> kept = new ArrayList<>();
+        int keptBeforeShared = 0;
+        List<T> shared = list;
+        List<T> rest = list;
+        while (!rest.isEmpty()) {
+            T next = rest.first();
+            rest = rest.tail();
+            if (toRemove.contains(next)) {
+                keptBeforeShared = kept.size();
+                shared = rest;
+            } else {
+                kept.add(next);
+            }
+        }
+        if (shared == list)
+            return this;
+        return withList(prependAll(kept, keptBeforeShared, shared));
+    }
+
+    private static <E> List<E> prependAll(java.util.List<E> front, int count, List<E> rest) {
+        List<E> result = rest;
+        for (int i = count - 1; i >= 0; i--) {
+            result = result.prepend(front.get(i));
+        }
+        return result;
     }
 
     public DexxListX<T> tail() {
@@ -297,21 +338,27 @@ public class DexxListX<T> extends AbstractList<T>implements PStack<T>, Unwrapabl
     }
 
     @Override
-    public PStack<T> minus(int i) {
+    public DexxListX<T> minus(int i) {
 
         if (i < 0 || i > size())
             throw new IndexOutOfBoundsException(
                                                 "Index " + i + " is out of bounds - size : " + size());
         if (i == 0)
             return withList(list.drop(1));
-/**
-        if (i == size() - 1)
-           return fromPStack(this, toPStack()).dropRight(1).materialize();
-**/
-        return fromPStack(this,toPStack())
-                          .zipWithIndex()
-                          .filter(t->t.v2.intValue()!=i)
-                          .map(t->t.v1).materialize();
+        //copy the elements before i, the remainder after it is shared
+        Object[] front = new Object[i];
+        List<T> rest = list;
+        for (int k = 0; k < i && !rest.isEmpty(); k++) {
+            front[k] = rest.first();
+            rest = rest.tail();
+        }
+        if (rest.isEmpty())
+            return this;
+        List<T> result = rest.tail();
+        for (int k = i - 1; k >= 0; k--) {
+            result = result.prepend((T) front[k]);
+        }
+        return withList(result);
       
     }
 
@@ -148,14 +148,23 @@ public class DexxTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> DexxTreeSetX.singleton(x)),
+                                 it -> build(Comparator.<T>naturalOrder(), it));
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(DexxTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxTreeSetX.singleton(ordering,x));
+                                      (final T x) -> DexxTreeSetX.singleton(ordering,x)),
+                                 it -> build(ordering, it));
+    }
+
+    private static <T> DexxTreeSetX<T> build(Comparator<T> comp, Iterator<?> it) {
+        Builder<T, TreeSet<T>> lb = TreeSet.factory(comp).newBuilder();
+        while (it.hasNext())
+            lb.add((T) it.next());
+        return fromSet(lb.build());
     }
 
     public static <T> DexxTreeSetX<T> fromSet(TreeSet<T> set) {
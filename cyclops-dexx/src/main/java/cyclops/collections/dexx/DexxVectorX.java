@@ -135,7 +135,13 @@ public class DexxVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(DexxVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> DexxVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(DexxVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> DexxVectorX.singleton(x)),
+                                 it -> {
+                                     Builder<T, Vector<T>> lb = builder();
+                                     while (it.hasNext())
+                                         lb.add((T) it.next());
+                                     return fromVector(lb.build());
+                                 });
     }
     public static <T> Builder<T,Vector<T>> builder(){
         return Vector.<T>factory().newBuilder();
@@ -0,0 +1,134 @@
+package cyclops.collections.dexx;
+
+import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyLinkedListX;
+import com.aol.cyclops2.types.foldable.Evaluation;
+import com.github.andrewoma.dexx.collection.Builder;
+import com.github.andrewoma.dexx.collection.ConsList;
+import com.github.andrewoma.dexx.collection.List;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.control.Eval;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import org.pcollections.PStack;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+ * LazyLinkedListX that runs map, filter, limit, skip and reverse directly against the backing Dexx List once it has
+ * been materialized: take and drop natively, map and filter as a single pass into a ConsList builder, and reverse by
+ * prepending.
+ * Native stages are deferred and composed, so a chain of them is only run when the result is first read, and never
+ * passes through a ReactiveSeq.
+ * Stages over a collection that is still backed by a Stream, or by another kind of PStack, take the ReactiveSeq path.
+ */
+final class LazyDexxListX<T> extends LazyLinkedListX<T> {
+
+    private final Eval<List<T>> pending;
+
+    LazyDexxListX(PStack<T> list, ReactiveSeq<T> seq, Reducer<PStack<T>> reducer, Eval<List<T>> pending) {
+        super(list, seq, reducer, DexxListX.gen, Evaluation.LAZY);
+        this.pending = pending;
+    }
+
+    @Override
+    public PStack<T> materializeList(ReactiveSeq<T> toUse) {
+        if (pending != null)
+            return DexxListX.fromList(pending.get());
+        return super.materializeList(toUse);
+    }
+
+    @Override
+    public <X> LazyLinkedListX<X> fromStream(ReactiveSeq<X> stream) {
+        return new LazyDexxListX<X>(null, stream, (Reducer) getCollectorInternal(), null);
+    }
+
+    @Override
+    public <X> LazyLinkedListX<X> from(Collection<X> c) {
+        if (c instanceof PStack)
+            return new LazyDexxListX<X>((PStack<X>) c, null, (Reducer) getCollectorInternal(), null);
+        return fromStream(ReactiveSeq.fromIterable(c));
+    }
+
+    @Override
+    public <R> LinkedListX<R> map(Function<? super T, ? extends R> mapper) {
+        Eval<List<T>> source = nativeList();
+        if (source == null)
+            return super.map(mapper);
+        return stage(stream().map(mapper), source, l -> {
+            Builder<R, ConsList<R>> lb = ConsList.<R>factory().newBuilder();
+            for (T next : l)
+                lb.add(mapper.apply(next));
+            return lb.build();
+        });
+    }
+
+    @Override
+    public LinkedListX<T> filter(Predicate<? super T> predicate) {
+        Eval<List<T>> source = nativeList();
+        if (source == null)
+            return super.filter(predicate);
+        return stage(stream().filter(predicate), source, l -> {
+            Builder<T, ConsList<T>> lb = ConsList.<T>factory().newBuilder();
+            for (T next : l) {
+                if (predicate.test(next))
+                    lb.add(next);
+            }
+            return lb.build();
+        });
+    }
+
+    @Override
+    public LinkedListX<T> limit(long num) {
+        Eval<List<T>> source = nativeList();
+        if (source == null || num < 0)
+            return super.limit(num);
+        return stage(stream().limit(num), source, l -> l.take((int) Math.min(num, Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public LinkedListX<T> skip(long num) {
+        Eval<List<T>> source = nativeList();
+        if (source == null || num < 0)
+            return super.skip(num);
+        return stage(stream().skip(num), source, l -> l.drop((int) Math.min(num, Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public LinkedListX<T> reverse() {
+        Eval<List<T>> source = nativeList();
+        if (source == null)
+            return super.reverse();
+        return stage(stream().reverse(), source, l -> {
+            List<T> reversed = ConsList.empty();
+            for (T next : l)
+                reversed = reversed.prepend(next);
+            return reversed;
+        });
+    }
+
+    /**
+     * @return true if this collection is built by native stages rather than by its ReactiveSeq
+     */
+    boolean isStaged() {
+        return pending != null;
+    }
+
+    /**
+     * @return The backing List (possibly still pending), or null if this collection is not natively backed
+     */
+    private Eval<List<T>> nativeList() {
+        if (seq.get() == null) {
+            PStack<T> stack = getList();
+            while (stack instanceof LazyLinkedListX)
+                stack = ((LazyLinkedListX<T>) stack).get();
+            return stack instanceof DexxListX ? Eval.now(((DexxListX<T>) stack).<List<T>>unwrap()) : null;
+        }
+        return pending;
+    }
+
+    private <R> LazyDexxListX<R> stage(ReactiveSeq<R> stream, Eval<List<T>> source, Function<List<T>, List<R>> op) {
+        return new LazyDexxListX<R>(null, stream, (Reducer) getCollectorInternal(), Eval.later(() -> op.apply(source.get())));
+    }
+}
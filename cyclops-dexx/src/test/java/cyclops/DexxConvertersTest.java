@@ -10,6 +10,9 @@ import cyclops.collections.immutable.*;
 
 import cyclops.companion.MapXs;
 import cyclops.companion.PersistentMapXs;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import cyclops.collections.mutable.ListX;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -114,5 +117,17 @@ public class DexxConvertersTest {
         assertTrue(list.contains(6),list.toString());
     }
 
+    @Test
+    public void reducersMatchPairwiseFold(){
+        assertMatchesPairwiseFold(DexxTypes.<Integer>list());
+        assertMatchesPairwiseFold(DexxTypes.<Integer>vector());
+        assertMatchesPairwiseFold(DexxTypes.<Integer>hashSet());
+        assertMatchesPairwiseFold(DexxTypes.<Integer>treeSet());
+    }
+    private <C extends Iterable<Integer>> void assertMatchesPairwiseFold(Reducer<C> reducer){
+        C built = reducer.mapReduce(ReactiveSeq.of(5, 3, 1, 4, 2, 3));
+        C folded = reducer.reduce(reducer.mapToType(ReactiveSeq.of(5, 3, 1, 4, 2, 3)));
+        assertThat(ListX.fromIterable(built), equalTo(ListX.fromIterable(folded)));
+    }
 
 }
\ No newline at end of file
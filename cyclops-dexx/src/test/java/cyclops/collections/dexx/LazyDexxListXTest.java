@@ -0,0 +1,57 @@
+package cyclops.collections.dexx;
+
+import cyclops.collections.immutable.LinkedListX;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LazyDexxListXTest {
+
+    private static boolean isStaged(LinkedListX<Integer> collection){
+        return collection instanceof LazyDexxListX && ((LazyDexxListX<Integer>)collection).isStaged();
+    }
+
+    @Test
+    public void nativeStages(){
+        LinkedListX<Integer> seq = DexxListX.of(1,2,3,4,5,6);
+        LinkedListX<Integer> staged = seq.map(i->i*10).filter(i->i>10).limit(4).skip(1).reverse();
+        assertTrue(isStaged(staged));
+        assertThat(staged,equalTo(Arrays.asList(50,40,30)));
+        assertTrue(isStaged(seq.limit(10).skip(2)));
+        assertThat(seq.limit(10).skip(2),equalTo(Arrays.asList(3,4,5,6)));
+        assertThat(seq.skip(10).size(),equalTo(0));
+        assertThat(seq,equalTo(Arrays.asList(1,2,3,4,5,6)));
+    }
+    @Test
+    public void stagesRunOnceWhenFirstRead(){
+        AtomicInteger mapped = new AtomicInteger(0);
+        LinkedListX<Integer> staged = DexxListX.of(1,2,3).map(i->{ mapped.incrementAndGet(); return i*2; }).filter(i->i>2);
+        assertThat(mapped.get(),equalTo(0));
+        assertThat(staged,equalTo(Arrays.asList(4,6)));
+        assertThat(staged,equalTo(Arrays.asList(4,6)));
+        assertThat(mapped.get(),equalTo(3));
+    }
+    @Test
+    public void nestedLazyCollectionIsUnwrapped(){
+        LinkedListX<Integer> nested = ((LazyDexxListX<Integer>)DexxListX.of(1,2,3)).from(DexxListX.of(4,5,6));
+        LinkedListX<Integer> staged = nested.map(i->i+1);
+        assertTrue(isStaged(staged));
+        assertThat(staged,equalTo(Arrays.asList(5,6,7)));
+    }
+    @Test
+    public void streamBackedStages(){
+        LinkedListX<Integer> streamed = DexxListX.fromStream(Stream.of(1,2,3)).map(i->i+1).reverse();
+        assertFalse(isStaged(streamed));
+        assertThat(streamed,equalTo(Arrays.asList(4,3,2)));
+        LinkedListX<Integer> zipped = DexxListX.of(1,2,3).zipWithIndex().map(t->t.v1*t.v2.intValue()).filter(i->i>0);
+        assertFalse(isStaged(zipped));
+        assertThat(zipped,equalTo(Arrays.asList(2,6)));
+    }
+}
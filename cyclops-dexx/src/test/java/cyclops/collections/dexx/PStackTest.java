@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
 import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.ConsPStack;
@@ -96,4 +97,30 @@ public class PStackTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void minusLarge(){
+        DexxListX<Integer> large = DexxListX.copyFromCollection(ListX.range(0,100_000)).unwrap();
+        DexxListX<Integer> removed = large.minus((Object)99_999);
+        assertThat(removed.size(),equalTo(99_999));
+        assertThat(removed.get(99_998),equalTo(99_998));
+        assertThat(large.minus((Object)100_000),equalTo(large));
+        assertThat(large.minus(50_000).get(50_000),equalTo(50_001));
+    }
+    @Test
+    public void minusSharesTail(){
+        PStack<Integer> dups = test.plusAll(Arrays.asList(1,2,1,3));
+        assertThat(dups.minus((Object)1),equalTo(org.plusAll(Arrays.asList(1,2,1,3)).minus((Object)1)));
+        assertThat(dups.minus(1),equalTo(org.plusAll(Arrays.asList(1,2,1,3)).minus(1)));
+        assertThat(dups.minus(3),equalTo(Arrays.asList(3,1,2)));
+    }
+    @Test
+    public void minusAllLarge(){
+        DexxListX<Integer> large = DexxListX.copyFromCollection(ListX.range(0,100_000)).unwrap();
+        DexxListX<Integer> odds = large.minusAll(ListX.range(0,100_000).filter(i->i%2==0));
+        assertThat(odds.size(),equalTo(50_000));
+        assertThat(odds.get(0),equalTo(1));
+        assertThat(odds.get(49_999),equalTo(99_999));
+        assertThat(large.minusAll(Arrays.asList(-1)),equalTo(large));
+        assertThat(large.minusAll(ListX.range(0,100_000)).size(),equalTo(0));
+    }
 }
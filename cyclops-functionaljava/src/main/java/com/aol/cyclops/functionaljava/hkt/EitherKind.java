@@ -39,10 +39,10 @@ public class EitherKind<L,R> implements To<EitherKind<L,R>>,
         return new EitherKind<>(Either.right(right));
     }
     public static <L, R> Either<L, R> narrowK2(final Higher2<either, L, R> xor) {
-        return (Either<L, R>)xor;
+        return ((EitherKind<L, R>)xor).boxed;
     }
     public static <L, R> Either<L, R> narrowK(final Higher<Higher<either, L>, R> either) {
-        return (Either<L, R>)either;
+        return ((EitherKind<L, R>)either).boxed;
     }
     public static <L,T> Higher<Higher<either,L>,T> widenK(final Either<L,T> completableList) {
 
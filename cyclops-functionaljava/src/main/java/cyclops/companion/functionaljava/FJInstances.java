@@ -0,0 +1,51 @@
+package cyclops.companion.functionaljava;
+
+import cyclops.monads.FJWitness;
+import cyclops.monads.WitnessType;
+import cyclops.typeclasses.InstanceDefinitions;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the shared type class instances defined in this module, keyed by witness type.
+ *
+ * <pre>
+ * {@code
+ *  InstanceDefinitions<list> defs = FJInstances.definitions(FJWitness.list.INSTANCE).get();
+ * }
+ * </pre>
+ *
+ * Witnesses with a type parameter of their own (such as either) are not registered, use the companion class.
+ */
+@UtilityClass
+public class FJInstances {
+
+    private static final Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> DEFINITIONS = createDefinitions();
+
+    private static Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> createDefinitions(){
+        Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions = new IdentityHashMap<>();
+        register(definitions, FJWitness.list.INSTANCE, Lists.Instances.definitions());
+        register(definitions, FJWitness.nonEmptyList.INSTANCE, NonEmptyLists.Instances.definitions());
+        register(definitions, FJWitness.option.INSTANCE, Options.Instances.definitions());
+        register(definitions, FJWitness.stream.INSTANCE, Streams.Instances.definitions());
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    private static <W extends WitnessType<W>> void register(Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions,
+                                                           W witness, InstanceDefinitions<W> instances){
+        definitions.put(witness, Optional.of(instances));
+    }
+
+    /**
+     * @param witness Witness type to look up
+     * @return The shared InstanceDefinitions for the witness, or an empty Optional if it is not defined in this module
+     */
+    public static <W extends WitnessType<W>> Optional<InstanceDefinitions<W>> definitions(W witness){
+        Optional<? extends InstanceDefinitions<?>> instances = DEFINITIONS.get(witness);
+        return instances == null ? Optional.empty() : (Optional<InstanceDefinitions<W>>) instances;
+    }
+}
@@ -347,9 +347,30 @@ public class Lists {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<list> FUNCTOR = createFunctor();
+        private static final Pure<list> UNIT = createUnit();
+        private static final Applicative<list> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<list> MONAD = createMonad();
+        private static final MonadZero<list> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<list> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<list> TRAVERSE = createTraverse();
+        private static final Foldable<list> FOLDABLE = createFoldable();
+        private static final Unfoldable<list> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<list> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<list> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<list> createDefinitions() {
             return new InstanceDefinitions<list>() {
 
+                private final Maybe<MonadZero<list>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<list>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<list>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<list>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<list>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<list> functor() {
                     return Instances.functor();
@@ -372,12 +393,12 @@ public class Lists {
 
                 @Override
                 public <T, R> Maybe<MonadZero<list>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<list>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -387,12 +408,12 @@ public class Lists {
 
                 @Override
                 public <C2, T> Maybe<Traverse<list>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<list>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -402,7 +423,7 @@ public class Lists {
 
                 @Override
                 public <T> Maybe<Unfoldable<list>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -435,6 +456,9 @@ public class Lists {
          * @return A functor for Lists
          */
         public static <T,R>Functor<list> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<list> createFunctor(){
             BiFunction<ListKind<T>,Function<? super T, ? extends R>,ListKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -454,6 +478,9 @@ public class Lists {
          * @return A factory for Lists
          */
         public static <T> Pure<list> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<list> createUnit(){
             return General.<list,T>unit(Instances::of);
         }
         /**
@@ -494,6 +521,9 @@ public class Lists {
          * @return A zipper for Lists
          */
         public static <T,R> Applicative<list> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<list> createZippingApplicative(){
             BiFunction<ListKind< Function<T, R>>,ListKind<T>,ListKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -524,6 +554,9 @@ public class Lists {
          * @return Type class with monad functions for Lists
          */
         public static <T,R> Monad<list> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<list> createMonad(){
 
             BiFunction<Higher<list,T>,Function<? super T, ? extends Higher<list,R>>,Higher<list,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -546,6 +579,9 @@ public class Lists {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<list> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<list> createMonadZero(){
 
             return General.monadZero(monad(), widen(List.list()));
         }
@@ -562,6 +598,9 @@ public class Lists {
          * @return Type class for combining Lists by concatenation
          */
         public static <T> MonadPlus<list> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<list> createMonadPlus(){
             Monoid<ListKind<T>> m = Monoid.of(widen(List.list()), Instances::concat);
             Monoid<Higher<list,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -595,6 +634,9 @@ public class Lists {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<list> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<list> createTraverse(){
 
             BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) -> {
 
@@ -634,6 +676,9 @@ public class Lists {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<list> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<list> createFoldable(){
             BiFunction<Monoid<T>,Higher<list,T>,T> foldRightFn =  (m, l)-> ListX.fromIterable(ListKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<list,T>,T> foldLeftFn = (m, l)-> ListX.fromIterable(ListKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -657,6 +702,9 @@ public class Lists {
             return widen(ListKind.narrow(lt).map(in->fn.apply(in)));
         }
         public static Unfoldable<list> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<list> createUnfoldable(){
             return new Unfoldable<list>() {
                 @Override
                 public <R, T> Higher<list, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
@@ -209,9 +209,22 @@ public class NonEmptyLists {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<nonEmptyList> FUNCTOR = createFunctor();
+        private static final Pure<nonEmptyList> UNIT = createUnit();
+        private static final Applicative<nonEmptyList> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<nonEmptyList> MONAD = createMonad();
+        private static final Foldable<nonEmptyList> FOLDABLE = createFoldable();
+        private static final InstanceDefinitions<nonEmptyList> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<nonEmptyList> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<nonEmptyList> createDefinitions() {
             return new InstanceDefinitions<nonEmptyList>() {
 
+                private final Maybe<Foldable<nonEmptyList>> foldable = Maybe.just(Instances.foldable());
+
+
                 @Override
                 public <T, R> Functor<nonEmptyList> functor() {
                     return Instances.functor();
@@ -254,7 +267,7 @@ public class NonEmptyLists {
 
                 @Override
                 public <T> Maybe<Foldable<nonEmptyList>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -297,6 +310,9 @@ public class NonEmptyLists {
          * @return A functor for NonEmptyLists
          */
         public static <T,R>Functor<nonEmptyList> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<nonEmptyList> createFunctor(){
             BiFunction<NonEmptyListKind<T>,Function<? super T, ? extends R>,NonEmptyListKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -316,6 +332,9 @@ public class NonEmptyLists {
          * @return A factory for NonEmptyLists
          */
         public static <T> Pure<nonEmptyList> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<nonEmptyList> createUnit(){
             return General.<nonEmptyList,T>unit(Instances::of);
         }
         /**
@@ -356,6 +375,9 @@ public class NonEmptyLists {
          * @return A zipper for NonEmptyLists
          */
         public static <T,R> Applicative<nonEmptyList> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<nonEmptyList> createZippingApplicative(){
             BiFunction<NonEmptyListKind< Function<T, R>>,NonEmptyListKind<T>,NonEmptyListKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -386,6 +408,9 @@ public class NonEmptyLists {
          * @return Type class with monad functions for NonEmptyLists
          */
         public static <T,R> Monad<nonEmptyList> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<nonEmptyList> createMonad(){
 
             BiFunction<Higher<nonEmptyList,T>,Function<? super T, ? extends Higher<nonEmptyList,R>>,Higher<nonEmptyList,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -412,6 +437,9 @@ public class NonEmptyLists {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<nonEmptyList> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<nonEmptyList> createFoldable(){
             BiFunction<Monoid<T>,Higher<nonEmptyList,T>,T> foldRightFn =  (m, l)-> ListX.fromIterable(NonEmptyListKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<nonEmptyList,T>,T> foldLeftFn = (m, l)-> ListX.fromIterable(NonEmptyListKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
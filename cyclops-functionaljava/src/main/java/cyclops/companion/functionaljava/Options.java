@@ -627,9 +627,30 @@ public class Options {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<option> FUNCTOR = createFunctor();
+        private static final Pure<option> UNIT = createUnit();
+        private static final Applicative<option> APPLICATIVE = createApplicative();
+        private static final Monad<option> MONAD = createMonad();
+        private static final MonadZero<option> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<option> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<option> TRAVERSE = createTraverse();
+        private static final Foldable<option> FOLDABLE = createFoldable();
+        private static final Comonad<option> COMONAD = createComonad();
+        private static final InstanceDefinitions<option> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<option> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<option> createDefinitions() {
             return new InstanceDefinitions<option>() {
 
+                private final Maybe<MonadZero<option>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<option>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<option>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<option>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<option>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<option> functor() {
                     return Instances.functor();
@@ -652,12 +673,12 @@ public class Options {
 
                 @Override
                 public <T, R> Maybe<MonadZero<option>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<option>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -667,17 +688,17 @@ public class Options {
 
                 @Override
                 public <C2, T> Maybe<Traverse<option>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<option>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<option>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -716,6 +737,9 @@ public class Options {
          * @return A functor for Options
          */
         public static <T,R>Functor<option> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<option> createFunctor(){
             BiFunction<OptionKind<T>,Function<? super T, ? extends R>,OptionKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -735,6 +759,9 @@ public class Options {
          * @return A factory for Options
          */
         public static <T> Pure<option> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<option> createUnit(){
             return General.<option,T>unit(Instances::of);
         }
         /**
@@ -775,6 +802,9 @@ public class Options {
          * @return A zipper for Options
          */
         public static <T,R> Applicative<option> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<option> createApplicative(){
             BiFunction<OptionKind< Function<T, R>>,OptionKind<T>,OptionKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -805,6 +835,9 @@ public class Options {
          * @return Type class with monad functions for Options
          */
         public static <T,R> Monad<option> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<option> createMonad(){
 
             BiFunction<Higher<option,T>,Function<? super T, ? extends Higher<option,R>>,Higher<option,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -827,6 +860,9 @@ public class Options {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<option> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<option> createMonadZero(){
 
             return General.monadZero(monad(), OptionKind.empty());
         }
@@ -843,6 +879,9 @@ public class Options {
          * @return Type class for combining Options by concatenation
          */
         public static <T> MonadPlus<option> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<option> createMonadPlus(){
             Monoid<Option<T>> mn = Monoid.of(Option.none(), (a, b) -> a.isSome() ? a : b);
             Monoid<OptionKind<T>> m = Monoid.of(widen(mn.zero()), (f, g)-> widen(
                     mn.apply(OptionKind.narrow(f), OptionKind.narrow(g))));
@@ -879,6 +918,9 @@ public class Options {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<option> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<option> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -899,11 +941,17 @@ public class Options {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<option> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<option> createFoldable(){
             BiFunction<Monoid<T>,Higher<option,T>,T> foldRightFn =  (m, l)-> OptionKind.narrow(l).orSome(m.zero());
             BiFunction<Monoid<T>,Higher<option,T>,T> foldLeftFn = (m, l)-> OptionKind.narrow(l).orSome(m.zero());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<option> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<option> createComonad(){
             Function<? super Higher<option, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionKind::narrow).some();
             return General.comonad(functor(), unit(), extractFn);
         }
@@ -344,9 +344,30 @@ public class Streams {
      */
     @UtilityClass
     public class Instances {
+
+        private static final Functor<stream> FUNCTOR = createFunctor();
+        private static final Pure<stream> UNIT = createUnit();
+        private static final Applicative<stream> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<stream> MONAD = createMonad();
+        private static final MonadZero<stream> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<stream> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<stream> TRAVERSE = createTraverse();
+        private static final Foldable<stream> FOLDABLE = createFoldable();
+        private static final Unfoldable<stream> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<stream> DEFINITIONS = createDefinitions();
         public static InstanceDefinitions<stream> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<stream> createDefinitions() {
             return new InstanceDefinitions<stream>() {
 
+                private final Maybe<MonadZero<stream>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<stream>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<stream>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<stream>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<stream>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<stream> functor() {
                     return Instances.functor();
@@ -369,12 +390,12 @@ public class Streams {
 
                 @Override
                 public <T, R> Maybe<MonadZero<stream>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<stream>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -384,12 +405,12 @@ public class Streams {
 
                 @Override
                 public <C2, T> Maybe<Traverse<stream>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<stream>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -399,7 +420,7 @@ public class Streams {
 
                 @Override
                 public <T> Maybe<Unfoldable<stream>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -433,6 +454,9 @@ public class Streams {
          * @return A functor for Streams
          */
         public static <T,R>Functor<stream> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<stream> createFunctor(){
             BiFunction<StreamKind<T>,Function<? super T, ? extends R>,StreamKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -452,6 +476,9 @@ public class Streams {
          * @return A factory for Streams
          */
         public static <T> Pure<stream> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<stream> createUnit(){
             return General.<stream,T>unit(Instances::of);
         }
         /**
@@ -492,6 +519,9 @@ public class Streams {
          * @return A zipper for Streams
          */
         public static <T,R> Applicative<stream> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<stream> createZippingApplicative(){
             BiFunction<StreamKind< Function<T, R>>,StreamKind<T>,StreamKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -522,6 +552,9 @@ public class Streams {
          * @return Type class with monad functions for Streams
          */
         public static <T,R> Monad<stream> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<stream> createMonad(){
 
             BiFunction<Higher<stream,T>,Function<? super T, ? extends Higher<stream,R>>,Higher<stream,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -544,6 +577,9 @@ public class Streams {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<stream> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<stream> createMonadZero(){
 
             return General.monadZero(monad(), StreamKind.widen(Stream.stream()));
         }
@@ -560,6 +596,9 @@ public class Streams {
          * @return Type class for combining Streams by concatenation
          */
         public static <T> MonadPlus<stream> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<stream> createMonadPlus(){
             Monoid<StreamKind<T>> m = Monoid.of(StreamKind.widen(Stream.stream()), Instances::concat);
             Monoid<Higher<stream,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -593,6 +632,9 @@ public class Streams {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<stream> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<stream> createTraverse(){
 
             BiFunction<Applicative<C2>,StreamKind<Higher<C2, T>>,Higher<C2, StreamKind<T>>> sequenceFn = (ap, stream) -> {
 
@@ -632,6 +674,9 @@ public class Streams {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<stream> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<stream> createFoldable(){
             BiFunction<Monoid<T>,Higher<stream,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(StreamKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<stream,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(StreamKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -655,6 +700,9 @@ public class Streams {
             return StreamKind.widen(StreamKind.narrow(lt).map(in->fn.apply(in)));
         }
         public static Unfoldable<stream> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<stream> createUnfoldable(){
             return new Unfoldable<stream>() {
                 @Override
                 public <R, T> Higher<stream, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
@@ -0,0 +1,94 @@
+package com.aol.cyclops.functionaljava.hkt.typeclesses.instances;
+
+import com.aol.cyclops.functionaljava.hkt.EitherKind;
+import com.aol.cyclops2.hkt.Higher;
+import cyclops.companion.functionaljava.Eithers;
+import cyclops.companion.functionaljava.FJInstances;
+import cyclops.companion.functionaljava.Lists;
+import cyclops.companion.functionaljava.NonEmptyLists;
+import cyclops.companion.functionaljava.Options;
+import cyclops.companion.functionaljava.Streams;
+import cyclops.monads.FJWitness;
+import cyclops.monads.FJWitness.either;
+import cyclops.monads.FJWitness.list;
+import cyclops.typeclasses.InstanceDefinitions;
+import fj.data.Either;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void everyInstanceIsAvailable(){
+        allInstances(Lists.Instances.definitions());
+        allInstances(NonEmptyLists.Instances.definitions());
+        allInstances(Options.Instances.definitions());
+        allInstances(Streams.Instances.definitions());
+        allInstances(Eithers.Instances.definitions());
+
+        assertThat(Eithers.Instances.functor(), notNullValue());
+        assertThat(Eithers.Instances.unit(), notNullValue());
+        assertThat(Eithers.Instances.applicative(), notNullValue());
+        assertThat(Eithers.Instances.monad(), notNullValue());
+        assertThat(Eithers.Instances.traverse(), notNullValue());
+        assertThat(Eithers.Instances.foldable(), notNullValue());
+        assertThat(Eithers.Instances.monadZero(), notNullValue());
+        assertThat(Eithers.Instances.monadPlus(), notNullValue());
+        assertThat(Eithers.Instances.comonad(), notNullValue());
+    }
+
+    private <W> void allInstances(InstanceDefinitions<W> defs){
+        assertThat(defs.functor(), notNullValue());
+        assertThat(defs.unit(), notNullValue());
+        assertThat(defs.applicative(), notNullValue());
+        assertThat(defs.monad(), notNullValue());
+        defs.monadZero().forEach(i -> assertThat(i, notNullValue()));
+        defs.monadPlus().forEach(i -> assertThat(i.monoid(), notNullValue()));
+        defs.traverse().forEach(i -> assertThat(i, notNullValue()));
+        defs.foldable().forEach(i -> assertThat(i, notNullValue()));
+        defs.comonad().forEach(i -> assertThat(i, notNullValue()));
+        defs.unfoldable().forEach(i -> assertThat(i, notNullValue()));
+    }
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Lists.Instances.definitions(), sameInstance(Lists.Instances.definitions()));
+        assertThat(Options.Instances.definitions().monadZero().get(), sameInstance(Options.Instances.monadZero()));
+        assertThat(Eithers.Instances.<String>definitions().monad(), sameInstance(Eithers.Instances.<Integer>monad()));
+        assertThat(Eithers.Instances.<String>definitions().monadPlus().get(), sameInstance(Eithers.Instances.<Integer>monadPlus()));
+    }
+
+    @Test
+    public void eitherInstances(){
+        Higher<Higher<either, String>, Integer> right = Eithers.Instances.<String>unit().unit(10);
+        Higher<Higher<either, String>, Integer> left = EitherKind.left("failed");
+
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>functor().map(i -> i * 2, right)), equalTo(Either.right(20)));
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>monad().flatMap(i -> left, right)), equalTo(Either.left("failed")));
+    }
+
+    @Test
+    public void eitherMonadPlusKeepsFirstRight(){
+        Higher<Higher<either, String>, Integer> right = EitherKind.right(10);
+        Higher<Higher<either, String>, Integer> left = EitherKind.left("failed");
+        Higher<Higher<either, String>, ?> zero = Eithers.Instances.<String>monadPlus().zero();
+
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>monadPlus().plus(left, right)), equalTo(Either.right(10)));
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>monadPlus().plus(right, left)), equalTo(Either.right(10)));
+        assertThat(EitherKind.narrowK(zero).isLeft(), equalTo(true));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(FJInstances.definitions(list.INSTANCE).get(), sameInstance(Lists.Instances.definitions()));
+        assertThat(FJInstances.definitions(FJWitness.option.INSTANCE).get(), sameInstance(Options.Instances.definitions()));
+        assertThat(FJInstances.definitions(FJWitness.nonEmptyList.INSTANCE).get(), sameInstance(NonEmptyLists.Instances.definitions()));
+        assertThat(FJInstances.definitions(FJWitness.stream.INSTANCE).get(), sameInstance(Streams.Instances.definitions()));
+        assertFalse(FJInstances.definitions(FJWitness.validation.INSTANCE).isPresent());
+    }
+}
@@ -361,9 +361,30 @@ public class FluentIterables {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<fluentIterable> FUNCTOR = createFunctor();
+        private static final Pure<fluentIterable> UNIT = createUnit();
+        private static final Applicative<fluentIterable> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<fluentIterable> MONAD = createMonad();
+        private static final MonadZero<fluentIterable> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<fluentIterable> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<fluentIterable> TRAVERSE = createTraverse();
+        private static final Foldable<fluentIterable> FOLDABLE = createFoldable();
+        private static final Unfoldable<fluentIterable> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<fluentIterable> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<fluentIterable> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<fluentIterable> createDefinitions() {
             return new InstanceDefinitions<fluentIterable>() {
 
+                private final Maybe<MonadZero<fluentIterable>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<fluentIterable>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<fluentIterable>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<fluentIterable>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<fluentIterable>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<fluentIterable> functor() {
                     return Instances.functor();
@@ -386,12 +407,12 @@ public class FluentIterables {
 
                 @Override
                 public <T, R> Maybe<MonadZero<fluentIterable>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<fluentIterable>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -401,12 +422,12 @@ public class FluentIterables {
 
                 @Override
                 public <C2, T> Maybe<Traverse<fluentIterable>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<fluentIterable>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -416,7 +437,7 @@ public class FluentIterables {
 
                 @Override
                 public <T> Maybe<Unfoldable<fluentIterable>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -449,6 +470,9 @@ public class FluentIterables {
          * @return A functor for FluentIterables
          */
         public static <T,R>Functor<fluentIterable> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<fluentIterable> createFunctor(){
             BiFunction<FluentIterableKind<T>,Function<? super T, ? extends R>,FluentIterableKind<R>> transform = Instances::transform;
             return General.functor(transform);
         }
@@ -468,6 +492,9 @@ public class FluentIterables {
          * @return A factory for FluentIterables
          */
         public static <T> Pure<fluentIterable> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<fluentIterable> createUnit(){
             return General.<fluentIterable,T>unit(Instances::of);
         }
         /**
@@ -507,6 +534,9 @@ public class FluentIterables {
          * @return A zipper for FluentIterables
          */
         public static <T,R> Applicative<fluentIterable> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<fluentIterable> createZippingApplicative(){
             BiFunction<FluentIterableKind< Function<T, R>>,FluentIterableKind<T>,FluentIterableKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -537,6 +567,9 @@ public class FluentIterables {
          * @return Type class with monad functions for FluentIterables
          */
         public static <T,R> Monad<fluentIterable> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<fluentIterable> createMonad(){
 
             BiFunction<Higher<fluentIterable,T>,Function<? super T, ? extends Higher<fluentIterable,R>>,Higher<fluentIterable,R>> transformAndConcat = Instances::transformAndConcat;
             return General.monad(zippingApplicative(), transformAndConcat);
@@ -559,6 +592,9 @@ public class FluentIterables {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<fluentIterable> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<fluentIterable> createMonadZero(){
             BiFunction<Higher<fluentIterable,T>,Predicate<? super T>,Higher<fluentIterable,T>> filter = Instances::filter;
             Supplier<Higher<fluentIterable, T>> zero = ()-> widen(FluentIterable.of());
             return General.<fluentIterable,T,R>monadZero(monad(), zero,filter);
@@ -576,6 +612,9 @@ public class FluentIterables {
          * @return Type class for combining FluentIterables by concatenation
          */
         public static <T> MonadPlus<fluentIterable> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<fluentIterable> createMonadPlus(){
             Monoid<FluentIterableKind<T>> m = Monoid.of(widen(FluentIterable.<T>of()), Instances::concat);
             Monoid<Higher<fluentIterable,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -609,6 +648,9 @@ public class FluentIterables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<fluentIterable> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<fluentIterable> createTraverse(){
             BiFunction<Applicative<C2>,FluentIterableKind<Higher<C2, T>>,Higher<C2, FluentIterableKind<T>>> sequenceFn = (ap, flux) -> {
 
                 Higher<C2,FluentIterableKind<T>> identity = ap.unit(widen(FluentIterable.of()));
@@ -644,6 +686,9 @@ public class FluentIterables {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<fluentIterable> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<fluentIterable> createFoldable(){
             BiFunction<Monoid<T>,Higher<fluentIterable,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromPublisher(FluentIterableKind.narrowK(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<fluentIterable,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromPublisher(FluentIterableKind.narrowK(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -668,6 +713,9 @@ public class FluentIterables {
             return widen(FluentIterableKind.narrow(lt).filter(i->fn.test(i)));
         }
         public static Unfoldable<fluentIterable> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<fluentIterable> createUnfoldable(){
             return new Unfoldable<fluentIterable>() {
                 @Override
                 public <R, T> Higher<fluentIterable, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
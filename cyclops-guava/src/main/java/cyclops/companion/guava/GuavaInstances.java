@@ -0,0 +1,47 @@
+package cyclops.companion.guava;
+
+import cyclops.monads.GuavaWitness;
+import cyclops.monads.WitnessType;
+import cyclops.typeclasses.InstanceDefinitions;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the shared type class instances defined in this module, keyed by witness type.
+ *
+ * <pre>
+ * {@code
+ *  InstanceDefinitions<optional> defs = GuavaInstances.definitions(GuavaWitness.optional.INSTANCE).get();
+ * }
+ * </pre>
+ */
+@UtilityClass
+public class GuavaInstances {
+
+    private static final Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> DEFINITIONS = createDefinitions();
+
+    private static Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> createDefinitions(){
+        Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions = new IdentityHashMap<>();
+        register(definitions, GuavaWitness.fluentIterable.INSTANCE, FluentIterables.Instances.definitions());
+        register(definitions, GuavaWitness.optional.INSTANCE, Optionals.Instances.definitions());
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    private static <W extends WitnessType<W>> void register(Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions,
+                                                           W witness, InstanceDefinitions<W> instances){
+        definitions.put(witness, Optional.of(instances));
+    }
+
+    /**
+     * @param witness Witness type to look up
+     * @return The shared InstanceDefinitions for the witness, or an empty Optional if it is not defined in this module
+     */
+    public static <W extends WitnessType<W>> Optional<InstanceDefinitions<W>> definitions(W witness){
+        Optional<? extends InstanceDefinitions<?>> instances = DEFINITIONS.get(witness);
+        return instances == null ? Optional.empty() : (Optional<InstanceDefinitions<W>>) instances;
+    }
+}
@@ -644,9 +644,30 @@ public class Optionals {
      */
     @UtilityClass
     public class Instances {
+
+        private static final Functor<optional> FUNCTOR = createFunctor();
+        private static final Pure<optional> UNIT = createUnit();
+        private static final Applicative<optional> APPLICATIVE = createApplicative();
+        private static final Monad<optional> MONAD = createMonad();
+        private static final MonadZero<optional> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<optional> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<optional> TRAVERSE = createTraverse();
+        private static final Foldable<optional> FOLDABLE = createFoldable();
+        private static final Comonad<optional> COMONAD = createComonad();
+        private static final InstanceDefinitions<optional> DEFINITIONS = createDefinitions();
         public static InstanceDefinitions<optional> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<optional> createDefinitions() {
             return new InstanceDefinitions<optional>() {
 
+                private final Maybe<MonadZero<optional>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<optional>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<optional>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<optional>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<optional>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<optional> functor() {
                     return Instances.functor();
@@ -669,12 +690,12 @@ public class Optionals {
 
                 @Override
                 public <T, R> Maybe<MonadZero<optional>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<optional>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -684,17 +705,17 @@ public class Optionals {
 
                 @Override
                 public <C2, T> Maybe<Traverse<optional>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<optional>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<optional>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -735,6 +756,9 @@ public class Optionals {
          * @return A functor for Optionals
          */
         public static <T,R> Functor<optional> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R> Functor<optional> createFunctor(){
             BiFunction<OptionalKind<T>,Function<? super T, ? extends R>,OptionalKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -754,6 +778,9 @@ public class Optionals {
          * @return A factory for Optionals
          */
         public static <T> Pure<optional> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<optional> createUnit(){
             return General.<optional,T>unit(Instances::of);
         }
         /**
@@ -794,6 +821,9 @@ public class Optionals {
          * @return A zipper for Optionals
          */
         public static <T,R> Applicative<optional> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<optional> createApplicative(){
             BiFunction<OptionalKind< Function<T, R>>,OptionalKind<T>,OptionalKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -824,6 +854,9 @@ public class Optionals {
          * @return Type class with monad functions for Optionals
          */
         public static <T,R> Monad<optional> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<optional> createMonad(){
 
             BiFunction<Higher<optional,T>,Function<? super T, ? extends Higher<optional,R>>,Higher<optional,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -846,6 +879,9 @@ public class Optionals {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<optional> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<optional> createMonadZero(){
 
             return General.monadZero(monad(), OptionalKind.absent());
         }
@@ -862,6 +898,9 @@ public class Optionals {
          * @return Type class for combining Optionals by concatenation
          */
         public static <T> MonadPlus<optional> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<optional> createMonadPlus(){
             Monoid<Optional<T>> mn = Monoid.of(Optional.absent(), (a, b) -> a.isPresent() ? a : b);
             Monoid<OptionalKind<T>> m = Monoid.of(widen(mn.zero()), (f, g)-> widen(
                     mn.apply(OptionalKind.narrow(f), OptionalKind.narrow(g))));
@@ -898,6 +937,9 @@ public class Optionals {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<optional> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<optional> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -918,11 +960,17 @@ public class Optionals {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<optional> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<optional> createFoldable(){
             BiFunction<Monoid<T>,Higher<optional,T>,T> foldRightFn =  (m, l)-> OptionalKind.narrow(l).or(m.zero());
             BiFunction<Monoid<T>,Higher<optional,T>,T> foldLeftFn = (m, l)-> OptionalKind.narrow(l).or(m.zero());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<optional> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<optional> createComonad(){
             Function<? super Higher<optional, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionalKind::narrow).get();
             return General.comonad(functor(), unit(), extractFn);
         }
@@ -0,0 +1,52 @@
+package com.aol.cyclops.guava.hkt.typeclasses.instances;
+
+import cyclops.companion.guava.FluentIterables;
+import cyclops.companion.guava.GuavaInstances;
+import cyclops.companion.guava.Optionals;
+import cyclops.monads.GuavaWitness.fluentIterable;
+import cyclops.monads.GuavaWitness.optional;
+import cyclops.monads.Witness;
+import cyclops.typeclasses.InstanceDefinitions;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void everyInstanceIsAvailable(){
+        allInstances(FluentIterables.Instances.definitions());
+        allInstances(Optionals.Instances.definitions());
+    }
+
+    private <W> void allInstances(InstanceDefinitions<W> defs){
+        assertThat(defs.functor(), notNullValue());
+        assertThat(defs.unit(), notNullValue());
+        assertThat(defs.applicative(), notNullValue());
+        assertThat(defs.monad(), notNullValue());
+        defs.monadZero().forEach(i -> assertThat(i, notNullValue()));
+        defs.monadPlus().forEach(i -> assertThat(i.monoid(), notNullValue()));
+        defs.traverse().forEach(i -> assertThat(i, notNullValue()));
+        defs.foldable().forEach(i -> assertThat(i, notNullValue()));
+        defs.comonad().forEach(i -> assertThat(i, notNullValue()));
+        defs.unfoldable().forEach(i -> assertThat(i, notNullValue()));
+    }
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Optionals.Instances.definitions(), sameInstance(Optionals.Instances.definitions()));
+        assertThat(Optionals.Instances.definitions().comonad().get(), sameInstance(Optionals.Instances.comonad()));
+        assertThat(FluentIterables.Instances.definitions().traverse().get(), sameInstance(FluentIterables.Instances.traverse()));
+        assertThat(FluentIterables.Instances.monad(), sameInstance(FluentIterables.Instances.monad()));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(GuavaInstances.definitions(optional.INSTANCE).get(), sameInstance(Optionals.Instances.definitions()));
+        assertThat(GuavaInstances.definitions(fluentIterable.INSTANCE).get(), sameInstance(FluentIterables.Instances.definitions()));
+        assertFalse(GuavaInstances.definitions(Witness.list.INSTANCE).isPresent());
+    }
+}
@@ -0,0 +1,219 @@
+package com.aol.cyclops.reactor.adapter;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.Exceptions;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Blocking Iterator and Spliterator over a Publisher that pulls elements in batches. At most prefetch elements are
+ * requested ahead of the consumer, and demand is topped back up to prefetch once the elements requested but not yet
+ * consumed fall to lowWatermark. Elements are handed over through a single producer / single consumer ring buffer,
+ * and the consumer takes everything the Publisher has delivered with a single volatile read rather than one handoff
+ * per element. The producing thread only wakes the consumer when it is waiting for elements.
+ *
+ * {@link #nextBatch(int)} pulls up to a given number of elements at once, and {@link #trySplit()} hands out the next
+ * batch as an array backed Spliterator so the elements can be processed by a parallel java.util.stream pipeline.
+ *
+ * A BatchingIterator may be used from different threads, but only from one thread at a time.
+ *
+ * @param <T> Data type of elements
+ */
+public class BatchingIterator<T> implements Iterator<T>, Spliterator<T>, Subscriber<T> {
+
+    private final int prefetch;
+    private final int lowWatermark;
+    private final Object[] buffer;
+    private final int mask;
+
+    //producer side
+    private final AtomicLong produced = new AtomicLong(0);
+    private volatile boolean done;
+    private Throwable error;
+    private final AtomicReference<Thread> waiting = new AtomicReference<>();
+    private volatile Subscription subscription;
+
+    //consumer side
+    private long consumed;
+    private long available;
+    private long pending;
+
+    BatchingIterator(int prefetch, int lowWatermark) {
+        if(prefetch<1 || prefetch>1<<30)
+            throw new IllegalArgumentException("prefetch must be between 1 and 2^30 but was " + prefetch);
+        if(lowWatermark<0 || lowWatermark>=prefetch)
+            throw new IllegalArgumentException("lowWatermark must be between 0 and prefetch - 1 but was " + lowWatermark);
+        this.prefetch = prefetch;
+        this.lowWatermark = lowWatermark;
+        int capacity = prefetch==1 ? 1 : Integer.highestOneBit(prefetch - 1) << 1;
+        this.buffer = new Object[capacity];
+        this.mask = capacity - 1;
+        this.pending = prefetch;
+    }
+
+    /**
+     * Pull up to max elements, waiting only until at least one element is available.
+     *
+     * @param max Maximum number of elements to return
+     * @return The next elements in order, or an empty List once the Publisher has completed. If the Publisher fails
+     *         after some of the elements have been taken, they are returned and the error is thrown by the next call
+     */
+    public List<T> nextBatch(int max) {
+        if(max<1)
+            throw new IllegalArgumentException("max must be positive but was " + max);
+        List<T> result = new ArrayList<>(Math.min(max, prefetch));
+        boolean ready = hasNext();
+        while(ready && result.size()<max){
+            long end = Math.min(available, consumed + max - result.size());
+            while(consumed<end)
+                result.add(take());
+            ready = consumed<available || refill(false);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return consumed<available || refill(true);
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext())
+            throw new NoSuchElementException();
+        return take();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(!hasNext())
+            return false;
+        action.accept(take());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while(hasNext()){
+            while(consumed<available)
+                action.accept(take());
+        }
+    }
+
+    /**
+     * @return An array backed Spliterator over the next prefetched batch, or null once the Publisher has completed
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        List<T> next = nextBatch(prefetch);
+        if(next.isEmpty())
+            return null;
+        return Spliterators.spliterator(next.toArray(), characteristics());
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        subscription = s;
+        s.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T t) {
+        long index = produced.get();
+        buffer[(int)index & mask] = t;
+        produced.set(index + 1);
+        wake();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        error = t;
+        done = true;
+        wake();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        wake();
+    }
+
+    /**
+     * Unpark the consumer if it is waiting, clearing it so only the first element delivered while it is parked pays
+     * for the unpark.
+     */
+    private void wake() {
+        Thread consumer = waiting.get();
+        if(consumer!=null && waiting.compareAndSet(consumer, null))
+            LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Take the next element out of the ring buffer, topping demand back up to prefetch once the elements requested
+     * but not yet consumed have fallen to the low watermark.
+     */
+    private T take() {
+        int index = (int)consumed & mask;
+        T next = (T)buffer[index];
+        buffer[index] = null;
+        consumed++;
+        if(--pending<=lowWatermark){
+            subscription.request(prefetch - pending);
+            pending = prefetch;
+        }
+        return next;
+    }
+
+    /**
+     * Make every element delivered since the last refill available to the consumer, optionally parking until there
+     * is at least one or the Publisher has completed. An error is only thrown by a blocking refill, so that a batch
+     * that has already taken elements is returned and the error is raised by the next call.
+     */
+    private boolean refill(boolean block) {
+        for(;;){
+            boolean completed = done;
+            available = produced.get();
+            if(consumed<available)
+                return true;
+            if(completed){
+                Throwable failed = error;
+                if(failed==null || !block)
+                    return false;
+                error = null;
+                throw Exceptions.propagate(failed);
+            }
+            if(!block)
+                return false;
+            waiting.set(Thread.currentThread());
+            if(produced.get()==consumed && !done)
+                LockSupport.park(this);
+            waiting.lazySet(null);
+            if(Thread.interrupted()){
+                Subscription s = subscription;
+                if(s!=null)
+                    s.cancel();
+                throw Exceptions.propagate(new InterruptedException());
+            }
+        }
+    }
+}
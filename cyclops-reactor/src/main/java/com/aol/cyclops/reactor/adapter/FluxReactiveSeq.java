@@ -37,6 +37,9 @@ import org.reactivestreams.Subscription;
 import reactor.core.publisher.ConnectableFlux;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSource;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.*;
@@ -137,24 +140,84 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return Spouts.from(flux).quadruplicate(bufferFactory).map((s1,s2,s3,s4)->Tuple.tuple(flux(s1),flux(s2),flux(s3),flux(s4)));
     }
 
+    /**
+     * Split this ReactiveSeq into two copies that share a single buffer of at most bufferSize elements, rather than
+     * the unbounded buffer per copy used by {@link #duplicate()}. The Flux is subscribed to once both copies have been
+     * subscribed to, and is read no faster than the slowest copy consumes it, so the copies must be consumed
+     * concurrently : use {@link #duplicate()} to consume one copy after the other.
+     *
+     * @param bufferSize Maximum number of elements held for the slowest copy
+     * @return Two copies of this ReactiveSeq
+     */
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(int bufferSize) {
+        Flux<T> shared = multicast(2,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared));
+    }
+
+    /**
+     * Split this ReactiveSeq into two copies that share a single buffer of at most bufferSize elements, where a copy
+     * that falls behind drops the elements it has not requested rather than holding back the other copy. Suited to
+     * telemetry style fan-out, where a slow consumer should miss elements rather than stall the source.
+     *
+     * @see #duplicate(int)
+     * @param bufferSize Maximum number of elements held between the Flux and the copies
+     * @return Two lossy copies of this ReactiveSeq
+     */
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicateLossy(int bufferSize) {
+        Flux<T> shared = multicast(2,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicate(int)
+     */
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(int bufferSize) {
+        Flux<T> shared = multicast(3,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicateLossy(int)
+     */
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicateLossy(int bufferSize) {
+        Flux<T> shared = multicast(3,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicate(int)
+     */
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(int bufferSize) {
+        Flux<T> shared = multicast(4,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicateLossy(int)
+     */
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicateLossy(int bufferSize) {
+        Flux<T> shared = multicast(4,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared),flux(shared));
+    }
+
     @Override
     public Tuple2<Optional<T>, ReactiveSeq<T>> splitAtHead() {
-        return Spouts.from(flux).splitAtHead().map((s1,s2)->Tuple.tuple(s1,flux(s2)));
+        return splitAt(1).map((s1,s2)->Tuple.tuple(s1.findFirst(),s2));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(int where) {
-        return Spouts.from(flux).splitAt(where).map((s1,s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1,s2)->Tuple.tuple(s1.limit(where),s2.skip(where)));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitBy(Predicate<T> splitter) {
-        return Spouts.from(flux).splitBy(splitter).map((s1,s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1,s2)->Tuple.tuple(s1.limitWhile(splitter),s2.skipWhile(splitter)));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> partition(Predicate<? super T> splitter) {
-        return Spouts.from(flux).partition(splitter).map((s1,s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1,s2)->Tuple.tuple(s1.filter(splitter),s2.filter(splitter.negate())));
     }
 
     @Override
@@ -167,13 +230,14 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return flux(Flux.<Object,Tuple3<T,S,U>>zip(values->Tuple.tuple((T)values[0],(S)values[1],(U)values[2]),
+                                                  flux,publisher(second),publisher(third)));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return flux(Flux.<Object,Tuple4<T,T2,T3,T4>>zip(values->Tuple.tuple((T)values[0],(T2)values[1],(T3)values[2],(T4)values[3]),
+                                                       flux,publisher(second),publisher(third),publisher(fourth)));
     }
 
     @Override
@@ -188,22 +252,22 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyUntil(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flux).groupedStatefullyUntil(predicate));
+        return flux(batchUntil(ListX::<T>of,(batch,next)->!predicate.test(batch,next),Function.identity()));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyUntil(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flux).groupedStatefullyUntil(predicate,factory,finalizer));
+        return flux(batchUntil(factory,(batch,next)->!predicate.test(batch,next),finalizer));
     }
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyWhile(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flux).groupedStatefullyWhile(predicate));
+        return flux(batchUntil(ListX::<T>of,predicate::test,Function.identity()));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyWhile(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flux).groupedStatefullyWhile(predicate,factory,finalizer));
+        return flux(batchUntil(factory,predicate,finalizer));
     }
 
     @Override
@@ -243,12 +307,12 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedWhile(Predicate<? super T> predicate) {
-        return flux(Spouts.from(flux).groupedWhile(predicate));
+        return flux(flux.bufferUntil(next->!predicate.test(next)).map(ListX::fromIterable));
     }
 
     @Override
     public <C extends Collection<? super T>> ReactiveSeq<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
-        return flux(Spouts.from(flux).groupedWhile(predicate,factory));
+        return flux(batchUntil(factory,(batch,next)->!predicate.test(next),Function.identity()));
     }
 
     @Override
@@ -274,22 +338,23 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Spouts.from(flux).forEach(action);
+        flux.doOnNext(action).then().block();
     }
 
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        Spouts.from(flux).forEachOrdered(action);
+        flux.doOnNext(action).then().block();
     }
 
     @Override
     public Object[] toArray() {
-        return Spouts.from(flux).toArray();
+        return flux.collectList().block().toArray();
     }
 
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return Spouts.from(flux).toArray(generator);
+        List<T> list = flux.collectList().block();
+        return list.toArray(generator.apply(list.size()));
     }
 
     @Override
@@ -321,44 +386,68 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return flux(flux.takeUntil(p));
     }
 
+    /**
+     * Execute subsequent map / filter / flatMap stages in parallel on Reactor's parallel Scheduler,
+     * preserving source order when results are merged back.
+     *
+     * @see #parallel(Scheduler, int)
+     */
     @Override
     public ReactiveSeq<T> parallel() {
-        return this;
+        return parallel(Schedulers.parallel());
+    }
+
+    public ParallelFluxReactiveSeq<T> parallel(Scheduler scheduler) {
+        return parallel(scheduler, Schedulers.DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Execute subsequent map / filter / flatMap stages in parallel on the supplied Scheduler. Results are merged back
+     * in source order at the first non-parallel operator or terminal operation, call {@link ReactiveSeq#unordered()}
+     * on the returned ReactiveSeq to rail the Flux out to a {@link reactor.core.publisher.ParallelFlux} and merge
+     * results back as they complete.
+     *
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements to process concurrently
+     * @return Parallel ReactiveSeq
+     */
+    public ParallelFluxReactiveSeq<T> parallel(Scheduler scheduler, int parallelism) {
+        return ParallelFluxReactiveSeq.ordered(flux, scheduler, parallelism);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).allMatch(c);
+        return flux.all(c).block();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).anyMatch(c);
+        return flux.any(c).block();
     }
 
     @Override
     public boolean xMatch(int num, Predicate<? super T> c) {
-        return Spouts.from(flux).xMatch(num,c);
+        return flux.filter(c).take(num + 1).count().block() == num;
     }
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Spouts.from(flux).noneMatch(c);
+        return !anyMatch(c);
     }
 
     @Override
     public String join() {
-        return Spouts.from(flux).join();
+        return join("", "", "");
     }
 
     @Override
     public String join(String sep) {
-        return Spouts.from(flux).join(sep);
+        return join(sep, "", "");
     }
 
     @Override
     public String join(String sep, String start, String end) {
-        return Spouts.from(flux).join(sep,start,end);
+        return flux.map(Object::toString).collect(Collectors.joining(sep, start, end)).block();
     }
 
     @Override
@@ -388,17 +477,17 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R mapReduce(Reducer<R> reducer) {
-        return Spouts.from(flux).mapReduce(reducer);
+        return reducer.mapReduce(flux.collectList().block().stream());
     }
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Spouts.from(flux).mapReduce(mapper,reducer);
+        return flux.<R>map(mapper).reduce(reducer.zero(), reducer).block();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Spouts.from(flux).reduce(reducer);
+        return flux.reduce(reducer.zero(), reducer).block();
     }
 
     @Override
@@ -408,37 +497,43 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flux).reduce(identity,accumulator);
+        return flux.reduce(identity, accumulator).block();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Spouts.from(flux).reduce(identity, accumulator, combiner);
+        return flux.reduce(identity, accumulator).block();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Spouts.from(flux).reduce(reducers);
+        return Streams.reduce(flux.collectList().block().stream(), reducers);
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Spouts.from(flux).reduce(reducers);
+        return Streams.reduce(flux.collectList().block().stream(), reducers);
     }
 
     @Override
     public T foldRight(Monoid<T> reducer) {
-        return Spouts.from(flux).foldRight(reducer);
+        return foldRight(reducer.zero(), reducer);
     }
 
     @Override
     public T foldRight(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flux).foldRight(identity,accumulator);
+        List<T> list = flux.collectList().block();
+        T result = identity;
+        for (int i = list.size() - 1; i >= 0; i--)
+            result = accumulator.apply(result, list.get(i));
+        return result;
     }
 
     @Override
     public <T1> T1 foldRightMapToType(Reducer<T1> reducer) {
-        return Spouts.from(flux).foldRightMapToType(reducer);
+        List<T> list = flux.collectList().block();
+        Collections.reverse(list);
+        return reducer.mapReduce(list.stream());
     }
 
     @Override
@@ -539,6 +634,45 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return flux.toIterable().spliterator();
     }
 
+    /**
+     * Iterate over the Flux keeping up to prefetch elements requested ahead of the consumer, topping demand back up
+     * once three quarters of it has been consumed.
+     *
+     * @see #iterator(int, int)
+     */
+    public BatchingIterator<T> iterator(int prefetch) {
+        return iterator(prefetch, prefetch / 4);
+    }
+
+    /**
+     * Iterate over the Flux in batches. Up to prefetch elements are requested ahead of the consumer, and demand is
+     * topped back up once the elements requested but not yet consumed fall to lowWatermark. Each refill hands every
+     * element delivered so far to the consumer at once, and {@link BatchingIterator#nextBatch(int)} pulls them in
+     * chunks.
+     *
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWatermark Number of outstanding elements at which to request more, from 0 (refill only once every
+     *                     requested element has been consumed) to prefetch - 1 (refill after every element)
+     * @return Batching Iterator subscribed to the Flux
+     */
+    public BatchingIterator<T> iterator(int prefetch, int lowWatermark) {
+        BatchingIterator<T> iterator = new BatchingIterator<>(prefetch, lowWatermark);
+        flux.subscribe(iterator);
+        return iterator;
+    }
+
+    /**
+     * Spliterator over the Flux that pulls elements in batches, as {@link #iterator(int, int)} does. trySplit hands
+     * out the next prefetched batch, so the elements can be processed by a parallel java.util.stream pipeline.
+     *
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWatermark Number of outstanding elements at which to request more
+     * @return Batching Spliterator subscribed to the Flux
+     */
+    public Spliterator<T> spliterator(int prefetch, int lowWatermark) {
+        return iterator(prefetch, lowWatermark);
+    }
+
     @Override
     public boolean isParallel() {
         return false;
@@ -686,7 +820,7 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public long count() {
-        return Spouts.from(flux).count();
+        return flux.count().block();
     }
 
     @Override
@@ -876,6 +1010,38 @@ public class FluxReactiveSeq<T> implements ReactiveSeq<T> {
         return ListT.fromStream(groupedWhile(predicate));
     }
 
+    /**
+     * Batch elements in a single handle stage, emitting the current batch after each element that closes it and any
+     * remaining elements when the Flux completes.
+     */
+    private <C extends Collection<? super T>, R> Flux<R> batchUntil(Supplier<C> factory, BiPredicate<? super C, ? super T> closes,
+                                                                   Function<? super C, ? extends R> finalizer) {
+        return Flux.defer(()->{
+            Object[] batch = {factory.get()};
+            return flux.<R>handle((next,sink)->{
+                C current = (C)batch[0];
+                current.add(next);
+                if(closes.test(current,next)){
+                    batch[0] = factory.get();
+                    sink.next(finalizer.apply(current));
+                }
+            }).concatWith(Mono.defer(()->{
+                C rest = (C)batch[0];
+                return rest.isEmpty() ? Mono.<R>empty() : Mono.<R>just(finalizer.apply(rest));
+            }));
+        });
+    }
 
+    /**
+     * Share the Flux between copies through publish's fixed size queue, connecting once every copy has subscribed.
+     * Lossy copies request everything from the queue and drop what their own subscriber has not requested.
+     */
+    private Flux<T> multicast(int copies, int bufferSize, boolean lossy) {
+        Flux<T> shared = flux.publish(bufferSize).autoConnect(copies);
+        return lossy ? shared.onBackpressureDrop() : shared;
+    }
 
+    private static <U> Publisher<U> publisher(Iterable<U> iterable){
+        return iterable instanceof Publisher ? (Publisher<U>)iterable : Flux.fromIterable(iterable);
+    }
 }
@@ -0,0 +1,176 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.monads.AnyM;
+import cyclops.monads.Witness.stream;
+import cyclops.stream.ReactiveSeq;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.ParallelFlux;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A FluxReactiveSeq that executes map / filter / flatMap stages in parallel on a Reactor Scheduler.
+ *
+ * In unordered mode the source Flux is railed out to a {@link ParallelFlux} and the rails are merged back
+ * with {@link ParallelFlux#sequential()} when any other operator or terminal operation is applied.
+ *
+ * In ordered mode the parallel stages are fused per source element and run on the Scheduler via
+ * {@link Flux#flatMapSequential(Function, int)}, so results are emitted in source order while up to
+ * parallelism elements are processed concurrently.
+ *
+ * <pre>
+ * {@code
+ *   Fluxs.range(0,1000)
+ *        .parallel(Schedulers.parallel())
+ *        .map(this::expensive)
+ *        .filter(this::valid)
+ *        .toListX();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in this Stream
+ */
+public class ParallelFluxReactiveSeq<T> extends FluxReactiveSeq<T> {
+
+    private final Flux<Object> source;
+    private final Function<Object, Flux<T>> stages;
+    private final ParallelFlux<T> rails;
+    private final Scheduler scheduler;
+    private final int parallelism;
+
+    private ParallelFluxReactiveSeq(Flux<Object> source, Function<Object, Flux<T>> stages, Scheduler scheduler, int parallelism) {
+        super(source.flatMapSequential(e -> stages.apply(e).subscribeOn(scheduler), parallelism));
+        this.source = source;
+        this.stages = stages;
+        this.rails = null;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    private ParallelFluxReactiveSeq(ParallelFlux<T> rails, Scheduler scheduler, int parallelism) {
+        super(rails.sequential());
+        this.source = null;
+        this.stages = null;
+        this.rails = rails;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create an ordered parallel ReactiveSeq, results are emitted in the order of the source Flux
+     *
+     * @param flux Source Flux
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements processed concurrently
+     * @return Ordered parallel ReactiveSeq
+     */
+    public static <T> ParallelFluxReactiveSeq<T> ordered(Flux<T> flux, Scheduler scheduler, int parallelism) {
+        return new ParallelFluxReactiveSeq<T>((Flux<Object>) flux, e -> Flux.just((T) e), scheduler, parallelism);
+    }
+
+    /**
+     * Create an unordered parallel ReactiveSeq, rails are merged back in whatever order results complete
+     *
+     * @param flux Source Flux
+     * @param scheduler Scheduler to run each rail on
+     * @param parallelism Number of rails
+     * @return Unordered parallel ReactiveSeq
+     */
+    public static <T> ParallelFluxReactiveSeq<T> unordered(Flux<T> flux, Scheduler scheduler, int parallelism) {
+        return new ParallelFluxReactiveSeq<T>(ParallelFlux.from(flux, parallelism).runOn(scheduler), scheduler, parallelism);
+    }
+
+    public boolean isOrdered() {
+        return rails == null;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private <R> ParallelFluxReactiveSeq<R> stage(Function<? super Flux<T>, ? extends Flux<R>> fn,
+                                                Function<? super ParallelFlux<T>, ? extends ParallelFlux<R>> parallelFn) {
+        if (isOrdered())
+            return new ParallelFluxReactiveSeq<R>(source, stages.andThen(fn), scheduler, parallelism);
+        return new ParallelFluxReactiveSeq<R>(parallelFn.apply(rails), scheduler, parallelism);
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        return stage(f -> f.map(fn), p -> p.map(fn));
+    }
+
+    @Override
+    public ReactiveSeq<T> filter(Predicate<? super T> fn) {
+        return stage(f -> f.filter(fn), p -> p.filter(fn));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        return stage(f -> f.concatMap(s -> ReactiveSeq.fromStream(fn.apply(s))),
+                     p -> p.flatMap(s -> ReactiveSeq.fromStream(fn.apply(s))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapI(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return stage(f -> f.concatMapIterable(fn), p -> p.flatMap(s -> Flux.fromIterable(fn.apply(s))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapP(Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return stage(f -> f.concatMap(fn), p -> p.flatMap(fn));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapAnyM(Function<? super T, AnyM<stream, ? extends R>> fn) {
+        return stage(f -> f.concatMap(fn), p -> p.flatMap(fn));
+    }
+
+    /**
+     * In unordered mode each rail is reduced in parallel and the partial results combined, so the accumulator must be
+     * associative and commutative (as with {@link java.util.stream.Stream#unordered()}).
+     */
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        if (isOrdered())
+            return super.reduce(accumulator);
+        return Optional.ofNullable(rails.reduce(accumulator).block());
+    }
+
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+
+    @Override
+    public ReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    /**
+     * @return A sequential FluxReactiveSeq that merges the parallel rails back together
+     */
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return new FluxReactiveSeq<>(getFlux());
+    }
+
+    /**
+     * @return A parallel ReactiveSeq that no longer preserves source order when merging results
+     */
+    @Override
+    public ReactiveSeq<T> unordered() {
+        if (isOrdered())
+            return new ParallelFluxReactiveSeq<T>(ParallelFlux.from(source, parallelism)
+                                                              .runOn(scheduler)
+                                                              .flatMap(stages), scheduler, parallelism);
+        return this;
+    }
+
+}
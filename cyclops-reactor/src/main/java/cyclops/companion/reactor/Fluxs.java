@@ -544,9 +544,30 @@ public class Fluxs {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<flux> FUNCTOR = createFunctor();
+        private static final Pure<flux> UNIT = createUnit();
+        private static final Applicative<flux> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<flux> MONAD = createMonad();
+        private static final MonadZero<flux> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<flux> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<flux> TRAVERSE = createTraverse();
+        private static final Foldable<flux> FOLDABLE = createFoldable();
+        private static final Unfoldable<flux> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<flux> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<flux> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<flux> createDefinitions() {
             return new InstanceDefinitions<flux>() {
 
+                private final Maybe<MonadZero<flux>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<flux>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<flux>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<flux>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<flux>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<flux> functor() {
                     return Instances.functor();
@@ -569,12 +590,12 @@ public class Fluxs {
 
                 @Override
                 public <T, R> Maybe<MonadZero<flux>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<flux>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -584,12 +605,12 @@ public class Fluxs {
 
                 @Override
                 public <C2, T> Maybe<Traverse<flux>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<flux>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -599,7 +620,7 @@ public class Fluxs {
 
                 @Override
                 public <T> Maybe<Unfoldable<flux>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -632,6 +653,9 @@ public class Fluxs {
          * @return A functor for Fluxs
          */
         public static <T,R>Functor<flux> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<flux> createFunctor(){
             BiFunction<FluxKind<T>,Function<? super T, ? extends R>,FluxKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -651,6 +675,9 @@ public class Fluxs {
          * @return A factory for Fluxs
          */
         public static <T> Pure<flux> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<flux> createUnit(){
             Function<T, Higher<flux, T>> unitRef = Instances::of;
             return General.<flux,T>unit(unitRef);
         }
@@ -691,6 +718,9 @@ public class Fluxs {
          * @return A zipper for Fluxs
          */
         public static <T,R> Applicative<flux> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<flux> createZippingApplicative(){
             BiFunction<FluxKind< Function<T, R>>,FluxKind<T>,FluxKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -721,6 +751,9 @@ public class Fluxs {
          * @return Type class with monad functions for Fluxs
          */
         public static <T,R> Monad<flux> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<flux> createMonad(){
 
             BiFunction<Higher<flux,T>,Function<? super T, ? extends Higher<flux,R>>,Higher<flux,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -743,6 +776,9 @@ public class Fluxs {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<flux> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<flux> createMonadZero(){
             BiFunction<Higher<flux,T>,Predicate<? super T>,Higher<flux,T>> filter = Instances::filter;
             Supplier<Higher<flux, T>> zero = ()-> widen(Flux.empty());
             return General.<flux,T,R>monadZero(monad(), zero,filter);
@@ -760,6 +796,9 @@ public class Fluxs {
          * @return Type class for combining Fluxs by concatenation
          */
         public static <T> MonadPlus<flux> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<flux> createMonadPlus(){
             Monoid<FluxKind<T>> m = Monoid.of(widen(Flux.<T>empty()), Instances::concat);
             Monoid<Higher<flux,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -793,6 +832,9 @@ public class Fluxs {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<flux> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<flux> createTraverse(){
             BiFunction<Applicative<C2>,FluxKind<Higher<C2, T>>,Higher<C2, FluxKind<T>>> sequenceFn = (ap, flux) -> {
 
                 Higher<C2,FluxKind<T>> identity = ap.unit(widen(Flux.empty()));
@@ -828,6 +870,9 @@ public class Fluxs {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<flux> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<flux> createFoldable(){
             BiFunction<Monoid<T>,Higher<flux,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromPublisher(FluxKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<flux,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromPublisher(FluxKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -852,6 +897,9 @@ public class Fluxs {
             return widen(FluxKind.narrow(lt).filter(fn));
         }
         public static Unfoldable<flux> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<flux> createUnfoldable(){
             return new Unfoldable<flux>() {
                 @Override
                 public <R, T> Higher<flux, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
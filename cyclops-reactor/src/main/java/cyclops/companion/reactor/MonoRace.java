@@ -0,0 +1,211 @@
+package cyclops.companion.reactor;
+
+import com.aol.cyclops2.react.Status;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/*
+ * Races Monos against each other. Every subscription to the returned Mono subscribes to each of the racers, and passes
+ * each of their outcomes to a Judge, under the race lock, until the Judge decides the outcome. At that point the
+ * subscriptions to every racer that has not yet terminated are disposed, and their number is reported to onCancelled,
+ * exactly once per subscription and before the result is signalled. Cancelling the returned Mono disposes all of the
+ * outstanding racers in the same way.
+ */
+final class MonoRace<T, R> {
+
+    interface Judge<T, R> {
+        /*
+         * @param index the position of the racer in the race
+         * @param value the value of the racer, or null if it completed empty or failed
+         * @param error the error of the racer, or null if it did not fail
+         * @return the signal that decides the race, or null if it is not decided yet
+         */
+        Consumer<MonoSink<R>> onComplete(int index, T value, Throwable error);
+    }
+
+    private final Mono<T>[] racers;
+    private final Judge<T, R> judge;
+    private final IntConsumer onCancelled;
+    private final MonoSink<R> sink;
+
+    //guarded by this
+    private final Disposable[] subscriptions;
+    private final boolean[] finished;
+    private boolean decided;
+
+    private MonoRace(Mono<T>[] racers, Judge<T, R> judge, IntConsumer onCancelled, MonoSink<R> sink) {
+        this.racers = racers;
+        this.judge = judge;
+        this.onCancelled = onCancelled;
+        this.sink = sink;
+        this.subscriptions = new Disposable[racers.length];
+        this.finished = new boolean[racers.length];
+    }
+
+    static <T> Mono<T> anyOf(IntConsumer onCancelled, Mono<T>[] racers) {
+        if (racers.length == 0)
+            return Mono.empty();
+        return Mono.create(sink -> new MonoRace<T, T>(racers, (index, value, error) -> signal(value, error), onCancelled, sink).start());
+    }
+
+    static <T> Mono<T> firstSuccess(IntConsumer onCancelled, Mono<T>[] racers) {
+        if (racers.length == 0)
+            return Mono.empty();
+        return Mono.create(sink -> new MonoRace<T, T>(racers, new Judge<T, T>() {
+            final Throwable[] errors = new Throwable[racers.length];
+            int unsuccessful;
+
+            @Override
+            public Consumer<MonoSink<T>> onComplete(int index, T value, Throwable error) {
+                if (value != null)
+                    return s -> s.success(value);
+                errors[index] = error;
+                if (++unsuccessful == racers.length)
+                    return signal(null, firstError());
+                return null;
+            }
+
+            private Throwable firstError() {
+                for (Throwable error : errors) {
+                    if (error != null)
+                        return error;
+                }
+                return null;
+            }
+        }, onCancelled, sink).start());
+    }
+
+    static <T> Mono<ListX<T>> quorum(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                     IntConsumer onCancelled, Mono<T>[] racers) {
+        if (racers.length == 0)
+            return Mono.just(ListX.empty());
+        return Mono.create(sink -> new MonoRace<T, ListX<T>>(racers, new Judge<T, ListX<T>>() {
+            final long start = System.nanoTime();
+            final ArrayList<T> results = new ArrayList<>();
+            int completed;
+            int errors;
+
+            @Override
+            public Consumer<MonoSink<ListX<T>>> onComplete(int index, T value, Throwable error) {
+                if (error == null) {
+                    completed++;
+                    if (value != null)
+                        results.add(value);
+                } else {
+                    errors++;
+                    errorHandler.accept(error);
+                }
+                Status<T> status = new Status<>(completed, errors, racers.length, System.nanoTime() - start,
+                                                LinkedListX.fromIterable(results));
+                if (breakout.test(status) || completed + errors == racers.length) {
+                    ListX<T> quorum = ListX.fromIterable(results);
+                    return s -> s.success(quorum);
+                }
+                return null;
+            }
+        }, onCancelled, sink).start());
+    }
+
+    private static <T> Consumer<MonoSink<T>> signal(T value, Throwable error) {
+        if (error != null)
+            return s -> s.error(error);
+        if (value != null)
+            return s -> s.success(value);
+        return MonoSink::success;
+    }
+
+    /*
+     * Each racer's subscriber is registered before it subscribes, so a racer whose subscription is still in progress
+     * when the race is decided is disposed, and counted, like any other loser.
+     */
+    private void start() {
+        sink.onCancel(this::cancel);
+        for (int i = 0; i < racers.length; i++) {
+            Racer racer = new Racer(i);
+            synchronized (this) {
+                if (decided)
+                    return;
+                subscriptions[i] = racer;
+            }
+            racers[i].subscribe(racer);
+        }
+    }
+
+    private void complete(int index, T value, Throwable error) {
+        Consumer<MonoSink<R>> decision;
+        ArrayList<Disposable> losers;
+        synchronized (this) {
+            boolean ignore = finished[index] || decided;
+            finished[index] = true;
+            if (ignore)
+                return;
+            decision = judge.onComplete(index, value, error);
+            if (decision == null)
+                return;
+            losers = decide();
+        }
+        dispose(losers);
+        decision.accept(sink);
+    }
+
+    private void cancel() {
+        ArrayList<Disposable> losers;
+        synchronized (this) {
+            if (decided)
+                return;
+            losers = decide();
+        }
+        dispose(losers);
+    }
+
+    //must hold the race lock
+    private ArrayList<Disposable> decide() {
+        decided = true;
+        ArrayList<Disposable> losers = new ArrayList<>();
+        for (int i = 0; i < racers.length; i++) {
+            if (!finished[i] && subscriptions[i] != null)
+                losers.add(subscriptions[i]);
+        }
+        return losers;
+    }
+
+    private void dispose(ArrayList<Disposable> losers) {
+        losers.forEach(Disposable::dispose);
+        onCancelled.accept(losers.size());
+    }
+
+    private final class Racer extends BaseSubscriber<T> {
+        private final int index;
+        private boolean valued;
+
+        Racer(int index) {
+            this.index = index;
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            valued = true;
+            complete(index, value, null);
+        }
+
+        @Override
+        protected void hookOnError(Throwable error) {
+            complete(index, null, error);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            if (!valued)
+                complete(index, null, null);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import com.aol.cyclops.reactor.hkt.FluxKind;
@@ -49,6 +50,7 @@ import org.reactivestreams.Publisher;
 
 
 import lombok.experimental.UtilityClass;
+import reactor.core.Fuseable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -236,6 +238,75 @@ public class Monos {
 
     }
 
+    /**
+     * Select the first Mono to complete, and dispose of the Monos that lost the race
+     *
+     * <pre>
+     * {@code
+     * Mono<Response> hedged = Monos.anyOfCancelLosers(cancelled -> saved.add(cancelled),
+     *                                                 primary.call(), backup.call());
+     * }
+     * </pre>
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Monos that were disposed
+     * @param fts Monos to race
+     * @return First Mono to complete
+     */
+    @SafeVarargs
+    public static <T> Mono<T> anyOfCancelLosers(IntConsumer cancelled, Mono<T>... fts) {
+        return MonoRace.anyOf(cancelled, fts);
+    }
+
+    /**
+     * Select the first Mono to return with a successful result, and dispose of the Monos that are still running
+     * once it has. If no Mono succeeds the result fails with the error of the first Mono passed in that failed, or
+     * completes empty if none failed.
+     *
+     * @see Monos#firstSuccess(Mono...)
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Monos that were disposed
+     * @param fts Monos to race
+     * @return First Mono to return with a result
+     */
+    @SafeVarargs
+    public static <T> Mono<T> firstSuccessCancelLosers(IntConsumer cancelled, Mono<T>... fts) {
+        return MonoRace.firstSuccess(cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and dispose of the Monos that are still
+     * running once it is reached
+     *
+     * @see Monos#quorum(Predicate, Mono...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Monos that were disposed
+     * @param fts Monos to wait on results from
+     * @return Mono which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Mono<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, IntConsumer cancelled, Mono<T>... fts) {
+        return MonoRace.quorum(breakout, t -> { }, cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and dispose of the Monos that are still
+     * running once it is reached
+     *
+     * @see Monos#quorum(Predicate, Consumer, Mono...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param errorHandler Consumer to handle any exceptions thrown
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Monos that were disposed
+     * @param fts Monos to wait on results from
+     * @return Mono which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Mono<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                                        IntConsumer cancelled, Mono<T>... fts) {
+        return MonoRace.quorum(breakout, errorHandler, cancelled, fts);
+    }
+
     /**
      * Perform a For Comprehension over a Mono, accepting 3 generating functions. 
      * This results in a four level nested internal iteration over the provided Monos.
@@ -479,9 +550,30 @@ public class Monos {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<mono> FUNCTOR = createFunctor();
+        private static final Pure<mono> UNIT = createUnit();
+        private static final Applicative<mono> APPLICATIVE = createApplicative();
+        private static final Monad<mono> MONAD = createMonad();
+        private static final MonadZero<mono> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<mono> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<mono> TRAVERSE = createTraverse(t->false);
+        private static final Foldable<mono> FOLDABLE = createFoldable(t->false);
+        private static final Comonad<mono> COMONAD = createComonad(t->false);
+        private static final InstanceDefinitions<mono> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<mono> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<mono> createDefinitions() {
             return new InstanceDefinitions<mono>() {
 
+                private final Maybe<MonadZero<mono>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<mono>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<mono>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<mono>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<mono>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<mono> functor() {
                     return Instances.functor();
@@ -504,12 +596,12 @@ public class Monos {
 
                 @Override
                 public <T, R> Maybe<MonadZero<mono>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<mono>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -519,17 +611,17 @@ public class Monos {
 
                 @Override
                 public <C2, T> Maybe<Traverse<mono>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<mono>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<mono>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -567,6 +659,9 @@ public class Monos {
          * @return A functor for Monos
          */
         public static <T,R>Functor<mono> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<mono> createFunctor(){
             BiFunction<MonoKind<T>,Function<? super T, ? extends R>,MonoKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -586,6 +681,9 @@ public class Monos {
          * @return A factory for Monos
          */
         public static <T> Pure<mono> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<mono> createUnit(){
             return General.<mono,T>unit(Instances::of);
         }
         /**
@@ -626,6 +724,9 @@ public class Monos {
          * @return A zipper for Monos
          */
         public static <T,R> Applicative<mono> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<mono> createApplicative(){
             BiFunction<MonoKind< Function<T, R>>,MonoKind<T>,MonoKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -656,6 +757,9 @@ public class Monos {
          * @return Type class with monad functions for Monos
          */
         public static <T,R> Monad<mono> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<mono> createMonad(){
 
             BiFunction<Higher<mono,T>,Function<? super T, ? extends Higher<mono,R>>,Higher<mono,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -678,6 +782,9 @@ public class Monos {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<mono> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<mono> createMonadZero(){
 
             return General.monadZero(monad(), MonoKind.empty());
         }
@@ -696,6 +803,9 @@ public class Monos {
          * @return Type class for combining Monos by concatenation
          */
         public static <T> MonadPlus<mono> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<mono> createMonadPlus(){
 
 
             Monoid<MonoKind<T>> m = Monoid.of(MonoKind.<T>widen(Mono.empty()),
@@ -734,8 +844,28 @@ public class Monos {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<mono> traverse(){
+            return TRAVERSE;
+        }
+
+        /**
+         * Traverse instance with blocking detection, it throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * <pre>
+         * {@code
+         * Traverse<mono> traverse = Monos.Instances.traverse(Monos.Instances::isNonBlocking);
+         * }
+         * </pre>
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for traversables with traverse / sequence operations
+         */
+        public static <C2,T> Traverse<mono> traverse(Predicate<? super Thread> nonBlocking){
+            return createTraverse(nonBlocking);
+        }
+        private static <C2,T> Traverse<mono> createTraverse(Predicate<? super Thread> nonBlocking){
 
-            return General.traverseByTraverse(applicative(), Instances::traverseA);
+            return General.traverseByTraverse(applicative(), (applicative, fn, ds) -> traverseA(applicative, fn, ds, nonBlocking));
         }
 
         /**
@@ -754,15 +884,148 @@ public class Monos {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<mono> foldable(){
-            BiFunction<Monoid<T>,Higher<mono,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), MonoKind.narrow(l).block());
-            BiFunction<Monoid<T>,Higher<mono,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), MonoKind.narrow(l).block());
+            return FOLDABLE;
+        }
+
+        /**
+         * Foldable instance with blocking detection, it throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * <pre>
+         * {@code
+         * Mono.just(1)
+         *     .publishOn(Schedulers.parallel())
+         *     .map(i -> Monos.Instances.<Integer>foldable(Monos.Instances::isNonBlocking)
+         *                              .foldLeft(Monoids.intSum, MonoKind.widen(Mono.delay(Duration.ofSeconds(1)).map(l->1))));
+         *
+         * //IllegalStateException, use foldLeftAsync instead
+         * }
+         * </pre>
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for folding / reduction operations
+         */
+        public static <T> Foldable<mono> foldable(Predicate<? super Thread> nonBlocking){
+            return createFoldable(nonBlocking);
+        }
+        private static <T> Foldable<mono> createFoldable(Predicate<? super Thread> nonBlocking){
+            BiFunction<Monoid<T>,Higher<mono,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), value(MonoKind.narrow(l), nonBlocking));
+            BiFunction<Monoid<T>,Higher<mono,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), value(MonoKind.narrow(l), nonBlocking));
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<mono> comonad(){
-            Function<? super Higher<mono, T>, ? extends T> extractFn = maybe -> maybe.convert(MonoKind::narrow).block();
+            return COMONAD;
+        }
+
+        /**
+         * Comonad instance with blocking detection, extract throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for extracting the value of a Mono
+         */
+        public static <T> Comonad<mono> comonad(Predicate<? super Thread> nonBlocking){
+            return createComonad(nonBlocking);
+        }
+        private static <T> Comonad<mono> createComonad(Predicate<? super Thread> nonBlocking){
+            Function<? super Higher<mono, T>, ? extends T> extractFn = maybe -> value(maybe.convert(MonoKind::narrow), nonBlocking);
             return General.comonad(functor(), unit(), extractFn);
         }
 
+        /**
+         * Non-blocking equivalent of {@link #foldable()} foldLeft, the result is returned as a Mono
+         *
+         * <pre>
+         * {@code
+         * Mono<Integer> sum  = Monos.Instances.foldLeftAsync(Monoids.intSum, MonoKind.widen(Mono.just(10)));
+         *
+         * //Mono[10]
+         * }
+         * </pre>
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Mono to fold
+         * @return Mono containing the folded value, or the Monoid zero if ds is empty
+         */
+        public static <T> Mono<T> foldLeftAsync(Monoid<T> monoid, Higher<mono,T> ds){
+            return MonoKind.narrow(ds).map(v->monoid.apply(monoid.zero(),v))
+                                      .defaultIfEmpty(monoid.zero());
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #foldable()} foldRight, the result is returned as a Mono
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Mono to fold
+         * @return Mono containing the folded value, or the Monoid zero if ds is empty
+         */
+        public static <T> Mono<T> foldRightAsync(Monoid<T> monoid, Higher<mono,T> ds){
+            return MonoKind.narrow(ds).map(v->monoid.apply(v,monoid.zero()))
+                                      .defaultIfEmpty(monoid.zero());
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #traverse()} traverseA, the traversed structure is built once the Mono
+         * completes and is returned inside a Mono.
+         *
+         * <pre>
+         * {@code
+         * Mono<Higher<optional,Higher<mono,Integer>>> res = Monos.Instances.traverseAsync(Optionals.Instances.applicative(),
+         *                                                                                 i->OptionalKind.of(i*2),
+         *                                                                                 MonoKind.widen(Mono.just(10)));
+         *
+         * //Mono[Optional[Mono[20]]]
+         * }
+         * </pre>
+         *
+         * @param applicative Applicative for the traversed type
+         * @param fn Function to apply to the Mono's value
+         * @param ds Mono to traverse
+         * @return Mono containing the traversed structure
+         */
+        public static <C2,T,R> Mono<Higher<C2, Higher<mono, R>>> traverseAsync(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
+                                                                               Higher<mono, T> ds){
+            Higher<C2, Higher<mono, R>> empty = applicative.unit(MonoKind.<R>empty());
+            return MonoKind.narrow(ds).<Higher<C2, Higher<mono, R>>>map(t->applicative.map(MonoKind::just, fn.apply(t)))
+                                      .defaultIfEmpty(empty);
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #traverse()} sequenceA
+         *
+         * @param applicative Applicative for the nested type
+         * @param ds Mono to sequence
+         * @return Mono containing the sequenced structure
+         */
+        public static <C2,T> Mono<Higher<C2, Higher<mono, T>>> sequenceAsync(Applicative<C2> applicative, Higher<mono, Higher<C2, T>> ds){
+            return traverseAsync(applicative, Function.identity(), ds);
+        }
+
+        /**
+         * Matches the threads of Reactor's parallel, single and timer Schedulers. Pass it (or a Predicate that also
+         * matches the threads of custom Schedulers created with Schedulers.newParallel) to {@link #foldable(Predicate)},
+         * {@link #comonad(Predicate)} or {@link #traverse(Predicate)} to fail fast when they would block on one of them.
+         *
+         * @param t Thread to check
+         * @return true if t belongs to a non-blocking Reactor Scheduler
+         */
+        public static boolean isNonBlocking(Thread t){
+            String name = t.getName();
+            return name.startsWith("parallel-") || name.startsWith("single-") || name.startsWith("timer-");
+        }
+
+        /**
+         * Extract the value of a Mono, blocking only if it is not already known
+         */
+        private static <T> T value(Mono<T> mono, Predicate<? super Thread> nonBlocking){
+            if(mono instanceof Fuseable.ScalarCallable)
+                return ((Fuseable.ScalarCallable<T>)mono).call();
+            if(nonBlocking.test(Thread.currentThread()))
+                throw new IllegalStateException("Blocking Mono type class instance used on non-blocking thread "
+                        + Thread.currentThread().getName() + ", use the Async variants instead");
+            return mono.block();
+        }
+
         private static <T> MonoKind<T> of(T value){
             return widen(Mono.just(value));
         }
@@ -781,9 +1044,9 @@ public class Monos {
 
 
         private static <C2,T,R> Higher<C2, Higher<mono, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
-                                                                            Higher<mono, T> ds){
+                                                                            Higher<mono, T> ds, Predicate<? super Thread> nonBlocking){
             Mono<T> future = MonoKind.narrow(ds);
-            return applicative.map(MonoKind::just, fn.apply(future.block()));
+            return applicative.map(MonoKind::just, fn.apply(value(future, nonBlocking)));
         }
 
     }
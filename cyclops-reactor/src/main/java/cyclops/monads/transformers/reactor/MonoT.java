@@ -16,7 +16,6 @@ import com.aol.cyclops2.types.functor.Transformable;
 import cyclops.async.Future;
 import cyclops.control.Trampoline;
 import com.aol.cyclops2.types.*;
-import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -28,6 +27,7 @@ import cyclops.monads.WitnessType;
 import com.aol.cyclops2.types.anyM.transformers.ValueTransformer;
 import cyclops.function.Fn4;
 import cyclops.function.Fn3;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -52,9 +52,34 @@ public final class MonoT<W extends WitnessType<W>,T> extends ValueTransformer<W,
         return stream().iterator();
     }
 
+    /**
+     * @return ReactiveSeq of the values of the wrapped Monos in source order, empty Monos are skipped
+     */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.stream().map(Mono::block);
+        return stream(true);
+    }
+
+    /**
+     * Stream the values of the wrapped Monos without blocking on each Mono in turn. The Monos are subscribed to eagerly
+     * and each value is emitted as soon as it (and, when ordered, every value before it) is available, so a consumer
+     * only waits for the next completed value. Empty Monos are skipped.
+     *
+     * <pre>
+     * {@code
+     *    MonoT.of(AnyM.fromStream(Stream.of(slow,fast)))
+     *         .stream(false);
+     *
+     *    //[fast value, slow value]
+     * }
+     * </pre>
+     *
+     * @param ordered true to emit values in source order, false to emit them in completion order
+     * @return ReactiveSeq of the values of the wrapped Monos
+     */
+    public ReactiveSeq<T> stream(boolean ordered) {
+        Flux<Mono<T>> monos = Flux.fromIterable(run.stream());
+        return ReactiveSeq.fromIterable((ordered ? monos.flatMapSequential(m -> m) : monos.flatMap(m -> m)).toIterable());
     }
 
 
@@ -88,11 +113,15 @@ public final class MonoT<W extends WitnessType<W>,T> extends ValueTransformer<W,
         return run.map(m-> Future.fromPublisher(m));
     }
 
+    /**
+     * Filter the wrapped Monos without blocking, Monos whose value fails the predicate become empty
+     *
+     * @param test Predicate to filter the wrapped Monos with
+     * @return MonoT with filtered Monos
+     */
     @Override
     public MonoT<W,T> filter(final Predicate<? super T> test) {
-        return of(run.map(f->f.map(in->Tuple.tuple(in,test.test(in))))
-                .filter( f->f.block().v2 )
-                .map( f->f.map(in->in.v1)));
+        return of(run.map(f->f.filter(test)));
     }
 
     /**
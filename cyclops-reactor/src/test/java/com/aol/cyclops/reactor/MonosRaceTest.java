@@ -0,0 +1,148 @@
+package com.aol.cyclops.reactor;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.companion.reactor.Monos;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class MonosRaceTest {
+
+    AtomicInteger disposed;
+    AtomicInteger reports;
+    AtomicInteger cancelled;
+
+    @Before
+    public void setup(){
+        disposed = new AtomicInteger();
+        reports = new AtomicInteger();
+        cancelled = new AtomicInteger();
+    }
+
+    private Mono<Integer> never(){
+        return Mono.<Integer>never().doOnCancel(disposed::incrementAndGet);
+    }
+
+    private void report(int count){
+        reports.incrementAndGet();
+        cancelled.addAndGet(count);
+    }
+
+    @Test
+    public void anyOfDisposesLosers(){
+        MonoProcessor<Integer> winner = MonoProcessor.create();
+        Mono<Integer> res = Monos.anyOfCancelLosers(this::report, never(), winner, never());
+        MonoProcessor<Integer> result = res.subscribe();
+        assertThat(disposed.get(), equalTo(0));
+        winner.onNext(2);
+        assertThat(result.block(), equalTo(2));
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void anyOfStopsSubscribingOnceDecided(){
+        AtomicInteger subscribed = new AtomicInteger();
+        Mono<Integer> late = Mono.<Integer>never().doOnSubscribe(s -> subscribed.incrementAndGet());
+        assertThat(Monos.anyOfCancelLosers(this::report, Mono.just(1), late).block(), equalTo(1));
+        assertThat(subscribed.get(), equalTo(0));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void anyOfCountsRacerDecidedDuringItsSubscription(){
+        MonoProcessor<Integer> winner = MonoProcessor.create();
+        Mono<Integer> subscribing = Mono.defer(() -> {
+            winner.onNext(1);
+            return never();
+        });
+        assertThat(Monos.anyOfCancelLosers(this::report, winner, subscribing, never()).block(), equalTo(1));
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void anyOfFailureWins(){
+        try {
+            Monos.anyOfCancelLosers(this::report, never(), Mono.error(new IllegalStateException("boom"))).block();
+            fail("expected failure");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), equalTo("boom"));
+        }
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void firstSuccessSkipsFailuresAndEmpty(){
+        MonoProcessor<Integer> winner = MonoProcessor.create();
+        MonoProcessor<Integer> result = Monos.firstSuccessCancelLosers(this::report, Mono.error(new IllegalStateException()),
+                                                                      Mono.empty(), winner, never(), never())
+                                             .subscribe();
+        assertThat(result.isTerminated(), equalTo(false));
+        winner.onNext(10);
+        assertThat(result.block(), equalTo(10));
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void firstSuccessAllFail(){
+        try {
+            Monos.firstSuccessCancelLosers(this::report, Mono.error(new IllegalStateException()),
+                                           Mono.error(new IllegalArgumentException())).block();
+            fail("expected failure");
+        } catch (IllegalStateException e) {
+        }
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void quorumDisposesOutstanding(){
+        AtomicInteger errors = new AtomicInteger();
+        ListX<Integer> res = Monos.quorumCancelLosers(status -> status.getCompleted() >= 2, t -> errors.incrementAndGet(),
+                                                      this::report, Mono.just(1), Mono.error(new IllegalStateException()),
+                                                      never(), Mono.just(2), never(), never())
+                                  .block();
+        assertThat(res, equalTo(ListX.of(1, 2)));
+        assertThat(errors.get(), equalTo(1));
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void quorumWaitsForAll(){
+        ListX<Integer> res = Monos.quorumCancelLosers(status -> false, this::report, Mono.just(1), Mono.empty(), Mono.just(2))
+                                  .block();
+        assertThat(res, equalTo(ListX.of(1, 2)));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void cancellingResultDisposesRacers(){
+        Disposable subscription = Monos.anyOfCancelLosers(this::report, never(), never()).subscribe(i -> { });
+        subscription.dispose();
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Monos.<Integer>anyOfCancelLosers(this::report).block(), equalTo(null));
+        assertThat(Monos.<Integer>quorumCancelLosers(status -> true, this::report).block(), equalTo(ListX.empty()));
+    }
+}
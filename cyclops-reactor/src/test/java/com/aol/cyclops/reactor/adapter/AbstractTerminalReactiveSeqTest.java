@@ -0,0 +1,149 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.companion.Monoids;
+import cyclops.companion.Reducers;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the terminal operations a ReactiveSeq adapter runs natively on empty, failing and infinite sources, against
+ * the results Spouts gives for the same values
+ */
+public abstract class AbstractTerminalReactiveSeqTest {
+
+    AtomicInteger emitted = new AtomicInteger(0);
+
+    public abstract ReactiveSeq<Integer> of(Integer... values);
+
+    /**
+     * @return 0, 1 and 2 followed by an IllegalStateException("boom")
+     */
+    public abstract ReactiveSeq<Integer> failing();
+
+    /**
+     * @return Every Integer from 0 upwards, incrementing emitted for each one
+     */
+    public abstract ReactiveSeq<Integer> infinite();
+
+    private void sameAsSpouts(String operator, Function<ReactiveSeq<Integer>, ?> op){
+        for(int n=0;n<=5;n++){
+            List<Integer> values = new ArrayList<>();
+            for(int i=0;i<n;i++)
+                values.add(i+1);
+            assertThat(operator + " of " + values, op.apply(of(values.toArray(new Integer[0]))),
+                       equalTo(op.apply(Spouts.fromIterable(values))));
+        }
+    }
+
+    private void fails(String operator, Function<ReactiveSeq<Integer>, ?> op){
+        try{
+            op.apply(failing());
+            fail(operator + " should propagate the error");
+        }catch(IllegalStateException e){
+            assertThat(operator, e.getMessage(), equalTo("boom"));
+        }
+    }
+
+    @Test
+    public void emptyStream(){
+        assertThat(of().reduce((a,b)->a+b),equalTo(Optional.empty()));
+        assertThat(of().reduce(10,(a,b)->a+b),equalTo(10));
+        assertThat(of().reduce(Monoids.intSum),equalTo(0));
+        assertThat(of().findFirst(),equalTo(Optional.empty()));
+        assertThat(of().findAny(),equalTo(Optional.empty()));
+        assertThat(of().count(),equalTo(0L));
+        assertThat(of().foldRight(10,(a,b)->a-b),equalTo(10));
+        assertThat(of().mapReduce(Reducers.toCountInt()),equalTo(0));
+        assertThat(of().join(","),equalTo(""));
+        assertThat(of().join(",","[","]"),equalTo("[]"));
+        assertThat(of().toArray().length,equalTo(0));
+        assertThat(of().toArray(Integer[]::new).length,equalTo(0));
+        assertTrue(of().allMatch(i->false));
+        assertFalse(of().anyMatch(i->true));
+        assertTrue(of().noneMatch(i->true));
+        assertTrue(of().xMatch(0,i->true));
+
+        List<Integer> received = new ArrayList<>();
+        of().forEach(received::add);
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void sameResultsAsSpouts(){
+        sameAsSpouts("reduce", s->s.reduce((a,b)->a*10+b));
+        sameAsSpouts("reduce with identity", s->s.reduce(7,(a,b)->a*10+b));
+        sameAsSpouts("reduce with combiner", s->s.reduce(0,(a,b)->a+b*b,(a,b)->a+b));
+        sameAsSpouts("reduce monoid", s->s.reduce(Monoids.intMult));
+        sameAsSpouts("reduce monoids", s->s.reduce(Arrays.asList(Monoids.intSum,Monoids.intMax)));
+        sameAsSpouts("mapReduce", s->s.mapReduce(i->i*2,Monoids.intSum));
+        sameAsSpouts("mapReduce reducer", s->s.mapReduce(Reducers.toVectorX()));
+        sameAsSpouts("foldRight", s->s.foldRight(7,(a,b)->a*10+b));
+        sameAsSpouts("foldRight monoid", s->s.foldRight(Monoids.intSum));
+        sameAsSpouts("foldRightMapToType", s->s.foldRightMapToType(Reducers.toVectorX()));
+        sameAsSpouts("join", s->s.join());
+        sameAsSpouts("join with separator", s->s.join(",","[","]"));
+        sameAsSpouts("toArray", s->Arrays.asList(s.toArray()));
+        sameAsSpouts("findFirst", s->s.findFirst());
+        sameAsSpouts("count", s->s.count());
+        sameAsSpouts("xMatch", s->s.xMatch(2,i->i%2==0));
+        sameAsSpouts("allMatch", s->s.allMatch(i->i<4));
+        sameAsSpouts("anyMatch", s->s.anyMatch(i->i==3));
+    }
+
+    @Test
+    public void errorsPropagate(){
+        fails("forEach", s->{ s.forEach(i->{}); return null; });
+        fails("toArray", s->s.toArray());
+        fails("allMatch", s->s.allMatch(i->true));
+        fails("anyMatch", s->s.anyMatch(i->false));
+        fails("xMatch", s->s.xMatch(5,i->true));
+        fails("join", s->s.join(","));
+        fails("reduce", s->s.reduce((a,b)->a+b));
+        fails("reduce with identity", s->s.reduce(0,(a,b)->a+b));
+        fails("reduce monoid", s->s.reduce(Monoids.intSum));
+        fails("mapReduce", s->s.mapReduce(Reducers.toVectorX()));
+        fails("foldRight", s->s.foldRight(0,(a,b)->a+b));
+        fails("count", s->s.count());
+    }
+
+    @Test
+    public void matchingShortCircuits(){
+        assertTrue(infinite().anyMatch(i->i==5));
+        assertThat(emitted.getAndSet(0),equalTo(6));
+        assertFalse(infinite().allMatch(i->i<5));
+        assertThat(emitted.getAndSet(0),equalTo(6));
+        assertFalse(infinite().noneMatch(i->i==5));
+        assertThat(emitted.getAndSet(0),equalTo(6));
+        assertFalse(infinite().xMatch(2,i->true));
+        assertThat(emitted.getAndSet(0),equalTo(3));
+    }
+
+    @Test
+    public void findFirstShortCircuits(){
+        assertThat(infinite().findFirst(),equalTo(Optional.of(0)));
+        assertThat(infinite().findAny(),equalTo(Optional.of(0)));
+    }
+
+    @Test
+    public void foldRightVisitsInTheSameOrder(){
+        sameAsSpouts("foldRight order", s->{
+            List<Integer> visited = new ArrayList<>();
+            s.foldRight(0,(a,b)->{ visited.add(a); visited.add(b); return a+b; });
+            return visited;
+        });
+    }
+}
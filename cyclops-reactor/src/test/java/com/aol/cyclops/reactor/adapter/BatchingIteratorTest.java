@@ -0,0 +1,49 @@
+package com.aol.cyclops.reactor.adapter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Spliterator;
+
+/**
+ * Runs the BatchingIterator checks against FluxReactiveSeq
+ */
+public class BatchingIteratorTest extends AbstractBatchingIteratorTest {
+
+    private Batching batching(FluxReactiveSeq<Integer> seq){
+        return new Batching() {
+            @Override
+            public BatchingIterator<Integer> iterator(int prefetch) {
+                return seq.iterator(prefetch);
+            }
+
+            @Override
+            public BatchingIterator<Integer> iterator(int prefetch, int lowWatermark) {
+                return seq.iterator(prefetch,lowWatermark);
+            }
+
+            @Override
+            public Spliterator<Integer> spliterator(int prefetch, int lowWatermark) {
+                return seq.spliterator(prefetch,lowWatermark);
+            }
+        };
+    }
+
+    @Override
+    public Batching range(int end){
+        return batching(new FluxReactiveSeq<>(Flux.range(0,end)
+                                                  .doOnRequest(requests::add)
+                                                  .doOnNext(i->emitted.incrementAndGet())));
+    }
+
+    @Override
+    public Batching async(int end){
+        return batching(new FluxReactiveSeq<>(Flux.range(0,end).publishOn(Schedulers.parallel())));
+    }
+
+    @Override
+    public Batching failing(){
+        return batching(new FluxReactiveSeq<>(Flux.just(1,2,3)
+                                                  .concatWith(Flux.error(new IllegalStateException("boom")))));
+    }
+}
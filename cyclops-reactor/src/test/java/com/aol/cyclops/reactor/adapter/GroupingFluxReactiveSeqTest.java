@@ -0,0 +1,15 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import reactor.core.publisher.Flux;
+
+/**
+ * Runs the grouping operator checks against FluxReactiveSeq
+ */
+public class GroupingFluxReactiveSeqTest extends AbstractGroupingReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> fromIterable(Iterable<Integer> values){
+        return new FluxReactiveSeq<>(Flux.fromIterable(values));
+    }
+}
@@ -0,0 +1,37 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import reactor.core.publisher.Flux;
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.jooq.lambda.tuple.Tuple4;
+
+/**
+ * Runs the multicast checks against FluxReactiveSeq
+ */
+public class MulticastFluxReactiveSeqTest extends AbstractMulticastReactiveSeqTest {
+
+    private FluxReactiveSeq<Integer> range(int end){
+        return new FluxReactiveSeq<>(Flux.range(0,end).doOnNext(i->emitted.incrementAndGet()));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRange(int end, int bufferSize){
+        return range(end).duplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple3<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> triplicateRange(int end, int bufferSize){
+        return range(end).triplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple4<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> quadruplicateRange(int end, int bufferSize){
+        return range(end).quadruplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRangeLossy(int end, int bufferSize){
+        return range(end).duplicateLossy(bufferSize);
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.reactor.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import reactor.core.publisher.Flux;
+
+/**
+ * Runs the terminal operation checks against FluxReactiveSeq
+ */
+public class TerminalFluxReactiveSeqTest extends AbstractTerminalReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> of(Integer... values){
+        return new FluxReactiveSeq<>(Flux.fromArray(values));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> failing(){
+        return new FluxReactiveSeq<>(Flux.range(0,3)
+                                         .concatWith(Flux.error(new IllegalStateException("boom"))));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> infinite(){
+        return new FluxReactiveSeq<>(Flux.range(0,Integer.MAX_VALUE)
+                                         .doOnNext(i->emitted.incrementAndGet()));
+    }
+}
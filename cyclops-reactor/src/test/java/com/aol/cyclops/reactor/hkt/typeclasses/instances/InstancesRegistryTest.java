@@ -0,0 +1,28 @@
+package com.aol.cyclops.reactor.hkt.typeclasses.instances;
+
+import cyclops.companion.reactor.Fluxs;
+import cyclops.companion.reactor.Monos;
+import cyclops.companion.reactor.ReactorInstances;
+import cyclops.monads.ReactorWitness.flux;
+import cyclops.monads.ReactorWitness.mono;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Monos.Instances.definitions(), sameInstance(Monos.Instances.definitions()));
+        assertThat(Monos.Instances.monad(), sameInstance(Monos.Instances.monad()));
+        assertThat(Fluxs.Instances.traverse(), sameInstance(Fluxs.Instances.traverse()));
+        assertThat(Fluxs.Instances.definitions().foldable().get(), sameInstance(Fluxs.Instances.foldable()));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(ReactorInstances.definitions(flux.INSTANCE).get(), sameInstance(Fluxs.Instances.definitions()));
+        assertThat(ReactorInstances.definitions(mono.INSTANCE).get(), sameInstance(Monos.Instances.definitions()));
+    }
+}
@@ -6,6 +6,8 @@ import static cyclops.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.hamcrest.Matchers.containsString;
 
 import cyclops.companion.reactor.Monos;
 import com.aol.cyclops.reactor.hkt.MonoKind;
@@ -19,12 +21,16 @@ import cyclops.monads.ReactorWitness;
 import cyclops.monads.ReactorWitness.mono;
 import cyclops.monads.Witness;
 import cyclops.monads.Witness.maybe;
+import cyclops.typeclasses.foldable.Foldable;
 import cyclops.typeclasses.monad.Applicative;
 import cyclops.typeclasses.monad.Traverse;
 import org.junit.Test;
 
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 
 public class MonosTest {
 
@@ -163,4 +169,69 @@ public class MonosTest {
 
     }
     
+    @Test
+    public void foldLeftAsync(){
+        Mono<Integer> sum = Instances.foldLeftAsync(Monoid.of(0, (a, b) -> a + b), widen(Mono.delay(Duration.ofMillis(10)).map(l -> 4)));
+        assertThat(sum.block(), equalTo(4));
+        assertThat(Instances.foldRightAsync(Monoid.of(0, (a, b) -> a + b), MonoKind.<Integer>empty()).block(), equalTo(0));
+    }
+    @Test
+    public void traverseAsync(){
+        Applicative<maybe> applicative = Maybe.Instances.applicative();
+
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = Instances.traverseAsync(applicative, (Integer a) -> Maybe.just(a * 2),
+                                                                                  widen(Mono.delay(Duration.ofMillis(10)).map(l -> 1)));
+
+        assertThat(res.block().convert(Maybe::narrowK).map(h -> h.convert(MonoKind::narrowK).block()),
+                   equalTo(Maybe.just(2)));
+    }
+    @Test
+    public void sequenceAsync(){
+        Applicative<maybe> applicative = Maybe.Instances.applicative();
+
+        Mono<Higher<maybe, Higher<mono, Integer>>> res = Instances.sequenceAsync(applicative, widen(Mono.just(Maybe.just(1))));
+
+        assertThat(res.block().convert(Maybe::narrowK).map(h -> h.convert(MonoKind::narrowK).block()),
+                   equalTo(Maybe.just(1)));
+    }
+    @Test
+    public void failOnBlockingInNonBlockingThread(){
+        Foldable<mono> checked = Instances.foldable(Instances::isNonBlocking);
+        Mono<Integer> delayed = Mono.delay(Duration.ofMillis(10)).map(l -> 1);
+        Mono<Integer> folded = Mono.just(1)
+                                   .publishOn(Schedulers.parallel())
+                                   .map(i -> checked.foldLeft(Monoid.of(0, (a, b) -> a + b), widen(delayed)));
+        try {
+            folded.block();
+            fail("Expected blocking to be detected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("non-blocking thread"));
+        }
+        //values that are already known do not block
+        Mono<Integer> known = Mono.just(1)
+                                  .publishOn(Schedulers.parallel())
+                                  .map(i -> checked.foldLeft(Monoid.of(0, (a, b) -> a + b), widen(Mono.just(5))));
+        assertThat(known.block(), equalTo(5));
+        //blocking threads are unaffected
+        assertThat(checked.foldLeft(Monoid.of(0, (a, b) -> a + b), widen(delayed)), equalTo(1));
+        //detection is opt in
+        Mono<Integer> elastic = Mono.fromCallable(() -> 1).subscribeOn(Schedulers.elastic());
+        Mono<Integer> unchecked = Mono.just(1)
+                                      .publishOn(Schedulers.parallel())
+                                      .map(i -> Instances.<Integer>foldable().foldLeft(Monoid.of(0, (a, b) -> a + b), widen(elastic)));
+        assertThat(unchecked.block(), equalTo(1));
+    }
+    @Test
+    public void failOnExtractInNonBlockingThread(){
+        Mono<Integer> delayed = Mono.delay(Duration.ofMillis(10)).map(l -> 1);
+        Mono<Integer> extracted = Mono.just(1)
+                                      .publishOn(Schedulers.single())
+                                      .map(i -> Instances.<Integer>comonad(Instances::isNonBlocking).extract(widen(delayed)));
+        try {
+            extracted.block();
+            fail("Expected blocking to be detected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("non-blocking thread"));
+        }
+    }
 }
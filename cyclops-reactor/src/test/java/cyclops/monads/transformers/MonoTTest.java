@@ -21,10 +21,14 @@ import cyclops.stream.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -421,4 +425,46 @@ public class MonoTTest implements Printable {
 	
 
 
+	@Test
+	public void streamSourceOrder() {
+		MonoT<Witness.stream, Integer> monos = MonoT.of(AnyM.fromStream(Stream.of(Mono.just(1).delayElement(Duration.ofMillis(200)),
+				Mono.just(2).delayElement(Duration.ofMillis(10)))));
+		assertThat(monos.stream().toListX(), equalTo(ListX.of(1, 2)));
+	}
+
+	@Test
+	public void streamCompletionOrder() {
+		MonoT<Witness.stream, Integer> monos = MonoT.of(AnyM.fromStream(Stream.of(Mono.just(1).delayElement(Duration.ofMillis(200)),
+				Mono.just(2).delayElement(Duration.ofMillis(10)),
+				Mono.<Integer>empty())));
+		assertThat(monos.stream(false).toListX(), equalTo(ListX.of(2, 1)));
+	}
+
+	@Test
+	public void streamSubscribesEagerly() {
+		AtomicInteger subscribed = new AtomicInteger(0);
+		MonoProcessor<Integer> first = MonoProcessor.create();
+		MonoT<Witness.stream, Integer> monos = MonoT.of(AnyM.fromStream(Stream.iterate(0, i -> i + 1).limit(10)
+				.map(i -> (i == 0 ? first.timeout(Duration.ofSeconds(10)) : Mono.just(i)).doOnSubscribe(s -> {
+					//the first value is only emitted once every Mono has been subscribed to
+					if (subscribed.incrementAndGet() == 10)
+						first.onNext(0);
+				}))));
+		assertThat(monos.stream().toListX(), equalTo(ListX.range(0, 10)));
+		assertThat(subscribed.get(), equalTo(10));
+	}
+
+	@Test
+	public void filterDoesNotBlock() {
+		AtomicBoolean tested = new AtomicBoolean(false);
+		MonoT<Witness.stream, Integer> monos = MonoT.of(AnyM.fromStream(Stream.of(Mono.just(1).delayElement(Duration.ofMillis(100)),
+				Mono.just(10))));
+		MonoT<Witness.stream, Integer> filtered = monos.filter(i -> {
+			tested.set(true);
+			return i > 5;
+		});
+		assertFalse(tested.get());
+		assertThat(filtered.stream().toListX(), equalTo(ListX.of(10)));
+	}
+
 }
@@ -0,0 +1,390 @@
+package com.aol.cyclops.rx.adapter;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+import rx.subscriptions.Subscriptions;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bridges a reactive-streams Publisher (such as an asynchronous ReactiveSeq) to an RxJava Observable through a bounded
+ * buffer.
+ *
+ * Downstream request(n) demand is forwarded to the upstream Subscription. Publishers that honour demand never fill the
+ * buffer; for push based Publishers that ignore it (e.g. Spouts.async) the configured {@link Overflow} strategy is
+ * applied once the buffer reaches capacity, rather than buffering without limit.
+ *
+ * <pre>
+ * {@code
+ *   BackpressureBridge.Metrics metrics = new BackpressureBridge.Metrics();
+ *   Observable<Integer> obs = Observables.observableFrom(Spouts.async(...), 1024, Overflow.DROP_OLDEST, metrics);
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements emitted
+ */
+public class BackpressureBridge<T> implements Observable.OnSubscribe<T> {
+
+    /**
+     * Strategy applied when an element arrives and the buffer is full
+     */
+    public enum Overflow {
+        /**
+         * Block the producing thread until downstream demand frees a slot. The buffer is only drained by a thread
+         * requesting more elements, so the Publisher must emit on a different thread to the Subscriber requesting
+         * them, otherwise the producing thread blocks forever
+         */
+        BLOCK,
+        /**
+         * Evict the oldest buffered element to make room for the new one
+         */
+        DROP_OLDEST,
+        /**
+         * Discard the newly arrived element
+         */
+        DROP_LATEST,
+        /**
+         * Cancel the upstream Subscription and signal a MissingBackpressureException
+         */
+        ERROR
+    }
+
+    /**
+     * Buffer statistics, may be shared across subscriptions to the same bridged Observable
+     */
+    public static class Metrics {
+        private final AtomicInteger occupancy = new AtomicInteger();
+        private final AtomicInteger highWaterMark = new AtomicInteger();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicLong emitted = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        /**
+         * @return Number of elements currently buffered, may briefly lag behind concurrent producers and consumers
+         */
+        public int getOccupancy() {
+            return occupancy.get();
+        }
+
+        /**
+         * @return Largest number of elements buffered at any one time
+         */
+        public int getHighWaterMark() {
+            return highWaterMark.get();
+        }
+
+        /**
+         * @return Total number of elements received from upstream
+         */
+        public long getReceived() {
+            return received.get();
+        }
+
+        /**
+         * @return Total number of elements emitted downstream
+         */
+        public long getEmitted() {
+            return emitted.get();
+        }
+
+        /**
+         * @return Total number of elements discarded by the overflow strategy
+         */
+        public long getDropped() {
+            return dropped.get();
+        }
+
+        void enqueued(int size) {
+            received.incrementAndGet();
+            occupancy.incrementAndGet();
+            int max;
+            while (size > (max = highWaterMark.get()) && !highWaterMark.compareAndSet(max, size)) {
+            }
+        }
+
+        void dequeued() {
+            occupancy.decrementAndGet();
+            emitted.incrementAndGet();
+        }
+
+        void dropped(boolean buffered) {
+            if (buffered)
+                occupancy.decrementAndGet();
+            else
+                received.incrementAndGet();
+            dropped.incrementAndGet();
+        }
+
+        void cleared(int count) {
+            occupancy.addAndGet(-count);
+            dropped.addAndGet(count);
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics[occupancy=" + getOccupancy() + ", highWaterMark=" + getHighWaterMark() + ", received="
+                    + getReceived() + ", emitted=" + getEmitted() + ", dropped=" + getDropped() + "]";
+        }
+    }
+
+    private final Publisher<T> source;
+    private final int capacity;
+    private final Overflow overflow;
+    private final Metrics metrics;
+
+    public BackpressureBridge(Publisher<T> source, int capacity, Overflow overflow, Metrics metrics) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Buffer capacity must be positive " + capacity);
+        this.source = source;
+        this.capacity = capacity;
+        this.overflow = overflow;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Bridge a Publisher to an Observable through a buffer of the given capacity.
+     *
+     * With {@link Overflow#BLOCK} a full buffer blocks the thread calling onNext until downstream demand is
+     * signalled from another thread. A Publisher that emits on the same thread that requests elements (for example
+     * one subscribed and drained from a single Scheduler worker) will deadlock, use one of the dropping strategies
+     * or emit on a separate thread.
+     *
+     * @param source Publisher to bridge
+     * @param capacity Maximum number of elements to buffer
+     * @param overflow Strategy to apply when the buffer is full
+     * @param metrics Buffer statistics
+     * @return Observable
+     */
+    public static <T> Observable<T> observable(Publisher<T> source, int capacity, Overflow overflow, Metrics metrics) {
+        return Observable.create(new BackpressureBridge<>(source, capacity, overflow, metrics));
+    }
+
+    @Override
+    public void call(rx.Subscriber<? super T> child) {
+        BridgeSubscriber<T> parent = new BridgeSubscriber<>(child, capacity, overflow, metrics);
+        child.add(Subscriptions.create(parent::cancel));
+        child.setProducer(parent::request);
+        source.subscribe(parent);
+    }
+
+    static final class BridgeSubscriber<T> implements Subscriber<T> {
+        private final rx.Subscriber<? super T> child;
+        private final ArrayBlockingQueue<T> queue;
+        private final int capacity;
+        private final Overflow overflow;
+        private final Metrics metrics;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong pendingUpstream = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Subscription upstream;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private Throwable error;
+
+        BridgeSubscriber(rx.Subscriber<? super T> child, int capacity, Overflow overflow, Metrics metrics) {
+            this.child = child;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.capacity = capacity;
+            this.overflow = overflow;
+            this.metrics = metrics;
+        }
+
+        void request(long n) {
+            if (n <= 0)
+                return;
+            addRequest(requested, n);
+            Subscription s = upstream;
+            if (s != null) {
+                s.request(n);
+            } else {
+                addRequest(pendingUpstream, n);
+                s = upstream;
+                if (s != null) {
+                    long pending = pendingUpstream.getAndSet(0);
+                    if (pending > 0)
+                        s.request(pending);
+                }
+            }
+            drain();
+        }
+
+        /**
+         * Add n to the given demand counter, capping it at Long.MAX_VALUE (unbounded)
+         */
+        private static void addRequest(AtomicLong counter, long n) {
+            for (;;) {
+                long current = counter.get();
+                if (current == Long.MAX_VALUE)
+                    return;
+                long next = current + n;
+                if (next < 0)
+                    next = Long.MAX_VALUE;
+                if (counter.compareAndSet(current, next))
+                    return;
+            }
+        }
+
+        /**
+         * Subtract the n elements emitted downstream from the outstanding demand, unless it is unbounded
+         */
+        private void produced(long n) {
+            for (;;) {
+                long current = requested.get();
+                if (current == Long.MAX_VALUE)
+                    return;
+                if (requested.compareAndSet(current, current - n))
+                    return;
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Subscription s = upstream;
+            if (s != null)
+                s.cancel();
+            if (wip.getAndIncrement() == 0)
+                clear();
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            upstream = s;
+            if (cancelled) {
+                s.cancel();
+                return;
+            }
+            long pending = pendingUpstream.getAndSet(0);
+            if (pending > 0)
+                s.request(pending);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done || cancelled)
+                return;
+            if (queue.offer(t)) {
+                metrics.enqueued(queue.size());
+            } else {
+                switch (overflow) {
+                    case BLOCK:
+                        drain();
+                        try {
+                            queue.put(t);
+                            metrics.enqueued(queue.size());
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            overflowError(e);
+                            return;
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        while (!queue.offer(t)) {
+                            if (queue.poll() != null)
+                                metrics.dropped(true);
+                        }
+                        metrics.enqueued(queue.size());
+                        break;
+                    case DROP_LATEST:
+                        metrics.dropped(false);
+                        break;
+                    default:
+                        metrics.dropped(false);
+                        overflowError(new MissingBackpressureException("Bridge buffer of " + capacity + " elements exceeded"));
+                        return;
+                }
+            }
+            drain();
+        }
+
+        private void overflowError(Throwable t) {
+            Subscription s = upstream;
+            if (s != null)
+                s.cancel();
+            error = t;
+            done = true;
+            clear();
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done)
+                return;
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            drain();
+        }
+
+        private void clear() {
+            int count = 0;
+            while (queue.poll() != null)
+                count++;
+            metrics.cleared(count);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0;
+                while (e != r) {
+                    if (cancelled || child.isUnsubscribed()) {
+                        clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T v = queue.poll();
+                    if (d && v == null) {
+                        terminate();
+                        return;
+                    }
+                    if (v == null)
+                        break;
+                    metrics.dequeued();
+                    child.onNext(v);
+                    e++;
+                }
+                if (e == r) {
+                    if (cancelled || child.isUnsubscribed()) {
+                        clear();
+                        return;
+                    }
+                    if (done && queue.isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0)
+                    produced(e);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    break;
+            }
+        }
+
+        private void terminate() {
+            cancelled = true;
+            Throwable t = error;
+            if (t != null)
+                child.onError(t);
+            else
+                child.onCompleted();
+        }
+    }
+}
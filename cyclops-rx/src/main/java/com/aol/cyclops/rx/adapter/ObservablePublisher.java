@@ -0,0 +1,215 @@
+package com.aol.cyclops.rx.adapter;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import rx.Observable;
+import rx.exceptions.MissingBackpressureException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A reactive-streams Publisher view of an RxJava Observable that prefetches through a bounded window.
+ *
+ * prefetch elements are requested from the Observable up front and replenished in batches as 75% of them are
+ * delivered, Subscriber request(n) demand is served from the prefetched elements. At most prefetch elements are ever
+ * buffered, so a consumer that pulls one element at a time (such as a ReactiveSeq iterator) reads a large Observable
+ * in constant memory.
+ *
+ * Unlike RxReactiveStreams.toPublisher, null elements (which RxJava 1 permits) are passed through to the Subscriber,
+ * and an error is delivered only once the elements that preceded it have been consumed.
+ *
+ * @param <T> Data type of elements emitted
+ */
+public class ObservablePublisher<T> implements Publisher<T> {
+
+    private final Observable<T> observable;
+    private final int prefetch;
+
+    public ObservablePublisher(Observable<T> observable, int prefetch) {
+        if (prefetch <= 0)
+            throw new IllegalArgumentException("Prefetch must be positive " + prefetch);
+        this.observable = observable;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        PrefetchSubscriber<T> parent = new PrefetchSubscriber<>(s, prefetch);
+        s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                parent.requestMore(n);
+            }
+
+            @Override
+            public void cancel() {
+                parent.cancel();
+            }
+        });
+        if (!parent.isUnsubscribed())
+            observable.unsafeSubscribe(parent);
+    }
+
+    static final class PrefetchSubscriber<T> extends rx.Subscriber<T> {
+        //stands in for null elements, which RxJava 1 permits but the queue does not
+        private static final Object NULL = new Object();
+
+        private final Subscriber<? super T> child;
+        private final ArrayBlockingQueue<Object> queue;
+        private final int prefetch;
+        private final int limit;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private Throwable error;
+        private int consumed;
+
+        PrefetchSubscriber(Subscriber<? super T> child, int prefetch) {
+            this.child = child;
+            this.queue = new ArrayBlockingQueue<>(prefetch);
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+        }
+
+        @Override
+        public void onStart() {
+            request(prefetch);
+        }
+
+        void requestMore(long n) {
+            if (n <= 0) {
+                cancel();
+                child.onError(new IllegalArgumentException("Request must be positive, was " + n));
+                child.onComplete();
+                return;
+            }
+            addRequest(n);
+            drain();
+        }
+
+        /**
+         * Add n to the outstanding demand, capping it at Long.MAX_VALUE (unbounded)
+         */
+        private void addRequest(long n) {
+            for (;;) {
+                long current = requested.get();
+                if (current == Long.MAX_VALUE)
+                    return;
+                long next = current + n;
+                if (next < 0)
+                    next = Long.MAX_VALUE;
+                if (requested.compareAndSet(current, next))
+                    return;
+            }
+        }
+
+        /**
+         * Subtract the n elements emitted downstream from the outstanding demand, unless it is unbounded
+         */
+        private void produced(long n) {
+            for (;;) {
+                long current = requested.get();
+                if (current == Long.MAX_VALUE)
+                    return;
+                if (requested.compareAndSet(current, current - n))
+                    return;
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            unsubscribe();
+            if (wip.getAndIncrement() == 0)
+                queue.clear();
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done || cancelled)
+                return;
+            if (!queue.offer(t == null ? NULL : t)) {
+                unsubscribe();
+                onError(new MissingBackpressureException("Prefetch window of " + prefetch + " elements exceeded"));
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done)
+                return;
+            error = e;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onCompleted() {
+            if (done)
+                return;
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0;
+                while (e != r) {
+                    if (cancelled) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    Object v = queue.poll();
+                    if (d && v == null) {
+                        terminate();
+                        return;
+                    }
+                    if (v == null)
+                        break;
+                    child.onNext(v == NULL ? null : (T) v);
+                    e++;
+                    if (++consumed == limit) {
+                        consumed = 0;
+                        request(limit);
+                    }
+                }
+                if (e == r) {
+                    if (cancelled) {
+                        queue.clear();
+                        return;
+                    }
+                    //errors wait for demand so they are not seen ahead of the last requested element
+                    if (done && error == null && queue.isEmpty()) {
+                        terminate();
+                        return;
+                    }
+                }
+                if (e != 0)
+                    produced(e);
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    break;
+            }
+        }
+
+        private void terminate() {
+            cancelled = true;
+            Throwable t = error;
+            //cyclops-react Subscribers treat onError as recoverable, an Observable error is terminal
+            if (t != null)
+                child.onError(t);
+            child.onComplete();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.aol.cyclops2.types.traversable.Traversable;
 import cyclops.async.adapters.QueueFactory;
 import cyclops.collections.immutable.VectorX;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Streams;
 import cyclops.companion.rx.Observables;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
@@ -41,6 +42,9 @@ import java.util.stream.*;
 
 @AllArgsConstructor
 public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
+    //elements requested from the Observable ahead of iteration, the size of RxJava's own buffers on the JVM
+    private static final int PREFETCH = 128;
+
     @Wither
     @Getter
     Observable<T> observable;
@@ -274,22 +278,25 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEach(action);
+        observable.doOnNext(action::accept)
+                  .toBlocking()
+                  .subscribe();
     }
 
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEachOrdered(action);
+        forEach(action);
     }
 
     @Override
     public Object[] toArray() {
-        return Observables.connectToReactiveSeq(observable).toArray();
+        return observable.toList().toBlocking().single().toArray();
     }
 
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return Observables.connectToReactiveSeq(observable).toArray(generator);
+        List<T> list = observable.toList().toBlocking().single();
+        return list.toArray(generator.apply(list.size()));
     }
 
     @Override
@@ -328,37 +335,48 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).allMatch(c);
+        return observable.all(c::test)
+                         .toBlocking()
+                         .single();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).anyMatch(c);
+        return observable.exists(c::test)
+                         .toBlocking()
+                         .single();
     }
 
     @Override
     public boolean xMatch(int num, Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).xMatch(num,c);
+        return observable.filter(c::test)
+                         .take(num + 1)
+                         .countLong()
+                         .toBlocking()
+                         .single() == num;
     }
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).noneMatch(c);
+        return !anyMatch(c);
     }
 
     @Override
     public String join() {
-        return Observables.connectToReactiveSeq(observable).join();
+        return join("", "", "");
     }
 
     @Override
     public String join(String sep) {
-        return Observables.connectToReactiveSeq(observable).join(sep);
+        return join(sep, "", "");
     }
 
     @Override
     public String join(String sep, String start, String end) {
-        return Observables.connectToReactiveSeq(observable).join(sep,start,end);
+        return observable.collect(() -> new StringJoiner(sep, start, end), (joiner, next) -> joiner.add(next.toString()))
+                         .toBlocking()
+                         .single()
+                         .toString();
     }
 
     @Override
@@ -388,57 +406,73 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R> R mapReduce(Reducer<R> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(reducer);
+        return reducer.mapReduce(observable.toList().toBlocking().single().stream());
     }
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(mapper,reducer);
+        return observable.<R>map(mapper::apply)
+                         .reduce(reducer.zero(), reducer::apply)
+                         .toBlocking()
+                         .single();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducer);
+        return reduce(reducer.zero(), reducer);
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(accumulator);
+        //reduce without a seed signals an error when empty, the last value of scan is the reduction or nothing
+        return Optional.ofNullable(observable.scan(accumulator::apply)
+                                             .toBlocking()
+                                             .lastOrDefault(null));
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity,accumulator);
+        return observable.reduce(identity, accumulator::apply)
+                         .toBlocking()
+                         .single();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity, accumulator, combiner);
+        return observable.reduce(identity, accumulator::apply)
+                         .toBlocking()
+                         .single();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducers);
+        return Streams.reduce(observable.toList().toBlocking().single().stream(), reducers);
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducers);
+        return Streams.reduce(observable.toList().toBlocking().single().stream(), reducers);
     }
 
     @Override
     public T foldRight(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRight(reducer);
+        return foldRight(reducer.zero(), reducer);
     }
 
     @Override
     public T foldRight(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).foldRight(identity,accumulator);
+        List<T> list = observable.toList().toBlocking().single();
+        T result = identity;
+        for (int i = list.size() - 1; i >= 0; i--)
+            result = accumulator.apply(result, list.get(i));
+        return result;
     }
 
     @Override
     public <T1> T1 foldRightMapToType(Reducer<T1> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRightMapToType(reducer);
+        List<T> list = observable.toList().toBlocking().single();
+        Collections.reverse(list);
+        return reducer.mapReduce(list.stream());
     }
 
     @Override
@@ -529,12 +563,12 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return Observables.connectToReactiveSeq(observable).iterator();
+        return Observables.connectToReactiveSeq(observable, PREFETCH).iterator();
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return Observables.connectToReactiveSeq(observable).spliterator();
+        return Observables.connectToReactiveSeq(observable, PREFETCH).spliterator();
     }
 
     @Override
@@ -684,7 +718,10 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public long count() {
-        return Observables.connectToReactiveSeq(observable).count();
+        //countLong boxes a Long for every element
+        return observable.collect(() -> new long[1], (counter, next) -> counter[0]++)
+                         .toBlocking()
+                         .single()[0];
     }
 
     @Override
@@ -7,7 +7,10 @@ import java.util.function.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import com.aol.cyclops.rx.adapter.BackpressureBridge;
+import com.aol.cyclops.rx.adapter.BackpressureBridge.Overflow;
 import com.aol.cyclops.rx.adapter.ObservableReactiveSeq;
+import com.aol.cyclops.rx.adapter.ObservablePublisher;
 import cyclops.companion.CompletableFutures;
 import cyclops.companion.CompletableFutures.CompletableFutureKind;
 import cyclops.companion.Optionals;
@@ -96,6 +99,46 @@ public class Observables {
 
 
     }
+
+    /**
+     * Convert a ReactiveSeq to an Observable. Downstream demand is forwarded to the ReactiveSeq, asynchronous
+     * ReactiveSeqs that push without regard to demand are buffered up to the supplied capacity, after which the
+     * overflow strategy is applied.
+     *
+     * {@link Overflow#BLOCK} blocks the thread pushing into a full buffer until more elements are requested, so it
+     * deadlocks if the ReactiveSeq pushes on the same thread that requests from the Observable. Only use it when the
+     * ReactiveSeq emits on its own thread.
+     *
+     * <pre>
+     * {@code
+     *   Observable<Integer> obs = Observables.observableFrom(Spouts.async(...), 1024, Overflow.DROP_OLDEST);
+     * }
+     * </pre>
+     *
+     * @param stream ReactiveSeq to convert
+     * @param capacity Maximum number of elements to buffer
+     * @param overflow Strategy to apply when the buffer is full
+     * @return Observable
+     */
+    public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream, int capacity, Overflow overflow){
+        return observableFrom(stream,capacity,overflow,new BackpressureBridge.Metrics());
+    }
+
+    /**
+     * Convert a ReactiveSeq to an Observable with a bounded buffer, recording buffer occupancy in the supplied Metrics
+     *
+     * @see #observableFrom(ReactiveSeq, int, Overflow)
+     * @param stream ReactiveSeq to convert
+     * @param capacity Maximum number of elements to buffer
+     * @param overflow Strategy to apply when the buffer is full
+     * @param metrics Buffer statistics
+     * @return Observable
+     */
+    public static  <T> Observable<T> observableFrom(ReactiveSeq<T> stream, int capacity, Overflow overflow, BackpressureBridge.Metrics metrics){
+        return stream.visit(sync->fromStream(stream),
+                rs->observable(stream),
+                async->BackpressureBridge.observable(stream,capacity,overflow,metrics));
+    }
     public static  <T> Observable<T> fromStream(Stream<T> s){
 
         if(s instanceof  ReactiveSeq) {
@@ -113,6 +156,46 @@ public class Observables {
         }
         return Observable.from(ReactiveSeq.fromStream(s));
     }
+
+    /**
+     * Convert a Stream to an Observable. Asynchronous ReactiveSeqs that push without regard to demand are buffered up
+     * to the supplied capacity, after which the overflow strategy is applied, other Streams are pulled on demand.
+     *
+     * {@link Overflow#BLOCK} blocks the thread pushing into a full buffer until more elements are requested, so it
+     * deadlocks if the ReactiveSeq pushes on the same thread that requests from the Observable. Only use it when the
+     * ReactiveSeq emits on its own thread.
+     *
+     * @see #observableFrom(ReactiveSeq, int, Overflow)
+     * @param s Stream to convert
+     * @param capacity Maximum number of elements to buffer
+     * @param overflow Strategy to apply when the buffer is full
+     * @return Observable
+     */
+    public static  <T> Observable<T> fromStream(Stream<T> s, int capacity, Overflow overflow){
+        return fromStream(s,capacity,overflow,new BackpressureBridge.Metrics());
+    }
+
+    /**
+     * Convert a Stream to an Observable with a bounded buffer, recording buffer occupancy in the supplied Metrics
+     *
+     * @see #fromStream(Stream, int, Overflow)
+     * @param s Stream to convert
+     * @param capacity Maximum number of elements to buffer
+     * @param overflow Strategy to apply when the buffer is full
+     * @param metrics Buffer statistics
+     * @return Observable
+     */
+    public static  <T> Observable<T> fromStream(Stream<T> s, int capacity, Overflow overflow, BackpressureBridge.Metrics metrics){
+
+        if(s instanceof  ReactiveSeq) {
+            ReactiveSeq<T> stream = (ReactiveSeq<T>)s;
+
+            return stream.visit(sync -> Observable.from(stream),
+                    rs -> observable(stream),
+                    async -> BackpressureBridge.observable(stream,capacity,overflow,metrics));
+        }
+        return Observable.from(ReactiveSeq.fromStream(s));
+    }
     public static <W extends WitnessType<W>,T> StreamT<W,T> observablify(StreamT<W,T> nested){
         AnyM<W, Stream<T>> anyM = nested.unwrap();
         AnyM<W, ReactiveSeq<T>> fluxM = anyM.map(s -> {
@@ -182,6 +265,19 @@ public class Observables {
 
     }
 
+    /**
+     * Convert an Observable to a demand-respecting cyclops-react ReactiveSeq. ReactiveSeq demand is forwarded to the
+     * Observable through a bounded prefetch window: prefetch elements are requested up front and replenished as 75% of
+     * them are consumed, so iterating a large Observable uses constant memory.
+     *
+     * @param observable To convert
+     * @param prefetch Maximum number of elements requested from the Observable ahead of ReactiveSeq demand
+     * @return ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> connectToReactiveSeq(Observable<T> observable, int prefetch) {
+        return Spouts.from(new ObservablePublisher<>(observable, prefetch));
+    }
+
 
     /**
      * Convert a Publisher to an observable
@@ -679,9 +775,30 @@ public class Observables {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<observable> FUNCTOR = createFunctor();
+        private static final Pure<observable> UNIT = createUnit();
+        private static final Applicative<observable> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<observable> MONAD = createMonad();
+        private static final MonadZero<observable> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<observable> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<observable> TRAVERSE = createTraverse();
+        private static final Foldable<observable> FOLDABLE = createFoldable();
+        private static final Unfoldable<observable> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<observable> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<observable> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<observable> createDefinitions() {
             return new InstanceDefinitions<observable>() {
 
+                private final Maybe<MonadZero<observable>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<observable>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<observable>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<observable>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<observable>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
 
                 @Override
                 public <T, R> Functor<observable> functor() {
@@ -705,12 +822,12 @@ public class Observables {
 
                 @Override
                 public <T, R> Maybe<MonadZero<observable>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<observable>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -720,12 +837,12 @@ public class Observables {
 
                 @Override
                 public <C2, T> Maybe<Traverse<observable>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<observable>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -735,7 +852,7 @@ public class Observables {
 
                 @Override
                 public <T> Maybe<Unfoldable<observable>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -768,6 +885,9 @@ public class Observables {
          * @return A functor for Observables
          */
         public static <T,R>Functor<observable> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<observable> createFunctor(){
             BiFunction<ObservableKind<T>,Function<? super T, ? extends R>,ObservableKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -787,6 +907,9 @@ public class Observables {
          * @return A factory for Observables
          */
         public static <T> Pure<observable> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<observable> createUnit(){
             return General.<observable,T>unit(Instances::of);
         }
         /**
@@ -826,6 +949,9 @@ public class Observables {
          * @return A zipper for Observables
          */
         public static <T,R> Applicative<observable> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<observable> createZippingApplicative(){
             BiFunction<ObservableKind< Function<T, R>>,ObservableKind<T>,ObservableKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -856,6 +982,9 @@ public class Observables {
          * @return Type class with monad functions for Observables
          */
         public static <T,R> Monad<observable> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<observable> createMonad(){
 
             BiFunction<Higher<observable,T>,Function<? super T, ? extends Higher<observable,R>>,Higher<observable,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -878,6 +1007,9 @@ public class Observables {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<observable> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<observable> createMonadZero(){
             BiFunction<Higher<observable,T>,Predicate<? super T>,Higher<observable,T>> filter = Instances::filter;
             Supplier<Higher<observable, T>> zero = ()-> widen(Observable.empty());
             return General.<observable,T,R>monadZero(monad(), zero,filter);
@@ -895,6 +1027,9 @@ public class Observables {
          * @return Type class for combining Observables by concatenation
          */
         public static <T> MonadPlus<observable> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<observable> createMonadPlus(){
             Monoid<ObservableKind<T>> m = Monoid.of(widen(Observable.<T>empty()), Instances::concat);
             Monoid<Higher<observable,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -928,6 +1063,9 @@ public class Observables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<observable> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<observable> createTraverse(){
             BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) -> {
 
                 Higher<C2,ObservableKind<T>> identity = ap.unit(widen(Observable.empty()));
@@ -963,6 +1101,9 @@ public class Observables {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<observable> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<observable> createFoldable(){
             BiFunction<Monoid<T>,Higher<observable,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromPublisher(ObservableKind.narrowK(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<observable,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromPublisher(ObservableKind.narrowK(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -990,6 +1131,9 @@ public class Observables {
             return widen(ObservableKind.narrow(lt).filter(in->fn.test(in)));
         }
         public static Unfoldable<observable> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<observable> createUnfoldable(){
             return new Unfoldable<observable>() {
                 @Override
                 public <R, T> Higher<observable, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
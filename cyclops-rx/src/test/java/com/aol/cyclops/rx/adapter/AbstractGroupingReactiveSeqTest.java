@@ -0,0 +1,114 @@
+package com.aol.cyclops.rx.adapter;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Checks the grouping, splitting and zipping operators of a ReactiveSeq adapter against Spouts, for every source length
+ * up to 12
+ */
+public abstract class AbstractGroupingReactiveSeqTest {
+
+    public abstract ReactiveSeq<Integer> fromIterable(Iterable<Integer> values);
+
+    private static List<Integer> range(int end){
+        List<Integer> list = new ArrayList<>();
+        for(int i=0;i<end;i++)
+            list.add(i);
+        return list;
+    }
+
+    private void sameAsSpouts(String operator, Function<ReactiveSeq<Integer>, ?> op){
+        for(int n=0;n<=12;n++){
+            List<Integer> values = range(n);
+            assertThat(operator + " of " + values, op.apply(fromIterable(values)),
+                       equalTo(op.apply(Spouts.fromIterable(values))));
+        }
+    }
+
+    @Test
+    public void groupedWhile(){
+        for(int m=1;m<=4;m++){
+            int mod = m;
+            sameAsSpouts("groupedWhile", s->s.groupedWhile(i->i%mod!=0).toListX());
+            sameAsSpouts("groupedWhile to TreeSet", s->s.groupedWhile(i->i%mod!=0,TreeSet::new).toListX());
+        }
+    }
+
+    @Test
+    public void groupedUntil(){
+        for(int m=1;m<=4;m++){
+            int mod = m;
+            sameAsSpouts("groupedUntil", s->s.groupedUntil(i->i%mod==0).toListX());
+            sameAsSpouts("groupedUntil to TreeSet", s->s.groupedUntil(i->i%mod==0,TreeSet::new).toListX());
+        }
+    }
+
+    @Test
+    public void groupedStatefully(){
+        for(int m=1;m<=4;m++){
+            int size = m;
+            sameAsSpouts("groupedStatefullyWhile", s->s.groupedStatefullyWhile((b,i)->b.size()>=size).toListX());
+            sameAsSpouts("groupedStatefullyUntil", s->s.groupedStatefullyUntil((b,i)->b.size()<size).toListX());
+            sameAsSpouts("groupedStatefullyWhile finalized",
+                         s->s.groupedStatefullyWhile((List<Integer> b,Integer i)->b.size()>=size,ArrayList::new,List::size).toListX());
+            sameAsSpouts("groupedStatefullyUntil finalized",
+                         s->s.groupedStatefullyUntil((List<Integer> b,Integer i)->b.size()<size,ArrayList::new,List::size).toListX());
+        }
+    }
+
+    @Test
+    public void splitAt(){
+        for(int at=0;at<=13;at++){
+            int index = at;
+            sameAsSpouts("splitAt", s->s.splitAt(index).map((a,b)->Tuple.tuple(a.toListX(),b.toListX())));
+        }
+    }
+
+    @Test
+    public void splitByAndPartition(){
+        for(int at=0;at<=13;at++){
+            int bound = at;
+            sameAsSpouts("splitBy", s->s.splitBy(i->i<bound).map((a,b)->Tuple.tuple(a.toListX(),b.toListX())));
+            sameAsSpouts("partition", s->s.partition(i->i%(bound+1)==0).map((a,b)->Tuple.tuple(a.toListX(),b.toListX())));
+        }
+    }
+
+    @Test
+    public void splitAtHead(){
+        sameAsSpouts("splitAtHead", s->s.splitAtHead().map((a,b)->Tuple.tuple(a,b.toListX())));
+    }
+
+    @Test
+    public void zip3AndZip4(){
+        List<String> letters = Arrays.asList("a","b","c","d","e");
+        sameAsSpouts("zip3", s->s.zip3(letters,ListX.of(1.0,2.0,3.0,4.0,5.0,6.0,7.0)).toListX());
+        sameAsSpouts("zip4", s->s.zip4(letters,ReactiveSeq.range(0,8),Spouts.of('x','y','z','w','q','r')).toListX());
+    }
+
+    @Test
+    public void groupingStateIsPerSubscription(){
+        ReactiveSeq<Integer> values = fromIterable(range(10));
+        ReactiveSeq<ListX<Integer>> grouped = values.groupedUntil(i->i%3==2);
+        ReactiveSeq<Integer> sizes = values.groupedStatefullyUntil((List<Integer> b,Integer i)->b.size()<4,ArrayList::new,List::size);
+        ListX<ListX<Integer>> expected = ListX.of(ListX.of(0,1,2),ListX.of(3,4,5),ListX.of(6,7,8),ListX.of(9));
+
+        assertThat(grouped.limit(1).toListX(),equalTo(ListX.of(ListX.of(0,1,2))));
+        assertThat(grouped.toListX(),equalTo(expected));
+        assertThat(grouped.toListX(),equalTo(expected));
+        assertThat(sizes.toListX(),equalTo(ListX.of(4,4,2)));
+        assertThat(sizes.toListX(),equalTo(ListX.of(4,4,2)));
+    }
+}
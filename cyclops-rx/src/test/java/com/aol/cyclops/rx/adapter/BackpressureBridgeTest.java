@@ -0,0 +1,174 @@
+package com.aol.cyclops.rx.adapter;
+
+import com.aol.cyclops.rx.adapter.BackpressureBridge.Metrics;
+import com.aol.cyclops.rx.adapter.BackpressureBridge.Overflow;
+import cyclops.collections.mutable.ListX;
+import cyclops.companion.rx.Observables;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import rx.exceptions.MissingBackpressureException;
+import rx.observers.TestSubscriber;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class BackpressureBridgeTest {
+
+    /**
+     * Publisher that pushes all its values as soon as it is subscribed to, ignoring demand
+     */
+    private Publisher<Integer> pushing(int count){
+        return s->{
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            for(int i=0;i<count;i++)
+                s.onNext(i);
+            s.onComplete();
+        };
+    }
+
+    @Test
+    public void demandForwardedToHonouringPublisher(){
+        Metrics metrics = new Metrics();
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.observable(Spouts.range(0,100),4,Overflow.ERROR,metrics)
+                          .subscribe(sub);
+        sub.assertNoValues();
+        for(int i=0;i<25;i++)
+            sub.requestMore(4);
+        sub.assertNoErrors();
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.range(0,100)));
+        assertThat(metrics.getDropped(),equalTo(0l));
+        assertThat(metrics.getHighWaterMark(),lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void dropLatest(){
+        Metrics metrics = new Metrics();
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.observable(pushing(100),10,Overflow.DROP_LATEST,metrics)
+                          .subscribe(sub);
+        assertThat(metrics.getOccupancy(),equalTo(10));
+        sub.requestMore(Long.MAX_VALUE);
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.range(0,10)));
+        assertThat(metrics.getReceived(),equalTo(100l));
+        assertThat(metrics.getDropped(),equalTo(90l));
+        assertThat(metrics.getEmitted(),equalTo(10l));
+        assertThat(metrics.getHighWaterMark(),equalTo(10));
+        assertThat(metrics.getOccupancy(),equalTo(0));
+    }
+
+    @Test
+    public void dropOldest(){
+        Metrics metrics = new Metrics();
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.observable(pushing(100),10,Overflow.DROP_OLDEST,metrics)
+                          .subscribe(sub);
+        sub.requestMore(Long.MAX_VALUE);
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.range(90,100)));
+        assertThat(metrics.getDropped(),equalTo(90l));
+        assertThat(metrics.getHighWaterMark(),equalTo(10));
+    }
+
+    @Test
+    public void error(){
+        Metrics metrics = new Metrics();
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.observable(pushing(100),10,Overflow.ERROR,metrics)
+                          .subscribe(sub);
+        sub.assertError(MissingBackpressureException.class);
+        sub.assertNoValues();
+        assertThat(metrics.getOccupancy(),equalTo(0));
+    }
+
+    @Test
+    public void blockBoundsBufferWithoutLoss(){
+        Metrics metrics = new Metrics();
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.<Integer>observable(s->new Thread(()->pushing(1000).subscribe(s)).start(),8,Overflow.BLOCK,metrics)
+                          .subscribe(sub);
+        for(int i=0;i<100;i++)
+            sub.requestMore(10);
+        sub.awaitTerminalEvent(10, TimeUnit.SECONDS);
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.range(0,1000)));
+        assertThat(metrics.getDropped(),equalTo(0l));
+        assertThat(metrics.getHighWaterMark(),lessThanOrEqualTo(8));
+    }
+
+    @Test
+    public void unsubscribeCancelsUpstream(){
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        BackpressureBridge.observable(Spouts.range(0,100),10,Overflow.ERROR,new Metrics())
+                          .take(5)
+                          .subscribe(sub);
+        sub.requestMore(100);
+        sub.assertCompleted();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.range(0,5)));
+    }
+
+    @Test
+    public void asyncReactiveSeq(){
+        Metrics metrics = new Metrics();
+        ReactiveSeq<Integer> async = Spouts.async(s->{
+            new Thread(()->{
+                for(int i=0;i<1000;i++)
+                    s.onNext(i);
+                s.onComplete();
+            }).start();
+        });
+        assertThat(Observables.observableFrom(async,16,Overflow.BLOCK,metrics)
+                              .toList()
+                              .toBlocking()
+                              .single(),equalTo(ListX.range(0,1000)));
+        assertThat(metrics.getHighWaterMark(),lessThanOrEqualTo(16));
+    }
+
+    @Test
+    public void fromStreamBoundsAsyncReactiveSeq(){
+        Metrics metrics = new Metrics();
+        ReactiveSeq<Integer> async = Spouts.async(s->{
+            new Thread(()->{
+                for(int i=0;i<1000;i++)
+                    s.onNext(i);
+                s.onComplete();
+            }).start();
+        });
+        assertThat(Observables.fromStream(async,16,Overflow.BLOCK,metrics)
+                              .toList()
+                              .toBlocking()
+                              .single(),equalTo(ListX.range(0,1000)));
+        assertThat(metrics.getReceived(),equalTo(1000l));
+        assertThat(metrics.getHighWaterMark(),lessThanOrEqualTo(16));
+    }
+
+    @Test
+    public void fromStreamPullsOtherStreams(){
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        Observables.fromStream(Stream.of(1,2,3,4),1,Overflow.ERROR)
+                   .subscribe(sub);
+        sub.requestMore(2);
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.of(1,2)));
+        sub.requestMore(2);
+        sub.assertCompleted();
+        sub.assertNoErrors();
+        assertThat(sub.getOnNextEvents(),equalTo(ListX.of(1,2,3,4)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.rx.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import rx.Observable;
+
+/**
+ * Runs the grouping operator checks against ObservableReactiveSeq
+ */
+public class GroupingObservableReactiveSeqTest extends AbstractGroupingReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> fromIterable(Iterable<Integer> values){
+        return new ObservableReactiveSeq<>(Observable.from(values));
+    }
+}
@@ -0,0 +1,80 @@
+package com.aol.cyclops.rx.adapter;
+
+import cyclops.companion.rx.Observables;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class ObservablePublisherTest {
+
+    @Test
+    public void iteratorBoundsOutstandingDemand(){
+        AtomicLong requested = new AtomicLong();
+        AtomicLong consumed = new AtomicLong();
+        AtomicLong maxOutstanding = new AtomicLong();
+        Observable<Integer> range = Observable.range(0, 1_000_000)
+                                              .doOnRequest(requested::addAndGet);
+
+        Iterator<Integer> it = Observables.connectToReactiveSeq(range, 64).iterator();
+        long sum = 0;
+        while(it.hasNext()){
+            sum += it.next();
+            maxOutstanding.accumulateAndGet(requested.get() - consumed.incrementAndGet(), Math::max);
+        }
+
+        assertThat(consumed.get(), equalTo(1_000_000l));
+        assertThat(sum, equalTo(499999500000l));
+        assertThat(maxOutstanding.get(), lessThanOrEqualTo(64l));
+    }
+
+    @Test
+    public void partialIterationRequestsOnlyPrefetch(){
+        AtomicLong requested = new AtomicLong();
+        Observable<Integer> range = Observable.range(0, 1_000_000)
+                                              .doOnRequest(requested::addAndGet);
+
+        Iterator<Integer> it = Observables.connectToReactiveSeq(range, 16).iterator();
+        for(int i=0;i<10;i++)
+            assertThat(it.next(), equalTo(i));
+
+        assertThat(requested.get(), lessThanOrEqualTo(32l));
+    }
+
+    @Test
+    public void nullsPassThrough(){
+        ReactiveSeq<Integer> seq = Observables.connectToReactiveSeq(Observable.just(1, null, 3), 2);
+        assertThat(seq.toList(), equalTo(Arrays.asList(1, null, 3)));
+    }
+
+    @Test
+    public void errorsPropagate(){
+        Iterator<Integer> it = Observables.connectToReactiveSeq(Observable.<Integer>error(new IllegalStateException("boom")), 8)
+                                          .iterator();
+        try {
+            it.hasNext();
+            it.next();
+        }catch(IllegalStateException e){
+            assertThat(e.getMessage(), equalTo("boom"));
+            return;
+        }
+        throw new AssertionError("Expected error");
+    }
+
+    @Test
+    public void observableReactiveSeqIterator(){
+        Iterator<Integer> it = Observables.reactiveSeq(Observable.range(0, 100_000)).iterator();
+        int count = 0;
+        while(it.hasNext()){
+            assertThat(it.next(), equalTo(count++));
+        }
+        assertThat(count, equalTo(100_000));
+    }
+}
@@ -0,0 +1,46 @@
+package com.aol.cyclops.rx.hkt.typeclasses.instances;
+
+import cyclops.companion.rx.Observables;
+import cyclops.companion.rx.RxInstances;
+import cyclops.monads.RxWitness.observable;
+import cyclops.monads.Witness;
+import cyclops.typeclasses.InstanceDefinitions;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void everyInstanceIsAvailable(){
+        InstanceDefinitions<observable> defs = Observables.Instances.definitions();
+
+        assertThat(defs.functor(), notNullValue());
+        assertThat(defs.unit(), notNullValue());
+        assertThat(defs.applicative(), notNullValue());
+        assertThat(defs.monad(), notNullValue());
+        defs.monadZero().forEach(i -> assertThat(i, notNullValue()));
+        defs.monadPlus().forEach(i -> assertThat(i.monoid(), notNullValue()));
+        defs.traverse().forEach(i -> assertThat(i, notNullValue()));
+        defs.foldable().forEach(i -> assertThat(i, notNullValue()));
+        defs.comonad().forEach(i -> assertThat(i, notNullValue()));
+        defs.unfoldable().forEach(i -> assertThat(i, notNullValue()));
+    }
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Observables.Instances.definitions(), sameInstance(Observables.Instances.definitions()));
+        assertThat(Observables.Instances.definitions().monadPlus().get(), sameInstance(Observables.Instances.monadPlus()));
+        assertThat(Observables.Instances.definitions().unfoldable().get(), sameInstance(Observables.Instances.unfoldable()));
+        assertThat(Observables.Instances.functor(), sameInstance(Observables.Instances.functor()));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(RxInstances.definitions(observable.INSTANCE).get(), sameInstance(Observables.Instances.definitions()));
+        assertFalse(RxInstances.definitions(Witness.list.INSTANCE).isPresent());
+    }
+}
@@ -5,6 +5,7 @@ import com.aol.cyclops2.types.stream.HeadAndTail;
 import com.aol.cyclops2.types.traversable.Traversable;
 import cyclops.collections.immutable.VectorX;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Streams;
 import cyclops.companion.rx2.Functions;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
@@ -17,7 +18,9 @@ import cyclops.monads.transformers.ListT;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
@@ -126,24 +129,84 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         return Spouts.from(flowable).quadruplicate(bufferFactory).map((s1, s2, s3, s4)->Tuple.tuple(flux(s1),flux(s2),flux(s3),flux(s4)));
     }
 
+    /**
+     * Split this ReactiveSeq into two copies that share a single buffer of at most bufferSize elements, rather than
+     * the unbounded buffer per copy used by {@link #duplicate()}. The Flowable is subscribed to once both copies have
+     * been subscribed to, and is read no faster than the slowest copy consumes it, so the copies must be consumed
+     * concurrently : use {@link #duplicate()} to consume one copy after the other.
+     *
+     * @param bufferSize Maximum number of elements held for the slowest copy
+     * @return Two copies of this ReactiveSeq
+     */
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicate(int bufferSize) {
+        Flowable<T> shared = multicast(2,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared));
+    }
+
+    /**
+     * Split this ReactiveSeq into two copies that share a single buffer of at most bufferSize elements, where a copy
+     * that falls behind drops the elements it has not requested rather than holding back the other copy. Suited to
+     * telemetry style fan-out, where a slow consumer should miss elements rather than stall the source.
+     *
+     * @see #duplicate(int)
+     * @param bufferSize Maximum number of elements held between the Flowable and the copies
+     * @return Two lossy copies of this ReactiveSeq
+     */
+    public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> duplicateLossy(int bufferSize) {
+        Flowable<T> shared = multicast(2,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicate(int)
+     */
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicate(int bufferSize) {
+        Flowable<T> shared = multicast(3,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicateLossy(int)
+     */
+    public Tuple3<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> triplicateLossy(int bufferSize) {
+        Flowable<T> shared = multicast(3,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicate(int)
+     */
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicate(int bufferSize) {
+        Flowable<T> shared = multicast(4,bufferSize,false);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared),flux(shared));
+    }
+
+    /**
+     * @see #duplicateLossy(int)
+     */
+    public Tuple4<ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>, ReactiveSeq<T>> quadruplicateLossy(int bufferSize) {
+        Flowable<T> shared = multicast(4,bufferSize,true);
+        return Tuple.tuple(flux(shared),flux(shared),flux(shared),flux(shared));
+    }
+
     @Override
     public Tuple2<Optional<T>, ReactiveSeq<T>> splitAtHead() {
-        return Spouts.from(flowable).splitAtHead().map((s1, s2)->Tuple.tuple(s1,flux(s2)));
+        return splitAt(1).map((s1, s2)->Tuple.tuple(s1.findFirst(),s2));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitAt(int where) {
-        return Spouts.from(flowable).splitAt(where).map((s1, s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1, s2)->Tuple.tuple(s1.limit(where),s2.skip(where)));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> splitBy(Predicate<T> splitter) {
-        return Spouts.from(flowable).splitBy(splitter).map((s1, s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1, s2)->Tuple.tuple(s1.limitWhile(splitter),s2.skipWhile(splitter)));
     }
 
     @Override
     public Tuple2<ReactiveSeq<T>, ReactiveSeq<T>> partition(Predicate<? super T> splitter) {
-        return Spouts.from(flowable).partition(splitter).map((s1, s2)->Tuple.tuple(flux(s1),flux(s2)));
+        return duplicate().map((s1, s2)->Tuple.tuple(s1.filter(splitter),s2.filter(splitter.negate())));
     }
 
     @Override
@@ -156,13 +219,12 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <S, U> ReactiveSeq<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b));
+        return flux(Flowable.<T,S,U,Tuple3<T,S,U>>zip(flowable,publisher(second),publisher(third),Tuple::tuple));
     }
 
     @Override
     public <T2, T3, T4> ReactiveSeq<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
-        return zip(second,Tuple::tuple).zip(third,(a,b)->Tuple.tuple(a.v1,a.v2,b))
-                .zip(fourth,(a,b)->(Tuple4<T,T2,T3,T4>)Tuple.tuple(a.v1,a.v2,a.v3,b));
+        return flux(Flowable.<T,T2,T3,T4,Tuple4<T,T2,T3,T4>>zip(flowable,publisher(second),publisher(third),publisher(fourth),Tuple::tuple));
     }
 
     @Override
@@ -177,22 +239,22 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyUntil(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flowable).groupedStatefullyUntil(predicate));
+        return flux(batchUntil(ListX::<T>of,(batch, next)->!predicate.test(batch,next),Function.identity()));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyUntil(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flowable).groupedStatefullyUntil(predicate,factory,finalizer));
+        return flux(batchUntil(factory,(batch, next)->!predicate.test(batch,next),finalizer));
     }
 
     @Override
     public ReactiveSeq<ListX<T>> groupedStatefullyWhile(BiPredicate<ListX<? super T>, ? super T> predicate) {
-        return flux(Spouts.from(flowable).groupedStatefullyWhile(predicate));
+        return flux(batchUntil(ListX::<T>of,predicate::test,Function.identity()));
     }
 
     @Override
     public <C extends Collection<T>, R> ReactiveSeq<R> groupedStatefullyWhile(BiPredicate<C, ? super T> predicate, Supplier<C> factory, Function<? super C, ? extends R> finalizer) {
-        return flux(Spouts.from(flowable).groupedStatefullyWhile(predicate,factory,finalizer));
+        return flux(batchUntil(factory,predicate,finalizer));
     }
 
     @Override
@@ -232,12 +294,12 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<ListX<T>> groupedWhile(Predicate<? super T> predicate) {
-        return flux(Spouts.from(flowable).groupedWhile(predicate));
+        return flux(batchUntil(ListX::<T>of,(batch, next)->!predicate.test(next),Function.identity()));
     }
 
     @Override
     public <C extends Collection<? super T>> ReactiveSeq<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
-        return flux(Spouts.from(flowable).groupedWhile(predicate,factory));
+        return flux(batchUntil(factory,(batch, next)->!predicate.test(next),Function.identity()));
     }
 
     @Override
@@ -263,22 +325,23 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Spouts.from(flowable).forEach(action);
+        flowable.doOnNext(action::accept).ignoreElements().blockingAwait();
     }
 
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        Spouts.from(flowable).forEachOrdered(action);
+        flowable.doOnNext(action::accept).ignoreElements().blockingAwait();
     }
 
     @Override
     public Object[] toArray() {
-        return Spouts.from(flowable).toArray();
+        return flowable.toList().blockingGet().toArray();
     }
 
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return Spouts.from(flowable).toArray(generator);
+        List<T> list = flowable.toList().blockingGet();
+        return list.toArray(generator.apply(list.size()));
     }
 
     @Override
@@ -310,44 +373,69 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         return flux(flowable.takeUntil(Functions.rxPredicate(p)));
     }
 
+    /**
+     * Execute subsequent map / filter / flatMap stages and reductions in parallel on the computation Scheduler,
+     * joining results back in source order.
+     *
+     * @see #parallel(Scheduler, int)
+     */
     @Override
     public ReactiveSeq<T> parallel() {
-        return this;
+        return parallel(Schedulers.computation());
+    }
+
+    public ParallelFlowableReactiveSeq<T> parallel(Scheduler scheduler) {
+        return parallel(scheduler, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Execute subsequent map / filter / flatMap stages and reductions in parallel on the supplied Scheduler. Results are
+     * joined in source order at the first non-parallel operator or terminal operation, call {@link ReactiveSeq#unordered()}
+     * on the returned ReactiveSeq to merge results back as they complete instead.
+     *
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements to process concurrently
+     * @return Parallel ReactiveSeq
+     */
+    public ParallelFlowableReactiveSeq<T> parallel(Scheduler scheduler, int parallelism) {
+        return ParallelFlowableReactiveSeq.ordered(flowable, scheduler, parallelism);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Spouts.from(flowable).allMatch(c);
+        return flowable.all(c::test).blockingGet();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Spouts.from(flowable).anyMatch(c);
+        return flowable.any(c::test).blockingGet();
     }
 
     @Override
     public boolean xMatch(int num, Predicate<? super T> c) {
-        return Spouts.from(flowable).xMatch(num,c);
+        return flowable.filter(c::test).take(num + 1).count().blockingGet() == num;
     }
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Spouts.from(flowable).noneMatch(c);
+        return !anyMatch(c);
     }
 
     @Override
     public String join() {
-        return Spouts.from(flowable).join();
+        return join("", "", "");
     }
 
     @Override
     public String join(String sep) {
-        return Spouts.from(flowable).join(sep);
+        return join(sep, "", "");
     }
 
     @Override
     public String join(String sep, String start, String end) {
-        return Spouts.from(flowable).join(sep,start,end);
+        return flowable.collect(() -> new StringJoiner(sep, start, end), (joiner, next) -> joiner.add(next.toString()))
+                       .blockingGet()
+                       .toString();
     }
 
     @Override
@@ -357,7 +445,7 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findFirst() {
-        return Spouts.from(flowable).findFirst();
+        return Optional.ofNullable(flowable.firstElement().blockingGet());
     }
 
     @Override
@@ -372,62 +460,68 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findAny() {
-        return Spouts.from(flowable).findAny();
+        return findFirst();
     }
 
     @Override
     public <R> R mapReduce(Reducer<R> reducer) {
-        return Spouts.from(flowable).mapReduce(reducer);
+        return reducer.mapReduce(flowable.toList().blockingGet().stream());
     }
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Spouts.from(flowable).mapReduce(mapper,reducer);
+        return flowable.<R>map(mapper::apply).reduce(reducer.zero(), reducer::apply).blockingGet();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Spouts.from(flowable).reduce(reducer);
+        return flowable.reduce(reducer.zero(), reducer::apply).blockingGet();
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Spouts.from(flowable).reduce(accumulator);
+        return Optional.ofNullable(flowable.reduce(accumulator::apply).blockingGet());
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flowable).reduce(identity,accumulator);
+        return flowable.reduce(identity, accumulator::apply).blockingGet();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Spouts.from(flowable).reduce(identity, accumulator, combiner);
+        return flowable.reduce(identity, accumulator::apply).blockingGet();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Spouts.from(flowable).reduce(reducers);
+        return Streams.reduce(flowable.toList().blockingGet().stream(), reducers);
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Spouts.from(flowable).reduce(reducers);
+        return Streams.reduce(flowable.toList().blockingGet().stream(), reducers);
     }
 
     @Override
     public T foldRight(Monoid<T> reducer) {
-        return Spouts.from(flowable).foldRight(reducer);
+        return foldRight(reducer.zero(), reducer);
     }
 
     @Override
     public T foldRight(T identity, BinaryOperator<T> accumulator) {
-        return Spouts.from(flowable).foldRight(identity,accumulator);
+        List<T> list = flowable.toList().blockingGet();
+        T result = identity;
+        for (int i = list.size() - 1; i >= 0; i--)
+            result = accumulator.apply(result, list.get(i));
+        return result;
     }
 
     @Override
     public <T1> T1 foldRightMapToType(Reducer<T1> reducer) {
-        return Spouts.from(flowable).foldRightMapToType(reducer);
+        List<T> list = flowable.toList().blockingGet();
+        Collections.reverse(list);
+        return reducer.mapReduce(list.stream());
     }
 
     @Override
@@ -528,6 +622,45 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         return flowable.blockingIterable().spliterator();
     }
 
+    /**
+     * Iterate over the Flowable keeping up to prefetch elements requested ahead of the consumer, topping demand back up
+     * once three quarters of it has been consumed.
+     *
+     * @see #iterator(int, int)
+     */
+    public BatchingIterator<T> iterator(int prefetch) {
+        return iterator(prefetch, prefetch / 4);
+    }
+
+    /**
+     * Iterate over the Flowable in batches. Up to prefetch elements are requested ahead of the consumer, and demand is
+     * topped back up once the elements requested but not yet consumed fall to lowWatermark. Each refill hands every
+     * element delivered so far to the consumer at once, and {@link BatchingIterator#nextBatch(int)} pulls them in
+     * chunks.
+     *
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWatermark Number of outstanding elements at which to request more, from 0 (refill only once every
+     *                     requested element has been consumed) to prefetch - 1 (refill after every element)
+     * @return Batching Iterator subscribed to the Flowable
+     */
+    public BatchingIterator<T> iterator(int prefetch, int lowWatermark) {
+        BatchingIterator<T> iterator = new BatchingIterator<>(prefetch, lowWatermark);
+        flowable.subscribe(iterator);
+        return iterator;
+    }
+
+    /**
+     * Spliterator over the Flowable that pulls elements in batches, as {@link #iterator(int, int)} does. trySplit hands
+     * out the next prefetched batch, so the elements can be processed by a parallel java.util.stream pipeline.
+     *
+     * @param prefetch Maximum number of elements requested ahead of the consumer
+     * @param lowWatermark Number of outstanding elements at which to request more
+     * @return Batching Spliterator subscribed to the Flowable
+     */
+    public Spliterator<T> spliterator(int prefetch, int lowWatermark) {
+        return iterator(prefetch, lowWatermark);
+    }
+
     @Override
     public boolean isParallel() {
         return false;
@@ -675,7 +808,7 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public long count() {
-        return Spouts.from(flowable).count();
+        return flowable.count().blockingGet();
     }
 
     @Override
@@ -842,4 +975,41 @@ public class FlowableReactiveSeq<T> implements ReactiveSeq<T> {
         this.flowable.subscribe(a->action.accept(a));
     }
 
+    /**
+     * Batch elements with a filter and map pair that share the open batch, emitting it after each element that closes
+     * it and any remaining elements when the Flowable completes.
+     */
+    private <C extends Collection<? super T>, R> Flowable<R> batchUntil(Supplier<C> factory, BiPredicate<? super C, ? super T> closes,
+                                                                       Function<? super C, ? extends R> finalizer) {
+        return Flowable.defer(()->{
+            Object[] batch = {factory.get()};
+            return flowable.filter(next->{
+                                C current = (C)batch[0];
+                                current.add(next);
+                                return closes.test(current,next);
+                            })
+                           .<R>map(next->{
+                                C full = (C)batch[0];
+                                batch[0] = factory.get();
+                                return finalizer.apply(full);
+                            })
+                           .concatWith(Flowable.defer(()->{
+                                C rest = (C)batch[0];
+                                return rest.isEmpty() ? Flowable.<R>empty() : Flowable.<R>just(finalizer.apply(rest));
+                            }));
+        });
+    }
+
+    /**
+     * Share the Flowable between copies through publish's fixed size buffer, connecting once every copy has
+     * subscribed. Lossy copies request everything from the buffer and drop what their own subscriber has not requested.
+     */
+    private Flowable<T> multicast(int copies, int bufferSize, boolean lossy) {
+        Flowable<T> shared = flowable.publish(bufferSize).autoConnect(copies);
+        return lossy ? shared.onBackpressureDrop() : shared;
+    }
+
+    private static <U> Publisher<U> publisher(Iterable<U> iterable){
+        return iterable instanceof Publisher ? (Publisher<U>)iterable : Flowable.fromIterable(iterable);
+    }
 }
@@ -5,6 +5,7 @@ import com.aol.cyclops2.types.stream.HeadAndTail;
 import com.aol.cyclops2.types.traversable.Traversable;
 import cyclops.collections.immutable.VectorX;
 import cyclops.collections.mutable.ListX;
+import cyclops.companion.Streams;
 import cyclops.companion.rx2.Observables;
 import cyclops.control.Maybe;
 import cyclops.control.lazy.Either;
@@ -26,6 +27,8 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 
 
 import java.util.*;
@@ -268,22 +271,23 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEach(action);
+        observable.doOnNext(action::accept).ignoreElements().blockingAwait();
     }
 
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEachOrdered(action);
+        observable.doOnNext(action::accept).ignoreElements().blockingAwait();
     }
 
     @Override
     public Object[] toArray() {
-        return Observables.connectToReactiveSeq(observable).toArray();
+        return observable.toList().blockingGet().toArray();
     }
 
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return Observables.connectToReactiveSeq(observable).toArray(generator);
+        List<T> list = observable.toList().blockingGet();
+        return list.toArray(generator.apply(list.size()));
     }
 
     @Override
@@ -315,44 +319,69 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
         return observable(observable.takeUntil((T t)->p.test(t)));
     }
 
+    /**
+     * Execute subsequent map / filter / flatMap stages and reductions in parallel on the computation Scheduler,
+     * joining results back in source order.
+     *
+     * @see #parallel(Scheduler, int)
+     */
     @Override
     public ReactiveSeq<T> parallel() {
-        return this;
+        return parallel(Schedulers.computation());
+    }
+
+    public ParallelObservableReactiveSeq<T> parallel(Scheduler scheduler) {
+        return parallel(scheduler, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Execute subsequent map / filter / flatMap stages and reductions in parallel on the supplied Scheduler. Results are
+     * joined in source order at the first non-parallel operator or terminal operation, call {@link ReactiveSeq#unordered()}
+     * on the returned ReactiveSeq to merge results back as they complete instead.
+     *
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements to process concurrently
+     * @return Parallel ReactiveSeq
+     */
+    public ParallelObservableReactiveSeq<T> parallel(Scheduler scheduler, int parallelism) {
+        return ParallelObservableReactiveSeq.parallel(observable, scheduler, parallelism, true);
     }
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).allMatch(c);
+        return observable.all(c::test).blockingGet();
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).anyMatch(c);
+        return observable.any(c::test).blockingGet();
     }
 
     @Override
     public boolean xMatch(int num, Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).xMatch(num,c);
+        return observable.filter(c::test).take(num + 1).count().blockingGet() == num;
     }
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).noneMatch(c);
+        return !anyMatch(c);
     }
 
     @Override
     public String join() {
-        return Observables.connectToReactiveSeq(observable).join();
+        return join("", "", "");
     }
 
     @Override
     public String join(String sep) {
-        return Observables.connectToReactiveSeq(observable).join(sep);
+        return join(sep, "", "");
     }
 
     @Override
     public String join(String sep, String start, String end) {
-        return Observables.connectToReactiveSeq(observable).join(sep,start,end);
+        return observable.collect(() -> new StringJoiner(sep, start, end), (joiner, next) -> joiner.add(next.toString()))
+                         .blockingGet()
+                         .toString();
     }
 
     @Override
@@ -362,7 +391,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findFirst() {
-        return Observables.connectToReactiveSeq(observable).findFirst();
+        return Optional.ofNullable(observable.firstElement().blockingGet());
     }
 
     @Override
@@ -377,62 +406,68 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Optional<T> findAny() {
-        return Observables.connectToReactiveSeq(observable).findAny();
+        return findFirst();
     }
 
     @Override
     public <R> R mapReduce(Reducer<R> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(reducer);
+        return reducer.mapReduce(observable.toList().blockingGet().stream());
     }
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(mapper,reducer);
+        return observable.<R>map(mapper::apply).reduce(reducer.zero(), reducer::apply).blockingGet();
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducer);
+        return observable.reduce(reducer.zero(), reducer::apply).blockingGet();
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(accumulator);
+        return Optional.ofNullable(observable.reduce(accumulator::apply).blockingGet());
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity,accumulator);
+        return observable.reduce(identity, accumulator::apply).blockingGet();
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity, accumulator, combiner);
+        return observable.reduce(identity, accumulator::apply).blockingGet();
     }
 
     @Override
     public ListX<T> reduce(Stream<? extends Monoid<T>> reducers) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducers);
+        return Streams.reduce(observable.toList().blockingGet().stream(), reducers);
     }
 
     @Override
     public ListX<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducers);
+        return Streams.reduce(observable.toList().blockingGet().stream(), reducers);
     }
 
     @Override
     public T foldRight(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRight(reducer);
+        return foldRight(reducer.zero(), reducer);
     }
 
     @Override
     public T foldRight(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).foldRight(identity,accumulator);
+        List<T> list = observable.toList().blockingGet();
+        T result = identity;
+        for (int i = list.size() - 1; i >= 0; i--)
+            result = accumulator.apply(result, list.get(i));
+        return result;
     }
 
     @Override
     public <T1> T1 foldRightMapToType(Reducer<T1> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRightMapToType(reducer);
+        List<T> list = observable.toList().blockingGet();
+        Collections.reverse(list);
+        return reducer.mapReduce(list.stream());
     }
 
     @Override
@@ -678,7 +713,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public long count() {
-        return Observables.connectToReactiveSeq(observable).count();
+        return observable.count().blockingGet();
     }
 
     @Override
@@ -0,0 +1,201 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.companion.rx2.Functions;
+import cyclops.function.Monoid;
+import cyclops.monads.AnyM;
+import cyclops.monads.Witness.stream;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.parallel.ParallelFlowable;
+import org.reactivestreams.Publisher;
+
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A FlowableReactiveSeq that executes map / filter / flatMap stages and reductions in parallel on an RxJava Scheduler.
+ *
+ * In ordered mode (the default) the parallel stages are fused per source element and run on the Scheduler via
+ * {@link Flowable#concatMapEager(io.reactivex.functions.Function, int, int)}, so results are joined in source order.
+ * Reductions fan batches of the source out across the Scheduler and combine the partial results in source order, so
+ * any associative accumulator gives the same result as a sequential reduction.
+ *
+ * In unordered mode the Flowable is railed out to a {@link ParallelFlowable} and rails are merged back with
+ * {@link ParallelFlowable#sequential()} as results complete.
+ *
+ * All other operators (and terminal operations) apply to the joined Flowable.
+ *
+ * <pre>
+ * {@code
+ *   Flowables.range(0,1000)
+ *            .parallel(Schedulers.computation())
+ *            .map(this::enrich)
+ *            .filter(this::valid)
+ *            .toListX();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in this Stream
+ */
+public class ParallelFlowableReactiveSeq<T> extends FlowableReactiveSeq<T> {
+
+    private final Flowable<Object> source;
+    private final Function<Object, Flowable<T>> stages;
+    private final ParallelFlowable<T> rails;
+    private final Scheduler scheduler;
+    private final int parallelism;
+
+    private ParallelFlowableReactiveSeq(Flowable<Object> source, Function<Object, Flowable<T>> stages, Scheduler scheduler, int parallelism) {
+        super(source.concatMapEager(e -> stages.apply(e).subscribeOn(scheduler), parallelism, Flowable.bufferSize()));
+        this.source = source;
+        this.stages = stages;
+        this.rails = null;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    private ParallelFlowableReactiveSeq(ParallelFlowable<T> rails, Scheduler scheduler, int parallelism) {
+        super(rails.sequential());
+        this.source = null;
+        this.stages = null;
+        this.rails = rails;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create an ordered parallel ReactiveSeq, results are joined in the order of the source Flowable
+     *
+     * @param flowable Source Flowable
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements processed concurrently
+     * @return Ordered parallel ReactiveSeq
+     */
+    public static <T> ParallelFlowableReactiveSeq<T> ordered(Flowable<T> flowable, Scheduler scheduler, int parallelism) {
+        return new ParallelFlowableReactiveSeq<T>((Flowable<Object>) flowable, e -> Flowable.just((T) e), scheduler, parallelism);
+    }
+
+    /**
+     * Create an unordered parallel ReactiveSeq, rails are merged back in whatever order results complete
+     *
+     * @param flowable Source Flowable
+     * @param scheduler Scheduler to run each rail on
+     * @param parallelism Number of rails
+     * @return Unordered parallel ReactiveSeq
+     */
+    public static <T> ParallelFlowableReactiveSeq<T> unordered(Flowable<T> flowable, Scheduler scheduler, int parallelism) {
+        return new ParallelFlowableReactiveSeq<T>(flowable.parallel(parallelism).runOn(scheduler), scheduler, parallelism);
+    }
+
+    public boolean isOrdered() {
+        return rails == null;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private <R> ParallelFlowableReactiveSeq<R> stage(Function<? super Flowable<T>, ? extends Flowable<R>> fn,
+                                                    Function<? super ParallelFlowable<T>, ? extends ParallelFlowable<R>> parallelFn) {
+        if (isOrdered())
+            return new ParallelFlowableReactiveSeq<R>(source, stages.andThen(fn), scheduler, parallelism);
+        return new ParallelFlowableReactiveSeq<R>(parallelFn.apply(rails), scheduler, parallelism);
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        return stage(f -> f.map(Functions.rxFunction(fn)), p -> p.map(Functions.rxFunction(fn)));
+    }
+
+    @Override
+    public ReactiveSeq<T> filter(Predicate<? super T> fn) {
+        return stage(f -> f.filter(Functions.rxPredicate(fn)), p -> p.filter(Functions.rxPredicate(fn)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        return stage(f -> f.concatMap(s -> ReactiveSeq.fromStream(fn.apply(s))),
+                     p -> p.flatMap(s -> ReactiveSeq.fromStream(fn.apply(s))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapI(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return stage(f -> f.concatMapIterable(Functions.rxFunction(fn)),
+                     p -> p.flatMap(s -> Flowable.fromIterable(fn.apply(s))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapP(Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return stage(f -> f.concatMap(Functions.rxFunction(fn)), p -> p.flatMap(Functions.rxFunction(fn)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapAnyM(Function<? super T, AnyM<stream, ? extends R>> fn) {
+        return stage(f -> f.concatMap(Functions.rxFunction(fn)), p -> p.flatMap(Functions.rxFunction(fn)));
+    }
+
+    /**
+     * Reduce in parallel. In ordered mode partial results are combined in source order so the accumulator need only be
+     * associative, in unordered mode rails are combined as they complete so it must also be commutative.
+     */
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        io.reactivex.functions.BiFunction<T, T, T> rxAccumulator = Functions.rxBifunction(accumulator);
+        if (isOrdered())
+            return Optional.ofNullable(source.buffer(Flowable.bufferSize())
+                                             .concatMapEager(batch -> Flowable.fromIterable(batch)
+                                                                              .concatMap(Functions.rxFunction(stages))
+                                                                              .reduce(rxAccumulator)
+                                                                              .toFlowable()
+                                                                              .subscribeOn(scheduler),
+                                                             parallelism, 1)
+                                             .reduce(rxAccumulator)
+                                             .blockingGet());
+        return Optional.ofNullable(rails.reduce(rxAccumulator).blockingFirst(null));
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return reduce(accumulator).map(r -> accumulator.apply(identity, r)).orElse(identity);
+    }
+
+    @Override
+    public T reduce(Monoid<T> reducer) {
+        return reduce(reducer.zero(), reducer);
+    }
+
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+
+    @Override
+    public ReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    /**
+     * @return A sequential FlowableReactiveSeq that joins the parallel stages back together
+     */
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return new FlowableReactiveSeq<>(getFlowable());
+    }
+
+    /**
+     * @return A parallel ReactiveSeq that no longer preserves source order when merging results
+     */
+    @Override
+    public ReactiveSeq<T> unordered() {
+        if (isOrdered())
+            return new ParallelFlowableReactiveSeq<T>(source.parallel(parallelism)
+                                                            .runOn(scheduler)
+                                                            .flatMap(Functions.rxFunction(stages)), scheduler, parallelism);
+        return this;
+    }
+
+}
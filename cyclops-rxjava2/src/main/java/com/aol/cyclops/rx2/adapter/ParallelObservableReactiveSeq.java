@@ -0,0 +1,156 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.companion.rx2.Functions;
+import cyclops.companion.rx2.Observables;
+import cyclops.function.Monoid;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An ObservableReactiveSeq that executes map / filter / flatMap stages and reductions in parallel on an RxJava Scheduler.
+ *
+ * Parallel stages are fused per source element and each element is run through them on the Scheduler, with up to
+ * parallelism elements in flight. In ordered mode (the default) results are joined in source order via
+ * {@link Observable#concatMapEager(io.reactivex.functions.Function, int, int)}, in unordered mode they are merged as
+ * they complete. Reductions fan batches of the source out across the Scheduler and combine the partial results, in
+ * source order when ordered.
+ *
+ * All other operators (and terminal operations) apply to the joined Observable.
+ *
+ * @param <T> Data type of elements in this Stream
+ */
+public class ParallelObservableReactiveSeq<T> extends ObservableReactiveSeq<T> {
+
+    private final Observable<Object> source;
+    private final Function<Object, Observable<T>> stages;
+    private final Scheduler scheduler;
+    private final int parallelism;
+    private final boolean ordered;
+
+    private ParallelObservableReactiveSeq(Observable<Object> source, Function<Object, Observable<T>> stages,
+                                          Scheduler scheduler, int parallelism, boolean ordered) {
+        super(join(source, e -> stages.apply(e).subscribeOn(scheduler), parallelism, ordered));
+        this.source = source;
+        this.stages = stages;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+    }
+
+    private static <T, R> Observable<R> join(Observable<T> source, Function<? super T, ? extends Observable<R>> fn,
+                                             int parallelism, boolean ordered) {
+        if (ordered)
+            return source.concatMapEager(Functions.rxFunction(fn), parallelism, Observable.bufferSize());
+        return source.flatMap(Functions.rxFunction(fn), parallelism);
+    }
+
+    /**
+     * Create a parallel ReactiveSeq
+     *
+     * @param observable Source Observable
+     * @param scheduler Scheduler to run parallel stages on
+     * @param parallelism Maximum number of elements processed concurrently
+     * @param ordered true to join results in source order, false to merge them as they complete
+     * @return Parallel ReactiveSeq
+     */
+    public static <T> ParallelObservableReactiveSeq<T> parallel(Observable<T> observable, Scheduler scheduler, int parallelism, boolean ordered) {
+        return new ParallelObservableReactiveSeq<T>((Observable<Object>) observable, e -> Observable.just((T) e),
+                                                    scheduler, parallelism, ordered);
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private <R> ParallelObservableReactiveSeq<R> stage(Function<? super Observable<T>, ? extends Observable<R>> fn) {
+        return new ParallelObservableReactiveSeq<R>(source, stages.andThen(fn), scheduler, parallelism, ordered);
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> map(Function<? super T, ? extends R> fn) {
+        return stage(o -> o.map(Functions.rxFunction(fn)));
+    }
+
+    @Override
+    public ReactiveSeq<T> filter(Predicate<? super T> fn) {
+        return stage(o -> o.filter(Functions.rxPredicate(fn)));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMap(Function<? super T, ? extends Stream<? extends R>> fn) {
+        return stage(o -> o.concatMap(s -> Observables.fromStream((Stream<R>) fn.apply(s))));
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> flatMapI(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return stage(o -> o.concatMapIterable(s -> (Iterable<R>) fn.apply(s)));
+    }
+
+    /**
+     * Reduce in parallel. In ordered mode partial results are combined in source order so the accumulator need only be
+     * associative, in unordered mode they are combined as they complete so it must also be commutative.
+     */
+    @Override
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        io.reactivex.functions.BiFunction<T, T, T> rxAccumulator = Functions.rxBifunction(accumulator);
+        Function<List<Object>, Observable<T>> reduceBatch = batch -> Observable.fromIterable(batch)
+                                                                              .concatMap(Functions.rxFunction(stages))
+                                                                              .reduce(rxAccumulator)
+                                                                              .toObservable()
+                                                                              .subscribeOn(scheduler);
+        return Optional.ofNullable(join(source.buffer(Observable.bufferSize()), reduceBatch, parallelism, ordered)
+                                         .reduce(rxAccumulator)
+                                         .blockingGet());
+    }
+
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        return reduce(accumulator).map(r -> accumulator.apply(identity, r)).orElse(identity);
+    }
+
+    @Override
+    public T reduce(Monoid<T> reducer) {
+        return reduce(reducer.zero(), reducer);
+    }
+
+    @Override
+    public boolean isParallel() {
+        return true;
+    }
+
+    @Override
+    public ReactiveSeq<T> parallel() {
+        return this;
+    }
+
+    /**
+     * @return A sequential ObservableReactiveSeq that joins the parallel stages back together
+     */
+    @Override
+    public ReactiveSeq<T> sequential() {
+        return new ObservableReactiveSeq<>(getObservable());
+    }
+
+    /**
+     * @return A parallel ReactiveSeq that no longer preserves source order when merging results
+     */
+    @Override
+    public ReactiveSeq<T> unordered() {
+        if (ordered)
+            return new ParallelObservableReactiveSeq<T>(source, stages, scheduler, parallelism, false);
+        return this;
+    }
+
+}
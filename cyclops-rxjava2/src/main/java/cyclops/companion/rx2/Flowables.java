@@ -506,9 +506,30 @@ public class Flowables {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<flowable> FUNCTOR = createFunctor();
+        private static final Pure<flowable> UNIT = createUnit();
+        private static final Applicative<flowable> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<flowable> MONAD = createMonad();
+        private static final MonadZero<flowable> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<flowable> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<flowable> TRAVERSE = createTraverse();
+        private static final Foldable<flowable> FOLDABLE = createFoldable();
+        private static final Unfoldable<flowable> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<flowable> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<flowable> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<flowable> createDefinitions() {
             return new InstanceDefinitions<flowable>() {
 
+                private final cyclops.control.Maybe<MonadZero<flowable>> monadZero = cyclops.control.Maybe.just(Instances.monadZero());
+                private final cyclops.control.Maybe<MonadPlus<flowable>> monadPlus = cyclops.control.Maybe.just(Instances.monadPlus());
+                private final cyclops.control.Maybe<Traverse<flowable>> traverse = cyclops.control.Maybe.just(Instances.traverse());
+                private final cyclops.control.Maybe<Foldable<flowable>> foldable = cyclops.control.Maybe.just(Instances.foldable());
+                private final cyclops.control.Maybe<Unfoldable<flowable>> unfoldable = cyclops.control.Maybe.just(Instances.unfoldable());
+
+
 
                 @Override
                 public <T, R> Functor<flowable> functor() {
@@ -532,12 +553,12 @@ public class Flowables {
 
                 @Override
                 public <T, R> cyclops.control.Maybe<MonadZero<flowable>> monadZero() {
-                    return cyclops.control.Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<MonadPlus<flowable>> monadPlus() {
-                    return cyclops.control.Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -547,12 +568,12 @@ public class Flowables {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<flowable>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<flowable>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -562,7 +583,7 @@ public class Flowables {
 
                 @Override
                 public <T> cyclops.control.Maybe<Unfoldable<flowable>> unfoldable() {
-                    return cyclops.control.Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -596,6 +617,9 @@ public class Flowables {
          * @return A functor for Flowables
          */
         public static <T,R>Functor<flowable> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<flowable> createFunctor(){
             BiFunction<FlowableKind<T>,Function<? super T, ? extends R>,FlowableKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -615,6 +639,9 @@ public class Flowables {
          * @return A factory for Flowables
          */
         public static <T> Pure<flowable> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<flowable> createUnit(){
             Function<T, Higher<flowable, T>> unitRef = Instances::of;
             return General.<flowable,T>unit(unitRef);
         }
@@ -655,6 +682,9 @@ public class Flowables {
          * @return A zipper for Flowables
          */
         public static <T,R> Applicative<flowable> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<flowable> createZippingApplicative(){
             BiFunction<FlowableKind< Function<T, R>>,FlowableKind<T>,FlowableKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -685,6 +715,9 @@ public class Flowables {
          * @return Type class with monad functions for Flowables
          */
         public static <T,R> Monad<flowable> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<flowable> createMonad(){
 
             BiFunction<Higher<flowable,T>,Function<? super T, ? extends Higher<flowable,R>>,Higher<flowable,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -707,6 +740,9 @@ public class Flowables {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<flowable> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<flowable> createMonadZero(){
             BiFunction<Higher<flowable,T>,Predicate<? super T>,Higher<flowable,T>> filter = Instances::filter;
             Supplier<Higher<flowable, T>> zero = ()-> widen(Flowable.empty());
             return General.<flowable,T,R>monadZero(monad(), zero,filter);
@@ -724,6 +760,9 @@ public class Flowables {
          * @return Type class for combining Flowables by concatenation
          */
         public static <T> MonadPlus<flowable> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<flowable> createMonadPlus(){
             Monoid<FlowableKind<T>> m = Monoid.of(widen(Flowable.<T>empty()), Instances::concat);
             Monoid<Higher<flowable,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -757,6 +796,9 @@ public class Flowables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<flowable> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<flowable> createTraverse(){
             BiFunction<Applicative<C2>,FlowableKind<Higher<C2, T>>,Higher<C2, FlowableKind<T>>> sequenceFn = (ap, flowable) -> {
 
                 Higher<C2,FlowableKind<T>> identity = ap.unit(widen(Flowable.empty()));
@@ -792,6 +834,9 @@ public class Flowables {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<flowable> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<flowable> createFoldable(){
             BiFunction<Monoid<T>,Higher<flowable,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromPublisher(FlowableKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<flowable,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromPublisher(FlowableKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -816,6 +861,9 @@ public class Flowables {
             return widen(FlowableKind.narrow(lt).filter(Functions.rxPredicate(fn)));
         }
         public static Unfoldable<flowable> unfoldable() {
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<flowable> createUnfoldable() {
             return new Unfoldable<flowable>() {
 
                 @Override
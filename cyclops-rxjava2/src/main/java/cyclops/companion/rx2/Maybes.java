@@ -501,9 +501,30 @@ public class Maybes {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<maybe> FUNCTOR = createFunctor();
+        private static final Pure<maybe> UNIT = createUnit();
+        private static final Applicative<maybe> APPLICATIVE = createApplicative();
+        private static final Monad<maybe> MONAD = createMonad();
+        private static final MonadZero<maybe> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<maybe> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<maybe> TRAVERSE = createTraverse();
+        private static final Foldable<maybe> FOLDABLE = createFoldable();
+        private static final Comonad<maybe> COMONAD = createComonad();
+        private static final InstanceDefinitions<maybe> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<maybe> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<maybe> createDefinitions() {
             return new InstanceDefinitions<maybe>() {
 
+                private final cyclops.control.Maybe<MonadZero<maybe>> monadZero = cyclops.control.Maybe.just(Instances.monadZero());
+                private final cyclops.control.Maybe<MonadPlus<maybe>> monadPlus = cyclops.control.Maybe.just(Instances.monadPlus());
+                private final cyclops.control.Maybe<Traverse<maybe>> traverse = cyclops.control.Maybe.just(Instances.traverse());
+                private final cyclops.control.Maybe<Foldable<maybe>> foldable = cyclops.control.Maybe.just(Instances.foldable());
+                private final cyclops.control.Maybe<Comonad<maybe>> comonad = cyclops.control.Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<maybe> functor() {
                     return Instances.functor();
@@ -526,12 +547,12 @@ public class Maybes {
 
                 @Override
                 public <T, R> cyclops.control.Maybe<MonadZero<maybe>> monadZero() {
-                    return cyclops.control.Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<MonadPlus<maybe>> monadPlus() {
-                    return cyclops.control.Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -541,17 +562,17 @@ public class Maybes {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<maybe>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<maybe>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Comonad<maybe>> comonad() {
-                    return cyclops.control.Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -589,6 +610,9 @@ public class Maybes {
          * @return A functor for Maybes
          */
         public static <T,R>Functor<maybe> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<maybe> createFunctor(){
             BiFunction<MaybeKind<T>,Function<? super T, ? extends R>,MaybeKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -608,6 +632,9 @@ public class Maybes {
          * @return A factory for Maybes
          */
         public static <T> Pure<maybe> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<maybe> createUnit(){
             return General.<maybe,T>unit(Instances::of);
         }
         /**
@@ -648,6 +675,9 @@ public class Maybes {
          * @return A zipper for Maybes
          */
         public static <T,R> Applicative<maybe> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<maybe> createApplicative(){
             BiFunction<MaybeKind< Function<T, R>>,MaybeKind<T>,MaybeKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -678,6 +708,9 @@ public class Maybes {
          * @return Type class with monad functions for Maybes
          */
         public static <T,R> Monad<maybe> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<maybe> createMonad(){
 
             BiFunction<Higher<maybe,T>,Function<? super T, ? extends Higher<maybe,R>>,Higher<maybe,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -700,6 +733,9 @@ public class Maybes {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<maybe> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<maybe> createMonadZero(){
 
             return General.monadZero(monad(), MaybeKind.empty());
         }
@@ -718,6 +754,9 @@ public class Maybes {
          * @return Type class for combining Maybes by concatenation
          */
         public static <T> MonadPlus<maybe> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<maybe> createMonadPlus(){
 
 
             Monoid<MaybeKind<T>> m = Monoid.of(MaybeKind.<T>widen(Maybe.empty()),
@@ -755,6 +794,9 @@ public class Maybes {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<maybe> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<maybe> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -775,11 +817,17 @@ public class Maybes {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<maybe> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<maybe> createFoldable(){
             BiFunction<Monoid<T>,Higher<maybe,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), MaybeKind.narrow(l).blockingGet());
             BiFunction<Monoid<T>,Higher<maybe,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), MaybeKind.narrow(l).blockingGet());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<maybe> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<maybe> createComonad(){
             Function<? super Higher<maybe, T>, ? extends T> extractFn = maybe -> maybe.convert(MaybeKind::narrow).blockingGet();
             return General.comonad(functor(), unit(), extractFn);
         }
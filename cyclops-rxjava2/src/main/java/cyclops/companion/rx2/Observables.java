@@ -617,9 +617,30 @@ public class Observables {
      */
     @UtilityClass
     public static class Instances {
+
+        private static final Functor<observable> FUNCTOR = createFunctor();
+        private static final Pure<observable> UNIT = createUnit();
+        private static final Applicative<observable> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<observable> MONAD = createMonad();
+        private static final MonadZero<observable> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<observable> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<observable> TRAVERSE = createTraverse();
+        private static final Foldable<observable> FOLDABLE = createFoldable();
+        private static final Unfoldable<observable> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<observable> DEFINITIONS = createDefinitions();
         public static InstanceDefinitions<observable> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<observable> createDefinitions() {
             return new InstanceDefinitions<observable>() {
 
+                private final cyclops.control.Maybe<MonadZero<observable>> monadZero = cyclops.control.Maybe.just(Instances.monadZero());
+                private final cyclops.control.Maybe<MonadPlus<observable>> monadPlus = cyclops.control.Maybe.just(Instances.monadPlus());
+                private final cyclops.control.Maybe<Traverse<observable>> traverse = cyclops.control.Maybe.just(Instances.traverse());
+                private final cyclops.control.Maybe<Foldable<observable>> foldable = cyclops.control.Maybe.just(Instances.foldable());
+                private final cyclops.control.Maybe<Unfoldable<observable>> unfoldable = cyclops.control.Maybe.just(Instances.unfoldable());
+
+
 
                 @Override
                 public <T, R> Functor<observable> functor() {
@@ -643,12 +664,12 @@ public class Observables {
 
                 @Override
                 public <T, R> cyclops.control.Maybe<MonadZero<observable>> monadZero() {
-                    return cyclops.control.Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<MonadPlus<observable>> monadPlus() {
-                    return cyclops.control.Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -658,12 +679,12 @@ public class Observables {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<observable>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<observable>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -673,7 +694,7 @@ public class Observables {
 
                 @Override
                 public <T> cyclops.control.Maybe<Unfoldable<observable>> unfoldable() {
-                    return cyclops.control.Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -707,6 +728,9 @@ public class Observables {
          * @return A functor for Observables
          */
         public static <T,R>Functor<observable> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<observable> createFunctor(){
             BiFunction<ObservableKind<T>,Function<? super T, ? extends R>,ObservableKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -726,6 +750,9 @@ public class Observables {
          * @return A factory for Observables
          */
         public static <T> Pure<observable> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<observable> createUnit(){
             return General.<observable,T>unit(Instances::of);
         }
         /**
@@ -765,6 +792,9 @@ public class Observables {
          * @return A zipper for Observables
          */
         public static <T,R> Applicative<observable> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<observable> createZippingApplicative(){
             BiFunction<ObservableKind< Function<T, R>>,ObservableKind<T>,ObservableKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -795,6 +825,9 @@ public class Observables {
          * @return Type class with monad functions for Observables
          */
         public static <T,R> Monad<observable> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<observable> createMonad(){
 
             BiFunction<Higher<observable,T>,Function<? super T, ? extends Higher<observable,R>>,Higher<observable,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -817,6 +850,9 @@ public class Observables {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<observable> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<observable> createMonadZero(){
             BiFunction<Higher<observable,T>,Predicate<? super T>,Higher<observable,T>> filter = Instances::filter;
             Supplier<Higher<observable, T>> zero = ()-> widen(Observable.empty());
             return General.<observable,T,R>monadZero(monad(), zero,filter);
@@ -834,6 +870,9 @@ public class Observables {
          * @return Type class for combining Observables by concatenation
          */
         public static <T> MonadPlus<observable> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<observable> createMonadPlus(){
             Monoid<ObservableKind<T>> m = Monoid.of(widen(Observable.<T>empty()), Instances::concat);
             Monoid<Higher<observable,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -867,6 +906,9 @@ public class Observables {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<observable> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<observable> createTraverse(){
             BiFunction<Applicative<C2>,ObservableKind<Higher<C2, T>>,Higher<C2, ObservableKind<T>>> sequenceFn = (ap, observable) -> {
 
                 Higher<C2,ObservableKind<T>> identity = ap.unit(widen(Observable.empty()));
@@ -902,6 +944,9 @@ public class Observables {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<observable> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<observable> createFoldable(){
             BiFunction<Monoid<T>,Higher<observable,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromPublisher(ObservableKind.narrowK(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<observable,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromPublisher(ObservableKind.narrowK(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -929,6 +974,9 @@ public class Observables {
             return widen(ObservableKind.narrow(lt).filter(in->fn.test(in)));
         }
         public static Unfoldable<observable> unfoldable() {
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<observable> createUnfoldable() {
             return new Unfoldable<observable>() {
                 @Override
                 public <R, T> Higher<observable, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
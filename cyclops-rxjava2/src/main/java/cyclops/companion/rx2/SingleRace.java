@@ -0,0 +1,194 @@
+package cyclops.companion.rx2;
+
+import com.aol.cyclops2.react.Status;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import io.reactivex.Single;
+import io.reactivex.SingleEmitter;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.observers.DisposableSingleObserver;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/*
+ * Races Singles against each other. Every subscription to the returned Single subscribes to each of the racers, and
+ * passes each of their outcomes to a Judge, under the race lock, until the Judge decides the outcome. At that point the
+ * subscriptions to every racer that has not yet terminated are disposed, and their number is reported to onCancelled,
+ * exactly once per subscription and before the result is signalled. Disposing the returned Single disposes all of the
+ * outstanding racers in the same way.
+ */
+final class SingleRace<T, R> {
+
+    interface Judge<T, R> {
+        /*
+         * @param index the position of the racer in the race
+         * @param value the value of the racer, or null if it failed
+         * @param error the error of the racer, or null if it succeeded
+         * @return the signal that decides the race, or null if it is not decided yet
+         */
+        Consumer<SingleEmitter<R>> onComplete(int index, T value, Throwable error);
+    }
+
+    private final Single<T>[] racers;
+    private final Judge<T, R> judge;
+    private final IntConsumer onCancelled;
+    private final SingleEmitter<R> emitter;
+
+    //guarded by this
+    private final Disposable[] subscriptions;
+    private final boolean[] finished;
+    private boolean decided;
+
+    private SingleRace(Single<T>[] racers, Judge<T, R> judge, IntConsumer onCancelled, SingleEmitter<R> emitter) {
+        this.racers = racers;
+        this.judge = judge;
+        this.onCancelled = onCancelled;
+        this.emitter = emitter;
+        this.subscriptions = new Disposable[racers.length];
+        this.finished = new boolean[racers.length];
+    }
+
+    static <T> Single<T> anyOf(IntConsumer onCancelled, Single<T>[] racers) {
+        if (racers.length == 0)
+            return Single.error(new NoSuchElementException("No Singles to race"));
+        return Single.create(emitter -> new SingleRace<T, T>(racers, (index, value, error) -> signal(value, error), onCancelled, emitter).start());
+    }
+
+    static <T> Single<T> firstSuccess(IntConsumer onCancelled, Single<T>[] racers) {
+        if (racers.length == 0)
+            return Single.error(new NoSuchElementException("No Singles to race"));
+        return Single.create(emitter -> new SingleRace<T, T>(racers, new Judge<T, T>() {
+            Throwable firstError;
+            int failed;
+
+            @Override
+            public Consumer<SingleEmitter<T>> onComplete(int index, T value, Throwable error) {
+                if (error == null)
+                    return signal(value, null);
+                if (index == 0)
+                    firstError = error;
+                if (++failed == racers.length)
+                    return signal(null, firstError);
+                return null;
+            }
+        }, onCancelled, emitter).start());
+    }
+
+    static <T> Single<ListX<T>> quorum(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                       IntConsumer onCancelled, Single<T>[] racers) {
+        if (racers.length == 0)
+            return Single.just(ListX.empty());
+        return Single.create(emitter -> new SingleRace<T, ListX<T>>(racers, new Judge<T, ListX<T>>() {
+            final long start = System.nanoTime();
+            final ArrayList<T> results = new ArrayList<>();
+            int completed;
+            int errors;
+
+            @Override
+            public Consumer<SingleEmitter<ListX<T>>> onComplete(int index, T value, Throwable error) {
+                if (error == null) {
+                    completed++;
+                    results.add(value);
+                } else {
+                    errors++;
+                    errorHandler.accept(error);
+                }
+                Status<T> status = new Status<>(completed, errors, racers.length, System.nanoTime() - start,
+                                                LinkedListX.fromIterable(results));
+                if (breakout.test(status) || completed + errors == racers.length) {
+                    ListX<T> quorum = ListX.fromIterable(results);
+                    return e -> e.onSuccess(quorum);
+                }
+                return null;
+            }
+        }, onCancelled, emitter).start());
+    }
+
+    private static <T> Consumer<SingleEmitter<T>> signal(T value, Throwable error) {
+        if (error != null)
+            return e -> e.onError(error);
+        return e -> e.onSuccess(value);
+    }
+
+    /*
+     * Each racer's observer is registered before it subscribes, so a racer whose subscription is still in progress
+     * when the race is decided is disposed, and counted, like any other loser.
+     */
+    private void start() {
+        emitter.setCancellable(this::cancel);
+        for (int i = 0; i < racers.length; i++) {
+            Racer racer = new Racer(i);
+            synchronized (this) {
+                if (decided)
+                    return;
+                subscriptions[i] = racer;
+            }
+            racers[i].subscribe(racer);
+        }
+    }
+
+    private void complete(int index, T value, Throwable error) {
+        Consumer<SingleEmitter<R>> decision;
+        ArrayList<Disposable> losers;
+        synchronized (this) {
+            boolean ignore = finished[index] || decided;
+            finished[index] = true;
+            if (ignore)
+                return;
+            decision = judge.onComplete(index, value, error);
+            if (decision == null)
+                return;
+            losers = decide();
+        }
+        dispose(losers);
+        decision.accept(emitter);
+    }
+
+    private void cancel() {
+        ArrayList<Disposable> losers;
+        synchronized (this) {
+            if (decided)
+                return;
+            losers = decide();
+        }
+        dispose(losers);
+    }
+
+    //must hold the race lock
+    private ArrayList<Disposable> decide() {
+        decided = true;
+        ArrayList<Disposable> losers = new ArrayList<>();
+        for (int i = 0; i < racers.length; i++) {
+            if (!finished[i] && subscriptions[i] != null)
+                losers.add(subscriptions[i]);
+        }
+        return losers;
+    }
+
+    private void dispose(ArrayList<Disposable> losers) {
+        losers.forEach(Disposable::dispose);
+        onCancelled.accept(losers.size());
+    }
+
+    private final class Racer extends DisposableSingleObserver<T> {
+        private final int index;
+
+        Racer(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            complete(index, value, null);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            complete(index, null, error);
+        }
+    }
+}
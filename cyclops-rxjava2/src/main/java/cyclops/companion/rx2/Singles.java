@@ -54,6 +54,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import static com.aol.cyclops.rx2.hkt.SingleKind.widen;
@@ -239,6 +240,74 @@ public class Singles {
 
     }
 
+    /**
+     * Select the first Single to complete, and dispose of the Singles that lost the race
+     *
+     * <pre>
+     * {@code
+     * Single<Response> hedged = Singles.anyOfCancelLosers(cancelled -> saved.add(cancelled),
+     *                                                     primary.call(), backup.call());
+     * }
+     * </pre>
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Singles that were disposed
+     * @param fts Singles to race
+     * @return First Single to complete
+     */
+    @SafeVarargs
+    public static <T> Single<T> anyOfCancelLosers(IntConsumer cancelled, Single<T>... fts) {
+        return SingleRace.anyOf(cancelled, fts);
+    }
+
+    /**
+     * Select the first Single to return with a successful result, and dispose of the Singles that are still running
+     * once it has. If every Single fails the result fails with the error of the first Single passed in.
+     *
+     * @see Singles#firstSuccess(Single...)
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Singles that were disposed
+     * @param fts Singles to race
+     * @return First Single to return with a result
+     */
+    @SafeVarargs
+    public static <T> Single<T> firstSuccessCancelLosers(IntConsumer cancelled, Single<T>... fts) {
+        return SingleRace.firstSuccess(cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and dispose of the Singles that are still
+     * running once it is reached
+     *
+     * @see Singles#quorum(Predicate, Single...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Singles that were disposed
+     * @param fts Singles to wait on results from
+     * @return Single which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Single<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, IntConsumer cancelled, Single<T>... fts) {
+        return SingleRace.quorum(breakout, t -> { }, cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and dispose of the Singles that are still
+     * running once it is reached
+     *
+     * @see Singles#quorum(Predicate, Consumer, Single...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param errorHandler Consumer to handle any exceptions thrown
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Singles that were disposed
+     * @param fts Singles to wait on results from
+     * @return Single which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Single<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                                          IntConsumer cancelled, Single<T>... fts) {
+        return SingleRace.quorum(breakout, errorHandler, cancelled, fts);
+    }
+
     /**
      * Perform a For Comprehension over a Single, accepting 3 generating functions. 
      * This results in a four level nested internal iteration over the provided Singles.
@@ -483,9 +552,30 @@ public class Singles {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<single> FUNCTOR = createFunctor();
+        private static final Pure<single> UNIT = createUnit();
+        private static final Applicative<single> APPLICATIVE = createApplicative();
+        private static final Monad<single> MONAD = createMonad();
+        private static final MonadZero<single> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<single> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<single> TRAVERSE = createTraverse(t->false);
+        private static final Foldable<single> FOLDABLE = createFoldable(t->false);
+        private static final Comonad<single> COMONAD = createComonad(t->false);
+        private static final InstanceDefinitions<single> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<single> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<single> createDefinitions() {
             return new InstanceDefinitions<single>() {
 
+                private final cyclops.control.Maybe<MonadZero<single>> monadZero = cyclops.control.Maybe.just(Instances.monadZero());
+                private final cyclops.control.Maybe<MonadPlus<single>> monadPlus = cyclops.control.Maybe.just(Instances.monadPlus());
+                private final cyclops.control.Maybe<Traverse<single>> traverse = cyclops.control.Maybe.just(Instances.traverse());
+                private final cyclops.control.Maybe<Foldable<single>> foldable = cyclops.control.Maybe.just(Instances.foldable());
+                private final cyclops.control.Maybe<Comonad<single>> comonad = cyclops.control.Maybe.just(Instances.comonad());
+
+
 
                 @Override
                 public <T, R> Functor<single> functor() {
@@ -509,12 +599,12 @@ public class Singles {
 
                 @Override
                 public <T, R> cyclops.control.Maybe<MonadZero<single>> monadZero() {
-                    return cyclops.control.Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<MonadPlus<single>> monadPlus() {
-                    return cyclops.control.Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -524,17 +614,17 @@ public class Singles {
 
                 @Override
                 public <C2, T> cyclops.control.Maybe<Traverse<single>> traverse() {
-                    return cyclops.control.Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Foldable<single>> foldable() {
-                    return cyclops.control.Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> cyclops.control.Maybe<Comonad<single>> comonad() {
-                    return cyclops.control.Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -573,6 +663,9 @@ public class Singles {
          * @return A functor for Singles
          */
         public static <T,R>Functor<single> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<single> createFunctor(){
             BiFunction<SingleKind<T>,Function<? super T, ? extends R>,SingleKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -592,6 +685,9 @@ public class Singles {
          * @return A factory for Singles
          */
         public static <T> Pure<single> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<single> createUnit(){
             return General.<single,T>unit(Instances::of);
         }
         /**
@@ -632,6 +728,9 @@ public class Singles {
          * @return A zipper for Singles
          */
         public static <T,R> Applicative<single> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<single> createApplicative(){
             BiFunction<SingleKind< Function<T, R>>,SingleKind<T>,SingleKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -662,6 +761,9 @@ public class Singles {
          * @return Type class with monad functions for Singles
          */
         public static <T,R> Monad<single> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<single> createMonad(){
 
             BiFunction<Higher<single,T>,Function<? super T, ? extends Higher<single,R>>,Higher<single,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -684,6 +786,9 @@ public class Singles {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<single> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<single> createMonadZero(){
 
             return General.monadZero(monad(), SingleKind.empty());
         }
@@ -702,6 +807,9 @@ public class Singles {
          * @return Type class for combining Singles by concatenation
          */
         public static <T> MonadPlus<single> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<single> createMonadPlus(){
 
 
             Monoid<SingleKind<T>> m = Monoid.of(SingleKind.<T>widen(Single.never()),
@@ -739,8 +847,28 @@ public class Singles {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<single> traverse(){
+            return TRAVERSE;
+        }
+
+        /**
+         * Traverse instance with blocking detection, it throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * <pre>
+         * {@code
+         * Traverse<single> traverse = Singles.Instances.traverse(Singles.Instances::isNonBlocking);
+         * }
+         * </pre>
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for traversables with traverse / sequence operations
+         */
+        public static <C2,T> Traverse<single> traverse(Predicate<? super Thread> nonBlocking){
+            return createTraverse(nonBlocking);
+        }
+        private static <C2,T> Traverse<single> createTraverse(Predicate<? super Thread> nonBlocking){
 
-            return General.traverseByTraverse(applicative(), Instances::traverseA);
+            return General.traverseByTraverse(applicative(), (applicative, fn, ds) -> traverseA(applicative, fn, ds, nonBlocking));
         }
 
         /**
@@ -759,15 +887,143 @@ public class Singles {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<single> foldable(){
-            BiFunction<Monoid<T>,Higher<single,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), SingleKind.narrow(l).blockingGet());
-            BiFunction<Monoid<T>,Higher<single,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), SingleKind.narrow(l).blockingGet());
+            return FOLDABLE;
+        }
+
+        /**
+         * Foldable instance with blocking detection, it throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * <pre>
+         * {@code
+         * Single.just(1)
+         *       .observeOn(Schedulers.computation())
+         *       .map(i -> Singles.Instances.<Integer>foldable(Singles.Instances::isNonBlocking)
+         *                                  .foldLeft(Monoids.intSum, SingleKind.widen(Single.timer(1, TimeUnit.SECONDS).map(l->1))));
+         *
+         * //IllegalStateException, use foldLeftAsync instead
+         * }
+         * </pre>
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for folding / reduction operations
+         */
+        public static <T> Foldable<single> foldable(Predicate<? super Thread> nonBlocking){
+            return createFoldable(nonBlocking);
+        }
+        private static <T> Foldable<single> createFoldable(Predicate<? super Thread> nonBlocking){
+            BiFunction<Monoid<T>,Higher<single,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), value(SingleKind.narrow(l), nonBlocking));
+            BiFunction<Monoid<T>,Higher<single,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), value(SingleKind.narrow(l), nonBlocking));
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<single> comonad(){
-            Function<? super Higher<single, T>, ? extends T> extractFn = maybe -> maybe.convert(SingleKind::narrow).blockingGet();
+            return COMONAD;
+        }
+
+        /**
+         * Comonad instance with blocking detection, extract throws an IllegalStateException instead of blocking on a
+         * thread matched by nonBlocking
+         *
+         * @param nonBlocking Predicate that identifies the threads that must not block
+         * @return Type class for extracting the value of a Single
+         */
+        public static <T> Comonad<single> comonad(Predicate<? super Thread> nonBlocking){
+            return createComonad(nonBlocking);
+        }
+        private static <T> Comonad<single> createComonad(Predicate<? super Thread> nonBlocking){
+            Function<? super Higher<single, T>, ? extends T> extractFn = maybe -> value(maybe.convert(SingleKind::narrow), nonBlocking);
             return General.comonad(functor(), unit(), extractFn);
         }
 
+        /**
+         * Non-blocking equivalent of {@link #foldable()} foldLeft, the result is returned as a Single
+         *
+         * <pre>
+         * {@code
+         * Single<Integer> sum  = Singles.Instances.foldLeftAsync(Monoids.intSum, SingleKind.widen(Single.just(10)));
+         *
+         * //Single[10]
+         * }
+         * </pre>
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Single to fold
+         * @return Single containing the folded value
+         */
+        public static <T> Single<T> foldLeftAsync(Monoid<T> monoid, Higher<single,T> ds){
+            return SingleKind.narrow(ds).map(v->monoid.apply(monoid.zero(),v));
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #foldable()} foldRight, the result is returned as a Single
+         *
+         * @param monoid Monoid to fold with
+         * @param ds Single to fold
+         * @return Single containing the folded value
+         */
+        public static <T> Single<T> foldRightAsync(Monoid<T> monoid, Higher<single,T> ds){
+            return SingleKind.narrow(ds).map(v->monoid.apply(v,monoid.zero()));
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #traverse()} traverseA, the traversed structure is built once the Single
+         * completes and is returned inside a Single.
+         *
+         * <pre>
+         * {@code
+         * Single<Higher<optional,Higher<single,Integer>>> res = Singles.Instances.traverseAsync(Optionals.Instances.applicative(),
+         *                                                                                       i->OptionalKind.of(i*2),
+         *                                                                                       SingleKind.widen(Single.just(10)));
+         *
+         * //Single[Optional[Single[20]]]
+         * }
+         * </pre>
+         *
+         * @param applicative Applicative for the traversed type
+         * @param fn Function to apply to the Single's value
+         * @param ds Single to traverse
+         * @return Single containing the traversed structure
+         */
+        public static <C2,T,R> Single<Higher<C2, Higher<single, R>>> traverseAsync(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
+                                                                                   Higher<single, T> ds){
+            return SingleKind.narrow(ds).map(t->applicative.map(SingleKind::just, fn.apply(t)));
+        }
+
+        /**
+         * Non-blocking equivalent of {@link #traverse()} sequenceA
+         *
+         * @param applicative Applicative for the nested type
+         * @param ds Single to sequence
+         * @return Single containing the sequenced structure
+         */
+        public static <C2,T> Single<Higher<C2, Higher<single, T>>> sequenceAsync(Applicative<C2> applicative, Higher<single, Higher<C2, T>> ds){
+            return traverseAsync(applicative, Function.identity(), ds);
+        }
+
+        /**
+         * Matches the threads of RxJava's computation and single Schedulers. Pass it (or a Predicate that also matches
+         * the threads of custom Schedulers) to {@link #foldable(Predicate)}, {@link #comonad(Predicate)} or
+         * {@link #traverse(Predicate)} to fail fast when they would block on one of them.
+         *
+         * @param t Thread to check
+         * @return true if t belongs to a non-blocking RxJava Scheduler
+         */
+        public static boolean isNonBlocking(Thread t){
+            String name = t.getName();
+            return name.startsWith("RxComputationThreadPool-") || name.startsWith("RxSingleScheduler-");
+        }
+
+        /**
+         * Extract the value of a Single, failing fast instead of blocking on a thread matched by nonBlocking (even if
+         * the Single has already completed)
+         */
+        private static <T> T value(Single<T> single, Predicate<? super Thread> nonBlocking){
+            if(nonBlocking.test(Thread.currentThread()))
+                throw new IllegalStateException("Blocking Single type class instance used on non-blocking thread "
+                        + Thread.currentThread().getName() + ", use the Async variants instead");
+            return single.blockingGet();
+        }
+
         private static <T> SingleKind<T> of(T value){
             return SingleKind.widen(Single.just(value));
         }
@@ -786,9 +1042,9 @@ public class Singles {
 
 
         private static <C2,T,R> Higher<C2, Higher<single, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn,
-                                                                            Higher<single, T> ds){
+                                                                            Higher<single, T> ds, Predicate<? super Thread> nonBlocking){
             Single<T> future = SingleKind.narrow(ds);
-            return applicative.map(SingleKind::just, fn.apply(future.blockingGet()));
+            return applicative.map(SingleKind::just, fn.apply(value(future, nonBlocking)));
         }
 
     }
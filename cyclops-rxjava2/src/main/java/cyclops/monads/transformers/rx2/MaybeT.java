@@ -17,8 +17,8 @@ import cyclops.function.Fn4;
 import cyclops.monads.AnyM;
 import cyclops.monads.WitnessType;
 import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
-import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -50,9 +50,34 @@ public final class MaybeT<W extends WitnessType<W>,T> extends ValueTransformer<W
         return stream().iterator();
     }
 
+    /**
+     * @return ReactiveSeq of the values of the wrapped Maybes in source order, empty Maybes are skipped
+     */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.stream().map(Maybe::blockingGet);
+        return stream(true);
+    }
+
+    /**
+     * Stream the values of the wrapped Maybes without blocking on each Maybe in turn. The Maybes are subscribed to
+     * eagerly and each value is emitted as soon as it (and, when ordered, every value before it) is available, so a
+     * consumer only waits for the next completed value. Empty Maybes are skipped.
+     *
+     * <pre>
+     * {@code
+     *    MaybeT.of(AnyM.fromStream(Stream.of(slow,fast)))
+     *          .stream(false);
+     *
+     *    //[fast value, slow value]
+     * }
+     * </pre>
+     *
+     * @param ordered true to emit values in source order, false to emit them in completion order
+     * @return ReactiveSeq of the values of the wrapped Maybes
+     */
+    public ReactiveSeq<T> stream(boolean ordered) {
+        Flowable<Maybe<T>> values = Flowable.fromIterable(run.stream());
+        return ReactiveSeq.fromIterable((ordered ? values.concatMapEager(m -> m.toFlowable()) : values.flatMap(m -> m.toFlowable())).blockingIterable());
     }
 
 
@@ -86,11 +111,15 @@ public final class MaybeT<W extends WitnessType<W>,T> extends ValueTransformer<W
         return run.map(m-> Future.fromPublisher(m.toFlowable()));
     }
 
+    /**
+     * Filter the wrapped Maybes without blocking, Maybes whose value fails the predicate become empty
+     *
+     * @param test Predicate to filter the wrapped Maybes with
+     * @return MaybeT with filtered Maybes
+     */
     @Override
     public MaybeT<W,T> filter(final Predicate<? super T> test) {
-        return of(run.map(f->f.map(in->Tuple.tuple(in,test.test(in))))
-                .filter( f->f.blockingGet().v2 )
-                .map( f->f.map(in->in.v1)));
+        return of(run.map(f->f.filter(Functions.rxPredicate(test))));
     }
 
     /**
@@ -18,9 +18,9 @@ import cyclops.function.Fn4;
 import cyclops.monads.AnyM;
 import cyclops.monads.WitnessType;
 import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
-import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
@@ -28,6 +28,7 @@ import org.reactivestreams.Publisher;
 
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -53,9 +54,34 @@ public final class SingleT<W extends WitnessType<W>,T> extends ValueTransformer<
         return stream().iterator();
     }
 
+    /**
+     * @return ReactiveSeq of the values of the wrapped Singles in source order, filtered out Singles are skipped
+     */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.stream().map(Single::blockingGet);
+        return stream(true);
+    }
+
+    /**
+     * Stream the values of the wrapped Singles without blocking on each Single in turn. The Singles are subscribed to
+     * eagerly and each value is emitted as soon as it (and, when ordered, every value before it) is available, so a
+     * consumer only waits for the next completed value. Singles filtered out by {@link #filter(Predicate)} are skipped.
+     *
+     * <pre>
+     * {@code
+     *    SingleT.of(AnyM.fromStream(Stream.of(slow,fast)))
+     *          .stream(false);
+     *
+     *    //[fast value, slow value]
+     * }
+     * </pre>
+     *
+     * @param ordered true to emit values in source order, false to emit them in completion order
+     * @return ReactiveSeq of the values of the wrapped Singles
+     */
+    public ReactiveSeq<T> stream(boolean ordered) {
+        Flowable<Single<T>> values = Flowable.fromIterable(run.stream());
+        return ReactiveSeq.fromIterable((ordered ? values.concatMapEager(SingleT::present) : values.flatMap(SingleT::present)).blockingIterable());
     }
 
 
@@ -89,11 +115,33 @@ public final class SingleT<W extends WitnessType<W>,T> extends ValueTransformer<
         return run.map(m-> Future.fromPublisher(m.toFlowable()));
     }
 
+    /**
+     * Filter the wrapped Singles without blocking. A Single cannot be empty, so Singles whose value fails the predicate
+     * signal a NoSuchElementException (as {@link Maybe#toSingle()} does) and are skipped by {@link #stream()}. Singles
+     * that fail for any other reason, including a NoSuchElementException of their own, are not skipped.
+     *
+     * @param test Predicate to filter the wrapped Singles with
+     * @return SingleT with filtered Singles
+     */
     @Override
     public SingleT<W,T> filter(final Predicate<? super T> test) {
-        return of(run.map(f->f.map(in->Tuple.tuple(in,test.test(in))))
-                .filter( f->f.blockingGet().v2 )
-                .map( f->f.map(in->in.v1)));
+        return of(run.map(f->f.flatMap(t->test.test(t) ? Single.just(t) : Single.<T>error(new FilteredOut()))));
+    }
+
+    private static <T> Flowable<T> present(Single<T> single){
+        return single.toMaybe()
+                     .onErrorComplete(e -> e instanceof FilteredOut)
+                     .toFlowable();
+    }
+
+    /**
+     * Signalled by Singles whose value was removed by {@link #filter(Predicate)}
+     */
+    private static final class FilteredOut extends NoSuchElementException {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
     }
 
     /**
@@ -0,0 +1,143 @@
+package com.aol.cyclops.rx;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.companion.rx2.Singles;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SinglesRaceTest {
+
+    AtomicInteger disposed;
+    AtomicInteger reports;
+    AtomicInteger cancelled;
+
+    @Before
+    public void setup(){
+        disposed = new AtomicInteger();
+        reports = new AtomicInteger();
+        cancelled = new AtomicInteger();
+    }
+
+    private Single<Integer> never(){
+        return Single.<Integer>never().doOnDispose(disposed::incrementAndGet);
+    }
+
+    private void report(int count){
+        reports.incrementAndGet();
+        cancelled.addAndGet(count);
+    }
+
+    @Test
+    public void anyOfDisposesLosers(){
+        SingleSubject<Integer> winner = SingleSubject.create();
+        TestObserver<Integer> result = Singles.anyOfCancelLosers(this::report, never(), winner, never()).test();
+        result.assertNotTerminated();
+        winner.onSuccess(2);
+        result.assertResult(2);
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void anyOfStopsSubscribingOnceDecided(){
+        AtomicInteger subscribed = new AtomicInteger();
+        Single<Integer> late = Single.<Integer>never().doOnSubscribe(s -> subscribed.incrementAndGet());
+        assertThat(Singles.anyOfCancelLosers(this::report, Single.just(1), late).blockingGet(), equalTo(1));
+        assertThat(subscribed.get(), equalTo(0));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void anyOfFailureWins(){
+        Singles.anyOfCancelLosers(this::report, never(), Single.<Integer>error(new IllegalStateException("boom")))
+               .test()
+               .assertError(IllegalStateException.class);
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void firstSuccessSkipsFailures(){
+        SingleSubject<Integer> winner = SingleSubject.create();
+        TestObserver<Integer> result = Singles.firstSuccessCancelLosers(this::report, Single.error(new IllegalStateException()),
+                                                                        winner, never(), never())
+                                              .test();
+        result.assertNotTerminated();
+        winner.onSuccess(10);
+        result.assertResult(10);
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void anyOfCountsRacerDecidedDuringItsSubscription(){
+        SingleSubject<Integer> winner = SingleSubject.create();
+        Single<Integer> subscribing = Single.defer(() -> {
+            winner.onSuccess(1);
+            return never();
+        });
+        Singles.anyOfCancelLosers(this::report, winner, subscribing, never())
+               .test()
+               .assertResult(1);
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void firstSuccessAllFail(){
+        Singles.firstSuccessCancelLosers(this::report, Single.<Integer>error(new IllegalStateException()),
+                                         Single.error(new IllegalArgumentException()))
+               .test()
+               .assertError(IllegalStateException.class);
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void quorumDisposesOutstanding(){
+        AtomicInteger errors = new AtomicInteger();
+        ListX<Integer> res = Singles.quorumCancelLosers(status -> status.getCompleted() >= 2, t -> errors.incrementAndGet(),
+                                                        this::report, Single.just(1), Single.error(new IllegalStateException()),
+                                                        never(), Single.just(2), never(), never())
+                                    .blockingGet();
+        assertThat(res, equalTo(ListX.of(1, 2)));
+        assertThat(errors.get(), equalTo(1));
+        assertThat(disposed.get(), equalTo(1));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void quorumWaitsForAll(){
+        ListX<Integer> res = Singles.quorumCancelLosers(status -> false, this::report, Single.just(1), Single.just(2))
+                                    .blockingGet();
+        assertThat(res, equalTo(ListX.of(1, 2)));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void disposingResultDisposesRacers(){
+        Singles.anyOfCancelLosers(this::report, never(), never()).subscribe(i -> { }).dispose();
+        assertThat(disposed.get(), equalTo(2));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void empty(){
+        Singles.<Integer>anyOfCancelLosers(this::report).test().assertError(NoSuchElementException.class);
+        assertThat(Singles.<Integer>quorumCancelLosers(status -> true, this::report).blockingGet(), equalTo(ListX.empty()));
+    }
+}
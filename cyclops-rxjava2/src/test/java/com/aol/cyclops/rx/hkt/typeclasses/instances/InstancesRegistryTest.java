@@ -0,0 +1,30 @@
+package com.aol.cyclops.rx.hkt.typeclasses.instances;
+
+import cyclops.companion.rx2.Flowables;
+import cyclops.companion.rx2.Maybes;
+import cyclops.companion.rx2.Observables;
+import cyclops.companion.rx2.Rx2Instances;
+import cyclops.companion.rx2.Singles;
+import cyclops.monads.Rx2Witness;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Singles.Instances.definitions(), sameInstance(Singles.Instances.definitions()));
+        assertThat(Maybes.Instances.definitions().monadZero().get(), sameInstance(Maybes.Instances.monadZero()));
+        assertThat(Flowables.Instances.monad(), sameInstance(Flowables.Instances.monad()));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(Rx2Instances.definitions(Rx2Witness.flowable.INSTANCE).get(), sameInstance(Flowables.Instances.definitions()));
+        assertThat(Rx2Instances.definitions(Rx2Witness.maybe.INSTANCE).get(), sameInstance(Maybes.Instances.definitions()));
+        assertThat(Rx2Instances.definitions(Rx2Witness.observable.INSTANCE).get(), sameInstance(Observables.Instances.definitions()));
+        assertThat(Rx2Instances.definitions(Rx2Witness.single.INSTANCE).get(), sameInstance(Singles.Instances.definitions()));
+    }
+}
@@ -16,12 +16,15 @@ import cyclops.monads.Witness;
 import cyclops.monads.Witness.maybe;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
+import cyclops.typeclasses.foldable.Foldable;
 import cyclops.typeclasses.monad.Applicative;
 import cyclops.typeclasses.monad.Traverse;
 import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
 import org.junit.Test;
 
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.aol.cyclops.rx2.hkt.SingleKind.widen;
@@ -30,6 +33,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.hamcrest.Matchers.containsString;
 
 public class SinglesTest {
 
@@ -173,4 +178,61 @@ public class SinglesTest {
 
     }
     
+    @Test
+    public void foldLeftAsync(){
+        Single<Integer> sum = Instances.foldLeftAsync(Monoid.of(0, (a, b) -> a + b), widen(Single.timer(10, TimeUnit.MILLISECONDS).map(l -> 4)));
+        assertThat(sum.blockingGet(), equalTo(4));
+        assertThat(Instances.foldRightAsync(Monoid.of(0, (a, b) -> a + b), widen(Single.just(3))).blockingGet(), equalTo(3));
+    }
+    @Test
+    public void traverseAsync(){
+        Applicative<maybe> applicative = Maybe.Instances.applicative();
+
+        Single<Higher<maybe, Higher<single, Integer>>> res = Instances.traverseAsync(applicative, (Integer a) -> Maybe.just(a * 2),
+                                                                                      widen(Single.timer(10, TimeUnit.MILLISECONDS).map(l -> 1)));
+
+        assertThat(res.blockingGet().convert(Maybe::narrowK).map(h -> h.convert(SingleKind::narrowK).blockingGet()),
+                   equalTo(Maybe.just(2)));
+    }
+    @Test
+    public void sequenceAsync(){
+        Applicative<maybe> applicative = Maybe.Instances.applicative();
+
+        Single<Higher<maybe, Higher<single, Integer>>> res = Instances.sequenceAsync(applicative, widen(Single.just(Maybe.just(1))));
+
+        assertThat(res.blockingGet().convert(Maybe::narrowK).map(h -> h.convert(SingleKind::narrowK).blockingGet()),
+                   equalTo(Maybe.just(1)));
+    }
+    @Test
+    public void failOnBlockingInNonBlockingScheduler(){
+        Foldable<single> checked = Instances.foldable(Instances::isNonBlocking);
+        Single<Integer> folded = Single.just(1)
+                                       .observeOn(Schedulers.computation())
+                                       .map(i -> checked.foldLeft(Monoid.of(0, (a, b) -> a + b), widen(Single.just(5))));
+        try {
+            folded.blockingGet();
+            fail("Expected blocking to be detected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("non-blocking thread"));
+        }
+        //blocking threads are unaffected
+        assertThat(checked.foldLeft(Monoid.of(0, (a, b) -> a + b), widen(Single.just(5))), equalTo(5));
+        //detection is opt in
+        Single<Integer> unchecked = Single.just(1)
+                                          .observeOn(Schedulers.computation())
+                                          .map(i -> Instances.<Integer>foldable().foldLeft(Monoid.of(0, (a, b) -> a + b), widen(Single.just(5))));
+        assertThat(unchecked.blockingGet(), equalTo(5));
+    }
+    @Test
+    public void failOnExtractInNonBlockingScheduler(){
+        Single<Integer> extracted = Single.just(1)
+                                          .observeOn(Schedulers.single())
+                                          .map(i -> Instances.<Integer>comonad(Instances::isNonBlocking).extract(widen(Single.just(5))));
+        try {
+            extracted.blockingGet();
+            fail("Expected blocking to be detected");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("non-blocking thread"));
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.collections.mutable.ListX;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks the BatchingIterator a ReactiveSeq adapter iterates with, against synchronous, asynchronous and failing sources
+ */
+public abstract class AbstractBatchingIteratorTest {
+
+    /**
+     * The batching iteration methods of the ReactiveSeq adapter under test
+     */
+    public interface Batching {
+        BatchingIterator<Integer> iterator(int prefetch);
+
+        BatchingIterator<Integer> iterator(int prefetch, int lowWatermark);
+
+        Spliterator<Integer> spliterator(int prefetch, int lowWatermark);
+    }
+
+    AtomicInteger emitted = new AtomicInteger(0);
+    List<Long> requests = new ArrayList<>();
+
+    /**
+     * @return 0 until end, adding each request to requests and incrementing emitted for each element
+     */
+    public abstract Batching range(int end);
+
+    /**
+     * @return 0 until end, emitted on another thread
+     */
+    public abstract Batching async(int end);
+
+    /**
+     * @return 1, 2 and 3 followed by an IllegalStateException("boom")
+     */
+    public abstract Batching failing();
+
+    private List<Integer> drain(BatchingIterator<Integer> it){
+        List<Integer> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        return result;
+    }
+
+    @Test
+    public void iteratesInOrder(){
+        for(int prefetch=1;prefetch<=20;prefetch++)
+            for(int lowWatermark=0;lowWatermark<prefetch;lowWatermark++)
+                assertThat(drain(range(100).iterator(prefetch,lowWatermark)),equalTo(ListX.range(0,100)));
+    }
+
+    @Test
+    public void iteratesAsyncSource(){
+        assertThat(drain(async(10000).iterator(64)),equalTo(ListX.range(0,10000)));
+    }
+
+    @Test
+    public void emptySource(){
+        BatchingIterator<Integer> it = range(0).iterator(8);
+
+        assertFalse(it.hasNext());
+        assertTrue(it.nextBatch(10).isEmpty());
+    }
+
+    @Test
+    public void requestsNoMoreThanPrefetchAhead(){
+        BatchingIterator<Integer> it = range(1000).iterator(16,4);
+        int consumed = 0;
+        while(it.hasNext()){
+            it.next();
+            consumed++;
+            assertThat(emitted.get()-consumed,lessThanOrEqualTo(16));
+        }
+        assertThat(consumed,equalTo(1000));
+    }
+
+    @Test
+    public void zeroLowWatermarkRequestsWholeBatches(){
+        drain(range(100).iterator(10,0));
+
+        assertThat(requests.size(),greaterThanOrEqualTo(10));
+        assertTrue(requests.stream().allMatch(n->n==10L));
+    }
+
+    @Test
+    public void nextBatch(){
+        BatchingIterator<Integer> it = range(100).iterator(16,4);
+        List<Integer> all = new ArrayList<>();
+        List<Integer> batch = it.nextBatch(7);
+        while(!batch.isEmpty()){
+            assertThat(batch.size(),lessThanOrEqualTo(7));
+            all.addAll(batch);
+            batch = it.nextBatch(7);
+        }
+        assertThat(all,equalTo(ListX.range(0,100)));
+    }
+
+    @Test
+    public void errorAfterElements(){
+        BatchingIterator<Integer> it = failing().iterator(2);
+        List<Integer> received = new ArrayList<>();
+        try{
+            while(it.hasNext())
+                received.add(it.next());
+            fail("expected error");
+        }catch(IllegalStateException e){
+            assertThat(e.getMessage(),equalTo("boom"));
+        }
+        assertThat(received,equalTo(ListX.of(1,2,3)));
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void errorAfterElementsInBatch(){
+        BatchingIterator<Integer> it = failing().iterator(16,4);
+
+        assertThat(it.nextBatch(10),equalTo(ListX.of(1,2,3)));
+        try{
+            it.nextBatch(10);
+            fail("expected error");
+        }catch(IllegalStateException e){
+            assertThat(e.getMessage(),equalTo("boom"));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void errorAfterElementsInSplit(){
+        BatchingIterator<Integer> it = failing().iterator(16,4);
+
+        assertThat(StreamSupport.stream(it.trySplit(),false).collect(Collectors.toList()),equalTo(ListX.of(1,2,3)));
+        try{
+            it.trySplit();
+            fail("expected error");
+        }catch(IllegalStateException e){
+            assertThat(e.getMessage(),equalTo("boom"));
+        }
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void parallelStream(){
+        List<Integer> result = StreamSupport.stream(range(10000).spliterator(64,16),true)
+                                            .map(i->i*2)
+                                            .collect(Collectors.toList());
+
+        assertThat(result,equalTo(ListX.range(0,10000).map(i->i*2)));
+    }
+
+    @Test
+    public void trySplitHandsOutPrefetchedBatch(){
+        BatchingIterator<Integer> it = range(100).iterator(16,4);
+
+        assertThat(StreamSupport.stream(it.trySplit(),false).collect(Collectors.toList()),equalTo(ListX.range(0,16)));
+        assertThat(it.next(),equalTo(16));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lowWatermarkMustBeBelowPrefetch(){
+        range(10).iterator(4,4);
+    }
+}
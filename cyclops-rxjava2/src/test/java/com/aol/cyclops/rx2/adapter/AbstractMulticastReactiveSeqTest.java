@@ -0,0 +1,131 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.stream.ReactiveSeq;
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.jooq.lambda.tuple.Tuple4;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Checks that the copies a ReactiveSeq adapter multicasts share one subscription to the source, bounded by the buffer
+ * size given to each copy
+ */
+public abstract class AbstractMulticastReactiveSeqTest {
+
+    AtomicInteger emitted = new AtomicInteger(0);
+
+    /**
+     * @return Two copies of 0 until end, from a source that increments emitted for each element
+     */
+    public abstract Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRange(int end, int bufferSize);
+
+    public abstract Tuple3<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> triplicateRange(int end, int bufferSize);
+
+    public abstract Tuple4<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> quadruplicateRange(int end, int bufferSize);
+
+    /**
+     * @return As duplicate, but a copy that falls bufferSize elements behind drops elements instead of holding back
+     *         the source
+     */
+    public abstract Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRangeLossy(int end, int bufferSize);
+
+    @Test
+    public void duplicate(){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = duplicateRange(1000,16);
+
+        assertThat(copies.v1.zipS(copies.v2,(a,b)->a+b).toListX(),equalTo(ListX.range(0,1000).map(i->i*2)));
+        assertThat(emitted.get(),equalTo(1000));
+    }
+
+    @Test
+    public void triplicate(){
+        Tuple3<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = triplicateRange(100,8);
+
+        assertThat(copies.v1.zip3(copies.v2,copies.v3).map(t->t.v1+t.v2+t.v3).toListX(),
+                   equalTo(ListX.range(0,100).map(i->i*3)));
+    }
+
+    @Test
+    public void quadruplicate(){
+        Tuple4<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = quadruplicateRange(100,8);
+
+        assertThat(copies.v1.zip4(copies.v2,copies.v3,copies.v4).map(t->t.v1+t.v2+t.v3+t.v4).toListX(),
+                   equalTo(ListX.range(0,100).map(i->i*4)));
+    }
+
+    @Test
+    public void slowestCopyHoldsBackSource(){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = duplicateRange(1000,16);
+        Counter fast = new Counter(Long.MAX_VALUE);
+        Counter stalled = new Counter(0);
+
+        copies.v1.subscribe(fast);
+        copies.v2.subscribe(stalled);
+
+        assertThat(emitted.get(),lessThanOrEqualTo(16));
+        assertThat(fast.received.get(),lessThanOrEqualTo(16));
+
+        stalled.subscription.request(Long.MAX_VALUE);
+
+        assertThat(emitted.get(),equalTo(1000));
+        assertThat(fast.received.get(),equalTo(1000));
+        assertThat(stalled.received.get(),equalTo(1000));
+    }
+
+    @Test
+    public void lossyCopyDropsInsteadOfHoldingBackSource(){
+        Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> copies = duplicateRangeLossy(1000,16);
+        Counter fast = new Counter(Long.MAX_VALUE);
+        Counter stalled = new Counter(10);
+
+        copies.v1.subscribe(fast);
+        copies.v2.subscribe(stalled);
+
+        assertThat(emitted.get(),equalTo(1000));
+        assertThat(fast.received.get(),equalTo(1000));
+        assertThat(stalled.received.get(),equalTo(10));
+        assertThat(stalled.completed,equalTo(true));
+    }
+
+    static class Counter implements Subscriber<Integer> {
+        final long initialRequest;
+        final AtomicInteger received = new AtomicInteger(0);
+        volatile Subscription subscription;
+        volatile boolean completed;
+
+        Counter(long initialRequest){
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            if(initialRequest>0)
+                s.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(Integer integer) {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.aol.cyclops.rx2.adapter;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+
+import java.util.Spliterator;
+
+/**
+ * Runs the BatchingIterator checks against FlowableReactiveSeq
+ */
+public class BatchingIteratorTest extends AbstractBatchingIteratorTest {
+
+    private Batching batching(FlowableReactiveSeq<Integer> seq){
+        return new Batching() {
+            @Override
+            public BatchingIterator<Integer> iterator(int prefetch) {
+                return seq.iterator(prefetch);
+            }
+
+            @Override
+            public BatchingIterator<Integer> iterator(int prefetch, int lowWatermark) {
+                return seq.iterator(prefetch,lowWatermark);
+            }
+
+            @Override
+            public Spliterator<Integer> spliterator(int prefetch, int lowWatermark) {
+                return seq.spliterator(prefetch,lowWatermark);
+            }
+        };
+    }
+
+    @Override
+    public Batching range(int end){
+        return batching(new FlowableReactiveSeq<>(Flowable.range(0,end)
+                                                          .doOnRequest(requests::add)
+                                                          .doOnNext(i->emitted.incrementAndGet())));
+    }
+
+    @Override
+    public Batching async(int end){
+        return batching(new FlowableReactiveSeq<>(Flowable.range(0,end).observeOn(Schedulers.computation())));
+    }
+
+    @Override
+    public Batching failing(){
+        return batching(new FlowableReactiveSeq<>(Flowable.just(1,2,3)
+                                                          .concatWith(Flowable.error(new IllegalStateException("boom")))));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+
+/**
+ * Runs the grouping operator checks against FlowableReactiveSeq
+ */
+public class GroupingFlowableReactiveSeqTest extends AbstractGroupingReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> fromIterable(Iterable<Integer> values){
+        return new FlowableReactiveSeq<>(Flowable.fromIterable(values));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Observable;
+
+/**
+ * Runs the grouping operator checks against the RxJava 2 ObservableReactiveSeq
+ */
+public class GroupingObservableReactiveSeqTest extends AbstractGroupingReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> fromIterable(Iterable<Integer> values){
+        return new ObservableReactiveSeq<>(Observable.fromIterable(values));
+    }
+}
@@ -0,0 +1,37 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+import org.jooq.lambda.tuple.Tuple2;
+import org.jooq.lambda.tuple.Tuple3;
+import org.jooq.lambda.tuple.Tuple4;
+
+/**
+ * Runs the multicast checks against FlowableReactiveSeq
+ */
+public class MulticastFlowableReactiveSeqTest extends AbstractMulticastReactiveSeqTest {
+
+    private FlowableReactiveSeq<Integer> range(int end){
+        return new FlowableReactiveSeq<>(Flowable.range(0,end).doOnNext(i->emitted.incrementAndGet()));
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRange(int end, int bufferSize){
+        return range(end).duplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple3<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> triplicateRange(int end, int bufferSize){
+        return range(end).triplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple4<ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>, ReactiveSeq<Integer>> quadruplicateRange(int end, int bufferSize){
+        return range(end).quadruplicate(bufferSize);
+    }
+
+    @Override
+    public Tuple2<ReactiveSeq<Integer>, ReactiveSeq<Integer>> duplicateRangeLossy(int end, int bufferSize){
+        return range(end).duplicateLossy(bufferSize);
+    }
+}
@@ -0,0 +1,126 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.collections.mutable.SetX;
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Observable;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelObservableReactiveSeqTest {
+
+    private ObservableReactiveSeq<Integer> range(int end){
+        return new ObservableReactiveSeq<>(Observable.range(0,end));
+    }
+
+    @Test
+    public void isParallel(){
+        assertFalse(range(10).isParallel());
+        assertTrue(range(10).parallel().isParallel());
+        assertFalse(range(10).parallel().sequential().isParallel());
+    }
+
+    @Test
+    public void orderedMap(){
+        assertThat(range(1000).parallel()
+                              .map(i->i*2)
+                              .toListX(),equalTo(ListX.range(0,1000).map(i->i*2)));
+    }
+
+    @Test
+    public void orderedMapFilterFlatMap(){
+        assertThat(range(100).parallel(Schedulers.computation(),4)
+                             .filter(i->i%2==0)
+                             .flatMap(i->ReactiveSeq.of(i,-i))
+                             .map(i->i+1)
+                             .toListX(),
+                   equalTo(ListX.range(0,100).filter(i->i%2==0).flatMap(i->Arrays.asList(i,-i)).map(i->i+1)));
+    }
+
+    @Test
+    public void orderedFlatMapI(){
+        assertThat(range(5).parallel()
+                           .flatMapI(i->Arrays.asList(i,i))
+                           .toListX(),equalTo(ListX.of(0,0,1,1,2,2,3,3,4,4)));
+    }
+
+    @Test
+    public void unorderedMapFilter(){
+        assertThat(range(1000).parallel()
+                              .unordered()
+                              .map(i->i*2)
+                              .filter(i->i%4==0)
+                              .toSetX(),equalTo(SetX.range(0,1000).map(i->i*2).filter(i->i%4==0)));
+    }
+
+    @Test
+    public void orderedReduceIsDeterministic(){
+        String expected = ListX.range(0,1000).map(i->""+i).reduce("",(a,b)->a+b);
+        for(int i=0;i<10;i++) {
+            assertThat(new ObservableReactiveSeq<>(Observable.range(0, 1000)).parallel(Schedulers.from(Executors.newFixedThreadPool(4)), 4)
+                                                                       .map(n -> "" + n)
+                                                                       .reduce("", (a, b) -> a + b), equalTo(expected));
+        }
+    }
+
+    @Test
+    public void reduce(){
+        assertThat(range(1001).parallel()
+                              .reduce(Integer::sum),equalTo(Optional.of(500500)));
+        assertThat(range(1001).parallel()
+                              .unordered()
+                              .reduce(Integer::sum),equalTo(Optional.of(500500)));
+        assertThat(range(0).parallel()
+                           .reduce(Integer::sum),equalTo(Optional.empty()));
+        assertThat(range(0).parallel()
+                           .unordered()
+                           .reduce(10,Integer::sum),equalTo(10));
+    }
+
+    @Test
+    public void runsOnMultipleThreads(){
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        range(1000).parallel(Schedulers.from(Executors.newFixedThreadPool(4)),4)
+                   .map(i->{
+                       threads.add(Thread.currentThread().getName());
+                       sleep(1);
+                       return i;
+                   })
+                   .toListX();
+        assertThat(threads.size(),greaterThan(1));
+    }
+
+    @Test
+    public void unorderedRunsOnMultipleThreads(){
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        range(1000).parallel(Schedulers.from(Executors.newFixedThreadPool(4)),4)
+                   .unordered()
+                   .filter(i->{
+                       threads.add(Thread.currentThread().getName());
+                       sleep(1);
+                       return true;
+                   })
+                   .toListX();
+        assertThat(threads.size(),greaterThan(1));
+    }
+
+    private static void sleep(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Flowable;
+
+/**
+ * Runs the terminal operation checks against FlowableReactiveSeq
+ */
+public class TerminalFlowableReactiveSeqTest extends AbstractTerminalReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> of(Integer... values){
+        return new FlowableReactiveSeq<>(Flowable.fromArray(values));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> failing(){
+        return new FlowableReactiveSeq<>(Flowable.range(0,3)
+                                                 .concatWith(Flowable.error(new IllegalStateException("boom"))));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> infinite(){
+        return new FlowableReactiveSeq<>(Flowable.range(0,Integer.MAX_VALUE)
+                                                 .doOnNext(i->emitted.incrementAndGet()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.rx2.adapter;
+
+import cyclops.stream.ReactiveSeq;
+import io.reactivex.Observable;
+
+/**
+ * Runs the terminal operation checks against the RxJava 2 ObservableReactiveSeq
+ */
+public class TerminalObservableReactiveSeqTest extends AbstractTerminalReactiveSeqTest {
+
+    @Override
+    public ReactiveSeq<Integer> of(Integer... values){
+        return new ObservableReactiveSeq<>(Observable.fromArray(values));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> failing(){
+        return new ObservableReactiveSeq<>(Observable.range(0,3)
+                                                     .concatWith(Observable.error(new IllegalStateException("boom"))));
+    }
+
+    @Override
+    public ReactiveSeq<Integer> infinite(){
+        return new ObservableReactiveSeq<>(Observable.range(0,Integer.MAX_VALUE)
+                                                     .doOnNext(i->emitted.incrementAndGet()));
+    }
+}
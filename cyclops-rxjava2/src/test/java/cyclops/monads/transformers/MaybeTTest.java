@@ -18,12 +18,16 @@ import cyclops.monads.Witness;
 import cyclops.monads.transformers.rx2.MaybeT;
 import cyclops.stream.ReactiveSeq;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -421,4 +425,46 @@ public class MaybeTTest implements Printable {
 	
 
 
+	@Test
+	public void streamSourceOrder() {
+		MaybeT<Witness.stream, Integer> values = MaybeT.of(AnyM.fromStream(Stream.of(Maybe.just(1).delay(200, TimeUnit.MILLISECONDS),
+				Maybe.just(2).delay(10, TimeUnit.MILLISECONDS))));
+		assertThat(values.stream().toListX(), equalTo(ListX.of(1, 2)));
+	}
+
+	@Test
+	public void streamCompletionOrder() {
+		MaybeT<Witness.stream, Integer> values = MaybeT.of(AnyM.fromStream(Stream.of(Maybe.just(1).delay(200, TimeUnit.MILLISECONDS),
+				Maybe.just(2).delay(10, TimeUnit.MILLISECONDS),
+				Maybe.<Integer>empty())));
+		assertThat(values.stream(false).toListX(), equalTo(ListX.of(2, 1)));
+	}
+
+	@Test
+	public void streamSubscribesEagerly() {
+		AtomicInteger subscribed = new AtomicInteger(0);
+		MaybeSubject<Integer> first = MaybeSubject.create();
+		MaybeT<Witness.stream, Integer> values = MaybeT.of(AnyM.fromStream(Stream.iterate(0, i -> i + 1).limit(10)
+				.map(i -> (i == 0 ? first.timeout(10, TimeUnit.SECONDS) : Maybe.just(i)).doOnSubscribe(d -> {
+					//the first value is only emitted once every Maybe has been subscribed to
+					if (subscribed.incrementAndGet() == 10)
+						first.onSuccess(0);
+				}))));
+		assertThat(values.stream().toListX(), equalTo(ListX.range(0, 10)));
+		assertThat(subscribed.get(), equalTo(10));
+	}
+
+	@Test
+	public void filterDoesNotBlock() {
+		AtomicBoolean tested = new AtomicBoolean(false);
+		MaybeT<Witness.stream, Integer> values = MaybeT.of(AnyM.fromStream(Stream.of(Maybe.just(1).delay(100, TimeUnit.MILLISECONDS),
+				Maybe.just(10))));
+		MaybeT<Witness.stream, Integer> filtered = values.filter(i -> {
+			tested.set(true);
+			return i > 5;
+		});
+		assertFalse(tested.get());
+		assertThat(filtered.stream().toListX(), equalTo(ListX.of(10)));
+	}
+
 }
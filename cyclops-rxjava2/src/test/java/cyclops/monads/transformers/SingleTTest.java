@@ -19,6 +19,7 @@ import cyclops.monads.Witness;
 import cyclops.monads.transformers.rx2.SingleT;
 import cyclops.stream.ReactiveSeq;
 import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -26,6 +27,9 @@ import org.junit.Test;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -423,4 +427,57 @@ public class SingleTTest implements Printable {
 	
 
 
+	@Test
+	public void streamSourceOrder() {
+		SingleT<Witness.stream, Integer> values = SingleT.of(AnyM.fromStream(Stream.of(Single.just(1).delay(200, TimeUnit.MILLISECONDS),
+				Single.just(2).delay(10, TimeUnit.MILLISECONDS))));
+		assertThat(values.stream().toListX(), equalTo(ListX.of(1, 2)));
+	}
+
+	@Test
+	public void streamCompletionOrder() {
+		SingleT<Witness.stream, Integer> values = SingleT.of(AnyM.fromStream(Stream.of(Single.just(1).delay(200, TimeUnit.MILLISECONDS),
+				Single.just(2).delay(10, TimeUnit.MILLISECONDS))));
+		assertThat(values.stream(false).toListX(), equalTo(ListX.of(2, 1)));
+	}
+
+	@Test
+	public void streamSubscribesEagerly() {
+		AtomicInteger subscribed = new AtomicInteger(0);
+		SingleSubject<Integer> first = SingleSubject.create();
+		SingleT<Witness.stream, Integer> values = SingleT.of(AnyM.fromStream(Stream.iterate(0, i -> i + 1).limit(10)
+				.map(i -> (i == 0 ? first.timeout(10, TimeUnit.SECONDS) : Single.just(i)).doOnSubscribe(d -> {
+					//the first value is only emitted once every Single has been subscribed to
+					if (subscribed.incrementAndGet() == 10)
+						first.onSuccess(0);
+				}))));
+		assertThat(values.stream().toListX(), equalTo(ListX.range(0, 10)));
+		assertThat(subscribed.get(), equalTo(10));
+	}
+
+	@Test
+	public void filterDoesNotBlock() {
+		AtomicBoolean tested = new AtomicBoolean(false);
+		SingleT<Witness.stream, Integer> values = SingleT.of(AnyM.fromStream(Stream.of(Single.just(1).delay(100, TimeUnit.MILLISECONDS),
+				Single.just(10))));
+		SingleT<Witness.stream, Integer> filtered = values.filter(i -> {
+			tested.set(true);
+			return i > 5;
+		});
+		assertFalse(tested.get());
+		assertThat(filtered.stream().toListX(), equalTo(ListX.of(10)));
+	}
+
+	@Test
+	public void filterDoesNotHideUpstreamNoSuchElement() {
+		SingleT<Witness.stream, Integer> values = SingleT.of(AnyM.fromStream(Stream.of(Single.just(1),
+				Single.<Integer>error(new NoSuchElementException("upstream")))));
+		try {
+			values.filter(i -> i > 5).stream().toListX();
+			fail("expected upstream error");
+		} catch (NoSuchElementException e) {
+			assertThat(e.getMessage(), equalTo("upstream"));
+		}
+	}
+
 }
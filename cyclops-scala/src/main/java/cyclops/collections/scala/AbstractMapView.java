@@ -0,0 +1,122 @@
+package cyclops.collections.scala;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+import scala.Option;
+import scala.Tuple2;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.Map;
+
+/*
+ * AbstractMap over an immutable Scala Map. entrySet, keySet and values are live views of the Scala Map, so no copy is
+ * made, and size, isEmpty, containsKey and containsValue delegate to it directly.
+ */
+abstract class AbstractMapView<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * @return The Scala Map this Map is backed by
+     */
+    abstract Map<K, V> delegate();
+
+    @Override
+    public Set<java.util.Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<java.util.Map.Entry<K, V>>() {
+            @Override
+            public Iterator<java.util.Map.Entry<K, V>> iterator() {
+                Iterator<Tuple2<K, V>> it = JavaConverters.asJavaIterator(delegate().iterator());
+                return new Iterator<java.util.Map.Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public java.util.Map.Entry<K, V> next() {
+                        Tuple2<K, V> t = it.next();
+                        return new SimpleImmutableEntry<>(t._1, t._2);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof java.util.Map.Entry))
+                    return false;
+                java.util.Map.Entry<?, ?> e = (java.util.Map.Entry<?, ?>) o;
+                Option<V> v = delegate().get((K) e.getKey());
+                return v.isDefined() && Objects.equals(v.get(), e.getValue());
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return JavaConverters.asJavaIterator(delegate().keysIterator());
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return JavaConverters.asJavaIterator(delegate().valuesIterator());
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate().contains((K) key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Iterator<V> it = JavaConverters.asJavaIterator(delegate().valuesIterator());
+        while (it.hasNext()) {
+            if (Objects.equals(it.next(), value))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package cyclops.collections.scala;
+
+/*
+ * Rank / select index over the 64 bit words of a bitset.
+ * ranks[w] holds the number of set bits in all words before w, so the position of a member is a single popcount
+ * and the member at a position is a binary search over ranks followed by a select within one word.
+ * The collection modules do not share code, so each has its own package private copy of this class. Keep it
+ * identical to the one in cyclops-vavr.
+ */
+final class BitSetIndex {
+
+    private final long[] words;
+    private final int[] ranks;
+
+    private BitSetIndex(long[] words) {
+        this.words = words;
+        this.ranks = new int[words.length + 1];
+        for (int w = 0; w < words.length; w++) {
+            ranks[w + 1] = ranks[w] + Long.bitCount(words[w]);
+        }
+    }
+
+    /**
+     * @param words Words of the bitset, bit i of words[i >> 6] is set for each member i
+     * @return Index over the supplied words
+     */
+    static BitSetIndex of(long[] words) {
+        return new BitSetIndex(words);
+    }
+
+    /**
+     * @param index Position in ascending order
+     * @return Member at the supplied position
+     */
+    int select(int index) {
+        if (index < 0 || index >= ranks[words.length])
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + ranks[words.length]);
+        int lo = 0;
+        int hi = words.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (ranks[mid] <= index)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        long word = words[lo];
+        for (int k = index - ranks[lo]; k > 0; k--) {
+            word &= word - 1;
+        }
+        return (lo << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * @param value Candidate member
+     * @return Position of value in ascending order, or -1 if it is not a member
+     */
+    int rank(int value) {
+        if (value < 0)
+            return -1;
+        int w = value >> 6;
+        if (w >= words.length)
+            return -1;
+        long bit = 1L << value;
+        if ((words[w] & bit) == 0)
+            return -1;
+        return ranks[w] + Long.bitCount(words[w] & (bit - 1));
+    }
+}
@@ -12,6 +12,7 @@ import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPOrderedS
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.OrderedSetX;
+import cyclops.control.Eval;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
 import org.jooq.lambda.tuple.Tuple2;
@@ -126,9 +127,15 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
      * @return Reducer for POrderedSet
      */
     public static  Reducer<POrderedSet<Integer>> toPOrderedSet() {
-        return Reducer.<POrderedSet<Integer>> of(ScalaBitSetX.emptyPOrderedSet(),
+        return BuilderReducer.of(Reducer.<POrderedSet<Integer>> of(ScalaBitSetX.emptyPOrderedSet(),
                                                  (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
-                                      (final Integer x) -> ScalaBitSetX.singleton(x));
+                                      (final Integer x) -> ScalaBitSetX.singleton(x)),
+                                 it -> {
+                                     Builder<Integer, BitSet> lb = (Builder)BitSet$.MODULE$.newBuilder();
+                                     while (it.hasNext())
+                                         lb.$plus$eq((Integer) it.next());
+                                     return fromSet(lb.result());
+                                 });
     }
     
   
@@ -185,6 +192,11 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
 
     @Wither
     private final BitSet set;
+    private final Eval<BitSetIndex> index = Eval.later(this::buildIndex);
+
+    private BitSetIndex buildIndex() {
+        return BitSetIndex.of(set.toBitMask());
+    }
 
     @Override
     public ScalaBitSetX plus(Integer e) {
@@ -246,12 +258,14 @@ public class ScalaBitSetX extends AbstractSet<Integer>implements POrderedSet<Int
 
     @Override
     public Integer get(int index) {
-        return (Integer) set.toIndexedSeq().toVector().apply(index);
+        return this.index.get().select(index);
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toIndexedSeq().toVector().indexOf(o);
+        if (o instanceof Integer)
+            return index.get().rank((Integer) o);
+        return -1;
     }
 
     @Override
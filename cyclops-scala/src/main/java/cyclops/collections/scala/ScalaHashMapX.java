@@ -28,7 +28,7 @@ import scala.collection.immutable.MapLike;
 import scala.collection.immutable.TreeMap;
 import scala.collection.mutable.Builder;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ScalaHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, HasScalaCollection, Unwrapable {
+public class ScalaHashMapX<K,V> extends AbstractMapView<K,V> implements PMap<K,V>, HasScalaCollection, Unwrapable {
     
     @Wither
     HashMap<K,V> map;
@@ -110,10 +110,8 @@ public class ScalaHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
         
     }
     @Override
-    public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return ReactiveSeq.fromIterable(JavaConverters.asJavaIterable(map))
-                        .map(t->(java.util.Map.Entry<K,V>)new SimpleEntry<K,V>(t._1,t._2))
-                        .toSet();
+    HashMap<K, V> delegate() {
+        return map;
     }
     @Override
     public GenTraversableOnce traversable() {
@@ -153,8 +153,14 @@ public class ScalaHashSetX<T> extends AbstractSet<T>implements PSet<T>, HasScala
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ScalaHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(ScalaHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaHashSetX.singleton(x)),
+                                 it -> {
+                                     Builder<T, HashSet> lb = HashSet$.MODULE$.newBuilder();
+                                     while (it.hasNext())
+                                         lb.$plus$eq((T) it.next());
+                                     return fromSet(lb.result());
+                                 });
     }
     public static <T> LazyPSetX<T> lazySet(HashSet<T> set){
         return fromPSet(fromSet(set), toPSet());
@@ -1,9 +1,14 @@
 package cyclops.collections.scala;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
@@ -15,7 +20,6 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.FoldToList;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyLinkedListX;
 import com.aol.cyclops2.types.Unwrapable;
-import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.LinkedListX;
 import cyclops.collections.immutable.PersistentQueueX;
 import cyclops.function.Reducer;
@@ -28,19 +32,16 @@ import org.pcollections.PStack;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-import lombok.val;
-import lombok.experimental.Wither;
 import scala.collection.GenTraversableOnce;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.List;
 import scala.collection.immutable.List$;
-import scala.collection.Seq;
 import scala.collection.mutable.Builder;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScalaCollection<T>, Unwrapable {
 
-    static final FoldToList gen = (it, i)-> ScalaListX.from(from(it,i));
+    static final FoldToList gen = (it, i)-> ScalaListX.from(from(it));
     public static <T> LinkedListX<T> listX(ReactiveSeq<T> stream){
         return fromStream(stream);
     }
@@ -77,7 +78,7 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
      * @return LazyLinkedListX
      */
     public static <T> LazyLinkedListX<T> fromStream(Stream<T> stream) {
-        return new LazyLinkedListX<T>(null,ReactiveSeq.fromStream(stream), toPStack(), gen, Evaluation.LAZY);
+        return new LazyScalaListX<T>(null,ReactiveSeq.fromStream(stream), toPStack(), null);
     }
 
     /**
@@ -162,8 +163,15 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ScalaListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaListX.singleton(x));
+        //plusAll prepends each element, so prepend here too to keep the order of the pairwise reduction
+        return BuilderReducer.of(Reducer.<PStack<T>> of(ScalaListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaListX.singleton(x)),
+                                 it -> {
+                                     List<T> list = List$.MODULE$.empty();
+                                     while (it.hasNext())
+                                         list = list.$colon$colon((T) it.next());
+                                     return fromList(list);
+                                 });
     }
 
     public static <T> ScalaListX<T> fromList(List<T> list) {
@@ -175,7 +183,7 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
     }
 
     private static <T> LazyLinkedListX<T> fromPStack(PStack<T> s, Reducer<PStack<T>> pStackReducer) {
-        return new LazyLinkedListX<T>(s,null, pStackReducer,gen, Evaluation.LAZY);
+        return new LazyScalaListX<T>(s,null, pStackReducer, null);
     }
 
 
@@ -205,7 +213,7 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
             lb.$plus$eq(next);
         List<T> vec = lb.result();
         return fromPStack(new ScalaListX<>(
-                                                        vec),
+                                                        vec, t.length),
                                       toPStack());
     }
 
@@ -220,12 +228,30 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
         return fromPStack(of(elements),  toPStack());
     }
 
-    @Wither
     final List<T> list;
+    //List.size walks the whole list, so the length is computed at most once and carried through structural operations
+    //-1 until known, racy single-check is safe as the length of an immutable list never changes
+    private int size;
+
+    private ScalaListX(List<T> list) {
+        this(list, -1);
+    }
+
+    public ScalaListX<T> withList(List<T> list) {
+        return this.list == list ? this : new ScalaListX<>(list);
+    }
+
+    private ScalaListX<T> withList(List<T> list, int size) {
+        return new ScalaListX<>(list, size);
+    }
+
+    private int sizeAfter(int delta) {
+        return size < 0 ? -1 : size + delta;
+    }
 
     @Override
     public ScalaListX<T> plus(T e) {
-        return withList(list.$colon$colon(e));
+        return withList(list.$colon$colon(e), sizeAfter(1));
     }
 
     @Override
@@ -233,16 +259,18 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
         if(l instanceof ScalaListX){ //if a ScalaList is passed in use ScalaTypes diretly
             final CanBuildFrom<List<?>, T, List<T>> builder = List.<T> canBuildFrom();
             final CanBuildFrom<List<T>, T, List<T>> builder2 = (CanBuildFrom) builder;
-            List<T> toAdd = ((ScalaListX)l).list;
-            
-            return withList(list.$plus$plus(toAdd, builder2));
+            ScalaListX<T> toAdd = (ScalaListX)l;
+            int added = toAdd.size;
+            return withList(list.$plus$plus(toAdd.list, builder2), added < 0 ? -1 : sizeAfter(added));
         }
         List<T> vec = list;
+        int added = 0;
         for (T next : l) {
             vec = vec.$colon$colon(next);
+            added++;
         }
 
-        return withList(vec);
+        return withList(vec, sizeAfter(added));
     }
 
     @Override
@@ -251,9 +279,11 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
             throw new IndexOutOfBoundsException(
                                                 "Index " + i + " is out of bounds - size : " + size());
 
-        return withList(list.drop(i + 1)
-                            .$colon$colon(e)
-                            .$colon$colon$colon((List<T>)list.dropRight(size()-i)));
+        Object[] front = new Object[i];
+        List<T> rest = splitInto(front);
+        if (!rest.isEmpty())
+            return withList(prependAll(front, ((List<T>) rest.tail()).$colon$colon(e)), size);
+        return withList(prependAll(front, rest.$colon$colon(e)), size + 1);
     }
 
     @Override
@@ -262,18 +292,10 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
             throw new IndexOutOfBoundsException(
                                                 "Index " + i + " is out of bounds - size : " + size());
         if (i == 0)
-            return withList(list.$colon$colon(e));
-        final CanBuildFrom<List<?>, T, List<T>> builder = List.<T> canBuildFrom();
-        final CanBuildFrom<Seq<T>, T, List<T>> builder2 = (CanBuildFrom) builder;
-        if (i == size()) {
-
-            return withList(list.<T,List<T>>$colon$plus(e, builder2));
-        }
-
-        val frontBack = list.splitAt(i);
-
-        val back = frontBack._2.$colon$colon(e);
-        return withList(back.$colon$colon$colon(frontBack._1));
+            return withList(list.$colon$colon(e), size + 1);
+        Object[] front = new Object[Math.min(i, size)];
+        List<T> rest = splitInto(front);
+        return withList(prependAll(front, rest.$colon$colon(e)), size + 1);
 
     }
 
@@ -288,73 +310,93 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
         if(l instanceof ScalaListX){ //if a ScalaList is passed in use ScalaTypes diretly
             final CanBuildFrom<List<?>, T, List<T>> builder = List.<T> canBuildFrom();
             final CanBuildFrom<List<T>, T, List<T>> builder2 = (CanBuildFrom) builder;
-            List<T> toAdd = ((ScalaListX)l).list;
-            
-            return withList(list.$plus$plus(toAdd, builder2));
+            ScalaListX<T> toAdd = (ScalaListX)l;
+            int added = toAdd.size;
+            return withList(list.$plus$plus(toAdd.list, builder2), added < 0 ? -1 : size + added);
         }
-        List<T> l2 = l instanceof ScalaListX ? ((ScalaListX)l).list : List$.MODULE$.empty();
-        if(!(l instanceof ScalaListX)){
-            for (T next : l) {
-                l2 = l2.$colon$colon(next);
-            }
+        List<T> l2 = List$.MODULE$.empty();
+        int added = 0;
+        for (T next : l) {
+            l2 = l2.$colon$colon(next);
+            added++;
         }
         if (i == 0)
-            return withList(list.$colon$colon$colon(l2));
-        final CanBuildFrom<List<?>, T, List<T>> builder = List.<T> canBuildFrom();
-        final CanBuildFrom<List<T>, T, List<T>> builder2 = (CanBuildFrom) builder;
-        if (i == size()) {
-
-            return withList(l2.$colon$colon$colon(list));
-        }
+            return withList(list.$colon$colon$colon(l2), size + added);
 
-        val frontBack = list.splitAt(i);
-
-        val back = frontBack._2.$colon$colon$colon(l2);
-        return withList(back.$colon$colon$colon(frontBack._1));
+        Object[] front = new Object[Math.min(i, size)];
+        List<T> rest = splitInto(front);
+        return withList(prependAll(front, rest.$colon$colon$colon(l2)), size + added);
     }
 
     @Override
     public ScalaListX<T> minus(Object e) {
-        if (size() == 0)
-            return this;
-        if (head().equals(e)){
-            List<T> tail = (List<T>)list.tail();
-            if(tail==null)
-                return emptyPStack();
-            return withList(tail);
+        //copy the elements before the first match, the remainder after it is shared
+        ArrayList<T> front = new ArrayList<>();
+        List<T> rest = list;
+        while (!rest.isEmpty()) {
+            T next = rest.head();
+            rest = (List<T>) rest.tail();
+            if (Objects.equals(next, e))
+                return withList(prependAll(front, front.size(), rest), sizeAfter(-1));
+            front.add(next);
         }
-        List<T> newRest = tail().minus(e).list;
-
-        if (newRest == (List<T>)list.tail())
-            return this;
-       
-        return withList(newRest.$colon$colon(head()));
+        return this;
     }
 
     @Override
     public ScalaListX<T> minusAll(Collection<?> l) {
-        if (size() == 0)
-            return this;
-       
-        if (l.contains(head())){
-            List<T> res1 = (List<T>)list.tail();
-            if(res1==null)
-                return withList(List$.MODULE$.empty());
-            return tail().minusAll(l);
+        //elements after the last removed element are shared with this list
+        ArrayList<T> kept = new ArrayList<>();
+        int keptBeforeShared = 0;
+        int removed = 0;
+        List<T> shared = list;
+        List<T> rest = list;
+        while (!rest.isEmpty()) {
+            T next = rest.head();
+            rest = (List<T>) rest.tail();
+            if (l.contains(next)) {
+                keptBeforeShared = kept.size();
+                shared = rest;
+                removed++;
+            } else {
+                kept.add(next);
+            }
         }
-       
-        List<T> res2 = (List<T>)list.tail();
-        if(res2==null)
-            return withList(List$.MODULE$.empty());
-        List<T> newRest = tail().minusAll(l).list;
-        if (newRest == list.tail())
+        if (shared == list)
             return this;
-        return withList(newRest.$colon$colon(head()));
-        
+        return withList(prependAll(kept, keptBeforeShared, shared), sizeAfter(-removed));
+    }
+
+    private static <E> List<E> prependAll(java.util.List<E> front, int count, List<E> rest) {
+        List<E> result = rest;
+        for (int i = count - 1; i >= 0; i--) {
+            result = result.$colon$colon(front.get(i));
+        }
+        return result;
+    }
+
+    private static <E> List<E> prependAll(Object[] front, List<E> rest) {
+        List<E> result = rest;
+        for (int i = front.length - 1; i >= 0; i--) {
+            result = result.$colon$colon((E) front[i]);
+        }
+        return result;
+    }
+
+    /*
+     * Copies the leading elements of this list into front and returns the list that follows them
+     */
+    private List<T> splitInto(Object[] front) {
+        List<T> rest = list;
+        for (int k = 0; k < front.length; k++) {
+            front[k] = rest.head();
+            rest = (List<T>) rest.tail();
+        }
+        return rest;
     }
 
     public ScalaListX<T> tail() {
-        return withList((List<T>) list.tail());
+        return withList((List<T>) list.tail(), sizeAfter(-1));
     }
 
     public T head() {
@@ -367,26 +409,19 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
         if (i < 0 || i > size())
             throw new IndexOutOfBoundsException(
                                                 "Index " + i + " is out of bounds - size : " + size());
-        if (i == 0)
-            return withList(list.drop(1));
-        if (i == size() - 1)
-            return withList(list.dropRight(1)
-                                .toList());
-        val frontBack = list.splitAt(i);
-        final CanBuildFrom<List<?>, T, List<T>> builder = List.<T> canBuildFrom();
-        final CanBuildFrom<List<T>, T, List<T>> builder2 = (CanBuildFrom) builder;
-        val front = frontBack._1;
-        
-        List<T> result = (List<T>) front.$plus$plus(frontBack._2.drop(1), builder2);
-
-        return withList(result);
+        if (i == size)
+            return this;
+        Object[] front = new Object[i];
+        List<T> rest = splitInto(front);
+        return withList(prependAll(front, (List<T>) rest.tail()), size - 1);
     }
 
     @Override
     public ScalaListX<T> subList(int start, int end) {
-
+        int known = size;
+        boolean inRange = known >= 0 && 0 <= start && start <= end && end <= known;
         return withList(list.drop(start)
-                            .take(end - start));
+                            .take(end - start), inRange ? end - start : -1);
     }
 
     @Override
@@ -396,12 +431,61 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
 
     @Override
     public int size() {
-        return list.size();
+        int s = size;
+        if (s < 0)
+            size = s = list.size();
+        return s;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
     }
 
     @Override
     public ScalaListX<T> subList(int start) {
-        return withList(list.drop(start));
+        int known = size;
+        return withList(list.drop(start), known >= 0 && 0 <= start && start <= known ? known - start : -1);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ListCursor<>(list, list, 0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ListCursor<>(list, list, 0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size())
+            throw new IndexOutOfBoundsException("Index: " + index);
+        return new ListCursor<>(list, list.drop(index), index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int i = 0;
+        for (List<T> rest = list; !rest.isEmpty(); rest = (List<T>) rest.tail()) {
+            if (Objects.equals(o, rest.head()))
+                return i;
+            i++;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (List<T> rest = list; !rest.isEmpty(); rest = (List<T>) rest.tail()) {
+            action.accept(rest.head());
+        }
     }
 
     @Override
@@ -414,15 +498,95 @@ public class ScalaListX<T> extends AbstractList<T>implements PStack<T>, HasScala
        return List.canBuildFrom();
     }
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        List<T> list = from(vec.iterator(),0);
+        List<T> list = from(vec.iterator());
         return fromPStack(fromList(list),toPStack());
 
     }
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
+    private static <E> List<E> from(final Iterator<E> i) {
+        Builder<E, List<E>> lb = List$.MODULE$.newBuilder();
+        while (i.hasNext())
+            lb.$plus$eq(i.next());
+        return lb.result();
+    }
 
-        if(!i.hasNext())
-            return List$.MODULE$.empty();
-        E e = i.next();
-        return  from(i,depth++).$colon$colon(e);
+    /*
+     * Walks the list forward once. The elements already passed are only captured if the cursor is moved backwards,
+     * so forward iteration allocates nothing per element.
+     */
+    private static final class ListCursor<E> implements ListIterator<E> {
+        private final List<E> start;
+        private List<E> rest;
+        private int index;
+        private ArrayList<E> passed;
+
+        ListCursor(List<E> start, List<E> rest, int index) {
+            this.start = start;
+            this.rest = rest;
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (passed != null && index < passed.size()) || !rest.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (passed != null && index < passed.size())
+                return passed.get(index++);
+            if (rest.isEmpty())
+                throw new NoSuchElementException();
+            E next = rest.head();
+            rest = (List<E>) rest.tail();
+            if (passed != null)
+                passed.add(next);
+            index++;
+            return next;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        public E previous() {
+            if (index == 0)
+                throw new NoSuchElementException();
+            if (passed == null) {
+                passed = new ArrayList<>(index);
+                List<E> walk = start;
+                for (int k = 0; k < index; k++) {
+                    passed.add(walk.head());
+                    walk = (List<E>) walk.tail();
+                }
+            }
+            return passed.get(--index);
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
@@ -159,8 +159,14 @@ public class ScalaQueueX<T> extends AbstractQueue<T> implements PQueue<T>, HasSc
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(ScalaQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaQueueX.singleton(x));
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(ScalaQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaQueueX.singleton(x)),
+                                 it -> {
+                                     Builder<T, Queue<T>> lb = Queue$.MODULE$.newBuilder();
+                                     while (it.hasNext())
+                                         lb.$plus$eq((T) it.next());
+                                     return fromQueue(lb.result());
+                                 });
     }
 
     public static <T> ScalaQueueX<T> fromQueue(Queue<T> queue) {
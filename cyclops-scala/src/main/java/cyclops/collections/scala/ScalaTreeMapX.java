@@ -29,7 +29,7 @@ import scala.collection.immutable.TreeMap;
 import scala.collection.immutable.TreeMap$;
 import scala.collection.mutable.Builder;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ScalaTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, HasScalaCollection, Unwrapable {
+public class ScalaTreeMapX<K,V> extends AbstractMapView<K,V> implements PMap<K,V>, HasScalaCollection, Unwrapable {
     
     @Wither
     TreeMap<K,V> map;
@@ -118,10 +118,8 @@ public class ScalaTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
         
     }
     @Override
-    public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return ReactiveSeq.fromIterable(JavaConverters.asJavaIterable(map))
-                        .map(t->(java.util.Map.Entry<K,V>)new SimpleEntry<K,V>(t._1,t._2))
-                        .toSet();
+    TreeMap<K, V> delegate() {
+        return map;
     }
     @Override
     public GenTraversableOnce traversable() {
@@ -168,14 +168,23 @@ public class ScalaTreeSetX<T> extends AbstractSet<T> implements POrderedSet<T>,
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                      (final T x) -> ScalaTreeSetX.singleton(x)),
+                                 it -> build(Comparator.<T>naturalOrder(), it));
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(ordering),
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(ScalaTreeSetX.emptyPOrderedSet(ordering),
                                            (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreeSetX.singleton(ordering,x));
+                                      (final T x) -> ScalaTreeSetX.singleton(ordering,x)),
+                                 it -> build(ordering, it));
+    }
+
+    private static <T> ScalaTreeSetX<T> build(Comparator<T> comp, Iterator<?> it) {
+        Builder<T, TreeSet<T>> lb = TreeSet$.MODULE$.newBuilder(Converters.<T>ordering(comp));
+        while (it.hasNext())
+            lb.$plus$eq((T) it.next());
+        return fromSet(lb.result());
     }
 
     public static <T> ScalaTreeSetX<T> fromSet(TreeSet<T> set) {
@@ -155,7 +155,13 @@ public class ScalaVectorX<T> extends AbstractList<T> implements PVector<T>, HasS
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ScalaVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ScalaVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(ScalaVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ScalaVectorX.singleton(x)),
+                                 it -> {
+                                     VectorBuilder<T> vb = builder();
+                                     while (it.hasNext())
+                                         vb.$plus$eq((T) it.next());
+                                     return fromVector(vb.result());
+                                 });
     }
     
     public static <T> VectorBuilder<T> builder(){
@@ -4,7 +4,10 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.ListIterator;
 
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
 import cyclops.collections.scala.ScalaListX;
 import org.junit.Before;
 import org.junit.Test;
@@ -144,4 +147,66 @@ public class PStackTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void copyLarge(){
+        LinkedListX<Integer> copy = ScalaListX.copyFromCollection(ListX.range(0,100_000));
+        assertThat(copy.size(),equalTo(100_000));
+        assertThat(copy.get(0),equalTo(0));
+        assertThat(copy.get(99_999),equalTo(99_999));
+    }
+    @Test
+    public void minusLarge(){
+        ScalaListX<Integer> large = ScalaListX.copyFromCollection(ListX.range(0,100_000)).unwrap();
+        ScalaListX<Integer> removed = large.minus((Object)99_999);
+        assertThat(removed.size(),equalTo(99_999));
+        assertThat(removed.get(99_998),equalTo(99_998));
+        assertThat(large.minus((Object)100_000),equalTo(large));
+    }
+    @Test
+    public void minusAllLarge(){
+        ScalaListX<Integer> large = ScalaListX.copyFromCollection(ListX.range(0,100_000)).unwrap();
+        ScalaListX<Integer> odds = large.minusAll(ListX.range(0,100_000).filter(i->i%2==0).toSetX());
+        assertThat(odds.size(),equalTo(50_000));
+        assertThat(odds.get(0),equalTo(1));
+        assertThat(odds.get(49_999),equalTo(99_999));
+    }
+    @Test
+    public void minusAllSharesTail(){
+        ScalaListX<Integer> list = ScalaListX.copyFromCollection(ListX.of(1,2,3,4,5)).unwrap();
+        assertThat(list.minusAll(Arrays.asList(2,4)),equalTo(Arrays.asList(1,3,5)));
+        assertThat(list.minusAll(Arrays.asList(6)),equalTo(list));
+        assertThat(list.minusAll(Arrays.asList(1,2,3,4,5)).size(),equalTo(0));
+    }
+    @Test
+    public void sizeCarriedThroughIndexedOps(){
+        ScalaListX<Integer> list = ScalaListX.copyFromCollection(ListX.of(1,2,3,4,5)).unwrap();
+        assertThat(list.with(2,30),equalTo(Arrays.asList(1,2,30,4,5)));
+        assertThat(list.with(2,30).size(),equalTo(5));
+        assertThat(list.plus(5,6),equalTo(Arrays.asList(1,2,3,4,5,6)));
+        assertThat(list.plus(2,6).size(),equalTo(6));
+        assertThat(list.minus(4),equalTo(Arrays.asList(1,2,3,4)));
+        assertThat(list.minus(1).minus(0).size(),equalTo(3));
+        assertThat(list.plusAll(2,Arrays.asList(7,8)).size(),equalTo(7));
+        assertThat(list.subList(1,3).size(),equalTo(2));
+        assertThat(list.tail().plus(0).size(),equalTo(5));
+    }
+    @Test
+    public void listIteration(){
+        ScalaListX<Integer> list = ScalaListX.copyFromCollection(ListX.of(1,2,3,4,5)).unwrap();
+        assertThat(list.indexOf(3),equalTo(2));
+        assertThat(list.indexOf(6),equalTo(-1));
+        assertThat(list.contains(5),equalTo(true));
+        assertThat(list.lastIndexOf(1),equalTo(0));
+        ListIterator<Integer> it = list.listIterator(2);
+        assertThat(it.next(),equalTo(3));
+        assertThat(it.previous(),equalTo(3));
+        assertThat(it.previous(),equalTo(2));
+        assertThat(it.next(),equalTo(2));
+        assertThat(it.next(),equalTo(3));
+        assertThat(it.next(),equalTo(4));
+        assertThat(it.nextIndex(),equalTo(4));
+        ListX<Integer> seen = ListX.empty();
+        list.forEach(seen::add);
+        assertThat(seen,equalTo(Arrays.asList(1,2,3,4,5)));
+    }
 }
@@ -0,0 +1,59 @@
+package com.aol.cyclops.scala.collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import cyclops.collections.scala.ScalaBitSetX;
+import scala.collection.immutable.BitSet;
+import scala.collection.immutable.BitSet$;
+import org.junit.Test;
+
+public class ScalaBitSetXTest {
+
+    ScalaBitSetX sparse = ScalaBitSetX.emptyPOrderedSet().plusAll(Arrays.asList(0, 3, 63, 64, 65, 200, 1000));
+
+    @Test
+    public void get(){
+        assertThat(sparse.get(0),equalTo(0));
+        assertThat(sparse.get(2),equalTo(63));
+        assertThat(sparse.get(3),equalTo(64));
+        assertThat(sparse.get(5),equalTo(200));
+        assertThat(sparse.get(6),equalTo(1000));
+    }
+    @Test
+    public void indexOf(){
+        assertThat(sparse.indexOf(0),equalTo(0));
+        assertThat(sparse.indexOf(65),equalTo(4));
+        assertThat(sparse.indexOf(1000),equalTo(6));
+        assertThat(sparse.indexOf(1),equalTo(-1));
+        assertThat(sparse.indexOf(5000),equalTo(-1));
+        assertThat(sparse.indexOf(-1),equalTo(-1));
+        assertThat(sparse.indexOf("hello"),equalTo(-1));
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getOutOfRange(){
+        sparse.get(7);
+    }
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void getEmpty(){
+        ScalaBitSetX.emptyPOrderedSet().get(0);
+    }
+    @Test
+    public void indexAfterPlus(){
+        assertThat(sparse.plus(100).get(5),equalTo(100));
+        assertThat(sparse.plus(100).indexOf(200),equalTo(6));
+    }
+    @Test
+    public void large(){
+        BitSet set = BitSet$.MODULE$.empty();
+        for(int i=0;i<300_000;i+=3)
+            set = set.$plus(i);
+        ScalaBitSetX large = ScalaBitSetX.fromSet(set);
+        for(int i=0;i<100_000;i++){
+            assertThat(large.get(i),equalTo(i*3));
+            assertThat(large.indexOf(i*3),equalTo(i));
+        }
+    }
+}
@@ -9,6 +9,8 @@ import cyclops.collections.scala.ScalaTreeMapX;
 import cyclops.collections.scala.ScalaVectorX;
 import cyclops.companion.MapXs;
 import cyclops.companion.PersistentMapXs;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
 import org.junit.Test;
 import scala.collection.immutable.*;
 
@@ -202,4 +204,19 @@ public class ScalaConvertersTest {
         assertTrue(list.contains(3),list.toString());
     }
 
+    @Test
+    public void reducersMatchPairwiseFold(){
+        assertMatchesPairwiseFold(ScalaTypes.<Integer>list());
+        assertMatchesPairwiseFold(ScalaTypes.<Integer>vector());
+        assertMatchesPairwiseFold(ScalaTypes.<Integer>queue());
+        assertMatchesPairwiseFold(ScalaTypes.<Integer>hashSet());
+        assertMatchesPairwiseFold(ScalaTypes.<Integer>treeSet());
+        assertMatchesPairwiseFold(ScalaTypes.bitset());
+    }
+    private <C extends java.lang.Iterable<Integer>> void assertMatchesPairwiseFold(Reducer<C> reducer){
+        C built = reducer.mapReduce(ReactiveSeq.of(5, 3, 1, 4, 2, 3));
+        C folded = reducer.reduce(reducer.mapToType(ReactiveSeq.of(5, 3, 1, 4, 2, 3)));
+        assertThat(ListX.fromIterable(built), equalTo(ListX.fromIterable(folded)));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package cyclops.collections.vavr;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+import io.vavr.collection.Map;
+
+/*
+ * AbstractMap over a vavr Map. entrySet, keySet and values are live views of the vavr Map, so no copy is made, and
+ * size, isEmpty, containsKey and containsValue delegate to it directly.
+ */
+abstract class AbstractMapView<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * @return The vavr Map this Map is backed by
+     */
+    abstract Map<K, V> delegate();
+
+    @Override
+    public Set<java.util.Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<java.util.Map.Entry<K, V>>() {
+            @Override
+            public Iterator<java.util.Map.Entry<K, V>> iterator() {
+                return delegate().iterator()
+                                 .<java.util.Map.Entry<K, V>>map(t -> new SimpleImmutableEntry<>(t._1, t._2));
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof java.util.Map.Entry))
+                    return false;
+                java.util.Map.Entry<?, ?> e = (java.util.Map.Entry<?, ?>) o;
+                return delegate().get((K) e.getKey())
+                                 .map(v -> Objects.equals(v, e.getValue()))
+                                 .getOrElse(false);
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return delegate().iterator().map(t -> t._1);
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return delegate().iterator().map(t -> t._2);
+            }
+
+            @Override
+            public int size() {
+                return delegate().size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate().containsKey((K) key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate().containsValue((V) value);
+    }
+}
@@ -0,0 +1,113 @@
+package cyclops.collections.vavr;
+
+import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPVectorX;
+import com.aol.cyclops2.types.foldable.Evaluation;
+import cyclops.collections.immutable.VectorX;
+import cyclops.control.Eval;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import io.vavr.collection.Vector;
+import org.pcollections.PVector;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+ * LazyPVectorX that runs map, filter, limit, skip and reverse with the native vavr Vector operations once its
+ * backing Vector has been materialized. Native stages are deferred and composed, so a chain of them is only run when
+ * the result is first read, and never passes through a ReactiveSeq or the Reducer.
+ * Stages over a collection that is still backed by a Stream, or by another kind of PVector, take the ReactiveSeq path.
+ */
+final class LazyVavrVectorX<T> extends LazyPVectorX<T> {
+
+    private final Eval<Vector<T>> pending;
+
+    LazyVavrVectorX(PVector<T> vector, ReactiveSeq<T> seq, Reducer<PVector<T>> reducer, Eval<Vector<T>> pending) {
+        super(vector, seq, reducer, Evaluation.LAZY);
+        this.pending = pending;
+    }
+
+    @Override
+    public PVector<T> materializeList(ReactiveSeq<T> toUse) {
+        if (pending != null)
+            return VavrVectorX.fromVector(pending.get());
+        return super.materializeList(toUse);
+    }
+
+    @Override
+    public <X> LazyPVectorX<X> fromStream(ReactiveSeq<X> stream) {
+        return new LazyVavrVectorX<X>(null, stream, (Reducer) getCollectorInternal(), null);
+    }
+
+    @Override
+    public <X> LazyPVectorX<X> from(Collection<X> c) {
+        if (c instanceof PVector)
+            return new LazyVavrVectorX<X>((PVector<X>) c, null, (Reducer) getCollectorInternal(), null);
+        return fromStream(ReactiveSeq.fromIterable(c));
+    }
+
+    @Override
+    public <R> VectorX<R> map(Function<? super T, ? extends R> mapper) {
+        Eval<Vector<T>> source = nativeVector();
+        if (source == null)
+            return super.map(mapper);
+        return stage(stream().map(mapper), source, v -> v.map(mapper));
+    }
+
+    @Override
+    public VectorX<T> filter(Predicate<? super T> predicate) {
+        Eval<Vector<T>> source = nativeVector();
+        if (source == null)
+            return super.filter(predicate);
+        return stage(stream().filter(predicate), source, v -> v.filter(predicate));
+    }
+
+    @Override
+    public VectorX<T> limit(long num) {
+        Eval<Vector<T>> source = nativeVector();
+        if (source == null || num < 0)
+            return super.limit(num);
+        return stage(stream().limit(num), source, v -> v.take((int) Math.min(num, Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public VectorX<T> skip(long num) {
+        Eval<Vector<T>> source = nativeVector();
+        if (source == null || num < 0)
+            return super.skip(num);
+        return stage(stream().skip(num), source, v -> v.drop((int) Math.min(num, Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public VectorX<T> reverse() {
+        Eval<Vector<T>> source = nativeVector();
+        if (source == null)
+            return super.reverse();
+        return stage(stream().reverse(), source, Vector::reverse);
+    }
+
+    /**
+     * @return true if this collection is built by native stages rather than by its ReactiveSeq
+     */
+    boolean isStaged() {
+        return pending != null;
+    }
+
+    /**
+     * @return The backing Vector (possibly still pending), or null if this collection is not natively backed
+     */
+    private Eval<Vector<T>> nativeVector() {
+        if (seq.get() == null) {
+            PVector<T> vector = getList();
+            while (vector instanceof LazyPVectorX)
+                vector = ((LazyPVectorX<T>) vector).get();
+            return vector instanceof VavrVectorX ? Eval.now(((VavrVectorX<T>) vector).<Vector<T>>unwrap()) : null;
+        }
+        return pending;
+    }
+
+    private <R> LazyVavrVectorX<R> stage(ReactiveSeq<R> stream, Eval<Vector<T>> source, Function<Vector<T>, Vector<R>> op) {
+        return new LazyVavrVectorX<R>(null, stream, (Reducer) getCollectorInternal(), Eval.later(() -> op.apply(source.get())));
+    }
+}
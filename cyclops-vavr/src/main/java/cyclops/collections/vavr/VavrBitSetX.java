@@ -6,6 +6,7 @@ import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPOrderedS
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.OrderedSetX;
+import cyclops.control.Eval;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
 import lombok.AccessLevel;
@@ -120,9 +121,10 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
      * @return Reducer for POrderedSet
      */
     public static  Reducer<POrderedSet<Integer>> toPOrderedSet() {
-        return Reducer.<POrderedSet<Integer>> of(VavrBitSetX.emptyPOrderedSet(),
+        return BuilderReducer.of(Reducer.<POrderedSet<Integer>> of(VavrBitSetX.emptyPOrderedSet(),
                                                  (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
-                                      (final Integer x) -> VavrBitSetX.singleton(x));
+                                      (final Integer x) -> VavrBitSetX.singleton(x)),
+                                 it -> fromSet(BitSet.ofAll(io.vavr.collection.Iterator.ofAll((Iterator<Integer>) it))));
     }
     
   
@@ -176,6 +178,16 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
 
     @Wither
     private final BitSet set;
+    private final Eval<BitSetIndex> index = Eval.later(this::buildIndex);
+
+    private BitSetIndex buildIndex() {
+        long[] words = new long[set.isEmpty() ? 0 : ((Integer) set.last() >> 6) + 1];
+        for (Object next : set) {
+            int member = (Integer) next;
+            words[member >> 6] |= 1L << member;
+        }
+        return BitSetIndex.of(words);
+    }
 
     @Override
     public VavrBitSetX plus(Integer e) {
@@ -231,12 +243,14 @@ public class VavrBitSetX extends AbstractSet<Integer>implements POrderedSet<Inte
 
     @Override
     public Integer get(int index) {
-        return (Integer) set.toVector().apply(index);
+        return this.index.get().select(index);
     }
 
     @Override
     public int indexOf(Object o) {
-        return set.toVector().indexOf(o);
+        if (o instanceof Integer)
+            return index.get().rank((Integer) o);
+        return -1;
     }
 
 
@@ -1,6 +1,5 @@
 package cyclops.collections.vavr;
 
-import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +21,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class VavrHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Unwrapable{
+public class VavrHashMapX<K,V> extends AbstractMapView<K,V> implements PMap<K,V>, Unwrapable{
 
     public static <K,V> PersistentMapX<K,V> copyFromMap(Map<K,V> map){
         return VavrHashMapX.<K,V>empty()
@@ -97,16 +96,15 @@ public class VavrHashMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Un
         
     }
     @Override
-    public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return map.toJavaMap().entrySet();
-        
+    HashMap<K, V> delegate() {
+        return map;
     }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
      */
     @Override
     public V get(Object key) {
-       return (V)map.get((K)key);
+       return map.get((K)key).getOrNull();
     }
    
     
@@ -134,7 +134,8 @@ public class VavrHashSetX<T> extends AbstractSet<T> implements PSet<T>, Unwrapab
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(VavrHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> VavrHashSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<PSet<T>> of(VavrHashSetX.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> VavrHashSetX.singleton(x)),
+                                 it -> new VavrHashSetX<>(HashSet.ofAll(io.vavr.collection.Iterator.ofAll((Iterator<T>) it))));
     }
 
     public static <T> LazyPSetX<T> PSet(Set<T> q) {
@@ -145,7 +145,14 @@ public class VavrListX<T> extends AbstractList<T> implements PStack<T>, Unwrapab
      * @return Reducer for PVector
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(VavrListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> VavrListX.singleton(x));
+        //plusAll prepends each element, so prepend here too to keep the order of the pairwise reduction
+        return BuilderReducer.of(Reducer.<PStack<T>> of(VavrListX.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> VavrListX.singleton(x)),
+                                 it -> {
+                                     List<T> list = List.empty();
+                                     while (it.hasNext())
+                                         list = list.prepend((T) it.next());
+                                     return new VavrListX<>(list);
+                                 });
     }
     
     public static <T> VavrListX<T> emptyPStack(){
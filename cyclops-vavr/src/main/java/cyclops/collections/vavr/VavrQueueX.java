@@ -138,7 +138,14 @@ public class VavrQueueX<T> extends AbstractQueue<T> implements PQueue<T>, Unwrap
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(VavrQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> VavrQueueX.singleton(x));
+        //plusAll prepends each element, so prepend here too to keep the order of the pairwise reduction
+        return BuilderReducer.of(Reducer.<PQueue<T>> of(VavrQueueX.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> VavrQueueX.singleton(x)),
+                                 it -> {
+                                     Queue<T> queue = Queue.empty();
+                                     while (it.hasNext())
+                                         queue = queue.prepend((T) it.next());
+                                     return new VavrQueueX<>(queue);
+                                 });
     }
     public static <T> VavrQueueX<T> emptyPQueue(){
         return new VavrQueueX<>(Queue.empty());
@@ -18,7 +18,7 @@ import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class VavrTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Unwrapable{
+public class VavrTreeMapX<K,V> extends AbstractMapView<K,V> implements PMap<K,V>, Unwrapable{
     
     @Wither
     TreeMap<K,V> map;
@@ -104,16 +104,15 @@ public class VavrTreeMapX<K,V> extends AbstractMap<K,V> implements PMap<K,V>, Un
         
     }
     @Override
-    public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return map.toJavaMap().entrySet();
-        
+    TreeMap<K, V> delegate() {
+        return map;
     }
     /* (non-Javadoc)
      * @see java.util.AbstractMap#get(java.lang.Object)
      */
     @Override
     public V get(Object key) {
-       return (V)map.get((K)key);
+       return map.get((K)key).getOrNull();
     }
    
     
@@ -145,12 +145,14 @@ public class VavrTreeSetX<T> extends AbstractSet<T>implements POrderedSet<T>, Un
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                           (final T x) -> VavrTreeSetX.singleton(x)),
+                                 it -> new VavrTreeSetX<T>(TreeSet.ofAll(io.vavr.collection.Iterator.ofAll((Iterator<T>) it))));
     }
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet(Comparator<? super T> comparator) {
-        return Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(comparator,x));
+        return BuilderReducer.of(Reducer.<POrderedSet<T>> of(VavrTreeSetX.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                           (final T x) -> VavrTreeSetX.singleton(comparator,x)),
+                                 it -> new VavrTreeSetX<T>(TreeSet.ofAll(comparator, io.vavr.collection.Iterator.ofAll((Iterator<T>) it))));
     }
     public static <T extends Comparable<? super T>> VavrTreeSetX<T> emptyPOrderedSet() {
         return new VavrTreeSetX<T>(TreeSet.empty());
@@ -1,6 +1,7 @@
 package cyclops.collections.vavr;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Function;
@@ -12,7 +13,6 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyLinkedListX;
 import com.aol.cyclops2.data.collections.extensions.lazy.immutable.LazyPVectorX;
 import com.aol.cyclops2.types.Unwrapable;
-import com.aol.cyclops2.types.foldable.Evaluation;
 import cyclops.collections.immutable.VectorX;
 import cyclops.function.Reducer;
 import cyclops.stream.ReactiveSeq;
@@ -50,7 +50,7 @@ public class VavrVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
      * @return LazyPVectorX
      */
     public static <T> LazyPVectorX<T> fromStream(Stream<T> stream) {
-        return new LazyPVectorX<T>(null, ReactiveSeq.fromStream(stream),toPVector(), Evaluation.LAZY);
+        return new LazyVavrVectorX<T>(null, ReactiveSeq.fromStream(stream),toPVector(), null);
     }
 
     /**
@@ -135,7 +135,16 @@ public class VavrVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(VavrVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> VavrVectorX.singleton(x));
+        return BuilderReducer.of(Reducer.<PVector<T>> of(VavrVectorX.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> VavrVectorX.singleton(x)),
+                                 it -> {
+                                     ArrayList<T> buffer = new ArrayList<>();
+                                     while (it.hasNext())
+                                         buffer.add((T) it.next());
+                                     return new VavrVectorX<>(Vector.ofAll(buffer));
+                                 });
+    }
+    public static <T> VavrVectorX<T> fromVector(Vector<T> vector){
+        return new VavrVectorX<>(vector);
     }
     public static <T> VavrVectorX<T> emptyPVector(){
         return new VavrVectorX<>(Vector.empty());
@@ -144,7 +153,7 @@ public class VavrVectorX<T> extends AbstractList<T> implements PVector<T>, Unwra
         return fromPVector(new VavrVectorX<>(Vector.empty()), toPVector());
     }
     private static <T> LazyPVectorX<T> fromPVector(PVector<T> vec, Reducer<PVector<T>> pVectorReducer) {
-        return new LazyPVectorX<T>(vec,null, pVectorReducer,Evaluation.LAZY);
+        return new LazyVavrVectorX<T>(vec,null, pVectorReducer,null);
     }
     public static <T> LazyPVectorX<T> singleton(T t){
         return fromPVector(new VavrVectorX<>(Vector.of(t)), toPVector());
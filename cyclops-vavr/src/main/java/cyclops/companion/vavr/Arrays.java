@@ -42,7 +42,6 @@ import org.jooq.lambda.tuple.Tuple2;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
 import static com.aol.cyclops.vavr.hkt.ArrayKind.widen;
@@ -345,9 +344,30 @@ public class Arrays {
      */
     @UtilityClass
     public static class Instances {
+
+        private static final Functor<array> FUNCTOR = createFunctor();
+        private static final Pure<array> UNIT = createUnit();
+        private static final Applicative<array> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<array> MONAD = createMonad();
+        private static final MonadZero<array> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<array> MONAD_PLUS = createMonadPlus();
+        private static final Unfoldable<array> UNFOLDABLE = createUnfoldable();
+        private static final Traverse<array> TRAVERSE = createTraverse();
+        private static final Foldable<array> FOLDABLE = createFoldable();
+        private static final InstanceDefinitions<array> DEFINITIONS = createDefinitions();
         public static InstanceDefinitions<array> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<array> createDefinitions() {
             return new InstanceDefinitions<array>() {
 
+                private final Maybe<MonadZero<array>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<array>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<array>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<array>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<array>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<array> functor() {
                     return Instances.functor();
@@ -370,12 +390,12 @@ public class Arrays {
 
                 @Override
                 public <T, R> Maybe<MonadZero<array>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<array>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -385,12 +405,12 @@ public class Arrays {
 
                 @Override
                 public <C2, T> Maybe<Traverse<array>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<array>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -400,7 +420,7 @@ public class Arrays {
 
                 @Override
                 public <T> Maybe<Unfoldable<array>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
 
@@ -434,6 +454,9 @@ public class Arrays {
          * @return A functor for Arrays
          */
         public static <T,R>Functor<array> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<array> createFunctor(){
             BiFunction<ArrayKind<T>,Function<? super T, ? extends R>,ArrayKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -453,6 +476,9 @@ public class Arrays {
          * @return A factory for Arrays
          */
         public static <T> Pure<array> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<array> createUnit(){
             return General.<array,T>unit(ArrayKind::of);
         }
         /**
@@ -493,6 +519,9 @@ public class Arrays {
          * @return A zipper for Arrays
          */
         public static <T,R> Applicative<array> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<array> createZippingApplicative(){
             BiFunction<ArrayKind< Function<T, R>>,ArrayKind<T>,ArrayKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -523,6 +552,9 @@ public class Arrays {
          * @return Type class with monad functions for Arrays
          */
         public static <T,R> Monad<array> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<array> createMonad(){
 
             BiFunction<Higher<array,T>,Function<? super T, ? extends Higher<array,R>>,Higher<array,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -545,6 +577,9 @@ public class Arrays {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<array> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<array> createMonadZero(){
 
             return General.monadZero(monad(), widen(Array.empty()));
         }
@@ -561,6 +596,9 @@ public class Arrays {
          * @return Type class for combining Arrays by concatenation
          */
         public static <T> MonadPlus<array> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<array> createMonadPlus(){
             Monoid<ArrayKind<T>> m = Monoid.of(widen(Array.empty()), Instances::concat);
             Monoid<Higher<array,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -590,6 +628,9 @@ public class Arrays {
             return General.monadPlus(monadZero(),m2);
         }
         public static Unfoldable<array> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<array> createUnfoldable(){
             return new Unfoldable<array>() {
                 @Override
                 public <R, T> Higher<array, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
@@ -602,21 +643,20 @@ public class Arrays {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<array> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<array> createTraverse(){
 
             BiFunction<Applicative<C2>,ArrayKind<Higher<C2, T>>,Higher<C2, ArrayKind<T>>> sequenceFn = (ap, list) -> {
 
-                Higher<C2,ArrayKind<T>> identity = ap.unit(widen(Array.empty()));
-
-                BiFunction<Higher<C2,ArrayKind<T>>,Higher<C2,T>,Higher<C2,ArrayKind<T>>> combineToArray =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(ArrayKind.narrow(a).append(b))),
-                        acc,next);
+                //accumulate in reverse with O(1) prepends, effects are still combined left to right
+                Higher<C2,List<T>> identity = ap.unit(List.empty());
 
-                BinaryOperator<Higher<C2,ArrayKind<T>>> combineArrays = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(ArrayKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
+                Higher<C2,BiFunction<List<T>,T,List<T>>> prepend = ap.unit((a, b) -> a.prepend(b));
 
-                return ReactiveSeq.fromIterable(ArrayKind.narrow(list))
-                        .reduce(identity,
-                                combineToArray,
-                                combineArrays);
+                Higher<C2,List<T>> reversed = ArrayKind.narrow(list).foldLeft(identity, (acc, next) -> ap.apBiFn(prepend,acc,next));
 
+                return ap.map(l -> ArrayKind.widen(Array.ofAll(l.reverse())), reversed);
 
             };
             BiFunction<Applicative<C2>,Higher<array,Higher<C2, T>>,Higher<C2, Higher<array,T>>> sequenceNarrow  =
@@ -640,6 +680,9 @@ public class Arrays {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<array> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<array> createFoldable(){
             BiFunction<Monoid<T>,Higher<array,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(ArrayKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<array,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(ArrayKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
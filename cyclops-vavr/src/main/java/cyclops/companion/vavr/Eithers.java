@@ -486,8 +486,40 @@ public class Eithers {
 
     public static class Instances {
 
+        private static final Functor<Higher<either, Object>> FUNCTOR = createFunctor();
+        private static final Pure<Higher<either, Object>> UNIT = createUnit();
+        private static final Applicative<Higher<either, Object>> APPLICATIVE = createApplicative();
+        private static final Monad<Higher<either, Object>> MONAD = createMonad();
+        private static final Traverse<Higher<either, Object>> TRAVERSE = createTraverse();
+        private static final Foldable<Higher<either, Object>> FOLDABLE = createFoldable();
+        private static final MonadZero<Higher<either, Object>> MONAD_ZERO = createMonadZero();
+        private static final Comonad<Higher<either, Object>> COMONAD = createComonad();
+        private static final InstanceDefinitions<Higher<either, Object>> DEFINITIONS = createDefinitions();
+
+        private static final class MonadPlusHolder {
+            static final MonadPlus<Higher<either, Object>> INSTANCE = createMonadPlus();
+            static final Maybe<MonadPlus<Higher<either, Object>>> MAYBE = Maybe.just(INSTANCE);
+        }
+
+        /**
+         * The instances do not depend on the left type, so a single instance of each is shared by every left type.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> T shared(Object instance){
+            return (T)instance;
+        }
+
         public static <L> InstanceDefinitions<Higher<either, L>> definitions() {
+            return shared(DEFINITIONS);
+        }
+        private static <L> InstanceDefinitions<Higher<either, L>> createDefinitions() {
             return new InstanceDefinitions<Higher<either, L>>() {
+
+                private final Maybe<MonadZero<Higher<either, L>>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<Traverse<Higher<either, L>>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<Higher<either, L>>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<Higher<either, L>>> comonad = Maybe.just(Instances.comonad());
+
                 @Override
                 public <T, R> Functor<Higher<either, L>> functor() {
                     return Instances.functor();
@@ -510,12 +542,12 @@ public class Eithers {
 
                 @Override
                 public <T, R> Maybe<MonadZero<Higher<either, L>>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<Higher<either, L>>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return shared(MonadPlusHolder.MAYBE);
                 }
 
                 @Override
@@ -525,17 +557,17 @@ public class Eithers {
 
                 @Override
                 public <C2, T> Maybe<Traverse<Higher<either, L>>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<Higher<either, L>>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<Higher<either, L>>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -546,6 +578,9 @@ public class Eithers {
         }
 
         public static <L> Functor<Higher<either, L>> functor() {
+            return shared(FUNCTOR);
+        }
+        private static <L> Functor<Higher<either, L>> createFunctor() {
             return new Functor<Higher<either, L>>() {
 
                 @Override
@@ -557,6 +592,9 @@ public class Eithers {
         }
 
         public static <L> Pure<Higher<either, L>> unit() {
+            return shared(UNIT);
+        }
+        private static <L> Pure<Higher<either, L>> createUnit() {
             return new Pure<Higher<either, L>>() {
 
                 @Override
@@ -567,6 +605,9 @@ public class Eithers {
         }
 
         public static <L> Applicative<Higher<either, L>> applicative() {
+            return shared(APPLICATIVE);
+        }
+        private static <L> Applicative<Higher<either, L>> createApplicative() {
             return new Applicative<Higher<either, L>>() {
 
 
@@ -590,6 +631,9 @@ public class Eithers {
         }
 
         public static <L> Monad<Higher<either, L>> monad() {
+            return shared(MONAD);
+        }
+        private static <L> Monad<Higher<either, L>> createMonad() {
             return new Monad<Higher<either, L>>() {
 
                 @Override
@@ -617,6 +661,9 @@ public class Eithers {
         }
 
         public static <L> Traverse<Higher<either, L>> traverse() {
+            return shared(TRAVERSE);
+        }
+        private static <L> Traverse<Higher<either, L>> createTraverse() {
             return new Traverse<Higher<either, L>>() {
 
                 @Override
@@ -651,6 +698,9 @@ public class Eithers {
         }
 
         public static <L> Foldable<Higher<either, L>> foldable() {
+            return shared(FOLDABLE);
+        }
+        private static <L> Foldable<Higher<either, L>> createFoldable() {
             return new Foldable<Higher<either, L>>() {
 
 
@@ -669,6 +719,9 @@ public class Eithers {
         }
 
         public static <L> MonadZero<Higher<either, L>> monadZero() {
+            return shared(MONAD_ZERO);
+        }
+        private static <L> MonadZero<Higher<either, L>> createMonadZero() {
             return new MonadZero<Higher<either, L>>() {
 
                 @Override
@@ -701,8 +754,11 @@ public class Eithers {
         }
 
         public static <L> MonadPlus<Higher<either, L>> monadPlus() {
-            Monoid m = Monoids.firstPrimaryXor((Either) EitherKind.narrowK(Instances.<L>monadZero().zero()));
-
+            return shared(MonadPlusHolder.INSTANCE);
+        }
+        private static <L, T> MonadPlus<Higher<either, L>> createMonadPlus() {
+            Monoid<Higher<Higher<either, L>, T>> m = Monoid.of(EitherKind.leftK(null),
+                                                               (a, b) -> EitherKind.narrowK(a).isRight() ? a : b);
             return monadPlus(m);
         }
 
@@ -744,6 +800,9 @@ public class Eithers {
         }
 
         public static <L> Comonad<Higher<either, L>> comonad() {
+            return shared(COMONAD);
+        }
+        private static <L> Comonad<Higher<either, L>> createComonad() {
             return new ComonadByPure<Higher<either, L>>() {
 
 
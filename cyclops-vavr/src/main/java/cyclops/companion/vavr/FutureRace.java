@@ -0,0 +1,135 @@
+package cyclops.companion.vavr;
+
+import com.aol.cyclops2.react.Status;
+import cyclops.collections.immutable.LinkedListX;
+import cyclops.collections.mutable.ListX;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/*
+ * Races Futures against each other. Each completion is passed to a Judge, under the race lock, until the Judge decides
+ * the outcome. At that point every Future that has not yet completed is cancelled, and the number of Futures that
+ * accepted the cancellation is reported to onCancelled, exactly once per race and before the result completes.
+ */
+final class FutureRace<T, R> {
+
+    interface Judge<T, R> {
+        /*
+         * @param index the position of the Future in the race
+         * @return the outcome of the race, or null if it is not decided yet
+         */
+        Try<R> onComplete(int index, Try<T> outcome);
+    }
+
+    private final Future<T>[] racers;
+    private final Judge<T, R> judge;
+    private final IntConsumer onCancelled;
+    private final Promise<R> result;
+
+    //guarded by this
+    private final boolean[] finished;
+    private boolean decided;
+
+    private FutureRace(Future<T>[] racers, Judge<T, R> judge, IntConsumer onCancelled, ExecutorService executor) {
+        this.racers = racers;
+        this.judge = judge;
+        this.onCancelled = onCancelled;
+        this.result = Promise.make(executor);
+        this.finished = new boolean[racers.length];
+    }
+
+    static <T> Future<T> anyOf(IntConsumer onCancelled, Future<T>[] racers) {
+        return race(racers, (index, outcome) -> outcome, onCancelled);
+    }
+
+    static <T> Future<T> firstSuccess(IntConsumer onCancelled, Future<T>[] racers) {
+        return race(racers, new Judge<T, T>() {
+            Try<T> firstFailure;
+            int failed;
+
+            @Override
+            public Try<T> onComplete(int index, Try<T> outcome) {
+                if (outcome.isSuccess())
+                    return outcome;
+                if (index == 0)
+                    firstFailure = outcome;
+                if (++failed == racers.length)
+                    return firstFailure;
+                return null;
+            }
+        }, onCancelled);
+    }
+
+    static <T> Future<ListX<T>> quorum(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                       IntConsumer onCancelled, Future<T>[] racers) {
+        if (racers.length == 0)
+            return Future.successful(ListX.empty());
+        long start = System.nanoTime();
+        return race(racers, new Judge<T, ListX<T>>() {
+            final ArrayList<T> results = new ArrayList<>();
+            int completed;
+            int errors;
+
+            @Override
+            public Try<ListX<T>> onComplete(int index, Try<T> outcome) {
+                if (outcome.isSuccess()) {
+                    completed++;
+                    if (outcome.get() != null)
+                        results.add(outcome.get());
+                } else {
+                    errors++;
+                    errorHandler.accept(outcome.getCause());
+                }
+                Status<T> status = new Status<>(completed, errors, racers.length, System.nanoTime() - start,
+                                                LinkedListX.fromIterable(results));
+                if (breakout.test(status) || completed + errors == racers.length)
+                    return Try.success(ListX.fromIterable(results));
+                return null;
+            }
+        }, onCancelled);
+    }
+
+    private static <T, R> Future<R> race(Future<T>[] racers, Judge<T, R> judge, IntConsumer onCancelled) {
+        if (racers.length == 0)
+            return Future.failed(new NoSuchElementException("No Futures to race"));
+        FutureRace<T, R> race = new FutureRace<>(racers, judge, onCancelled, racers[0].executorService());
+        for (int i = 0; i < racers.length; i++) {
+            int index = i;
+            racers[i].onComplete(outcome -> race.complete(index, outcome));
+        }
+        return race.result.future();
+    }
+
+    private void complete(int index, Try<T> outcome) {
+        Try<R> decision;
+        ArrayList<Future<T>> losers = new ArrayList<>();
+        synchronized (this) {
+            finished[index] = true;
+            if (decided)
+                return;
+            decision = judge.onComplete(index, outcome);
+            if (decision == null)
+                return;
+            decided = true;
+            for (int i = 0; i < racers.length; i++) {
+                if (!finished[i])
+                    losers.add(racers[i]);
+            }
+        }
+        int cancelled = 0;
+        for (Future<T> loser : losers) {
+            if (!loser.isCompleted() && loser.cancel(true))
+                cancelled++;
+        }
+        onCancelled.accept(cancelled);
+        result.tryComplete(decision);
+    }
+}
@@ -0,0 +1,113 @@
+package cyclops.companion.vavr;
+
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/*
+ * Sliding window traversal: at most maxConcurrency Futures are in flight, and the next input is only pulled from the
+ * iterator (and its Future created) when an earlier one completes. Results are written to the slot of their input,
+ * so the order of the inputs is preserved whatever order the Futures complete in.
+ * The first failure fails the result, and no further inputs are launched.
+ */
+final class FutureTraversal<A, B> {
+
+    private final Iterator<? extends A> inputs;
+    private final Function<? super A, ? extends Future<? extends B>> fn;
+    private final Promise<Vector<B>> result;
+
+    //guarded by this
+    private final ArrayList<B> values = new ArrayList<>();
+    private int launched;
+    private int completed;
+    private boolean exhausted;
+    private boolean done;
+
+    private FutureTraversal(Iterator<? extends A> inputs, Function<? super A, ? extends Future<? extends B>> fn,
+                            ExecutorService executor) {
+        this.inputs = inputs;
+        this.fn = fn;
+        this.result = Promise.make(executor);
+    }
+
+    static <A, B> Future<Vector<B>> traverse(Iterable<? extends A> inputs, Function<? super A, ? extends Future<? extends B>> fn,
+                                             int maxConcurrency, ExecutorService executor) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be positive " + maxConcurrency);
+        FutureTraversal<A, B> traversal = new FutureTraversal<>(inputs.iterator(), fn, executor);
+        for (int i = 0; i < maxConcurrency && traversal.launchNext(); i++) {
+        }
+        return traversal.result.future();
+    }
+
+    /*
+     * @return true if another input was launched
+     */
+    private boolean launchNext() {
+        A next;
+        int index;
+        synchronized (this) {
+            if (done || exhausted)
+                return false;
+            try {
+                if (inputs.hasNext()) {
+                    next = inputs.next();
+                } else {
+                    exhausted = true;
+                    finishIfComplete();
+                    return false;
+                }
+            } catch (Throwable t) {
+                done = true;
+                result.tryFailure(t);
+                return false;
+            }
+            index = launched++;
+            values.add(null);
+        }
+        Future<? extends B> future;
+        try {
+            future = fn.apply(next);
+        } catch (Throwable t) {
+            fail(t);
+            return false;
+        }
+        future.onComplete(t -> complete(index, t));
+        return true;
+    }
+
+    private void finishIfComplete() {
+        if (exhausted && !done && completed == launched) {
+            done = true;
+            result.trySuccess(Vector.ofAll(values));
+        }
+    }
+
+    private void complete(int index, Try<? extends B> outcome) {
+        if (outcome.isFailure()) {
+            fail(outcome.getCause());
+            return;
+        }
+        synchronized (this) {
+            if (done)
+                return;
+            values.set(index, outcome.get());
+            completed++;
+            finishIfComplete();
+        }
+        launchNext();
+    }
+
+    private void fail(Throwable t) {
+        synchronized (this) {
+            done = true;
+        }
+        result.tryFailure(t);
+    }
+}
@@ -52,9 +52,11 @@ import org.reactivestreams.Subscriber;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 
@@ -200,6 +202,75 @@ public class Futures {
 
     }
 
+    /**
+     * Select the first Future to complete, and cancel the Futures that lost the race
+     *
+     * <pre>
+     * {@code
+     * Future<Response> hedged = Futures.anyOfCancelLosers(cancelled -> saved.add(cancelled),
+     *                                                     Future.of(() -> primary.call()),
+     *                                                     Future.of(() -> backup.call()));
+     * }
+     * </pre>
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Futures that were cancelled
+     * @param fts Futures to race
+     * @return First Future to complete
+     */
+    @SafeVarargs
+    public static <T> Future<T> anyOfCancelLosers(IntConsumer cancelled, Future<T>... fts) {
+        return FutureRace.anyOf(cancelled, fts);
+    }
+
+    /**
+     * Select the first Future to return with a successful result, and cancel the Futures that are still running
+     * once it has. If every Future fails the result fails with the error of the first Future passed in.
+     *
+     * @see Futures#firstSuccess(Future...)
+     *
+     * @param cancelled Called once the outcome is decided, with the number of losing Futures that were cancelled
+     * @param fts Futures to race
+     * @return First Future to return with a result
+     */
+    @SafeVarargs
+    public static <T> Future<T> firstSuccessCancelLosers(IntConsumer cancelled, Future<T>... fts) {
+        return FutureRace.firstSuccess(cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and cancel the Futures that are still
+     * running once it is reached
+     *
+     * @see Futures#quorum(Predicate, Future...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Futures that were cancelled
+     * @param fts Futures to wait on results from
+     * @return Future which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Future<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, IntConsumer cancelled, Future<T>... fts) {
+        return FutureRace.quorum(breakout, t -> { }, cancelled, fts);
+    }
+
+    /**
+     * Wait for a Quorum of results as determined by the provided Predicate, and cancel the Futures that are still
+     * running once it is reached
+     *
+     * @see Futures#quorum(Predicate, Consumer, Future...)
+     *
+     * @param breakout Predicate that determines whether the Quorum has been reached
+     * @param errorHandler Consumer to handle any exceptions thrown
+     * @param cancelled Called once the outcome is decided, with the number of outstanding Futures that were cancelled
+     * @param fts Futures to wait on results from
+     * @return Future which will be populated with a Quorum of results
+     */
+    @SafeVarargs
+    public static <T> Future<ListX<T>> quorumCancelLosers(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                                          IntConsumer cancelled, Future<T>... fts) {
+        return FutureRace.quorum(breakout, errorHandler, cancelled, fts);
+    }
+
     /**
      * Perform a For Comprehension over a Future, accepting 3 generating function.
      * This results in a four level nested internal iteration over the provided Futures.
@@ -531,10 +602,67 @@ public class Futures {
      * @return  Future with a List of values
      */
     public static <T> Future<ReactiveSeq<T>> sequence(final java.util.stream.Stream<Future<T>> opts) {
-        return AnyM.sequence(opts.map(Futures::anyM), future.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(VavrWitness::future);
+        java.lang.Iterable<Future<T>> futures = opts::iterator;
+        return traverse(futures, Function.identity(), Integer.MAX_VALUE)
+                .map(ReactiveSeq::fromIterable);
+
+    }
+
+    /**
+     * Traverse the inputs with the supplied Future returning function, keeping at most maxConcurrency Futures in flight.
+     * Inputs are pulled lazily in a sliding window, the next Future is only created once an earlier one completes, and
+     * the results are collected natively into a vavr Vector in input order. The first failure fails the result and no
+     * further inputs are launched.
+     *
+     * <pre>
+     * {@code
+     *  Future<Vector<User>> users = Futures.traverse(userIds, id -> Future.of(() -> loadUser(id)), 64);
+     * }
+     * </pre>
+     *
+     * @param inputs Inputs to traverse, iterated at most once
+     * @param fn Creates the Future for an input
+     * @param maxConcurrency Maximum number of incomplete Futures at any one time
+     * @return Future with a Vector of results in input order
+     */
+    public static <A, B> Future<Vector<B>> traverse(final java.lang.Iterable<? extends A> inputs,
+                                                    final Function<? super A, ? extends Future<? extends B>> fn,
+                                                    final int maxConcurrency) {
+        return traverse(inputs, fn, maxConcurrency, Future.DEFAULT_EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Traverse the inputs with the supplied Future returning function, keeping at most maxConcurrency Futures in flight.
+     *
+     * @see Futures#traverse(java.lang.Iterable, Function, int)
+     *
+     * @param inputs Inputs to traverse, iterated at most once
+     * @param fn Creates the Future for an input
+     * @param maxConcurrency Maximum number of incomplete Futures at any one time
+     * @param executor Executes the callbacks registered on the returned Future
+     * @return Future with a Vector of results in input order
+     */
+    public static <A, B> Future<Vector<B>> traverse(final java.lang.Iterable<? extends A> inputs,
+                                                    final Function<? super A, ? extends Future<? extends B>> fn,
+                                                    final int maxConcurrency, final ExecutorService executor) {
+        return FutureTraversal.traverse(inputs, fn, maxConcurrency, executor);
+    }
 
+    /**
+     * Traverse the inputs with the supplied Future returning function, keeping at most maxConcurrency Futures in flight,
+     * and collect the results into a vavr List in input order.
+     *
+     * @see Futures#traverse(java.lang.Iterable, Function, int)
+     *
+     * @param inputs Inputs to traverse, iterated at most once
+     * @param fn Creates the Future for an input
+     * @param maxConcurrency Maximum number of incomplete Futures at any one time
+     * @return Future with a List of results in input order
+     */
+    public static <A, B> Future<List<B>> traverseList(final java.lang.Iterable<? extends A> inputs,
+                                                      final Function<? super A, ? extends Future<? extends B>> fn,
+                                                      final int maxConcurrency) {
+        return Futures.<A, B>traverse(inputs, fn, maxConcurrency).map(Vector::toList);
     }
     /**
      * Accummulating operation using the supplied Reducer (@see cyclops2.Reducers). A typical use case is to accumulate into a Persistent Collection type.
@@ -735,9 +863,30 @@ public class Futures {
     @UtilityClass
     public static class Instances {
 
-        public static  InstanceDefinitions<future> definitions() {
+        private static final Functor<future> FUNCTOR = createFunctor();
+        private static final Pure<future> UNIT = createUnit();
+        private static final Applicative<future> APPLICATIVE = createApplicative();
+        private static final Monad<future> MONAD = createMonad();
+        private static final MonadZero<future> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<future> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<future> TRAVERSE = createTraverse();
+        private static final Foldable<future> FOLDABLE = createFoldable();
+        private static final Comonad<future> COMONAD = createComonad();
+        private static final InstanceDefinitions<future> DEFINITIONS = createDefinitions();
+
+        public static InstanceDefinitions<future> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<future> createDefinitions() {
             return new InstanceDefinitions<future>() {
 
+                private final Maybe<MonadZero<future>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<future>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<future>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<future>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<future>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<future> functor() {
                     return Instances.functor();
@@ -760,12 +909,12 @@ public class Futures {
 
                 @Override
                 public <T, R> Maybe<MonadZero<future>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<future>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -775,17 +924,17 @@ public class Futures {
 
                 @Override
                 public <C2, T> Maybe<Traverse<future>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<future>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<future>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -824,6 +973,9 @@ public class Futures {
          * @return A functor for Futures
          */
         public static <T,R>Functor<future> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<future> createFunctor(){
             BiFunction<FutureKind<T>,Function<? super T, ? extends R>,FutureKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -843,6 +995,9 @@ public class Futures {
          * @return A factory for Futures
          */
         public static <T> Pure<future> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<future> createUnit(){
             return General.<future,T>unit(Instances::of);
         }
         /**
@@ -882,6 +1037,9 @@ public class Futures {
          * @return A zipper for Futures
          */
         public static <T,R> Applicative<future> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<future> createApplicative(){
             BiFunction<FutureKind< Function<T, R>>,FutureKind<T>,FutureKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -912,6 +1070,9 @@ public class Futures {
          * @return Type class with monad functions for Futures
          */
         public static <T,R> Monad<future> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<future> createMonad(){
 
             BiFunction<Higher<future,T>,Function<? super T, ? extends Higher<future,R>>,Higher<future,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -934,6 +1095,9 @@ public class Futures {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<future> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<future> createMonadZero(){
 
             return General.monadZero(monad(), FutureKind.promise());
         }
@@ -950,6 +1114,9 @@ public class Futures {
          * @return Type class for combining Futures by concatenation
          */
         public static <T> MonadPlus<future> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<future> createMonadPlus(){
             Monoid<cyclops.async.Future<T>> mn = Monoids.firstSuccessfulFuture();
             Monoid<FutureKind<T>> m = Monoid.of(widen(mn.zero()), (f, g)-> widen(
                     mn.apply(ToCyclopsReact.future(f), ToCyclopsReact.future(g))));
@@ -986,6 +1153,9 @@ public class Futures {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<future> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<future> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -1006,11 +1176,17 @@ public class Futures {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<future> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<future> createFoldable(){
             BiFunction<Monoid<T>,Higher<future,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), FutureKind.narrow(l).get());
             BiFunction<Monoid<T>,Higher<future,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), FutureKind.narrow(l).get());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<future> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<future> createComonad(){
             Function<? super Higher<future, T>, ? extends T> extractFn = maybe -> maybe.convert(FutureKind::narrow).get();
             return General.comonad(functor(), unit(), extractFn);
         }
@@ -1019,7 +1195,7 @@ public class Futures {
             return widen(Future.successful(value));
         }
         private static <T,R> FutureKind<R> ap(FutureKind<Function< T, R>> lt, FutureKind<T> list){
-            return widen(ToCyclopsReact.future(lt).combine(ToCyclopsReact.future(list), (a, b)->a.apply(b)));
+            return widen(FutureKind.narrow(lt).zipWith(FutureKind.narrow(list), (a, b)->a.apply(b)));
 
         }
         private static <T,R> Higher<future,R> flatMap(Higher<future,T> lt, Function<? super T, ? extends  Higher<future,R>> fn){
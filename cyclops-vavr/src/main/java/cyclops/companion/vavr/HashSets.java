@@ -351,9 +351,30 @@ public class HashSets {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<hashSet> FUNCTOR = createFunctor();
+        private static final Pure<hashSet> UNIT = createUnit();
+        private static final Applicative<hashSet> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<hashSet> MONAD = createMonad();
+        private static final MonadZero<hashSet> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<hashSet> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<hashSet> TRAVERSE = createTraverse();
+        private static final Foldable<hashSet> FOLDABLE = createFoldable();
+        private static final Unfoldable<hashSet> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<hashSet> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<hashSet> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<hashSet> createDefinitions() {
             return new InstanceDefinitions<hashSet>() {
 
+                private final Maybe<MonadZero<hashSet>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<hashSet>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<hashSet>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<hashSet>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<hashSet>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<hashSet> functor() {
                     return Instances.functor();
@@ -376,12 +397,12 @@ public class HashSets {
 
                 @Override
                 public <T, R> Maybe<MonadZero<hashSet>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<hashSet>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -391,12 +412,12 @@ public class HashSets {
 
                 @Override
                 public <C2, T> Maybe<Traverse<hashSet>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<hashSet>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -406,7 +427,7 @@ public class HashSets {
 
                 @Override
                 public <T> Maybe<Unfoldable<hashSet>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -439,6 +460,9 @@ public class HashSets {
          * @return A functor for HashSets
          */
         public static <T,R>Functor<hashSet> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<hashSet> createFunctor(){
             BiFunction<HashSetKind<T>,Function<? super T, ? extends R>,HashSetKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -458,6 +482,9 @@ public class HashSets {
          * @return A factory for HashSets
          */
         public static <T> Pure<hashSet> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<hashSet> createUnit(){
             return General.<hashSet,T>unit(Instances::of);
         }
         /**
@@ -497,6 +524,9 @@ public class HashSets {
          * @return A zipper for HashSets
          */
         public static <T,R> Applicative<hashSet> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<hashSet> createZippingApplicative(){
             BiFunction<HashSetKind< Function<T, R>>,HashSetKind<T>,HashSetKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -527,6 +557,9 @@ public class HashSets {
          * @return Type class with monad functions for HashSets
          */
         public static <T,R> Monad<hashSet> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<hashSet> createMonad(){
 
             BiFunction<Higher<hashSet,T>,Function<? super T, ? extends Higher<hashSet,R>>,Higher<hashSet,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -549,6 +582,9 @@ public class HashSets {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<hashSet> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<hashSet> createMonadZero(){
             BiFunction<Higher<hashSet,T>,Predicate<? super T>,Higher<hashSet,T>> filter = Instances::filter;
             Supplier<Higher<hashSet, T>> zero = ()-> widen(HashSet.empty());
             return General.<hashSet,T,R>monadZero(monad(), zero,filter);
@@ -566,6 +602,9 @@ public class HashSets {
          * @return Type class for combining HashSets by concatenation
          */
         public static <T> MonadPlus<hashSet> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<hashSet> createMonadPlus(){
             Monoid<HashSetKind<T>> m = Monoid.of(widen(HashSet.<T>empty()), Instances::concat);
             Monoid<Higher<hashSet,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -599,6 +638,9 @@ public class HashSets {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<hashSet> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<hashSet> createTraverse(){
             BiFunction<Applicative<C2>,HashSetKind<Higher<C2, T>>,Higher<C2, HashSetKind<T>>> sequenceFn = (ap, set) -> {
 
                 Higher<C2,HashSetKind<T>> identity = ap.unit(widen(HashSet.empty()));
@@ -634,6 +676,9 @@ public class HashSets {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<hashSet> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<hashSet> createFoldable(){
             BiFunction<Monoid<T>,Higher<hashSet,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(HashSetKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<hashSet,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(HashSetKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -658,6 +703,9 @@ public class HashSets {
             return widen(HashSetKind.narrow(lt).filter(fn));
         }
         public static Unfoldable<hashSet> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<hashSet> createUnfoldable(){
             return new Unfoldable<hashSet>() {
                 @Override
                 public <R, T> Higher<hashSet, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
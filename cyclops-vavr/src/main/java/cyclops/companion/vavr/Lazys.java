@@ -465,9 +465,29 @@ public class Lazys {
     @UtilityClass
     public static class Instances {
 
-        public static  InstanceDefinitions<lazy> definitions() {
+        private static final Functor<lazy> FUNCTOR = createFunctor();
+        private static final Pure<lazy> UNIT = createUnit();
+        private static final Applicative<lazy> APPLICATIVE = createApplicative();
+        private static final Monad<lazy> MONAD = createMonad();
+        private static final MonadZero<lazy> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<lazy> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<lazy> TRAVERSE = createTraverse();
+        private static final Foldable<lazy> FOLDABLE = createFoldable();
+        private static final Comonad<lazy> COMONAD = createComonad();
+        private static final InstanceDefinitions<lazy> DEFINITIONS = createDefinitions();
+
+        public static InstanceDefinitions<lazy> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<lazy> createDefinitions() {
             return new InstanceDefinitions<lazy>() {
 
+                private final Maybe<MonadZero<lazy>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<lazy>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Foldable<lazy>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<lazy>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<lazy> functor() {
                     return Instances.functor();
@@ -490,12 +510,12 @@ public class Lazys {
 
                 @Override
                 public <T, R> Maybe<MonadZero<lazy>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<lazy>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -510,12 +530,12 @@ public class Lazys {
 
                 @Override
                 public <T> Maybe<Foldable<lazy>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<lazy>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -553,6 +573,9 @@ public class Lazys {
          * @return A functor for Lazys
          */
         public static <T,R>Functor<lazy> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<lazy> createFunctor(){
             BiFunction<LazyKind<T>,Function<? super T, ? extends R>,LazyKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -572,6 +595,9 @@ public class Lazys {
          * @return A factory for Lazys
          */
         public static <T> Pure<lazy> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<lazy> createUnit(){
             return General.<lazy,T>unit(Instances::of);
         }
         /**
@@ -612,6 +638,9 @@ public class Lazys {
          * @return A zipper for Lazys
          */
         public static <T,R> Applicative<lazy> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<lazy> createApplicative(){
             BiFunction<LazyKind< Function<T, R>>,LazyKind<T>,LazyKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -642,6 +671,9 @@ public class Lazys {
          * @return Type class with monad functions for Lazys
          */
         public static <T,R> Monad<lazy> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<lazy> createMonad(){
 
             BiFunction<Higher<lazy,T>,Function<? super T, ? extends Higher<lazy,R>>,Higher<lazy,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -664,6 +696,9 @@ public class Lazys {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<lazy> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<lazy> createMonadZero(){
 
             return General.monadZero(monad(), LazyKind.of(()->null));
         }
@@ -680,6 +715,9 @@ public class Lazys {
          * @return Type class for combining Lazys by concatenation
          */
         public static <T> MonadPlus<lazy> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<lazy> createMonadPlus(){
             Monoid<LazyKind<T>> m = Monoid.of( LazyKind.of(()->null),
                     (a,b)-> a.get()==null? b: a);
             Monoid<Higher<lazy,T>> m2= (Monoid)m;
@@ -714,6 +752,9 @@ public class Lazys {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<lazy> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<lazy> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -734,11 +775,17 @@ public class Lazys {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<lazy> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<lazy> createFoldable(){
             BiFunction<Monoid<T>,Higher<lazy,T>,T> foldRightFn =  (m, l)-> LazyKind.narrow(l).getOrElse(m.zero());
             BiFunction<Monoid<T>,Higher<lazy,T>,T> foldLeftFn = (m, l)-> LazyKind.narrow(l).getOrElse(m.zero());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<lazy> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<lazy> createComonad(){
             Function<? super Higher<lazy, T>, ? extends T> extractFn = maybe -> maybe.convert(LazyKind::narrow).get();
             return General.comonad(functor(), unit(), extractFn);
         }
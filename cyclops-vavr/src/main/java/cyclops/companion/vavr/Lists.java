@@ -344,9 +344,30 @@ public class Lists {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<list> FUNCTOR = createFunctor();
+        private static final Pure<list> UNIT = createUnit();
+        private static final Applicative<list> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<list> MONAD = createMonad();
+        private static final MonadZero<list> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<list> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<list> TRAVERSE = createTraverse();
+        private static final Foldable<list> FOLDABLE = createFoldable();
+        private static final Unfoldable<list> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<list> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<list> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<list> createDefinitions() {
             return new InstanceDefinitions<list>() {
 
+                private final Maybe<MonadZero<list>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<list>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<list>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<list>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<list>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<list> functor() {
                     return Instances.functor();
@@ -369,12 +390,12 @@ public class Lists {
 
                 @Override
                 public <T, R> Maybe<MonadZero<list>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<list>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -384,12 +405,12 @@ public class Lists {
 
                 @Override
                 public <C2, T> Maybe<Traverse<list>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<list>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -399,7 +420,7 @@ public class Lists {
 
                 @Override
                 public <T> Maybe<Unfoldable<list>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -432,6 +453,9 @@ public class Lists {
          * @return A functor for Lists
          */
         public static <T,R>Functor<list> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<list> createFunctor(){
             BiFunction<ListKind<T>,Function<? super T, ? extends R>,ListKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -451,6 +475,9 @@ public class Lists {
          * @return A factory for Lists
          */
         public static <T> Pure<list> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<list> createUnit(){
             return General.<list,T>unit(Instances::of);
         }
         /**
@@ -490,6 +517,9 @@ public class Lists {
          * @return A zipper for Lists
          */
         public static <T,R> Applicative<list> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<list> createZippingApplicative(){
             BiFunction<ListKind< Function<T, R>>,ListKind<T>,ListKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -520,6 +550,9 @@ public class Lists {
          * @return Type class with monad functions for Lists
          */
         public static <T,R> Monad<list> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<list> createMonad(){
 
             BiFunction<Higher<list,T>,Function<? super T, ? extends Higher<list,R>>,Higher<list,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -542,6 +575,9 @@ public class Lists {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<list> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<list> createMonadZero(){
             BiFunction<Higher<list,T>,Predicate<? super T>,Higher<list,T>> filter = Instances::filter;
             Supplier<Higher<list, T>> zero = ()-> widen(List.empty());
             return General.<list,T,R>monadZero(monad(), zero,filter);
@@ -559,6 +595,9 @@ public class Lists {
          * @return Type class for combining Lists by concatenation
          */
         public static <T> MonadPlus<list> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<list> createMonadPlus(){
             Monoid<ListKind<T>> m = Monoid.of(widen(List.<T>empty()), Instances::concat);
             Monoid<Higher<list,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -592,18 +631,19 @@ public class Lists {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<list> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<list> createTraverse(){
             BiFunction<Applicative<C2>,ListKind<Higher<C2, T>>,Higher<C2, ListKind<T>>> sequenceFn = (ap, list) -> {
 
-                Higher<C2,ListKind<T>> identity = ap.unit(widen(List.empty()));
+                //accumulate in reverse with O(1) prepends, effects are still combined left to right
+                Higher<C2,List<T>> identity = ap.unit(List.empty());
 
-                BiFunction<Higher<C2,ListKind<T>>,Higher<C2,T>,Higher<C2,ListKind<T>>> combineToList =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> concat(a, ListKind.just(b))),acc,next);
+                Higher<C2,BiFunction<List<T>,T,List<T>>> prepend = ap.unit((a, b) -> a.prepend(b));
 
-                BinaryOperator<Higher<C2,ListKind<T>>> combineLists = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> { return concat(l1,l2);}),a,b); ;
-
-                return ReactiveSeq.fromIterable(list).reduce(identity,
-                        combineToList,
-                        combineLists);
+                Higher<C2,List<T>> reversed = ListKind.narrow(list).foldLeft(identity, (acc, next) -> ap.apBiFn(prepend,acc,next));
 
+                return ap.map(l -> ListKind.widen(l.reverse()), reversed);
 
             };
             BiFunction<Applicative<C2>,Higher<list,Higher<C2, T>>,Higher<C2, Higher<list,T>>> sequenceNarrow  =
@@ -627,6 +667,9 @@ public class Lists {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<list> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<list> createFoldable(){
             BiFunction<Monoid<T>,Higher<list,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(ListKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<list,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(ListKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -651,6 +694,9 @@ public class Lists {
             return widen(ListKind.narrow(lt).filter(fn));
         }
         public static Unfoldable<list> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<list> createUnfoldable(){
             return new Unfoldable<list>() {
                 @Override
                 public <R, T> Higher<list, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
@@ -633,9 +633,30 @@ public class Options {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<option> FUNCTOR = createFunctor();
+        private static final Pure<option> UNIT = createUnit();
+        private static final Applicative<option> APPLICATIVE = createApplicative();
+        private static final Monad<option> MONAD = createMonad();
+        private static final MonadZero<option> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<option> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<option> TRAVERSE = createTraverse();
+        private static final Foldable<option> FOLDABLE = createFoldable();
+        private static final Comonad<option> COMONAD = createComonad();
+        private static final InstanceDefinitions<option> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<option> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<option> createDefinitions() {
             return new InstanceDefinitions<option>() {
 
+                private final Maybe<MonadZero<option>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<option>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<option>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<option>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<option>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<option> functor() {
                     return Instances.functor();
@@ -658,12 +679,12 @@ public class Options {
 
                 @Override
                 public <T, R> Maybe<MonadZero<option>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<option>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -673,17 +694,17 @@ public class Options {
 
                 @Override
                 public <C2, T> Maybe<Traverse<option>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<option>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<option>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -721,6 +742,9 @@ public class Options {
          * @return A functor for Options
          */
         public static <T,R>Functor<option> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<option> createFunctor(){
             BiFunction<OptionKind<T>,Function<? super T, ? extends R>,OptionKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -740,6 +764,9 @@ public class Options {
          * @return A factory for Options
          */
         public static <T> Pure<option> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<option> createUnit(){
             return General.<option,T>unit(Instances::of);
         }
         /**
@@ -780,6 +807,9 @@ public class Options {
          * @return A zipper for Options
          */
         public static <T,R> Applicative<option> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<option> createApplicative(){
             BiFunction<OptionKind< Function<T, R>>,OptionKind<T>,OptionKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -810,6 +840,9 @@ public class Options {
          * @return Type class with monad functions for Options
          */
         public static <T,R> Monad<option> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<option> createMonad(){
 
             BiFunction<Higher<option,T>,Function<? super T, ? extends Higher<option,R>>,Higher<option,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -832,6 +865,9 @@ public class Options {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<option> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<option> createMonadZero(){
 
             return General.monadZero(monad(), OptionKind.none());
         }
@@ -848,6 +884,9 @@ public class Options {
          * @return Type class for combining Options by concatenation
          */
         public static <T> MonadPlus<option> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<option> createMonadPlus(){
             Monoid<OptionKind<T>> m = Monoid.of( OptionKind.ofOptional(Monoids.<T>firstPresentOptional().zero()),
                     (a,b)-> OptionKind.ofOptional(Monoids.<T>firstPresentOptional().apply(a.toJavaOptional(),b.toJavaOptional())));
             Monoid<Higher<option,T>> m2= (Monoid)m;
@@ -882,6 +921,9 @@ public class Options {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<option> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<option> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -902,11 +944,17 @@ public class Options {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<option> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<option> createFoldable(){
             BiFunction<Monoid<T>,Higher<option,T>,T> foldRightFn =  (m, l)-> OptionKind.narrow(l).getOrElse(m.zero());
             BiFunction<Monoid<T>,Higher<option,T>,T> foldLeftFn = (m, l)-> OptionKind.narrow(l).getOrElse(m.zero());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<option> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<option> createComonad(){
             Function<? super Higher<option, T>, ? extends T> extractFn = maybe -> maybe.convert(OptionKind::narrow).get();
             return General.comonad(functor(), unit(), extractFn);
         }
@@ -915,7 +963,7 @@ public class Options {
             return widen(Option.of(value));
         }
         private static <T,R> OptionKind<R> ap(OptionKind<Function< T, R>> lt, OptionKind<T> option){
-            return widen(FromCyclopsReact.option(ToCyclopsReact.maybe(lt).combine(ToCyclopsReact.maybe(option), (a, b)->a.apply(b))));
+            return widen(OptionKind.narrow(lt).flatMap(fn->OptionKind.narrow(option).map(fn)));
 
         }
         private static <T,R> Higher<option,R> flatMap(Higher<option,T> lt, Function<? super T, ? extends  Higher<option,R>> fn){
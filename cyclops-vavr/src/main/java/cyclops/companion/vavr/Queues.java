@@ -44,7 +44,6 @@ import org.jooq.lambda.tuple.Tuple2;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
 
 import static com.aol.cyclops.vavr.hkt.QueueKind.widen;
@@ -351,9 +350,30 @@ public class Queues {
      */
     @UtilityClass
     public static class Instances {
+
+        private static final Functor<queue> FUNCTOR = createFunctor();
+        private static final Pure<queue> UNIT = createUnit();
+        private static final Applicative<queue> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<queue> MONAD = createMonad();
+        private static final MonadZero<queue> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<queue> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<queue> TRAVERSE = createTraverse();
+        private static final Foldable<queue> FOLDABLE = createFoldable();
+        private static final Unfoldable<queue> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<queue> DEFINITIONS = createDefinitions();
         public static InstanceDefinitions<queue> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<queue> createDefinitions() {
             return new InstanceDefinitions<queue>() {
 
+                private final Maybe<MonadZero<queue>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<queue>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<queue>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<queue>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<queue>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<queue> functor() {
                     return Instances.functor();
@@ -376,12 +396,12 @@ public class Queues {
 
                 @Override
                 public <T, R> Maybe<MonadZero<queue>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<queue>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -391,12 +411,12 @@ public class Queues {
 
                 @Override
                 public <C2, T> Maybe<Traverse<queue>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<queue>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -406,7 +426,7 @@ public class Queues {
 
                 @Override
                 public <T> Maybe<Unfoldable<queue>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -440,6 +460,9 @@ public class Queues {
          * @return A functor for Queues
          */
         public static <T,R>Functor<queue> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<queue> createFunctor(){
             BiFunction<QueueKind<T>,Function<? super T, ? extends R>,QueueKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -459,6 +482,9 @@ public class Queues {
          * @return A factory for Queues
          */
         public static <T> Pure<queue> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<queue> createUnit(){
             return General.<queue,T>unit(QueueKind::of);
         }
         /**
@@ -499,6 +525,9 @@ public class Queues {
          * @return A zipper for Queues
          */
         public static <T,R> Applicative<queue> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<queue> createZippingApplicative(){
             BiFunction<QueueKind< Function<T, R>>,QueueKind<T>,QueueKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -529,6 +558,9 @@ public class Queues {
          * @return Type class with monad functions for Queues
          */
         public static <T,R> Monad<queue> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<queue> createMonad(){
 
             BiFunction<Higher<queue,T>,Function<? super T, ? extends Higher<queue,R>>,Higher<queue,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -551,6 +583,9 @@ public class Queues {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<queue> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<queue> createMonadZero(){
 
             return General.monadZero(monad(), widen(Queue.empty()));
         }
@@ -567,6 +602,9 @@ public class Queues {
          * @return Type class for combining Queues by concatenation
          */
         public static <T> MonadPlus<queue> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<queue> createMonadPlus(){
             Monoid<QueueKind<T>> m = Monoid.of(widen(Queue.empty()), Instances::concat);
             Monoid<Higher<queue,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -600,21 +638,20 @@ public class Queues {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<queue> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<queue> createTraverse(){
 
             BiFunction<Applicative<C2>,QueueKind<Higher<C2, T>>,Higher<C2, QueueKind<T>>> sequenceFn = (ap, list) -> {
 
-                Higher<C2,QueueKind<T>> identity = ap.unit(widen(Queue.empty()));
+                //accumulate in reverse with O(1) prepends, effects are still combined left to right
+                Higher<C2,List<T>> identity = ap.unit(List.empty());
 
-                BiFunction<Higher<C2,QueueKind<T>>,Higher<C2,T>,Higher<C2,QueueKind<T>>> combineToQueue =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> widen(QueueKind.narrow(a).append(b))),
-                        acc,next);
+                Higher<C2,BiFunction<List<T>,T,List<T>>> prepend = ap.unit((a, b) -> a.prepend(b));
 
-                BinaryOperator<Higher<C2,QueueKind<T>>> combineQueues = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> widen(QueueKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
-
-                return ReactiveSeq.fromIterable(QueueKind.narrow(list))
-                        .reduce(identity,
-                                combineToQueue,
-                                combineQueues);
+                Higher<C2,List<T>> reversed = QueueKind.narrow(list).foldLeft(identity, (acc, next) -> ap.apBiFn(prepend,acc,next));
 
+                return ap.map(l -> QueueKind.widen(Queue.ofAll(l.reverse())), reversed);
 
             };
             BiFunction<Applicative<C2>,Higher<queue,Higher<C2, T>>,Higher<C2, Higher<queue,T>>> sequenceNarrow  =
@@ -638,6 +675,9 @@ public class Queues {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<queue> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<queue> createFoldable(){
             BiFunction<Monoid<T>,Higher<queue,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(QueueKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<queue,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(QueueKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -659,6 +699,9 @@ public class Queues {
             return widen(QueueKind.narrow(lt).map(in->fn.apply(in)));
         }
         public static Unfoldable<queue> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<queue> createUnfoldable(){
             return new Unfoldable<queue>() {
                 @Override
                 public <R, T> Higher<queue, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
@@ -615,9 +615,30 @@ public class Trys {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<tryType> FUNCTOR = createFunctor();
+        private static final Pure<tryType> UNIT = createUnit();
+        private static final Applicative<tryType> APPLICATIVE = createApplicative();
+        private static final Monad<tryType> MONAD = createMonad();
+        private static final MonadZero<tryType> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<tryType> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<tryType> TRAVERSE = createTraverse();
+        private static final Foldable<tryType> FOLDABLE = createFoldable();
+        private static final Comonad<tryType> COMONAD = createComonad();
+        private static final InstanceDefinitions<tryType> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<tryType> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<tryType> createDefinitions() {
             return new InstanceDefinitions<tryType>() {
 
+                private final Maybe<MonadZero<tryType>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<tryType>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<tryType>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<tryType>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Comonad<tryType>> comonad = Maybe.just(Instances.comonad());
+
+
                 @Override
                 public <T, R> Functor<tryType> functor() {
                     return Instances.functor();
@@ -640,12 +661,12 @@ public class Trys {
 
                 @Override
                 public <T, R> Maybe<MonadZero<tryType>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<tryType>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -655,17 +676,17 @@ public class Trys {
 
                 @Override
                 public <C2, T> Maybe<Traverse<tryType>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<tryType>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
                 public <T> Maybe<Comonad<tryType>> comonad() {
-                    return Maybe.just(Instances.comonad());
+                    return comonad;
                 }
 
                 @Override
@@ -704,6 +725,9 @@ public class Trys {
          * @return A functor for Trys
          */
         public static <T,R>Functor<tryType> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<tryType> createFunctor(){
             BiFunction<TryKind<T>,Function<? super T, ? extends R>,TryKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -723,6 +747,9 @@ public class Trys {
          * @return A factory for Trys
          */
         public static <T> Pure<tryType> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<tryType> createUnit(){
             return General.<tryType,T>unit(Instances::of);
         }
         /**
@@ -762,6 +789,9 @@ public class Trys {
          * @return A zipper for Trys
          */
         public static <T,R> Applicative<tryType> applicative(){
+            return APPLICATIVE;
+        }
+        private static <T,R> Applicative<tryType> createApplicative(){
             BiFunction<TryKind< Function<T, R>>,TryKind<T>,TryKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -792,6 +822,9 @@ public class Trys {
          * @return Type class with monad functions for Trys
          */
         public static <T,R> Monad<tryType> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<tryType> createMonad(){
 
             BiFunction<Higher<tryType,T>,Function<? super T, ? extends Higher<tryType,R>>,Higher<tryType,R>> flatMap = Instances::flatMap;
             return General.monad(applicative(), flatMap);
@@ -814,6 +847,9 @@ public class Trys {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<tryType> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<tryType> createMonadZero(){
 
             return General.monadZero(monad(), TryKind.failed(new NoSuchElementException()));
         }
@@ -830,6 +866,9 @@ public class Trys {
          * @return Type class for combining Trys by concatenation
          */
         public static <T> MonadPlus<tryType> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<tryType> createMonadPlus(){
             Monoid<cyclops.control.Try<T,Throwable>> mn = Monoids.firstTrySuccess(new NoSuchElementException());
             Monoid<TryKind<T>> m = Monoid.of(widen(mn.zero()), (f, g)-> widen(
                     mn.apply(ToCyclopsReact.toTry(f), ToCyclopsReact.toTry(g))));
@@ -862,6 +901,9 @@ public class Trys {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<tryType> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<tryType> createTraverse(){
 
             return General.traverseByTraverse(applicative(), Instances::traverseA);
         }
@@ -882,11 +924,17 @@ public class Trys {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<tryType> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<tryType> createFoldable(){
             BiFunction<Monoid<T>,Higher<tryType,T>,T> foldRightFn =  (m, l)-> m.apply(m.zero(), TryKind.narrow(l).get());
             BiFunction<Monoid<T>,Higher<tryType,T>,T> foldLeftFn = (m, l)->  m.apply(m.zero(), TryKind.narrow(l).get());
             return General.foldable(foldRightFn, foldLeftFn);
         }
         public static <T> Comonad<tryType> comonad(){
+            return COMONAD;
+        }
+        private static <T> Comonad<tryType> createComonad(){
             Function<? super Higher<tryType, T>, ? extends T> extractFn = maybe -> maybe.convert(TryKind::narrow).get();
             return General.comonad(functor(), unit(), extractFn);
         }
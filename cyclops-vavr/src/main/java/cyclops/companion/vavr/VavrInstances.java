@@ -0,0 +1,59 @@
+package cyclops.companion.vavr;
+
+import cyclops.monads.VavrWitness;
+import cyclops.monads.WitnessType;
+import cyclops.typeclasses.InstanceDefinitions;
+import lombok.experimental.UtilityClass;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the shared type class instances defined in this module, keyed by witness type. Each lookup is a single
+ * identity hash map read and allocates nothing, so it can be used on hot paths instead of calling the companion
+ * classes' Instances.definitions() directly.
+ *
+ * <pre>
+ * {@code
+ *  InstanceDefinitions<list> defs = VavrInstances.definitions(VavrWitness.list.INSTANCE).get();
+ * }
+ * </pre>
+ *
+ * Witnesses with a type parameter of their own (such as either) are not registered, use the companion class.
+ */
+@UtilityClass
+public class VavrInstances {
+
+    private static final Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> DEFINITIONS = createDefinitions();
+
+    private static Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> createDefinitions(){
+        Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions = new IdentityHashMap<>();
+        register(definitions, VavrWitness.array.INSTANCE, Arrays.Instances.definitions());
+        register(definitions, VavrWitness.future.INSTANCE, Futures.Instances.definitions());
+        register(definitions, VavrWitness.hashSet.INSTANCE, HashSets.Instances.definitions());
+        register(definitions, VavrWitness.lazy.INSTANCE, Lazys.Instances.definitions());
+        register(definitions, VavrWitness.list.INSTANCE, Lists.Instances.definitions());
+        register(definitions, VavrWitness.option.INSTANCE, Options.Instances.definitions());
+        register(definitions, VavrWitness.queue.INSTANCE, Queues.Instances.definitions());
+        register(definitions, VavrWitness.stream.INSTANCE, Streams.Instances.definitions());
+        register(definitions, VavrWitness.tryType.INSTANCE, Trys.Instances.definitions());
+        register(definitions, VavrWitness.vector.INSTANCE, Vectors.Instances.definitions());
+        return Collections.unmodifiableMap(definitions);
+    }
+
+    private static <W extends WitnessType<W>> void register(Map<WitnessType<?>, Optional<? extends InstanceDefinitions<?>>> definitions,
+                                                           W witness, InstanceDefinitions<W> instances){
+        definitions.put(witness, Optional.of(instances));
+    }
+
+    /**
+     * @param witness Witness type to look up
+     * @return The shared InstanceDefinitions for the witness, or an empty Optional if it is not defined in this module
+     */
+    public static <W extends WitnessType<W>> Optional<InstanceDefinitions<W>> definitions(W witness){
+        Optional<? extends InstanceDefinitions<?>> instances = DEFINITIONS.get(witness);
+        return instances == null ? Optional.empty() : (Optional<InstanceDefinitions<W>>) instances;
+    }
+}
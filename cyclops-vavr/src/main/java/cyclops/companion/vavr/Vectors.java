@@ -328,9 +328,30 @@ public class Vectors {
     @UtilityClass
     public static class Instances {
 
+        private static final Functor<vector> FUNCTOR = createFunctor();
+        private static final Pure<vector> UNIT = createUnit();
+        private static final Applicative<vector> ZIPPING_APPLICATIVE = createZippingApplicative();
+        private static final Monad<vector> MONAD = createMonad();
+        private static final MonadZero<vector> MONAD_ZERO = createMonadZero();
+        private static final MonadPlus<vector> MONAD_PLUS = createMonadPlus();
+        private static final Traverse<vector> TRAVERSE = createTraverse();
+        private static final Foldable<vector> FOLDABLE = createFoldable();
+        private static final Unfoldable<vector> UNFOLDABLE = createUnfoldable();
+        private static final InstanceDefinitions<vector> DEFINITIONS = createDefinitions();
+
         public static InstanceDefinitions<vector> definitions() {
+            return DEFINITIONS;
+        }
+        private static InstanceDefinitions<vector> createDefinitions() {
             return new InstanceDefinitions<vector>() {
 
+                private final Maybe<MonadZero<vector>> monadZero = Maybe.just(Instances.monadZero());
+                private final Maybe<MonadPlus<vector>> monadPlus = Maybe.just(Instances.monadPlus());
+                private final Maybe<Traverse<vector>> traverse = Maybe.just(Instances.traverse());
+                private final Maybe<Foldable<vector>> foldable = Maybe.just(Instances.foldable());
+                private final Maybe<Unfoldable<vector>> unfoldable = Maybe.just(Instances.unfoldable());
+
+
                 @Override
                 public <T, R> Functor<vector> functor() {
                     return Instances.functor();
@@ -353,12 +374,12 @@ public class Vectors {
 
                 @Override
                 public <T, R> Maybe<MonadZero<vector>> monadZero() {
-                    return Maybe.just(Instances.monadZero());
+                    return monadZero;
                 }
 
                 @Override
                 public <T> Maybe<MonadPlus<vector>> monadPlus() {
-                    return Maybe.just(Instances.monadPlus());
+                    return monadPlus;
                 }
 
                 @Override
@@ -368,12 +389,12 @@ public class Vectors {
 
                 @Override
                 public <C2, T> Maybe<Traverse<vector>> traverse() {
-                    return Maybe.just(Instances.traverse());
+                    return traverse;
                 }
 
                 @Override
                 public <T> Maybe<Foldable<vector>> foldable() {
-                    return Maybe.just(Instances.foldable());
+                    return foldable;
                 }
 
                 @Override
@@ -383,7 +404,7 @@ public class Vectors {
 
                 @Override
                 public <T> Maybe<Unfoldable<vector>> unfoldable() {
-                    return Maybe.just(Instances.unfoldable());
+                    return unfoldable;
                 }
             };
         }
@@ -416,6 +437,9 @@ public class Vectors {
          * @return A functor for Vectors
          */
         public static <T,R>Functor<vector> functor(){
+            return FUNCTOR;
+        }
+        private static <T,R>Functor<vector> createFunctor(){
             BiFunction<VectorKind<T>,Function<? super T, ? extends R>,VectorKind<R>> map = Instances::map;
             return General.functor(map);
         }
@@ -435,6 +459,9 @@ public class Vectors {
          * @return A factory for Vectors
          */
         public static <T> Pure<vector> unit(){
+            return UNIT;
+        }
+        private static <T> Pure<vector> createUnit(){
             return General.<vector,T>unit(VectorKind::of);
         }
         /**
@@ -475,6 +502,9 @@ public class Vectors {
          * @return A zipper for Vectors
          */
         public static <T,R> Applicative<vector> zippingApplicative(){
+            return ZIPPING_APPLICATIVE;
+        }
+        private static <T,R> Applicative<vector> createZippingApplicative(){
             BiFunction<VectorKind< Function<T, R>>,VectorKind<T>,VectorKind<R>> ap = Instances::ap;
             return General.applicative(functor(), unit(), ap);
         }
@@ -505,6 +535,9 @@ public class Vectors {
          * @return Type class with monad functions for Vectors
          */
         public static <T,R> Monad<vector> monad(){
+            return MONAD;
+        }
+        private static <T,R> Monad<vector> createMonad(){
 
             BiFunction<Higher<vector,T>,Function<? super T, ? extends Higher<vector,R>>,Higher<vector,R>> flatMap = Instances::flatMap;
             return General.monad(zippingApplicative(), flatMap);
@@ -527,6 +560,9 @@ public class Vectors {
          * @return A filterable monad (with default value)
          */
         public static <T,R> MonadZero<vector> monadZero(){
+            return MONAD_ZERO;
+        }
+        private static <T,R> MonadZero<vector> createMonadZero(){
 
             return General.monadZero(monad(), VectorKind.widen(Vector.empty()));
         }
@@ -543,6 +579,9 @@ public class Vectors {
          * @return Type class for combining Vectors by concatenation
          */
         public static <T> MonadPlus<vector> monadPlus(){
+            return MONAD_PLUS;
+        }
+        private static <T> MonadPlus<vector> createMonadPlus(){
             Monoid<VectorKind<T>> m = Monoid.of(VectorKind.widen(Vector.empty()), Instances::concat);
             Monoid<Higher<vector,T>> m2= (Monoid)m;
             return General.monadPlus(monadZero(),m2);
@@ -576,21 +615,20 @@ public class Vectors {
          * @return Type class for traversables with traverse / sequence operations
          */
         public static <C2,T> Traverse<vector> traverse(){
+            return TRAVERSE;
+        }
+        private static <C2,T> Traverse<vector> createTraverse(){
 
             BiFunction<Applicative<C2>,VectorKind<Higher<C2, T>>,Higher<C2, VectorKind<T>>> sequenceFn = (ap, list) -> {
 
-                Higher<C2,VectorKind<T>> identity = ap.unit(VectorKind.widen(Vector.empty()));
+                //accumulate in reverse with O(1) prepends, effects are still combined left to right
+                Higher<C2,List<T>> identity = ap.unit(List.empty());
 
-                BiFunction<Higher<C2,VectorKind<T>>,Higher<C2,T>,Higher<C2,VectorKind<T>>> combineToVector =   (acc, next) -> ap.apBiFn(ap.unit((a, b) -> VectorKind.widen(VectorKind.narrow(a).append(b))),
-                        acc,next);
+                Higher<C2,BiFunction<List<T>,T,List<T>>> prepend = ap.unit((a, b) -> a.prepend(b));
 
-                BinaryOperator<Higher<C2,VectorKind<T>>> combineVectors = (a, b)-> ap.apBiFn(ap.unit((l1, l2)-> VectorKind.widen(VectorKind.narrow(l1).appendAll(l2.narrow()))),a,b); ;
-
-                return ReactiveSeq.fromIterable(VectorKind.narrow(list))
-                        .reduce(identity,
-                                combineToVector,
-                                combineVectors);
+                Higher<C2,List<T>> reversed = VectorKind.narrow(list).foldLeft(identity, (acc, next) -> ap.apBiFn(prepend,acc,next));
 
+                return ap.map(l -> VectorKind.widen(Vector.ofAll(l.reverse())), reversed);
 
             };
             BiFunction<Applicative<C2>,Higher<vector,Higher<C2, T>>,Higher<C2, Higher<vector,T>>> sequenceNarrow  =
@@ -614,6 +652,9 @@ public class Vectors {
          * @return Type class for folding / reduction operations
          */
         public static <T> Foldable<vector> foldable(){
+            return FOLDABLE;
+        }
+        private static <T> Foldable<vector> createFoldable(){
             BiFunction<Monoid<T>,Higher<vector,T>,T> foldRightFn =  (m, l)-> ReactiveSeq.fromIterable(VectorKind.narrow(l)).foldRight(m);
             BiFunction<Monoid<T>,Higher<vector,T>,T> foldLeftFn = (m, l)-> ReactiveSeq.fromIterable(VectorKind.narrow(l)).reduce(m);
             return General.foldable(foldRightFn, foldLeftFn);
@@ -635,6 +676,9 @@ public class Vectors {
             return VectorKind.widen(VectorKind.narrow(lt).map(in->fn.apply(in)));
         }
         public static Unfoldable<vector> unfoldable(){
+            return UNFOLDABLE;
+        }
+        private static Unfoldable<vector> createUnfoldable(){
             return new Unfoldable<vector>() {
                 @Override
                 public <R, T> Higher<vector, R> unfold(T b, Function<? super T, Optional<Tuple2<R, T>>> fn) {
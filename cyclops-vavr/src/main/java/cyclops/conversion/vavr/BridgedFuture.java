@@ -0,0 +1,127 @@
+package cyclops.conversion.vavr;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/*
+ * vavr Future completed from a CompletableFuture by callback, so no thread ever waits on the source.
+ * Cancelling it cancels the source, and the resulting CancellationException completes it through the same callback.
+ * vavr's own FutureImpl.cancel discards the registered callbacks instead, which would leave dependent Futures
+ * incomplete forever.
+ */
+final class BridgedFuture<T> implements Future<T> {
+
+    private final CompletableFuture<T> source;
+    private final Future<T> delegate;
+
+    private BridgedFuture(CompletableFuture<T> source, Future<T> delegate) {
+        this.source = source;
+        this.delegate = delegate;
+    }
+
+    /**
+     * @param source CompletableFuture to bridge
+     * @param executor Executes the callbacks registered on the returned Future
+     * @return vavr Future completed with the value, error or cancellation of source
+     */
+    static <T> Future<T> of(CompletableFuture<T> source, ExecutorService executor) {
+        Promise<T> promise = Promise.make(executor);
+        source.whenComplete((value, error) -> {
+            if (error == null)
+                promise.trySuccess(value);
+            else
+                promise.tryFailure(unwrap(error));
+        });
+        return new BridgedFuture<>(source, promise.future());
+    }
+
+    /**
+     * @param source Publisher of at most one value to bridge
+     * @param executor Executes the callbacks registered on the returned Future
+     * @return vavr Future completed with the first value or the error of source, or failed with a
+     *         NoSuchElementException if source completes empty
+     */
+    static <T> Future<T> of(Publisher<T> source, ExecutorService executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        source.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                result.whenComplete((value, error) -> {
+                    if (result.isCancelled())
+                        s.cancel();
+                });
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.completeExceptionally(new NoSuchElementException());
+            }
+        });
+        return of(result, executor);
+    }
+
+    static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null)
+            return error.getCause();
+        return error;
+    }
+
+    @Override
+    public Future<T> await() {
+        delegate.await();
+        return this;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return source.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public ExecutorService executorService() {
+        return delegate.executorService();
+    }
+
+    @Override
+    public Option<Try<T>> getValue() {
+        return delegate.getValue();
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return delegate.isCompleted();
+    }
+
+    @Override
+    public Future<T> onComplete(Consumer<? super Try<T>> action) {
+        delegate.onComplete(action);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -1,5 +1,6 @@
 package cyclops.conversion.vavr;
 
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 
@@ -9,7 +10,6 @@ import cyclops.control.Eval;
 import cyclops.control.Xor;
 import io.vavr.Lazy;
 import io.vavr.concurrent.Future;
-import io.vavr.concurrent.Promise;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -21,10 +21,20 @@ public class FromCyclopsReact {
         return Lazy.of(opt);
     }
     public static <T> Future<T> future(cyclops.async.Future<T> future){
-        Promise<T> result =  Promise.make();
-        
-        future.peek(n->result.complete(Try.success(n)));
-        return result.future();
+        return future(future, Future.DEFAULT_EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Convert a cyclops Future to a vavr Future without blocking. Success and failure of the cyclops Future complete the
+     * vavr Future, cancelling the vavr Future cancels the cyclops Future (and a cancelled cyclops Future fails the vavr
+     * Future with a CancellationException).
+     *
+     * @param future cyclops Future to convert
+     * @param executor Executes the callbacks registered on the returned vavr Future
+     * @return vavr Future
+     */
+    public static <T> Future<T> future(cyclops.async.Future<T> future, ExecutorService executor){
+        return BridgedFuture.of(future.getFuture(), executor);
     }
     public static <T> io.vavr.collection.Stream<T> fromStream(Stream<T> s) {
         return io.vavr.collection.Stream.ofAll(() -> s.iterator());
@@ -37,7 +47,21 @@ public class FromCyclopsReact {
     }
 
     public static <T> Future<T> future(MonadicValue<T> value) {
-        return Future.of(() -> value.get());
+        return future(value, Future.DEFAULT_EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Convert a cyclops MonadicValue to a vavr Future. Asynchronous values complete the vavr Future by callback, rather
+     * than occupying a thread until they are ready. An empty value fails the vavr Future with a NoSuchElementException.
+     *
+     * @param value MonadicValue to convert
+     * @param executor Executes the callbacks registered on the returned vavr Future
+     * @return vavr Future
+     */
+    public static <T> Future<T> future(MonadicValue<T> value, ExecutorService executor) {
+        if (value instanceof cyclops.async.Future)
+            return future((cyclops.async.Future<T>) value, executor);
+        return BridgedFuture.of(value, executor);
     }
     public static <T> Lazy<T> lazy(Value<T> value){
         return Lazy.of(value);
@@ -10,6 +10,8 @@ import io.vavr.Lazy;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 
+import java.util.concurrent.Executor;
+
 
 public class ToCyclopsReact {
 
@@ -25,9 +27,33 @@ public class ToCyclopsReact {
         Future<T> res = Future.future();
         future.onSuccess(v->res.complete(v))
                 .onFailure(t->res.completeExceptionally(t));
+        cancelOnCancel(res, future);
         return res;
     }
 
+    /**
+     * Convert a vavr Future to a cyclops Future without blocking. Success and failure of the vavr Future complete the
+     * cyclops Future, cancelling the cyclops Future cancels the vavr Future.
+     *
+     * @param future vavr Future to convert
+     * @param executor Completes the returned cyclops Future, and so runs its dependent stages
+     * @return cyclops Future
+     */
+    public static <T> Future<T> future(io.vavr.concurrent.Future<T> future, Executor executor){
+        Future<T> res = Future.future();
+        future.onSuccess(v->executor.execute(()->res.complete(v)))
+                .onFailure(t->executor.execute(()->res.completeExceptionally(t)));
+        cancelOnCancel(res, future);
+        return res;
+    }
+
+    private static void cancelOnCancel(Future<?> res, io.vavr.concurrent.Future<?> future){
+        res.getFuture().whenComplete((v,t)->{
+            if(res.isCancelled())
+                future.cancel(true);
+        });
+    }
+
     public static <L,R> Xor<L,R> xor(Either<L,R> either){
         return either.fold(Xor::secondary,Xor::primary);
     }
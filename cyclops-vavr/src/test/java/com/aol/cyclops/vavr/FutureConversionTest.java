@@ -0,0 +1,173 @@
+package com.aol.cyclops.vavr;
+
+import cyclops.control.Eval;
+import cyclops.control.Maybe;
+import cyclops.conversion.vavr.FromCyclopsReact;
+import cyclops.conversion.vavr.ToCyclopsReact;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class FutureConversionTest {
+
+    ExecutorService pool;
+
+    @Before
+    public void setup(){
+        AtomicInteger count = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(2, r -> new Thread(r, "bridge-" + count.incrementAndGet()));
+    }
+
+    @After
+    public void tearDown(){
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void successFromCyclops(){
+        Future<Integer> f = FromCyclopsReact.future(cyclops.async.Future.ofResult(10), pool);
+        assertThat(f.map(i -> i + 1).await().get(), equalTo(11));
+    }
+
+    @Test
+    public void failureFromCyclops(){
+        Future<Integer> f = FromCyclopsReact.future(cyclops.async.Future.ofError(new IllegalStateException("boom")));
+        assertThat(f.await().getCause().get(), instanceOf(IllegalStateException.class));
+        assertThat(f.getCause().get().getMessage(), equalTo("boom"));
+    }
+
+    @Test
+    public void failureFromPendingCyclops(){
+        cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+        Future<Integer> f = FromCyclopsReact.future(source, pool);
+        source.completeExceptionally(new IllegalStateException("boom"));
+        assertThat(f.await().getCause().get().getMessage(), equalTo("boom"));
+    }
+
+    @Test
+    public void failureToCyclops(){
+        Future<Integer> f = Future.failed(new IllegalStateException("boom"));
+        cyclops.async.Future<Integer> res = ToCyclopsReact.future(f);
+        assertThat(res.recover(t -> -1).get(), equalTo(-1));
+        assertTrue(res.isFailed());
+    }
+
+    @Test
+    public void pendingBridgesHoldNoThreads() throws Exception {
+        List<cyclops.async.Future<Integer>> sources = new ArrayList<>();
+        List<Future<Integer>> bridged = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+            sources.add(source);
+            bridged.add(FromCyclopsReact.future(source, pool).map(n -> n * 2));
+            bridged.add(FromCyclopsReact.future(Eval.fromFuture(source), pool));
+        }
+        //every pool thread is still free to run other work
+        for (int i = 0; i < 10; i++) {
+            assertThat(pool.submit(() -> "free").get(1, TimeUnit.SECONDS), equalTo("free"));
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            sources.get(i).complete(i);
+        }
+        for (int i = 0; i < sources.size(); i++) {
+            assertThat(bridged.get(2 * i).await().get(), equalTo(i * 2));
+            assertThat(bridged.get(2 * i + 1).await().get(), equalTo(i));
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void pendingAsyncValueDoesNotBlockCaller(){
+        cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+        Future<Integer> f = FromCyclopsReact.future(Maybe.fromFuture(source), pool);
+        assertThat(f.isCompleted(), equalTo(false));
+        source.complete(10);
+        assertThat(f.await().get(), equalTo(10));
+    }
+
+    @Test
+    public void valuesFromCyclops(){
+        assertThat(FromCyclopsReact.future(Maybe.just(10), pool).await().get(), equalTo(10));
+        assertThat(FromCyclopsReact.future(Eval.later(() -> 10), pool).await().get(), equalTo(10));
+        assertThat(FromCyclopsReact.future(Maybe.<Integer>none(), pool).await().getCause().get(),
+                   instanceOf(NoSuchElementException.class));
+    }
+
+    @Test
+    public void callbacksRunOnSuppliedExecutor(){
+        AtomicReference<String> thread = new AtomicReference<>();
+        cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+        Future<Integer> f = FromCyclopsReact.future(source, pool)
+                                            .onComplete(t -> thread.set(Thread.currentThread().getName()));
+        source.complete(1);
+        f.await();
+        while (thread.get() == null) {
+            Thread.yield();
+        }
+        assertThat(thread.get(), startsWith("bridge-"));
+
+        Promise<Integer> promise = Promise.make();
+        cyclops.async.Future<String> res = ToCyclopsReact.future(promise.future(), pool)
+                                                         .map(i -> Thread.currentThread().getName());
+        promise.success(1);
+        assertThat(res.get(), startsWith("bridge-"));
+    }
+
+    @Test
+    public void cancelVavrCancelsCyclops() throws Exception {
+        cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+        Future<Integer> f = FromCyclopsReact.future(source, pool);
+        CountDownLatch completed = new CountDownLatch(1);
+        f.onComplete(t -> completed.countDown());
+        assertTrue(f.cancel());
+        assertTrue(source.isCancelled());
+        assertTrue(completed.await(1, TimeUnit.SECONDS));
+        assertThat(f.getCause().get(), instanceOf(CancellationException.class));
+    }
+
+    @Test
+    public void cancelCyclopsFailsVavr(){
+        cyclops.async.Future<Integer> source = cyclops.async.Future.future();
+        Future<Integer> f = FromCyclopsReact.future(source, pool);
+        source.cancel();
+        assertThat(f.await().getCause().get(), instanceOf(CancellationException.class));
+    }
+
+    @Test
+    public void cancelCyclopsCancelsVavr() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<Integer> f = Future.of(pool, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        });
+        cyclops.async.Future<Integer> res = ToCyclopsReact.future(f);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        res.cancel();
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertThat(f.getCause().get(), instanceOf(CancellationException.class));
+    }
+}
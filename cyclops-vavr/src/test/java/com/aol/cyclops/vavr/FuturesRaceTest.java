@@ -0,0 +1,149 @@
+package com.aol.cyclops.vavr;
+
+import cyclops.collections.mutable.ListX;
+import cyclops.companion.vavr.Futures;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class FuturesRaceTest {
+
+    ExecutorService pool;
+    CountDownLatch started;
+    CountDownLatch interrupted;
+    AtomicInteger reports;
+    AtomicInteger cancelled;
+
+    @Before
+    public void setup(){
+        pool = Executors.newCachedThreadPool();
+        started = new CountDownLatch(2);
+        interrupted = new CountDownLatch(2);
+        reports = new AtomicInteger();
+        cancelled = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown(){
+        pool.shutdownNow();
+    }
+
+    private Future<Integer> slow(int value){
+        return Future.of(pool, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return value;
+        });
+    }
+
+    private void report(int count){
+        reports.incrementAndGet();
+        cancelled.addAndGet(count);
+    }
+
+    @Test
+    public void anyOfCancelsLosers() throws Exception {
+        Promise<Integer> winner = Promise.make(pool);
+        Future<Integer> res = Futures.anyOfCancelLosers(this::report, slow(1), winner.future(), slow(3));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        winner.success(2);
+        assertThat(res.await().get(), equalTo(2));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void anyOfFailureWins(){
+        Future<Integer> res = Futures.anyOfCancelLosers(this::report, slow(1), Future.failed(new IllegalStateException("boom")));
+        assertThat(res.await().getCause().get(), instanceOf(IllegalStateException.class));
+        assertThat(cancelled.get(), equalTo(1));
+    }
+
+    @Test
+    public void firstSuccessSkipsFailures() throws Exception {
+        Promise<Integer> later = Promise.make(pool);
+        Future<Integer> res = Futures.firstSuccessCancelLosers(this::report, Future.failed(new IllegalStateException()),
+                                                               later.future(), slow(1), slow(2));
+        assertThat(res.isCompleted(), equalTo(false));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        later.success(10);
+        assertThat(res.await().get(), equalTo(10));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void firstSuccessAllFail(){
+        Future<Integer> res = Futures.firstSuccessCancelLosers(this::report, Future.failed(new IllegalStateException()),
+                                                               Future.failed(new IllegalArgumentException()));
+        assertThat(res.await().getCause().get(), instanceOf(IllegalStateException.class));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void firstSuccessAllFailReportsFirstFutureError(){
+        Promise<Integer> first = Promise.make(pool);
+        Future<Integer> res = Futures.firstSuccessCancelLosers(this::report, first.future(),
+                                                               Future.failed(new IllegalArgumentException()));
+        first.failure(new IllegalStateException());
+        assertThat(res.await().getCause().get(), instanceOf(IllegalStateException.class));
+        assertThat(reports.get(), equalTo(1));
+    }
+
+    @Test
+    public void quorumCancelsOutstanding() throws Exception {
+        CountDownLatch errors = new CountDownLatch(1);
+        Promise<Integer> first = Promise.make(pool);
+        Promise<Integer> second = Promise.make(pool);
+        Future<ListX<Integer>> res = Futures.quorumCancelLosers(status -> status.getCompleted() >= 2, t -> errors.countDown(),
+                                                                this::report, first.future(),
+                                                                Future.failed(new IllegalStateException()),
+                                                                second.future(), slow(3), slow(4));
+        assertTrue(errors.await(1, TimeUnit.SECONDS));
+        first.success(1);
+        assertThat(res.isCompleted(), equalTo(false));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        second.success(2);
+        assertThat(res.await().get().toSet(), equalTo(ListX.of(1, 2).toSet()));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(2));
+    }
+
+    @Test
+    public void quorumWaitsForAll(){
+        Future<ListX<Integer>> res = Futures.quorumCancelLosers(status -> false, this::report,
+                                                                Future.successful(pool, 1), Future.of(pool, () -> 2));
+        assertThat(res.await().get().toSet(), equalTo(ListX.of(1, 2).toSet()));
+        assertThat(reports.get(), equalTo(1));
+        assertThat(cancelled.get(), equalTo(0));
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Futures.<Integer>anyOfCancelLosers(this::report).await().getCause().get(),
+                   instanceOf(NoSuchElementException.class));
+        assertThat(Futures.<Integer>quorumCancelLosers(status -> true, this::report).await().get(), equalTo(ListX.empty()));
+    }
+}
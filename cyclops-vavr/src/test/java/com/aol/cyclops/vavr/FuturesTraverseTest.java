@@ -0,0 +1,142 @@
+package com.aol.cyclops.vavr;
+
+import cyclops.companion.vavr.Futures;
+import cyclops.stream.ReactiveSeq;
+import io.vavr.collection.List;
+import io.vavr.collection.Vector;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class FuturesTraverseTest {
+
+    ExecutorService pool;
+
+    @Before
+    public void setup(){
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown(){
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void preservesOrder(){
+        Future<Vector<Integer>> res = Futures.traverse(Vector.range(0, 200), i -> Future.of(pool, () -> {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            return i * 2;
+        }), 8);
+        assertThat(res.await().get(), equalTo(Vector.range(0, 200).map(i -> i * 2)));
+    }
+
+    @Test
+    public void boundsConcurrency(){
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxSeen = new AtomicInteger();
+        Future<Vector<Integer>> res = Futures.traverse(Vector.range(0, 100), i -> Future.of(pool, () -> {
+            int now = inFlight.incrementAndGet();
+            maxSeen.accumulateAndGet(now, Math::max);
+            Thread.sleep(1);
+            inFlight.decrementAndGet();
+            return i;
+        }), 3);
+        assertThat(res.await().get().size(), equalTo(100));
+        assertThat(maxSeen.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void launchesLazily(){
+        AtomicInteger pulled = new AtomicInteger();
+        java.util.List<Promise<Integer>> promises = new ArrayList<>();
+        Iterable<Integer> inputs = () -> new Iterator<Integer>() {
+            int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < 10;
+            }
+
+            @Override
+            public Integer next() {
+                pulled.incrementAndGet();
+                return next++;
+            }
+        };
+        Future<List<Integer>> res = Futures.traverseList(inputs, i -> {
+            Promise<Integer> p = Promise.make();
+            synchronized (promises) {
+                promises.add(p);
+            }
+            return p.future();
+        }, 3);
+        assertThat(pulled.get(), equalTo(3));
+        for (int i = 0; i < 10; i++) {
+            Promise<Integer> p;
+            while (true) {
+                synchronized (promises) {
+                    if (promises.size() > i) {
+                        p = promises.get(i);
+                        break;
+                    }
+                }
+                Thread.yield();
+            }
+            p.success(i);
+        }
+        assertThat(res.await().get(), equalTo(List.range(0, 10)));
+        assertThat(pulled.get(), equalTo(10));
+    }
+
+    @Test
+    public void failureStopsLaunching(){
+        AtomicInteger launched = new AtomicInteger();
+        Future<Vector<Integer>> res = Futures.traverse(Vector.range(0, 1_000), i -> {
+            launched.incrementAndGet();
+            if (i == 5)
+                return Future.failed(new IllegalStateException("boom"));
+            return Future.successful(pool, i);
+        }, 1);
+        assertThat(res.await().getCause().get(), instanceOf(IllegalStateException.class));
+        assertThat(launched.get(), equalTo(6));
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Futures.traverse(Vector.<Integer>empty(), i -> Future.successful(i), 4).await().get(),
+                   equalTo(Vector.empty()));
+    }
+
+    @Test
+    public void largeFanOut(){
+        Future<Vector<Integer>> res = Futures.traverse(ReactiveSeq.range(0, 50_000), i -> Future.successful(pool, i), 64);
+        Vector<Integer> values = res.await().get();
+        assertThat(values.size(), equalTo(50_000));
+        assertThat(values.get(49_999), equalTo(49_999));
+    }
+
+    @Test
+    public void sequence(){
+        Future<ReactiveSeq<Integer>> res = Futures.sequence(Stream.of(Future.successful(1), Future.of(pool, () -> 2)));
+        assertThat(res.await().get().toList(), equalTo(java.util.Arrays.asList(1, 2)));
+        assertTrue(Futures.sequence(Stream.of(Future.successful(1), Future.<Integer>failed(new RuntimeException())))
+                          .await().isFailure());
+    }
+}
@@ -12,6 +12,9 @@ import cyclops.monads.VavrWitness;
 import cyclops.monads.VavrWitness.array;
 import io.vavr.collection.Array;
 import org.junit.Test;
+import cyclops.companion.vavr.Options;
+import com.aol.cyclops.vavr.hkt.OptionKind;
+import io.vavr.control.Option;
 
 import static com.aol.cyclops.vavr.hkt.ArrayKind.widen;
 import static cyclops.function.Lambda.l1;
@@ -137,4 +140,21 @@ public class ArraysTest {
        assertThat(res,equalTo(Maybe.just(Array.of(2,4,6))));
     }
     
+    @Test
+    public void traverseLarge(){
+       Option<Higher<array, Integer>> res = Arrays.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(Option.some(a*2)), widen(Array.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.map(i->i.convert(ArrayKind::narrow)),equalTo(Option.some(Array.range(0,100_000).map(i->i*2))));
+    }
+    @Test
+    public void traverseNone(){
+       Option<Higher<array, Integer>> res = Arrays.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(a==50_000 ? Option.none() : Option.some(a)), widen(Array.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.isDefined(),equalTo(false));
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.aol.cyclops.vavr.hkt.typeclesses.instances;
+
+import com.aol.cyclops.vavr.hkt.EitherKind;
+import com.aol.cyclops2.hkt.Higher;
+import cyclops.companion.vavr.Eithers;
+import cyclops.companion.vavr.Lists;
+import cyclops.companion.vavr.Options;
+import cyclops.companion.vavr.VavrInstances;
+import cyclops.companion.vavr.Vectors;
+import cyclops.monads.VavrWitness;
+import cyclops.monads.VavrWitness.either;
+import cyclops.monads.VavrWitness.list;
+import cyclops.typeclasses.InstanceDefinitions;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class InstancesRegistryTest {
+
+    @Test
+    public void instancesAreShared(){
+        assertThat(Lists.Instances.definitions(), sameInstance(Lists.Instances.definitions()));
+        assertThat(Lists.Instances.functor(), sameInstance(Lists.Instances.functor()));
+        assertThat(Lists.Instances.monad(), sameInstance(Lists.Instances.monad()));
+        assertThat(Lists.Instances.traverse(), sameInstance(Lists.Instances.traverse()));
+        assertThat(Lists.Instances.definitions().monadZero().get(), sameInstance(Lists.Instances.monadZero()));
+        assertThat(Options.Instances.definitions().comonad().get(), sameInstance(Options.Instances.comonad()));
+        assertThat(Eithers.Instances.<String>definitions().monad(), sameInstance(Eithers.Instances.<Integer>monad()));
+    }
+
+    @Test
+    public void eitherMonadPlusKeepsFirstRight(){
+        Higher<Higher<either, String>, Integer> right = EitherKind.rightK(10);
+        Higher<Higher<either, String>, Integer> left = EitherKind.leftK("failed");
+
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>monadPlus().plus(left, right)).get(), equalTo(10));
+        assertThat(EitherKind.narrowK(Eithers.Instances.<String>monadPlus().plus(right, left)).get(), equalTo(10));
+        assertThat(Eithers.Instances.<String>definitions().monadPlus().get(), sameInstance(Eithers.Instances.<Integer>monadPlus()));
+    }
+
+    @Test
+    public void registryLookup(){
+        assertThat(VavrInstances.definitions(list.INSTANCE).get(), sameInstance(Lists.Instances.definitions()));
+        assertThat(VavrInstances.definitions(VavrWitness.vector.INSTANCE).get(), sameInstance(Vectors.Instances.definitions()));
+        assertFalse(VavrInstances.definitions(VavrWitness.charSeq.INSTANCE).isPresent());
+    }
+
+    @Test
+    public void lookupsDoNotAllocate(){
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        lookups(1_000);
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        lookups(100_000);
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        assertThat(allocated, lessThan(100_000L));
+    }
+
+    private int lookups(int count){
+        int hash = 0;
+        for (int i = 0; i < count; i++) {
+            InstanceDefinitions<list> defs = VavrInstances.definitions(list.INSTANCE).get();
+            hash += System.identityHashCode(defs.functor()) + System.identityHashCode(defs.traverse())
+                    + System.identityHashCode(Lists.Instances.definitions().monadPlus());
+        }
+        return hash;
+    }
+}
@@ -15,6 +15,9 @@ import cyclops.monads.VavrWitness;
 import cyclops.monads.VavrWitness.list;
 import cyclops.stream.ReactiveSeq;
 import org.junit.Test;
+import cyclops.companion.vavr.Options;
+import com.aol.cyclops.vavr.hkt.OptionKind;
+import io.vavr.control.Option;
 
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.control.Maybe;
@@ -134,4 +137,22 @@ public class ListTest {
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
     
+    @Test
+    public void traverseLarge(){
+       Option<Higher<list, Integer>> res = Lists.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(Option.some(a*2)), widen(List.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.map(i->i.convert(ListKind::narrowK).toJavaList()),
+                  equalTo(Option.some(List.range(0,100_000).map(i->i*2).toJavaList())));
+    }
+    @Test
+    public void traverseNone(){
+       Option<Higher<list, Integer>> res = Lists.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(a==50_000 ? Option.none() : Option.some(a)), widen(List.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.isDefined(),equalTo(false));
+    }
+
 }
@@ -11,6 +11,9 @@ import com.aol.cyclops.vavr.hkt.QueueKind;
 import cyclops.monads.VavrWitness;
 import cyclops.monads.VavrWitness.queue;
 import org.junit.Test;
+import cyclops.companion.vavr.Options;
+import com.aol.cyclops.vavr.hkt.OptionKind;
+import io.vavr.control.Option;
 
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.control.Maybe;
@@ -139,4 +142,21 @@ public class QueuesTest {
        assertThat(res,equalTo(Maybe.just(Queue.of(2,4,6))));
     }
     
+    @Test
+    public void traverseLarge(){
+       Option<Higher<queue, Integer>> res = Queues.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(Option.some(a*2)), widen(Queue.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.map(i->i.convert(QueueKind::narrow)),equalTo(Option.some(Queue.range(0,100_000).map(i->i*2))));
+    }
+    @Test
+    public void traverseNone(){
+       Option<Higher<queue, Integer>> res = Queues.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(a==50_000 ? Option.none() : Option.some(a)), widen(Queue.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.isDefined(),equalTo(false));
+    }
+
 }
@@ -16,6 +16,9 @@ import cyclops.stream.ReactiveSeq;
 import cyclops.typeclasses.Pure;
 import cyclops.typeclasses.functor.Functor;
 import org.junit.Test;
+import cyclops.companion.vavr.Options;
+import com.aol.cyclops.vavr.hkt.OptionKind;
+import io.vavr.control.Option;
 
 import com.aol.cyclops2.hkt.Higher;
 import cyclops.control.Maybe;
@@ -149,4 +152,22 @@ public class StreamTest {
                   equalTo(Maybe.just(ListX.of(2,4,6))));
     }
     
+    @Test
+    public void traverseLarge(){
+       Option<Higher<stream, Integer>> res = Streams.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(Option.some(a*2)), widen(Stream.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.map(i->i.convert(StreamKind::narrowK).toJavaList()),
+                  equalTo(Option.some(Stream.range(0,100_000).map(i->i*2).toJavaList())));
+    }
+    @Test
+    public void traverseNone(){
+       Option<Higher<stream, Integer>> res = Streams.Instances.traverse()
+                                                         .traverseA(Options.Instances.applicative(), (Integer a)->OptionKind.widen(a==50_000 ? Option.none() : Option.some(a)), widen(Stream.range(0,100_000)))
+                                                         .convert(OptionKind::narrow);
+
+       assertThat(res.isDefined(),equalTo(false));
+    }
+
 }
@@ -6,6 +6,9 @@ import cyclops.collections.vavr.*;
 import cyclops.companion.MapXs;
 import cyclops.companion.PersistentMapXs;
 import io.vavr.collection.*;
+import cyclops.function.Reducer;
+import cyclops.stream.ReactiveSeq;
+import cyclops.collections.mutable.ListX;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -198,4 +201,19 @@ public class VavrConvertersTest {
         assertTrue(list.containsKey(3),list.toString());
     }
 
+    @Test
+    public void reducersMatchPairwiseFold(){
+        assertMatchesPairwiseFold(VavrTypes.<Integer>list());
+        assertMatchesPairwiseFold(VavrTypes.<Integer>vector());
+        assertMatchesPairwiseFold(VavrTypes.<Integer>queue());
+        assertMatchesPairwiseFold(VavrTypes.<Integer>hashSet());
+        assertMatchesPairwiseFold(VavrTypes.<Integer>treeSet());
+        assertMatchesPairwiseFold(VavrTypes.bitset());
+    }
+    private <C extends Iterable<Integer>> void assertMatchesPairwiseFold(Reducer<C> reducer){
+        C built = reducer.mapReduce(ReactiveSeq.of(5, 3, 1, 4, 2, 3));
+        C folded = reducer.reduce(reducer.mapToType(ReactiveSeq.of(5, 3, 1, 4, 2, 3)));
+        assertThat(ListX.fromIterable(built), equalTo(ListX.fromIterable(folded)));
+    }
+
 }
\ No newline at end of file